@@ -20,11 +20,14 @@ import io.atomix.utils.config.Config;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /** Messaging configuration. */
 public class MessagingConfig implements Config {
-  private final int connectionPoolSize = 8;
+  private final Map<TrafficClass, Integer> connectionPoolSizes = defaultConnectionPoolSizes();
+  private final Map<TrafficClass, Integer> typesOfService = new EnumMap<>(TrafficClass.class);
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
   private Duration shutdownQuietPeriod = Duration.ofMillis(20);
@@ -33,6 +36,11 @@ public class MessagingConfig implements Config {
   private File certificateChain;
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
+  private final Map<TrafficClass, CompressionAlgorithm> trafficClassCompressionAlgorithms =
+      new EnumMap<>(TrafficClass.class);
+  private File compressionDictionary;
+  private TransportMode transportMode = TransportMode.AUTO;
+  private int explicitFlushAfterFlushes = 256;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -75,12 +83,77 @@ public class MessagingConfig implements Config {
   }
 
   /**
-   * Returns the connection pool size.
+   * Returns the number of connections opened to each remote node per traffic class.
    *
-   * @return the connection pool size
+   * @return the connection pool size of each traffic class
    */
-  public int getConnectionPoolSize() {
-    return connectionPoolSize;
+  public Map<TrafficClass, Integer> getConnectionPoolSizes() {
+    return connectionPoolSizes;
+  }
+
+  /**
+   * Returns the number of connections opened to each remote node for the given traffic class.
+   *
+   * @param trafficClass the traffic class
+   * @return the connection pool size of the given traffic class
+   */
+  public int getConnectionPoolSize(final TrafficClass trafficClass) {
+    return connectionPoolSizes.get(trafficClass);
+  }
+
+  /**
+   * Sets the number of connections opened to each remote node for the given traffic class. A size
+   * of 0 means the traffic class has no dedicated connections, and its messages share the
+   * connections of the {@link TrafficClass#DEFAULT} class.
+   *
+   * @param trafficClass the traffic class
+   * @param size the connection pool size, at least 1 for {@link TrafficClass#DEFAULT}
+   * @return this config for chaining
+   */
+  public MessagingConfig setConnectionPoolSize(final TrafficClass trafficClass, final int size) {
+    if (size < 0 || (size == 0 && trafficClass == TrafficClass.DEFAULT)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected connection pool size of traffic class %s to be %s, but was %d",
+              trafficClass,
+              trafficClass == TrafficClass.DEFAULT ? "at least 1" : "at least 0",
+              size));
+    }
+
+    connectionPoolSizes.put(trafficClass, size);
+    return this;
+  }
+
+  /**
+   * Returns the IP type of service (i.e. the DSCP and ECN bits) set on the connections of the given
+   * traffic class, or null if it is left to the operating system.
+   *
+   * @param trafficClass the traffic class
+   * @return the type of service, or null if none is set
+   */
+  public Integer getTypeOfService(final TrafficClass trafficClass) {
+    return typesOfService.get(trafficClass);
+  }
+
+  /**
+   * Sets the IP type of service on the connections of the given traffic class, which lets the
+   * network prioritize some traffic classes over others.
+   *
+   * @param trafficClass the traffic class
+   * @param typeOfService the type of service, between 0 and 255
+   * @return this config for chaining
+   */
+  public MessagingConfig setTypeOfService(
+      final TrafficClass trafficClass, final int typeOfService) {
+    if (typeOfService < 0 || typeOfService > 255) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected type of service of traffic class %s to be between 0 and 255, but was %d",
+              trafficClass, typeOfService));
+    }
+
+    typesOfService.put(trafficClass, typeOfService);
+    return this;
   }
 
   /**
@@ -147,6 +220,97 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * Returns the compression algorithm proposed for connections of the given traffic class, which
+   * defaults to {@link #getCompressionAlgorithm()}.
+   *
+   * @param trafficClass the traffic class
+   * @return the compression algorithm of the traffic class
+   */
+  public CompressionAlgorithm getCompressionAlgorithm(final TrafficClass trafficClass) {
+    return trafficClassCompressionAlgorithms.getOrDefault(trafficClass, compressionAlgorithm);
+  }
+
+  /**
+   * Sets the compression algorithm proposed for connections of the given traffic class. The
+   * algorithm is negotiated with the remote node when the connection is opened, so nodes may use
+   * different settings, as long as both run a version which supports the negotiation.
+   *
+   * @param trafficClass the traffic class
+   * @param algorithm the compression algorithm
+   * @return this config for chaining
+   */
+  public MessagingConfig setCompressionAlgorithm(
+      final TrafficClass trafficClass, final CompressionAlgorithm algorithm) {
+    trafficClassCompressionAlgorithms.put(trafficClass, algorithm);
+    return this;
+  }
+
+  /**
+   * @return the preset dictionary used by {@link CompressionAlgorithm#DEFLATE_DICTIONARY}, or null
+   *     if none is configured
+   */
+  public File getCompressionDictionary() {
+    return compressionDictionary;
+  }
+
+  /**
+   * Sets the preset dictionary used by {@link CompressionAlgorithm#DEFLATE_DICTIONARY}: a file of
+   * at most 32 KiB of content which is typical for the messages sent, e.g. captured record
+   * payloads, with the most common content at the end. Only nodes with the same dictionary use it
+   * to communicate; others fall back to {@link CompressionAlgorithm#GZIP}.
+   *
+   * @param compressionDictionary the dictionary file
+   * @return this config for chaining
+   * @throws IllegalArgumentException if the dictionary points to a file which cannot be read
+   */
+  public MessagingConfig setCompressionDictionary(final File compressionDictionary) {
+    if (compressionDictionary != null && !compressionDictionary.canRead()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected the compression dictionary to be at %s, but either the file is missing or"
+                  + " it is not readable",
+              compressionDictionary));
+    }
+
+    this.compressionDictionary = compressionDictionary;
+    return this;
+  }
+
+  public TransportMode getTransportMode() {
+    return transportMode;
+  }
+
+  /**
+   * Sets the native transport to use. If the requested transport is not available on this platform,
+   * the service falls back to the NIO transport.
+   *
+   * @param transportMode the transport to use
+   * @return this config for chaining
+   */
+  public MessagingConfig setTransportMode(final TransportMode transportMode) {
+    this.transportMode = transportMode;
+    return this;
+  }
+
+  public int getExplicitFlushAfterFlushes() {
+    return explicitFlushAfterFlushes;
+  }
+
+  /**
+   * Sets the maximum number of flushes which are consolidated into a single one, i.e. after how
+   * many pending flushes a write to the socket is forced. Messages written during the same event
+   * loop iteration are otherwise flushed together, sharing a single syscall. Set to 0 to flush
+   * every message individually.
+   *
+   * @param explicitFlushAfterFlushes the maximum number of consolidated flushes, or 0 to disable
+   * @return this config for chaining
+   */
+  public MessagingConfig setExplicitFlushAfterFlushes(final int explicitFlushAfterFlushes) {
+    this.explicitFlushAfterFlushes = explicitFlushAfterFlushes;
+    return this;
+  }
+
   /**
    * The certificate chain to use for inter-cluster communication. This certificate is used for both
    * the server and the client.
@@ -228,6 +392,56 @@ public class MessagingConfig implements Config {
   public enum CompressionAlgorithm {
     GZIP,
     NONE,
-    SNAPPY
+    SNAPPY,
+    /** A fast LZ77 codec, trading compression ratio for a low CPU overhead. */
+    FASTLZ,
+    /**
+     * Deflate with a preset dictionary (see {@link #setCompressionDictionary(File)}), which
+     * compresses small, repetitive messages better than {@link #GZIP}.
+     */
+    DEFLATE_DICTIONARY
+  }
+
+  public enum TransportMode {
+    /** Uses the native epoll transport if available, and NIO otherwise. */
+    AUTO,
+    /** Uses the native epoll transport, warning and falling back to NIO if it is unavailable. */
+    EPOLL,
+    /** Uses the NIO transport, which is available on all platforms. */
+    NIO
+  }
+
+  private static Map<TrafficClass, Integer> defaultConnectionPoolSizes() {
+    final var sizes = new EnumMap<TrafficClass, Integer>(TrafficClass.class);
+    for (final var trafficClass : TrafficClass.values()) {
+      sizes.put(trafficClass, trafficClass.defaultPoolSize);
+    }
+    return sizes;
+  }
+
+  /**
+   * Classes of traffic which are sent over separate connections, such that bulk transfers (e.g.
+   * snapshot replication) do not delay latency sensitive messages (e.g. user commands) queued
+   * behind them on the same connection.
+   */
+  public enum TrafficClass {
+    /** Raft log replication, i.e. append requests. */
+    REPLICATION(4),
+    /** Raft snapshot replication, i.e. install requests. */
+    SNAPSHOT(1),
+    /** Requests sent to the command API of a partition. */
+    COMMAND(4),
+    /** Job streams, i.e. pushing jobs to gateways, and job availability notifications. */
+    JOB_STREAM(2),
+    /** Cluster membership and topology gossip. */
+    GOSSIP(1),
+    /** Everything else, e.g. Raft elections, inter-partition commands, exporter state. */
+    DEFAULT(2);
+
+    private final int defaultPoolSize;
+
+    TrafficClass(final int defaultPoolSize) {
+      this.defaultPoolSize = defaultPoolSize;
+    }
   }
 }
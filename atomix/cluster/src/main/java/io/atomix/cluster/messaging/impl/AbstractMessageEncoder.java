@@ -30,6 +30,11 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   // Effectively MessageToByteEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  // generous upper bounds for the fixed-size parts of a message (type, id, lengths, status) and of
+  // the sender address (IP or host length, port)
+  private static final int MESSAGE_HEADER_ESTIMATE = 32;
+  private static final int ADDRESS_HEADER_ESTIMATE = 24;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -48,14 +53,9 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
   protected abstract void encodeReply(ProtocolReply reply, ByteBuf out);
 
   static void writeString(final ByteBuf buffer, final String value) {
-    final ByteBuf buf = buffer.alloc().buffer(ByteBufUtil.utf8MaxBytes(value));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, value);
-      buffer.writeShort(length);
-      buffer.writeBytes(buf);
-    } finally {
-      buf.release();
-    }
+    // computing the exact length up front lets us encode in place, without a temporary buffer
+    buffer.writeShort(ByteBufUtil.utf8Bytes(value));
+    ByteBufUtil.writeUtf8(buffer, value);
   }
 
   static void writeInt(final ByteBuf buf, final int value) {
@@ -159,6 +159,23 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
     return msg instanceof ProtocolMessage;
   }
 
+  @Override
+  protected ByteBuf allocateBuffer(
+      final ChannelHandlerContext ctx, final Object msg, final boolean preferDirect) {
+    // size the buffer for the whole message up front to avoid growing (and copying) it while
+    // encoding large payloads
+    final ProtocolMessage message = (ProtocolMessage) msg;
+    int estimate = MESSAGE_HEADER_ESTIMATE + message.payload().length;
+    if (message instanceof final ProtocolRequest request) {
+      estimate += ByteBufUtil.utf8MaxBytes(request.subject());
+    }
+    if (!addressWritten) {
+      estimate += ADDRESS_HEADER_ESTIMATE + ByteBufUtil.utf8MaxBytes(address.host());
+    }
+
+    return preferDirect ? ctx.alloc().ioBuffer(estimate) : ctx.alloc().heapBuffer(estimate);
+  }
+
   @Override
   protected void encode(
       final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
@@ -18,30 +18,54 @@ package io.atomix.cluster.messaging.impl;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.collection.Tuple;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Internal Netty channel pool. */
+/**
+ * Internal Netty channel pool. The channels to each address are partitioned by {@link
+ * TrafficClass}, such that messages of different classes never share a channel, unless a class has
+ * no channels of its own, in which case it shares the channels of {@link TrafficClass#DEFAULT}.
+ */
 class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
-  private final Function<Address, CompletableFuture<Channel>> factory;
+  private final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory;
   private final int size;
+  private final Map<TrafficClass, Integer> classOffsets = new EnumMap<>(TrafficClass.class);
+  private final Map<TrafficClass, Integer> classSizes = new EnumMap<>(TrafficClass.class);
   private final Map<Tuple<Address, InetAddress>, List<CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
-  ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
+  ChannelPool(
+      final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory,
+      final Map<TrafficClass, Integer> sizes) {
     this.factory = factory;
-    this.size = size;
+
+    int offset = 0;
+    for (final var trafficClass : TrafficClass.values()) {
+      final int classSize = sizes.getOrDefault(trafficClass, 0);
+      classOffsets.put(trafficClass, offset);
+      classSizes.put(trafficClass, classSize);
+      offset += classSize;
+    }
+
+    if (classSizes.get(TrafficClass.DEFAULT) < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one channel for the default traffic class, but there is none");
+    }
+
+    size = offset;
   }
 
   /**
@@ -70,13 +94,27 @@ class ChannelPool {
   }
 
   /**
-   * Returns the channel offset for the given message type.
+   * Returns the traffic class whose channels are used for the given message type.
+   *
+   * @param messageType the message type for which to return the traffic class
+   * @return the traffic class of the given message type
+   */
+  private TrafficClass getTrafficClass(final String messageType) {
+    final TrafficClass trafficClass = TrafficClassifier.classify(messageType);
+    return classSizes.get(trafficClass) > 0 ? trafficClass : TrafficClass.DEFAULT;
+  }
+
+  /**
+   * Returns the channel offset for the given message type, within the channels of its traffic
+   * class.
    *
    * @param messageType the message type for which to return the channel offset
+   * @param trafficClass the traffic class of the message type
    * @return the channel offset for the given message type
    */
-  private int getChannelOffset(final String messageType) {
-    return Math.abs(messageType.hashCode() % size);
+  private int getChannelOffset(final String messageType, final TrafficClass trafficClass) {
+    return classOffsets.get(trafficClass)
+        + Math.abs(messageType.hashCode() % classSizes.get(trafficClass));
   }
 
   /**
@@ -90,15 +128,16 @@ class ChannelPool {
     final InetAddress inetAddress = address.getAddress();
 
     final List<CompletableFuture<Channel>> channelPool = getChannelPool(address, inetAddress);
-    final int offset = getChannelOffset(messageType);
+    final TrafficClass trafficClass = getTrafficClass(messageType);
+    final int offset = getChannelOffset(messageType, trafficClass);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
       synchronized (channelPool) {
         channelFuture = channelPool.get(offset);
         if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
-          LOGGER.debug("Connecting to {}", address);
-          channelFuture = factory.apply(address);
+          LOGGER.debug("Connecting to {} for {} traffic", address, trafficClass);
+          channelFuture = factory.apply(address, trafficClass);
           final var finalFuture = channelFuture;
           channelFuture.whenComplete(
               (channel, error) -> {
@@ -135,7 +174,7 @@ class ChannelPool {
                 if (currentFuture == finalFuture) {
                   channelPool.set(offset, null);
                 } else if (currentFuture == null) {
-                  currentFuture = factory.apply(address);
+                  currentFuture = factory.apply(address, trafficClass);
                   currentFuture.whenComplete(this::logConnection);
                   channelPool.set(offset, currentFuture);
                 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import java.net.InetSocketAddress;
+
+/**
+ * Counts the traffic of a channel, per remote host. Depending on its position in the pipeline, it
+ * sees either raw bytes, in which case it counts the bytes as they are written to or read from the
+ * socket, or decoded {@link ProtocolMessage}s, in which case it counts the messages.
+ */
+final class ChannelTrafficMetricsHandler extends ChannelDuplexHandler {
+  private static final String UNKNOWN_ADDRESS = "unknown";
+
+  private final MessagingMetrics metrics;
+  private String remoteHost;
+
+  ChannelTrafficMetricsHandler(final MessagingMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+    if (msg instanceof final ByteBuf buffer) {
+      metrics.countReceivedBytes(remoteHost(ctx), buffer.readableBytes());
+    } else if (msg instanceof ProtocolMessage) {
+      metrics.countReceivedMessage(remoteHost(ctx));
+    }
+
+    super.channelRead(ctx, msg);
+  }
+
+  @Override
+  public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise)
+      throws Exception {
+    if (msg instanceof final ByteBuf buffer) {
+      metrics.countSentBytes(remoteHost(ctx), buffer.readableBytes());
+    } else if (msg instanceof ProtocolMessage) {
+      metrics.countSentMessage(remoteHost(ctx));
+    }
+
+    super.write(ctx, msg, promise);
+  }
+
+  private String remoteHost(final ChannelHandlerContext ctx) {
+    if (remoteHost == null) {
+      // only use the host, as the port of inbound connections is ephemeral
+      if (ctx.channel().remoteAddress() instanceof final InetSocketAddress address) {
+        remoteHost = address.getHostString();
+      } else {
+        return UNKNOWN_ADDRESS;
+      }
+    }
+
+    return remoteHost;
+  }
+}
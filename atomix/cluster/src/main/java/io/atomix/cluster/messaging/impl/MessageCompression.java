@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.compression.FastLzFrameDecoder;
+import io.netty.handler.codec.compression.FastLzFrameEncoder;
+import io.netty.handler.codec.compression.JdkZlibDecoder;
+import io.netty.handler.codec.compression.JdkZlibEncoder;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import java.util.zip.Adler32;
+
+/**
+ * Installs the compression codecs of a connection, and maps the compression algorithms to the
+ * identifiers used to negotiate them during the handshake (see {@link
+ * ProtocolVersion#negotiatesCompression()}).
+ *
+ * <p>The preset dictionary of {@link CompressionAlgorithm#DEFLATE_DICTIONARY} is identified by its
+ * Adler-32 checksum, the same identifier zlib uses in its stream header, so that both ends can
+ * verify they use the same dictionary before agreeing on it.
+ */
+final class MessageCompression {
+  static final int NO_DICTIONARY = 0;
+  private static final int DEFLATE_LEVEL = 6;
+
+  private final byte[] dictionary;
+  private final int dictionaryId;
+
+  MessageCompression(final byte[] dictionary) {
+    this.dictionary = dictionary;
+    dictionaryId = dictionary == null ? NO_DICTIONARY : computeDictionaryId(dictionary);
+  }
+
+  int dictionaryId() {
+    return dictionaryId;
+  }
+
+  /**
+   * Returns the algorithm to use given the proposed one: a dictionary is only used if both ends
+   * have the same one, otherwise this falls back to plain deflate.
+   *
+   * @param proposed the proposed algorithm
+   * @param remoteDictionaryId the identifier of the remote dictionary, if the remote end proposed
+   *     one, or the local one if the algorithm was chosen locally
+   * @return the algorithm to use
+   */
+  CompressionAlgorithm resolve(final CompressionAlgorithm proposed, final int remoteDictionaryId) {
+    if (proposed == CompressionAlgorithm.DEFLATE_DICTIONARY
+        && (dictionary == null || remoteDictionaryId != dictionaryId)) {
+      return CompressionAlgorithm.GZIP;
+    }
+
+    return proposed;
+  }
+
+  /**
+   * Adds the encoder and decoder of the given algorithm at the end of the pipeline, i.e. they must
+   * be added before the message codecs.
+   */
+  void addCodec(final ChannelPipeline pipeline, final CompressionAlgorithm algorithm) {
+    switch (algorithm) {
+      case GZIP -> {
+        pipeline.addLast("compression-encoder", ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP));
+        pipeline.addLast("compression-decoder", ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
+      }
+      case SNAPPY -> {
+        pipeline.addLast("compression-encoder", new SnappyFrameEncoder());
+        pipeline.addLast("compression-decoder", new SnappyFrameDecoder());
+      }
+      case FASTLZ -> {
+        pipeline.addLast("compression-encoder", new FastLzFrameEncoder());
+        pipeline.addLast("compression-decoder", new FastLzFrameDecoder());
+      }
+      case DEFLATE_DICTIONARY -> {
+        pipeline.addLast("compression-encoder", new JdkZlibEncoder(DEFLATE_LEVEL, dictionary));
+        pipeline.addLast("compression-decoder", new JdkZlibDecoder(dictionary));
+      }
+      case NONE -> {}
+      default -> throw new IllegalStateException("Unknown compression algorithm " + algorithm);
+    }
+  }
+
+  static byte toId(final CompressionAlgorithm algorithm) {
+    return switch (algorithm) {
+      case NONE -> 0;
+      case GZIP -> 1;
+      case SNAPPY -> 2;
+      case FASTLZ -> 3;
+      case DEFLATE_DICTIONARY -> 4;
+    };
+  }
+
+  /**
+   * @return the algorithm with the given identifier, or {@link CompressionAlgorithm#NONE} if the
+   *     identifier is unknown, e.g. because it was proposed by a newer version
+   */
+  static CompressionAlgorithm fromId(final byte id) {
+    return switch (id) {
+      case 1 -> CompressionAlgorithm.GZIP;
+      case 2 -> CompressionAlgorithm.SNAPPY;
+      case 3 -> CompressionAlgorithm.FASTLZ;
+      case 4 -> CompressionAlgorithm.DEFLATE_DICTIONARY;
+      default -> CompressionAlgorithm.NONE;
+    };
+  }
+
+  private static int computeDictionaryId(final byte[] dictionary) {
+    final var checksum = new Adler32();
+    checksum.update(dictionary);
+    return (int) checksum.getValue();
+  }
+}
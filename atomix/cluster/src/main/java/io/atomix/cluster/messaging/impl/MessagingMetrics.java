@@ -13,6 +13,8 @@ public interface MessagingMetrics {
 
   CloseableSilently startRequestTimer(String name);
 
+  CloseableSilently startQueueingTimer(String trafficClass);
+
   void observeRequestSize(String to, String name, int requestSizeInBytes);
 
   void countMessage(String to, String name);
@@ -26,4 +28,12 @@ public interface MessagingMetrics {
   void incInFlightRequests(String address, String topic);
 
   void decInFlightRequests(String address, String topic);
+
+  void countSentBytes(String address, int bytes);
+
+  void countReceivedBytes(String address, int bytes);
+
+  void countSentMessage(String address);
+
+  void countReceivedMessage(String address);
 }
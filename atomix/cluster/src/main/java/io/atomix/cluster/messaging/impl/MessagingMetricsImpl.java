@@ -19,6 +19,9 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   private static final String LABEL_ADDRESS = "address";
   private static final String REQ_TYPE_MESSAGE = "MESSAGE";
   private static final String REQ_TYPE_REQ_RESP = "REQ_RESP";
+  private static final String LABEL_DIRECTION = "direction";
+  private static final String DIRECTION_SENT = "SENT";
+  private static final String DIRECTION_RECEIVED = "RECEIVED";
 
   private static final Histogram REQUEST_RESPONSE_LATENCY =
       Histogram.build()
@@ -28,6 +31,17 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_TOPIC)
           .register();
 
+  private static final Histogram QUEUEING_DELAY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_queueing_delay")
+          .help(
+              "Time between handing a message to a channel and it being written to the socket, per"
+                  + " traffic class")
+          .labelNames("trafficClass")
+          .buckets(.0001, .0005, .001, .005, .01, .025, .05, .1, .25, .5, 1, 5)
+          .register();
+
   private static final Histogram REQUEST_SIZE_IN_KB =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -60,12 +74,34 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Counter CHANNEL_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_channel_bytes")
+          .help("Number of bytes sent to or received from a remote host, as written to the socket")
+          .labelNames(LABEL_ADDRESS, LABEL_DIRECTION)
+          .register();
+
+  private static final Counter CHANNEL_MESSAGES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("messaging_channel_messages")
+          .help("Number of messages sent to or received from a remote host")
+          .labelNames(LABEL_ADDRESS, LABEL_DIRECTION)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
     return timer::close;
   }
 
+  @Override
+  public CloseableSilently startQueueingTimer(final String trafficClass) {
+    final var timer = QUEUEING_DELAY.labels(trafficClass).startTimer();
+    return timer::close;
+  }
+
   @Override
   public void observeRequestSize(final String to, final String name, final int requestSizeInBytes) {
     REQUEST_SIZE_IN_KB.labels(to, name).observe(requestSizeInBytes / 1_000f);
@@ -100,4 +136,24 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void countSentBytes(final String address, final int bytes) {
+    CHANNEL_BYTES.labels(address, DIRECTION_SENT).inc(bytes);
+  }
+
+  @Override
+  public void countReceivedBytes(final String address, final int bytes) {
+    CHANNEL_BYTES.labels(address, DIRECTION_RECEIVED).inc(bytes);
+  }
+
+  @Override
+  public void countSentMessage(final String address) {
+    CHANNEL_MESSAGES.labels(address, DIRECTION_SENT).inc();
+  }
+
+  @Override
+  public void countReceivedMessage(final String address) {
+    CHANNEL_MESSAGES.labels(address, DIRECTION_RECEIVED).inc();
+  }
 }
@@ -24,6 +24,8 @@ import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
 import io.atomix.utils.concurrent.OrderedFuture;
@@ -37,7 +39,6 @@ import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
@@ -55,10 +56,8 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
-import io.netty.handler.codec.compression.SnappyFrameDecoder;
-import io.netty.handler.codec.compression.SnappyFrameEncoder;
-import io.netty.handler.codec.compression.ZlibCodecFactory;
-import io.netty.handler.codec.compression.ZlibWrapper;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
@@ -69,6 +68,7 @@ import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.Future;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -126,6 +126,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
   private SslContext serverSslContext;
   private SslContext clientSslContext;
   private final MessagingMetrics messagingMetrics = new MessagingMetricsImpl();
+  private MessageCompression compression = new MessageCompression(null);
 
   public NettyMessagingService(
       final String cluster, final Address advertisedAddress, final MessagingConfig config) {
@@ -141,7 +142,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.advertisedAddress = advertisedAddress;
     this.protocolVersion = protocolVersion;
     this.config = config;
-    channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSizes());
 
     initAddresses(config);
   }
@@ -153,7 +154,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final Address advertisedAddress,
       final MessagingConfig config,
       final ProtocolVersion protocolVersion,
-      final Function<Function<Address, CompletableFuture<Channel>>, ChannelPool>
+      final Function<BiFunction<Address, TrafficClass, CompletableFuture<Channel>>, ChannelPool>
           channelPoolFactor) {
     preamble = cluster.hashCode();
     this.advertisedAddress = advertisedAddress;
@@ -365,9 +366,12 @@ public final class NettyMessagingService implements ManagedMessagingService {
 
     final CompletableFuture<Void> serviceLoader;
     if (config.isTlsEnabled()) {
-      serviceLoader = loadServerSslContext().thenCompose(ok -> loadClientSslContext());
+      serviceLoader =
+          loadServerSslContext()
+              .thenCompose(ok -> loadClientSslContext())
+              .thenCompose(ok -> loadCompressionDictionary());
     } else {
-      serviceLoader = CompletableFuture.completedFuture(null);
+      serviceLoader = loadCompressionDictionary();
     }
 
     initTransport();
@@ -483,11 +487,44 @@ public final class NettyMessagingService implements ManagedMessagingService {
     }
   }
 
+  private CompletableFuture<Void> loadCompressionDictionary() {
+    if (config.getCompressionDictionary() == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    try {
+      compression =
+          new MessageCompression(Files.readAllBytes(config.getCompressionDictionary().toPath()));
+      return CompletableFuture.completedFuture(null);
+    } catch (final Exception e) {
+      return CompletableFuture.failedFuture(
+          new MessagingException(
+              "Failed to start messaging service; invalid compression dictionary", e));
+    }
+  }
+
   private void initTransport() {
-    if (Epoll.isAvailable()) {
-      initEpollTransport();
-    } else {
-      initNioTransport();
+    switch (config.getTransportMode()) {
+      case EPOLL:
+        if (!Epoll.isAvailable()) {
+          log.warn(
+              "Expected to use the epoll transport, but it is not available; falling back to NIO",
+              Epoll.unavailabilityCause());
+          initNioTransport();
+          break;
+        }
+        initEpollTransport();
+        break;
+      case NIO:
+        initNioTransport();
+        break;
+      case AUTO:
+      default:
+        if (Epoll.isAvailable()) {
+          initEpollTransport();
+        } else {
+          initNioTransport();
+        }
     }
   }
 
@@ -648,7 +685,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
       return future;
     }
 
-    openChannel(address)
+    openChannel(address, TrafficClass.DEFAULT)
         .whenComplete(
             (channel, channelError) -> {
               if (channelError == null) {
@@ -693,19 +730,23 @@ public final class NettyMessagingService implements ManagedMessagingService {
    * Opens a new Netty channel to the given address.
    *
    * @param address the address to which to open the channel
+   * @param trafficClass the class of traffic which will be sent over the channel
    * @return a future to be completed once the channel has been opened and the handshake is complete
    */
-  private CompletableFuture<Channel> openChannel(final Address address) {
-    return bootstrapClient(address);
+  private CompletableFuture<Channel> openChannel(
+      final Address address, final TrafficClass trafficClass) {
+    return bootstrapClient(address, trafficClass);
   }
 
   /**
    * Bootstraps a new channel to the given address.
    *
    * @param address the address to which to connect
+   * @param trafficClass the class of traffic which will be sent over the channel
    * @return a future to be completed with the connected channel
    */
-  private CompletableFuture<Channel> bootstrapClient(final Address address) {
+  private CompletableFuture<Channel> bootstrapClient(
+      final Address address, final TrafficClass trafficClass) {
     final CompletableFuture<Channel> future = new OrderedFuture<>();
     final InetSocketAddress socketAddress = address.socketAddress();
 
@@ -719,6 +760,10 @@ public final class NettyMessagingService implements ManagedMessagingService {
     bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
     bootstrap.option(ChannelOption.TCP_NODELAY, true);
     bootstrap.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1000);
+    final Integer typeOfService = config.getTypeOfService(trafficClass);
+    if (typeOfService != null) {
+      bootstrap.option(ChannelOption.IP_TOS, typeOfService);
+    }
     bootstrap.group(clientGroup);
     bootstrap.channel(clientChannelClass);
     bootstrap.resolver(
@@ -727,7 +772,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
                 .dnsQueryLifecycleObserverFactory(new LoggingDnsQueryLifeCycleObserverFactory())
                 .channelType(clientDataGramChannelClass)));
     bootstrap.remoteAddress(socketAddress);
-    bootstrap.handler(new BasicClientChannelInitializer(future));
+    bootstrap.handler(new BasicClientChannelInitializer(future, trafficClass));
 
     final Channel channel =
         bootstrap
@@ -835,38 +880,48 @@ public final class NettyMessagingService implements ManagedMessagingService {
     }
   }
 
+  /**
+   * Adds the handlers closest to the socket: flush consolidation, such that messages written during
+   * the same event loop iteration share a single write syscall, and the metrics of the bytes
+   * actually sent and received.
+   */
+  private void initTrafficHandlers(final SocketChannel channel) {
+    if (config.getExplicitFlushAfterFlushes() > 0) {
+      channel
+          .pipeline()
+          .addLast(
+              "flush-consolidation",
+              new FlushConsolidationHandler(config.getExplicitFlushAfterFlushes(), true));
+    }
+
+    channel
+        .pipeline()
+        .addLast("traffic-metrics", new ChannelTrafficMetricsHandler(messagingMetrics));
+  }
+
   /** Channel initializer for basic connections. */
   private class BasicClientChannelInitializer extends ChannelInitializer<SocketChannel> {
 
     private final CompletableFuture<Channel> future;
+    private final TrafficClass trafficClass;
 
-    BasicClientChannelInitializer(final CompletableFuture<Channel> future) {
+    BasicClientChannelInitializer(
+        final CompletableFuture<Channel> future, final TrafficClass trafficClass) {
       this.future = future;
+      this.trafficClass = trafficClass;
     }
 
     @Override
     protected void initChannel(final SocketChannel channel) {
+      initTrafficHandlers(channel);
       if (config.isTlsEnabled()) {
         final var sslHandler = clientSslContext.newHandler(channel.alloc());
         channel.pipeline().addLast("tls", sslHandler);
       }
 
-      channel.pipeline().addLast("handshake", new ClientHandshakeHandlerAdapter(future));
-
-      switch (config.getCompressionAlgorithm()) {
-        case GZIP:
-          channel.pipeline().addLast(ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP));
-          channel.pipeline().addLast(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
-          break;
-        case SNAPPY:
-          channel.pipeline().addLast(new SnappyFrameEncoder());
-          channel.pipeline().addLast(new SnappyFrameDecoder());
-          break;
-        case NONE:
-          break;
-        default:
-          log.debug("Unknown compression algorithm. Proceeding without compression.");
-      }
+      channel
+          .pipeline()
+          .addLast("handshake", new ClientHandshakeHandlerAdapter(future, trafficClass));
     }
 
     @Override
@@ -882,33 +937,26 @@ public final class NettyMessagingService implements ManagedMessagingService {
 
     @Override
     protected void initChannel(final SocketChannel channel) {
+      initTrafficHandlers(channel);
       if (config.isTlsEnabled()) {
         final var sslHandler = serverSslContext.newHandler(channel.alloc());
         channel.pipeline().addLast("tls", sslHandler);
       }
 
       channel.pipeline().addLast("handshake", new ServerHandshakeHandlerAdapter());
-
-      switch (config.getCompressionAlgorithm()) {
-        case GZIP:
-          channel.pipeline().addLast(ZlibCodecFactory.newZlibEncoder(ZlibWrapper.GZIP));
-          channel.pipeline().addLast(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.GZIP));
-          break;
-        case SNAPPY:
-          channel.pipeline().addLast(new SnappyFrameEncoder());
-          channel.pipeline().addLast(new SnappyFrameDecoder());
-          break;
-        case NONE:
-          break;
-        default:
-          log.debug("Unknown compression algorithm. Proceeding without compression.");
-      }
     }
   }
 
-  /** Base class for handshake handlers. */
+  /**
+   * Base class for handshake handlers. The handshake consists of the preamble and the protocol
+   * version; versions which negotiate the compression follow it with the length of the handshake
+   * options, and the options themselves. Handshakes split over several reads are accumulated until
+   * complete, and any bytes received after the handshake are passed on to the activated protocol.
+   */
   private abstract class HandshakeHandlerAdapter<M extends ProtocolMessage>
-      extends ChannelInboundHandlerAdapter {
+      extends ByteToMessageDecoder {
+
+    private static final int HANDSHAKE_HEADER_LENGTH = Integer.BYTES + Short.BYTES;
 
     /**
      * Writes the protocol version to the given context.
@@ -924,24 +972,93 @@ public final class NettyMessagingService implements ManagedMessagingService {
     }
 
     /**
-     * Reads the protocol version from the given buffer.
+     * Writes the protocol version to the given context, followed by the length of the handshake
+     * options, i.e. the compression algorithm and optionally the identifier of the compression
+     * dictionary, for versions which negotiate the compression.
+     *
+     * @param context the context to which to write the version
+     * @param version the version to write
+     * @param algorithm the proposed or accepted compression algorithm
+     * @param dictionaryId the identifier of the proposed dictionary, if any
+     */
+    void writeProtocolVersion(
+        final ChannelHandlerContext context,
+        final ProtocolVersion version,
+        final CompressionAlgorithm algorithm,
+        final OptionalInt dictionaryId) {
+      final int optionsLength = Byte.BYTES + (dictionaryId.isPresent() ? Integer.BYTES : 0);
+      final ByteBuf buffer = context.alloc().buffer(HANDSHAKE_HEADER_LENGTH + 1 + optionsLength);
+      buffer.writeInt(preamble);
+      buffer.writeShort(version.version());
+      buffer.writeByte(optionsLength);
+      buffer.writeByte(MessageCompression.toId(algorithm));
+      dictionaryId.ifPresent(buffer::writeInt);
+      context.writeAndFlush(buffer);
+    }
+
+    @Override
+    protected void decode(
+        final ChannelHandlerContext context, final ByteBuf buffer, final List<Object> out) {
+      readHandshake(context, buffer).ifPresent(handshake -> onHandshake(context, handshake));
+    }
+
+    /**
+     * Called once the complete handshake of the remote end was read.
+     *
+     * @param context the channel handler context
+     * @param handshake the handshake of the remote end
+     */
+    abstract void onHandshake(ChannelHandlerContext context, Handshake handshake);
+
+    /**
+     * Reads the handshake from the given buffer, i.e. the protocol version, and the compression
+     * algorithm if it was sent. If the handshake is not complete yet, nothing is consumed, such
+     * that it's read again once more bytes are received.
      *
      * @param context the buffer context
-     * @param buffer the buffer from which to read the version
-     * @return the read protocol version
+     * @param buffer the buffer from which to read the handshake
+     * @return the read handshake, or nothing if it is incomplete or invalid
      */
-    OptionalInt readProtocolVersion(final ChannelHandlerContext context, final ByteBuf buffer) {
-      try {
-        final int preamble = buffer.readInt();
-        if (preamble != NettyMessagingService.this.preamble) {
-          log.warn("Received invalid handshake, closing connection");
-          context.close();
-          return OptionalInt.empty();
-        }
-        return OptionalInt.of(buffer.readShort());
-      } finally {
-        buffer.release();
+    Optional<Handshake> readHandshake(final ChannelHandlerContext context, final ByteBuf buffer) {
+      if (!buffer.isReadable(HANDSHAKE_HEADER_LENGTH)) {
+        return Optional.empty();
+      }
+
+      final int start = buffer.readerIndex();
+      final int preamble = buffer.readInt();
+      if (preamble != NettyMessagingService.this.preamble) {
+        log.warn("Received invalid handshake, closing connection");
+        buffer.skipBytes(buffer.readableBytes());
+        context.close();
+        return Optional.empty();
+      }
+
+      final short version = buffer.readShort();
+      if (version < ProtocolVersion.V3.version()) {
+        return Optional.of(new Handshake(version, null, MessageCompression.NO_DICTIONARY));
       }
+
+      // unknown, newer versions are expected to keep sending their options in the same way
+      if (!buffer.isReadable()
+          || !buffer.isReadable(1 + buffer.getUnsignedByte(buffer.readerIndex()))) {
+        buffer.readerIndex(start);
+        return Optional.empty();
+      }
+
+      final ByteBuf options = buffer.readSlice(buffer.readUnsignedByte());
+      final CompressionAlgorithm algorithm =
+          options.isReadable() ? MessageCompression.fromId(options.readByte()) : null;
+      final int dictionaryId =
+          options.isReadable(Integer.BYTES) ? options.readInt() : MessageCompression.NO_DICTIONARY;
+      return Optional.of(new Handshake(version, algorithm, dictionaryId));
+    }
+
+    /**
+     * Returns the compression algorithm to use with nodes which do not negotiate it, i.e. the
+     * locally configured one.
+     */
+    CompressionAlgorithm legacyCompressionAlgorithm() {
+      return compression.resolve(config.getCompressionAlgorithm(), compression.dictionaryId());
     }
 
     /**
@@ -950,16 +1067,23 @@ public final class NettyMessagingService implements ManagedMessagingService {
      * @param context the channel handler context
      * @param connection the client or server connection for which to activate the protocol version
      * @param protocolVersion the protocol version to activate
+     * @param algorithm the compression algorithm to use
      */
     void activateProtocolVersion(
         final ChannelHandlerContext context,
         final Connection<M> connection,
-        final ProtocolVersion protocolVersion) {
+        final ProtocolVersion protocolVersion,
+        final CompressionAlgorithm algorithm) {
       final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
-      context.pipeline().remove(this);
+      compression.addCodec(context.pipeline(), algorithm);
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
+      context
+          .pipeline()
+          .addLast("message-metrics", new ChannelTrafficMetricsHandler(messagingMetrics));
       context.pipeline().addLast("handler", new MessageDispatcher<>(connection));
+      // removed last, such that bytes received after the handshake are passed on to the protocol
+      context.pipeline().remove(this);
     }
   }
 
@@ -967,9 +1091,12 @@ public final class NettyMessagingService implements ManagedMessagingService {
   private class ClientHandshakeHandlerAdapter extends HandshakeHandlerAdapter<ProtocolReply> {
 
     private final CompletableFuture<Channel> future;
+    private final TrafficClass trafficClass;
 
-    ClientHandshakeHandlerAdapter(final CompletableFuture<Channel> future) {
+    ClientHandshakeHandlerAdapter(
+        final CompletableFuture<Channel> future, final TrafficClass trafficClass) {
       this.future = future;
+      this.trafficClass = trafficClass;
     }
 
     @Override
@@ -978,28 +1105,41 @@ public final class NettyMessagingService implements ManagedMessagingService {
           "Writing client protocol version {} for connection to {}",
           protocolVersion,
           context.channel().remoteAddress());
-      writeProtocolVersion(context, protocolVersion);
+      if (protocolVersion.negotiatesCompression()) {
+        // propose the algorithm of the traffic class; the server makes the final decision
+        final var algorithm =
+            compression.resolve(
+                config.getCompressionAlgorithm(trafficClass), compression.dictionaryId());
+        final var dictionaryId =
+            algorithm == CompressionAlgorithm.DEFLATE_DICTIONARY
+                ? OptionalInt.of(compression.dictionaryId())
+                : OptionalInt.empty();
+        writeProtocolVersion(context, protocolVersion, algorithm, dictionaryId);
+      } else {
+        writeProtocolVersion(context, protocolVersion);
+      }
     }
 
     @Override
-    public void channelRead(final ChannelHandlerContext context, final Object message)
-        throws Exception {
-      // Read the protocol version from the server.
-      readProtocolVersion(context, (ByteBuf) message)
-          .ifPresent(
-              version -> {
-                // If the protocol version is a valid protocol version for the client, activate the
-                // protocol.
-                // Otherwise, close the connection and log an error.
-                final ProtocolVersion protocolVersion = ProtocolVersion.valueOf(version);
-                if (protocolVersion != null) {
-                  activateProtocolVersion(
-                      context, getOrCreateClientConnection(context.channel()), protocolVersion);
-                } else {
-                  log.error("Failed to negotiate protocol version");
-                  context.close();
-                }
-              });
+    void onHandshake(final ChannelHandlerContext context, final Handshake handshake) {
+      // If the protocol version is a valid protocol version for the client, activate the
+      // protocol.
+      // Otherwise, close the connection and log an error.
+      final ProtocolVersion protocolVersion = ProtocolVersion.valueOf(handshake.version());
+      if (protocolVersion == null) {
+        log.error("Failed to negotiate protocol version");
+        context.close();
+      } else if (protocolVersion.negotiatesCompression() && handshake.algorithm() == null) {
+        log.error("Failed to negotiate compression algorithm");
+        context.close();
+      } else {
+        final var algorithm =
+            protocolVersion.negotiatesCompression()
+                ? handshake.algorithm()
+                : legacyCompressionAlgorithm();
+        activateProtocolVersion(
+            context, getOrCreateClientConnection(context.channel()), protocolVersion, algorithm);
+      }
     }
 
     @Override
@@ -1012,12 +1152,14 @@ public final class NettyMessagingService implements ManagedMessagingService {
     void activateProtocolVersion(
         final ChannelHandlerContext context,
         final Connection<ProtocolReply> connection,
-        final ProtocolVersion protocolVersion) {
+        final ProtocolVersion protocolVersion,
+        final CompressionAlgorithm algorithm) {
       log.debug(
-          "Activating client protocol version {} for connection to {}",
+          "Activating client protocol version {} with compression {} for connection to {}",
           protocolVersion,
+          algorithm,
           context.channel().remoteAddress());
-      super.activateProtocolVersion(context, connection, protocolVersion);
+      super.activateProtocolVersion(context, connection, protocolVersion, algorithm);
       future.complete(context.channel());
     }
   }
@@ -1027,39 +1169,58 @@ public final class NettyMessagingService implements ManagedMessagingService {
       extends HandshakeHandlerAdapter<ProtocolRequest> {
 
     @Override
-    public void channelRead(final ChannelHandlerContext context, final Object message)
-        throws Exception {
-      // Read the protocol version from the client handshake. If the client's protocol version is
-      // unknown
-      // to the server, use the latest server protocol version.
-      readProtocolVersion(context, (ByteBuf) message)
-          .ifPresent(
-              version -> {
-                ProtocolVersion protocolVersion = ProtocolVersion.valueOf(version);
-                if (protocolVersion == null) {
-                  protocolVersion = ProtocolVersion.latest();
-                }
-                writeProtocolVersion(context, protocolVersion);
-                activateProtocolVersion(
-                    context,
-                    new RemoteServerConnection(handlers, context.channel()),
-                    protocolVersion);
-              });
+    void onHandshake(final ChannelHandlerContext context, final Handshake handshake) {
+      // If the client's protocol version is unknown to the server, use the latest server protocol
+      // version.
+      ProtocolVersion protocolVersion = ProtocolVersion.valueOf(handshake.version());
+      if (protocolVersion == null) {
+        protocolVersion = ProtocolVersion.latest();
+      }
+
+      final CompressionAlgorithm algorithm;
+      if (protocolVersion.negotiatesCompression()) {
+        // accept the client's proposal, unless it relies on a dictionary we don't share
+        algorithm =
+            handshake.algorithm() == null
+                ? legacyCompressionAlgorithm()
+                : compression.resolve(handshake.algorithm(), handshake.dictionaryId());
+        writeProtocolVersion(context, protocolVersion, algorithm, OptionalInt.empty());
+      } else {
+        algorithm = legacyCompressionAlgorithm();
+        writeProtocolVersion(context, protocolVersion);
+      }
+
+      activateProtocolVersion(
+          context,
+          new RemoteServerConnection(handlers, context.channel()),
+          protocolVersion,
+          algorithm);
     }
 
     @Override
     void activateProtocolVersion(
         final ChannelHandlerContext context,
         final Connection<ProtocolRequest> connection,
-        final ProtocolVersion protocolVersion) {
+        final ProtocolVersion protocolVersion,
+        final CompressionAlgorithm algorithm) {
       log.debug(
-          "Activating server protocol version {} for connection to {}",
+          "Activating server protocol version {} with compression {} for connection to {}",
           protocolVersion,
+          algorithm,
           context.channel().remoteAddress());
-      super.activateProtocolVersion(context, connection, protocolVersion);
+      super.activateProtocolVersion(context, connection, protocolVersion, algorithm);
     }
   }
 
+  /**
+   * The handshake sent by each end when a connection is opened.
+   *
+   * @param version the protocol version
+   * @param algorithm the proposed or accepted compression algorithm, or null if none was sent
+   * @param dictionaryId the identifier of the proposed compression dictionary, if any
+   */
+  private record Handshake(short version, CompressionAlgorithm algorithm, int dictionaryId) {}
+
   /** Connection message dispatcher. */
   private class MessageDispatcher<M extends ProtocolMessage>
       extends SimpleChannelInboundHandler<Object> {
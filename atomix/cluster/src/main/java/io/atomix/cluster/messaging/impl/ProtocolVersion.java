@@ -32,6 +32,13 @@ public enum ProtocolVersion {
     public MessagingProtocol createProtocol(final Address address) {
       return new MessagingProtocolV2(address);
     }
+  },
+  /** Same messages as {@link #V2}, but the handshake negotiates the compression algorithm. */
+  V3(3) {
+    @Override
+    public MessagingProtocol createProtocol(final Address address) {
+      return new MessagingProtocolV2(address);
+    }
   };
 
   private final short version;
@@ -68,6 +75,17 @@ public enum ProtocolVersion {
     return version;
   }
 
+  /**
+   * Returns whether the handshake of this version negotiates the compression algorithm of the
+   * connection. Older versions use the locally configured algorithm, and thus require all nodes to
+   * be configured the same way.
+   *
+   * @return true if the compression algorithm is negotiated, false otherwise
+   */
+  public boolean negotiatesCompression() {
+    return version >= V3.version;
+  }
+
   /**
    * Creates a new protocol instance.
    *
@@ -16,6 +16,7 @@
  */
 package io.atomix.cluster.messaging.impl;
 
+import io.camunda.zeebe.util.CloseableSilently;
 import io.netty.channel.Channel;
 import java.util.concurrent.CompletableFuture;
 
@@ -33,10 +34,12 @@ final class RemoteClientConnection extends AbstractClientConnection {
   public CompletableFuture<Void> sendAsync(final ProtocolRequest message) {
     final CompletableFuture<Void> future = new CompletableFuture<>();
     countMessageMetrics(message);
+    final var queueingTimer = startQueueingTimer(message);
     channel
         .writeAndFlush(message)
         .addListener(
             channelFuture -> {
+              queueingTimer.close();
               if (!channelFuture.isSuccess()) {
                 future.completeExceptionally(channelFuture.cause());
               } else {
@@ -50,10 +53,12 @@ final class RemoteClientConnection extends AbstractClientConnection {
   public CompletableFuture<byte[]> sendAndReceive(final ProtocolRequest message) {
     final CompletableFuture<byte[]> responseFuture = awaitResponseForRequestWithId(message.id());
     countReqResponseMetrics(message, responseFuture);
+    final var queueingTimer = startQueueingTimer(message);
     channel
         .writeAndFlush(message)
         .addListener(
             channelFuture -> {
+              queueingTimer.close();
               if (!channelFuture.isSuccess()) {
                 responseFuture.completeExceptionally(channelFuture.cause());
               }
@@ -61,6 +66,13 @@ final class RemoteClientConnection extends AbstractClientConnection {
     return responseFuture;
   }
 
+  private CloseableSilently startQueueingTimer(final ProtocolRequest message) {
+    // the write completes once the message is written to the socket, so this measures how long it
+    // waited behind other messages sent over the same channel
+    final var trafficClass = TrafficClassifier.classify(message.subject());
+    return messagingMetrics.startQueueingTimer(trafficClass.name());
+  }
+
   private void countMessageMetrics(final ProtocolRequest message) {
     final String toAddress = channel.remoteAddress().toString();
     final String subject = message.subject();
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
+
+/**
+ * Maps message subjects to their {@link TrafficClass}, based on the naming conventions of the
+ * subjects used by Raft, the membership and topology protocols, the command API, and job streams.
+ * The classification only depends on the subject, so all messages of a subject are still sent over
+ * the same connection, preserving their order.
+ */
+final class TrafficClassifier {
+  private static final String RAFT_APPEND_SUFFIX = "-append";
+  private static final String RAFT_VERSIONED_APPEND_SUFFIX = "-append-versioned";
+  private static final String RAFT_INSTALL_SUFFIX = "-install";
+  private static final String MEMBERSHIP_PREFIX = "atomix-membership-";
+  private static final String TOPOLOGY_PREFIX = "cluster-topology-";
+  private static final String COMMAND_API_PREFIX = "command-api-";
+  private static final String QUERY_API_PREFIX = "query-api-";
+  private static final String JOB_STREAM_PREFIX = "stream-";
+  private static final String JOBS_AVAILABLE = "jobsAvailable";
+  private static final String JOBS_AVAILABLE_ON_PARTITION = "jobsAvailableOnPartition";
+
+  private TrafficClassifier() {}
+
+  static TrafficClass classify(final String subject) {
+    if (subject.endsWith(RAFT_APPEND_SUFFIX) || subject.endsWith(RAFT_VERSIONED_APPEND_SUFFIX)) {
+      return TrafficClass.REPLICATION;
+    } else if (subject.endsWith(RAFT_INSTALL_SUFFIX)) {
+      return TrafficClass.SNAPSHOT;
+    } else if (subject.startsWith(COMMAND_API_PREFIX) || subject.startsWith(QUERY_API_PREFIX)) {
+      return TrafficClass.COMMAND;
+    } else if (subject.startsWith(JOB_STREAM_PREFIX)
+        || subject.equals(JOBS_AVAILABLE)
+        || subject.equals(JOBS_AVAILABLE_ON_PARTITION)) {
+      return TrafficClass.JOB_STREAM;
+    } else if (subject.startsWith(MEMBERSHIP_PREFIX) || subject.startsWith(TOPOLOGY_PREFIX)) {
+      return TrafficClass.GOSSIP;
+    }
+
+    return TrafficClass.DEFAULT;
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Limits how many append requests, and how many bytes, may be in flight to a single member at once.
+ * The window adapts to the link to the member, similar to TCP congestion control: it starts at a
+ * single request and grows as the member acknowledges appends - by one request per acknowledgement
+ * until the first overload or timeout, then by roughly one request per round trip. Whenever the
+ * member rejects an append because it could not handle it, the window is halved; when an append is
+ * not answered at all, it falls back to a single request. Appends rejected because the member's log
+ * does not match are not a sign of overload, and leave the window as is.
+ *
+ * <p>The window never grows beyond the configured maximum amount of requests, and no new request is
+ * started once the configured maximum amount of bytes is in flight. A single request is always
+ * allowed, regardless of its size, such that large entries can still be replicated.
+ *
+ * <p>Every request is tagged with the generation of the window it was sent in. Resetting the window
+ * starts a new generation, such that requests completing after the reset do not free up space which
+ * belongs to requests sent since.
+ */
+final class AppendWindow {
+
+  private static final double MIN_SIZE = 1;
+
+  private final int maxSize;
+  private final long maxBytes;
+
+  private double size;
+  private double slowStartThreshold;
+  private int inFlightCount;
+  private long inFlightBytes;
+  private long generation;
+
+  AppendWindow(final int maxSize, final long maxBytes) {
+    // a single request is always allowed, so smaller limits are equivalent to no pipelining at all
+    this.maxSize = Math.max((int) MIN_SIZE, maxSize);
+    this.maxBytes = maxBytes;
+    reset();
+  }
+
+  /** Resets the window to its initial size, forgetting about any in-flight requests. */
+  void reset() {
+    generation++;
+    size = MIN_SIZE;
+    slowStartThreshold = maxSize;
+    inFlightCount = 0;
+    inFlightBytes = 0;
+  }
+
+  /**
+   * @return true if another request can be sent without exceeding the window
+   */
+  boolean canSend() {
+    return inFlightCount == 0 || (inFlightCount < size() && inFlightBytes < maxBytes);
+  }
+
+  /**
+   * @return true if no requests are in flight
+   */
+  boolean isEmpty() {
+    return inFlightCount == 0;
+  }
+
+  /**
+   * Marks a request with the given amount of bytes as in flight.
+   *
+   * @return the generation the request was sent in, to be passed to {@link #onComplete(long, int)}
+   */
+  long onSend(final int bytes) {
+    inFlightCount++;
+    inFlightBytes += bytes;
+    return generation;
+  }
+
+  /**
+   * Marks a request with the given amount of bytes as no longer in flight, regardless of its
+   * outcome. Requests which were sent before the last {@link #reset()} are ignored.
+   */
+  void onComplete(final long sentGeneration, final int bytes) {
+    if (sentGeneration != generation) {
+      return;
+    }
+
+    inFlightCount--;
+    inFlightBytes -= bytes;
+  }
+
+  /** Grows the window after the member acknowledged an append with entries. */
+  void onAcknowledged() {
+    if (size < slowStartThreshold) {
+      size = Math.min(maxSize, size + 1);
+    } else {
+      size = Math.min(maxSize, size + 1 / size);
+    }
+  }
+
+  /** Halves the window after the member rejected an append because it could not handle it. */
+  void onOverloaded() {
+    slowStartThreshold = Math.max(MIN_SIZE, size / 2);
+    size = slowStartThreshold;
+  }
+
+  /** Shrinks the window to a single request after the member did not answer an append. */
+  void onUnanswered() {
+    slowStartThreshold = Math.max(MIN_SIZE, size / 2);
+    size = MIN_SIZE;
+  }
+
+  /**
+   * @return the maximum amount of requests which may currently be in flight
+   */
+  int size() {
+    return (int) size;
+  }
+
+  int inFlightCount() {
+    return inFlightCount;
+  }
+
+  long inFlightBytes() {
+    return inFlightBytes;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("size", size())
+        .add("inFlightCount", inFlightCount)
+        .add("inFlightBytes", inFlightBytes)
+        .toString();
+  }
+}
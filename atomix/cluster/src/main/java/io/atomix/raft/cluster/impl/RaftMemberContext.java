@@ -25,16 +25,15 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
 /** Cluster member state. */
 public final class RaftMemberContext {
 
-  private static final int APPEND_WINDOW_SIZE = 8;
+  public static final long NO_LEASE_ACKNOWLEDGEMENT = Long.MIN_VALUE;
+
   private final DefaultRaftMember member;
-  private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
-  private final int maxAppendsPerMember;
+  private final AppendWindow appendWindow;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -44,7 +43,7 @@ public final class RaftMemberContext {
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
-  private int inFlightAppendCount;
+  private long leaseAcknowledgedTime = NO_LEASE_ACKNOWLEDGEMENT;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
@@ -58,9 +57,10 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final long maxAppendBytesPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    appendWindow = new AppendWindow(maxAppendsPerMember, maxAppendBytesPerMember);
   }
 
   /** Resets the member state. */
@@ -71,8 +71,8 @@ public final class RaftMemberContext {
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
-    inFlightAppendCount = 0;
-    timeStats.clear();
+    leaseAcknowledgedTime = NO_LEASE_ACKNOWLEDGEMENT;
+    appendWindow.reset();
     configuring = false;
     installing = false;
     appendSucceeded = false;
@@ -144,17 +144,14 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an append request can be sent to the member.
+   * Returns a boolean indicating whether an append request can be sent to the member. Requests are
+   * pipelined within the member's {@link AppendWindow}, unless the last append failed, in which
+   * case only a single request is sent at a time until one succeeds again.
    *
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
-    return open
-        && (inFlightAppendCount == 0
-            || (appendSucceeded
-                && inFlightAppendCount < maxAppendsPerMember
-                && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                    >= appendTime));
+    return open && (appendWindow.isEmpty() || (appendSucceeded && appendWindow.canSend()));
   }
 
   /**
@@ -163,7 +160,7 @@ public final class RaftMemberContext {
    * @return Indicates whether a heartbeat can be sent to the member.
    */
   public boolean canHeartbeat() {
-    return open && inFlightAppendCount == 0;
+    return open && appendWindow.isEmpty();
   }
 
   /** Flags the last append to the member as successful. */
@@ -185,25 +182,59 @@ public final class RaftMemberContext {
     appendSucceeded(false);
   }
 
-  /** Starts an append request to the member. */
-  public void startAppend() {
-    inFlightAppendCount++;
+  /** Shrinks the append window after the member failed to handle an append, e.g. when busy. */
+  public void appendOverloaded() {
+    appendWindow.onOverloaded();
+  }
+
+  /** Grows the append window after the member acknowledged an append with entries. */
+  public void appendAcknowledged() {
+    appendWindow.onAcknowledged();
+  }
+
+  /** Shrinks the append window after the member did not answer an append, e.g. on timeout. */
+  public void appendUnanswered() {
+    appendWindow.onUnanswered();
+  }
+
+  /**
+   * Starts an append request to the member.
+   *
+   * @param size The approximate size in bytes of the entries sent with the append.
+   * @return The generation of the append window the request was sent in.
+   */
+  public long startAppend(final int size) {
     appendTime = System.currentTimeMillis();
+    return appendWindow.onSend(size);
+  }
+
+  /**
+   * Completes an append request to the member. Requests started before the member state was last
+   * reset are ignored.
+   *
+   * @param generation The generation returned when starting the append.
+   * @param size The approximate size in bytes of the entries sent with the append.
+   */
+  public void completeAppend(final long generation, final int size) {
+    appendWindow.onComplete(generation, size);
   }
 
-  /** Completes an append request to the member. */
-  public void completeAppend() {
-    inFlightAppendCount--;
+  /**
+   * Returns the maximum amount of append requests which may currently be in flight to the member.
+   *
+   * @return The size of the member's append window.
+   */
+  public int getAppendWindowSize() {
+    return appendWindow.size();
   }
 
   /**
-   * Completes an append request to the member.
+   * Returns the approximate amount of bytes currently in flight to the member.
    *
-   * @param time The time in milliseconds for the append.
+   * @return The amount of bytes sent to, but not yet acknowledged by, the member.
    */
-  public void completeAppend(final long time) {
-    inFlightAppendCount--;
-    timeStats.addValue(time);
+  public long getInFlightAppendBytes() {
+    return appendWindow.inFlightBytes();
   }
 
   /**
@@ -273,7 +304,8 @@ public final class RaftMemberContext {
         .add("nextSnapshotChunk", nextSnapshotChunk)
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
-        .add("appending", inFlightAppendCount)
+        .add("appending", appendWindow.inFlightCount())
+        .add("appendWindow", appendWindow.size())
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
@@ -354,6 +386,23 @@ public final class RaftMemberContext {
     this.heartbeatTime = Math.max(this.heartbeatTime, heartbeatTime);
   }
 
+  /**
+   * Returns the send time, as measured by the {@link io.atomix.raft.impl.LeaderLease} clock, of the
+   * latest append request which the member accepted in the current term.
+   *
+   * @return the latest acknowledged send time, or {@link #NO_LEASE_ACKNOWLEDGEMENT} if none
+   */
+  public long getLeaseAcknowledgedTime() {
+    return leaseAcknowledgedTime;
+  }
+
+  public void setLeaseAcknowledgedTime(final long leaseAcknowledgedTime) {
+    if (this.leaseAcknowledgedTime == NO_LEASE_ACKNOWLEDGEMENT
+        || leaseAcknowledgedTime - this.leaseAcknowledgedTime > 0) {
+      this.leaseAcknowledgedTime = leaseAcknowledgedTime;
+    }
+  }
+
   /**
    * Returns the member's match index.
    *
@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.impl;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * A time-bound guarantee that no other replica can become leader. The lease is extended with the
+ * time at which the leader sent the last heartbeat acknowledged by a quorum, and it lasts for the
+ * election timeout minus the tolerated clock drift. Followers reject polls as long as they heard
+ * from the leader within the election timeout, so a quorum cannot elect another leader before the
+ * lease expired.
+ *
+ * <p>The lease is only updated from the raft thread, but can be checked from any thread.
+ */
+public final class LeaderLease {
+  private static final long REVOKED = Long.MIN_VALUE;
+  private static final long INDEFINITE = Long.MAX_VALUE;
+
+  private final boolean enabled;
+  private final long durationNanos;
+  private final LongSupplier nanoClock;
+
+  private volatile long expiresAtNanos = REVOKED;
+
+  public LeaderLease(
+      final boolean enabled, final Duration electionTimeout, final Duration clockDrift) {
+    this(enabled, electionTimeout, clockDrift, System::nanoTime);
+  }
+
+  LeaderLease(
+      final boolean enabled,
+      final Duration electionTimeout,
+      final Duration clockDrift,
+      final LongSupplier nanoClock) {
+    if (enabled && clockDrift.compareTo(electionTimeout) >= 0) {
+      throw new IllegalArgumentException(
+          "Expected leader lease clock drift to be smaller than the election timeout %s, but was %s"
+              .formatted(electionTimeout, clockDrift));
+    }
+
+    this.enabled = enabled;
+    this.nanoClock = nanoClock;
+    durationNanos = electionTimeout.minus(clockDrift).toNanos();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return the current time of the clock used to measure the lease
+   */
+  public long nanoTime() {
+    return nanoClock.getAsLong();
+  }
+
+  /**
+   * Extends the lease to last until the lease duration passed since the given time. A finite lease
+   * is never shortened, as acknowledgements may arrive out of order; an indefinite lease is
+   * replaced, since acknowledgements only arrive once the leader has remote members again.
+   *
+   * @param acknowledgedAtNanos the time, as returned by {@link #nanoTime()}, at which the last
+   *     heartbeat acknowledged by a quorum was sent
+   */
+  public void extend(final long acknowledgedAtNanos) {
+    if (!enabled) {
+      return;
+    }
+
+    final var expiresAt = acknowledgedAtNanos + durationNanos;
+    final var current = expiresAtNanos;
+    if (current == REVOKED || current == INDEFINITE || expiresAt - current > 0) {
+      expiresAtNanos = expiresAt;
+    }
+  }
+
+  /**
+   * Grants a lease which never expires. Only safe when the leader is the only member of the
+   * cluster, as there is nobody else who could be elected.
+   */
+  public void extendIndefinitely() {
+    if (enabled) {
+      expiresAtNanos = INDEFINITE;
+    }
+  }
+
+  /** Revokes the lease; must be called whenever the leader steps down. */
+  public void revoke() {
+    expiresAtNanos = REVOKED;
+  }
+
+  /**
+   * @return true if the lease is enabled and has not expired yet
+   */
+  public boolean isValid() {
+    final var expiresAt = expiresAtNanos;
+    if (!enabled || expiresAt == REVOKED) {
+      return false;
+    }
+
+    return expiresAt == INDEFINITE || expiresAt - nanoClock.getAsLong() > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "LeaderLease{"
+        + "enabled="
+        + enabled
+        + ", durationNanos="
+        + durationNanos
+        + ", expiresAtNanos="
+        + expiresAtNanos
+        + '}';
+  }
+}
@@ -149,6 +149,7 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
   private volatile HealthReport health = HealthReport.healthy(this);
 
   private long lastHeartbeat;
+  private final LeaderLease leaderLease;
   private final RaftPartitionConfig partitionConfig;
   private final int partitionId;
 
@@ -233,6 +234,11 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
                 LogCompactor.class, LoggerContext.builder(getClass()).addValue(name).build()));
 
     this.partitionConfig = partitionConfig;
+    leaderLease =
+        new LeaderLease(
+            partitionConfig.isLeaderLeaseEnabled(),
+            partitionConfig.getElectionTimeout(),
+            partitionConfig.getLeaderLeaseClockDrift());
     cluster = new RaftClusterContext(localMemberId, this);
 
     replicationMetrics = new RaftReplicationMetrics(name);
@@ -351,6 +357,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public long getMaxAppendBytesPerFollower() {
+    return partitionConfig.getMaxAppendBytesPerFollower();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -496,8 +506,9 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     if (commitIndex > previousCommitIndex) {
       this.commitIndex = commitIndex;
       raftLog.setCommitIndex(Math.min(commitIndex, raftLog.getLastIndex()));
-      if (isLeader()) {
-        // leader counts itself in quorum, so in order to commit the leader must persist
+      if (isLeader() && !raftLog.flushesAsynchronously()) {
+        // leader counts itself in quorum, so in order to commit the leader must persist; with an
+        // asynchronous flusher, the leader only commits entries once they are flushed
         raftLog.flush();
       }
       final long configurationIndex = cluster.getConfiguration().index();
@@ -1286,6 +1297,16 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     this.lastHeartbeat = lastHeartbeat;
   }
 
+  /**
+   * Returns the leader lease of this server. It is only valid while this server is the leader and a
+   * quorum acknowledged its heartbeats recently; it is safe to check from any thread.
+   *
+   * @return the leader lease
+   */
+  public LeaderLease getLeaderLease() {
+    return leaderLease;
+  }
+
   public void resetLastHeartbeat() {
     setLastHeartbeat(System.currentTimeMillis());
   }
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+/** Metrics of the group flushes of all journals stored on the same device. */
+public final class GroupFlushMetrics {
+  private static final String NAMESPACE = "atomix";
+  private static final String DEVICE_LABEL = "device";
+
+  private static final Histogram FLUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_flush_batch_size")
+          .help("The number of journals flushed together in a single group flush")
+          .labelNames(DEVICE_LABEL)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .register();
+
+  private static final Histogram FLUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("group_flush_latency")
+          .help("Time it takes to flush all journals of a group flush, in seconds")
+          .labelNames(DEVICE_LABEL)
+          .buckets(0.0001, 0.0005, 0.001, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1)
+          .register();
+
+  private final Histogram.Child flushBatchSize;
+  private final Histogram.Child flushLatency;
+
+  public GroupFlushMetrics(final String device) {
+    flushBatchSize = FLUSH_BATCH_SIZE.labels(device);
+    flushLatency = FLUSH_LATENCY.labels(device);
+  }
+
+  public void observeFlush(final int batchSize, final long latencyNanos) {
+    flushBatchSize.observe(batchSize);
+    flushLatency.observe(latencyNanos / 1_000_000_000d);
+  }
+}
@@ -18,6 +18,7 @@ package io.atomix.raft.metrics;
 import io.prometheus.client.Gauge;
 
 public class RaftReplicationMetrics extends RaftMetrics {
+  private static final String FOLLOWER_LABEL = "follower";
 
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
@@ -35,6 +36,30 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Gauge APPEND_WINDOW_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The maximum number of append requests which may be in flight to a follower")
+          .name("partition_raft_append_window_size")
+          .register();
+
+  private static final Gauge APPEND_IN_FLIGHT_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The approximate size of entries sent to a follower, which it did not yet answer")
+          .name("partition_raft_append_in_flight_bytes")
+          .register();
+
+  private static final Gauge REPLICATION_LAG =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The number of entries the follower is behind the leader's last entry")
+          .name("partition_raft_replication_lag")
+          .register();
+
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
 
@@ -52,4 +77,14 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void observeAppendWindow(
+      final String follower, final int windowSize, final long inFlightBytes) {
+    APPEND_WINDOW_SIZE.labels(follower, partitionGroupName, partition).set(windowSize);
+    APPEND_IN_FLIGHT_BYTES.labels(follower, partitionGroupName, partition).set(inFlightBytes);
+  }
+
+  public void observeReplicationLag(final String follower, final long lag) {
+    REPLICATION_LAG.labels(follower, partitionGroupName, partition).set(lag);
+  }
 }
@@ -211,6 +211,10 @@ public final class RaftPartition implements Partition, HealthMonitorable {
     return partitionMetadata != null ? partitionMetadata.members() : Collections.emptyList();
   }
 
+  public PartitionMetadata getMetadata() {
+    return partitionMetadata;
+  }
+
   public Role getRole() {
     return server != null ? server.getRole() : null;
   }
@@ -30,10 +30,13 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final boolean DEFAULT_LEADER_LEASE_ENABLED = false;
+  private static final Duration DEFAULT_LEADER_LEASE_CLOCK_DRIFT = Duration.ofMillis(500);
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
-  private int maxAppendsPerFollower = 2;
+  private int maxAppendsPerFollower = 8;
+  private long maxAppendBytesPerFollower = 1024 * 1024;
   private int maxAppendBatchSize = 32 * 1024;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
@@ -41,6 +44,8 @@ public class RaftPartitionConfig {
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int preferSnapshotReplicationThreshold = DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD;
+  private boolean leaderLeaseEnabled = DEFAULT_LEADER_LEASE_ENABLED;
+  private Duration leaderLeaseClockDrift = DEFAULT_LEADER_LEASE_CLOCK_DRIFT;
   private RaftStorageConfig storageConfig;
   private EntryValidator entryValidator;
 
@@ -92,6 +97,20 @@ public class RaftPartitionConfig {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  /**
+   * Returns the maximum amount of bytes which may be in flight to a single follower. Together with
+   * {@link #getMaxAppendsPerFollower()}, this bounds the adaptive append window of each follower.
+   *
+   * @return the maximum amount of in-flight bytes per follower
+   */
+  public long getMaxAppendBytesPerFollower() {
+    return maxAppendBytesPerFollower;
+  }
+
+  public void setMaxAppendBytesPerFollower(final long maxAppendBytesPerFollower) {
+    this.maxAppendBytesPerFollower = maxAppendBytesPerFollower;
+  }
+
   public int getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -175,6 +194,37 @@ public class RaftPartitionConfig {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public boolean isLeaderLeaseEnabled() {
+    return leaderLeaseEnabled;
+  }
+
+  /**
+   * Enables the leader lease. A leader holds a lease for the election timeout minus the clock
+   * drift, counted from the time it sent the last heartbeat acknowledged by a quorum. While
+   * followers have heard from the leader within the election timeout, they reject polls, so no new
+   * leader can be elected before the lease expired. This allows the leader to serve reads from its
+   * local state without another round trip to the quorum.
+   *
+   * @param leaderLeaseEnabled true to enable the leader lease
+   */
+  public void setLeaderLeaseEnabled(final boolean leaderLeaseEnabled) {
+    this.leaderLeaseEnabled = leaderLeaseEnabled;
+  }
+
+  public Duration getLeaderLeaseClockDrift() {
+    return leaderLeaseClockDrift;
+  }
+
+  /**
+   * Sets the maximum clock drift between the replicas that the leader lease tolerates. The lease is
+   * shortened by this amount, so it must be smaller than the election timeout.
+   *
+   * @param leaderLeaseClockDrift the maximum tolerated clock drift
+   */
+  public void setLeaderLeaseClockDrift(final Duration leaderLeaseClockDrift) {
+    this.leaderLeaseClockDrift = leaderLeaseClockDrift;
+  }
+
   public RaftStorageConfig getStorageConfig() {
     return storageConfig;
   }
@@ -200,6 +250,8 @@ public class RaftPartitionConfig {
         + heartbeatInterval
         + ", maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", maxAppendBytesPerFollower="
+        + maxAppendBytesPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
         + ", priorityElectionEnabled="
@@ -214,6 +266,10 @@ public class RaftPartitionConfig {
         + maxQuorumResponseTimeout
         + ", preferSnapshotReplicationThreshold="
         + preferSnapshotReplicationThreshold
+        + ", leaderLeaseEnabled="
+        + leaderLeaseEnabled
+        + ", leaderLeaseClockDrift="
+        + leaderLeaseClockDrift
         + '}';
   }
 }
@@ -38,6 +38,7 @@ import io.atomix.raft.protocol.RaftResponse.Status;
 import io.atomix.raft.protocol.ReconfigureRequest;
 import io.atomix.raft.protocol.ReconfigureResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableJournalRecordSerializer;
 import io.atomix.raft.protocol.TransferRequest;
 import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
@@ -89,7 +90,7 @@ public final class RaftNamespaces {
           .register(TransferRequest.class)
           .register(TransferResponse.class)
           .register(VersionedAppendRequest.class)
-          .register(ReplicatableJournalRecord.class)
+          .register(new ReplicatableJournalRecordSerializer(), ReplicatableJournalRecord.class)
           .register(JoinRequest.class)
           .register(JoinResponse.class)
           .register(LeaveRequest.class)
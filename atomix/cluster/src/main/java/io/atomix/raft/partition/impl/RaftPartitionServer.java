@@ -268,6 +268,14 @@ public class RaftPartitionServer implements HealthMonitorable {
     return server.getTerm();
   }
 
+  /**
+   * @return true if this server is the leader and holds a valid leader lease, i.e. no other leader
+   *     can have been elected in the meantime
+   */
+  public boolean hasValidLeaderLease() {
+    return server.getContext().getLeaderLease().isValid();
+  }
+
   public MemberId getMemberId() {
     return localMemberId;
   }
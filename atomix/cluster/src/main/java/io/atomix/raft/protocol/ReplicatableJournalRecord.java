@@ -15,43 +15,31 @@
  */
 package io.atomix.raft.protocol;
 
-import java.util.Arrays;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
+/**
+ * A journal record as it is replicated from the leader to its followers, i.e. exactly as it is
+ * serialized in the journal.
+ *
+ * <p>On the leader, the serialized record is a view over the journal's memory mapped segment, and
+ * on the follower a view over the received message, such that neither of them has to copy the
+ * record before it is written to the network or to the journal. As such, the record is only valid
+ * as long as the underlying segment or message is; it must not be held on to after the request it's
+ * part of was sent or handled.
+ *
+ * <p>See {@link ReplicatableJournalRecordSerializer} for how it is serialized.
+ */
 public record ReplicatableJournalRecord(
-    long term, long index, long checksum, byte[] serializedJournalRecord)
+    long term, long index, long checksum, DirectBuffer serializedJournalRecord)
     implements ReplicatableRaftRecord {
 
-  // Due to having and array member, it is recommended to override equals, hashcode and toString
-  @Override
-  public boolean equals(final Object o) {
-    if (this == o) {
-      return true;
-    }
-    if (o == null || getClass() != o.getClass()) {
-      return false;
-    }
-
-    final ReplicatableJournalRecord that = (ReplicatableJournalRecord) o;
-
-    if (term != that.term) {
-      return false;
-    }
-    if (index != that.index) {
-      return false;
-    }
-    if (checksum != that.checksum) {
-      return false;
-    }
-    return Arrays.equals(serializedJournalRecord, that.serializedJournalRecord);
-  }
-
-  @Override
-  public int hashCode() {
-    int result = (int) (term ^ (term >>> 32));
-    result = 31 * result + (int) (index ^ (index >>> 32));
-    result = 31 * result + (int) (checksum ^ (checksum >>> 32));
-    result = 31 * result + Arrays.hashCode(serializedJournalRecord);
-    return result;
+  public ReplicatableJournalRecord(
+      final long term,
+      final long index,
+      final long checksum,
+      final byte[] serializedJournalRecord) {
+    this(term, index, checksum, new UnsafeBuffer(serializedJournalRecord));
   }
 
   @Override
@@ -64,8 +52,8 @@ public record ReplicatableJournalRecord(
         + ", checksum="
         + checksum
         + ", serializedJournalRecord="
-        + Arrays.toString(serializedJournalRecord)
-        + '}';
+        + serializedJournalRecord.capacity()
+        + " bytes}";
   }
 
   /**
@@ -76,6 +64,6 @@ public record ReplicatableJournalRecord(
    */
   public int approximateSize() {
     // serializedJournalRecord + index + term + checksum
-    return serializedJournalRecord.length + (3 * Long.BYTES);
+    return serializedJournalRecord.capacity() + (3 * Long.BYTES);
   }
 }
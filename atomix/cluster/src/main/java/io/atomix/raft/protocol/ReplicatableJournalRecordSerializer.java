@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.ByteBufferOutput;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes {@link ReplicatableJournalRecord} without intermediate copies of the serialized
+ * journal record: it is written straight from the journal's segment into the output, and read as a
+ * view over the input's buffer whenever possible.
+ *
+ * <p>The wire format is the same as the one Kryo's default record serializer produced when the
+ * serialized journal record was a byte array, i.e. the components in alphabetical order, with the
+ * array prefixed by its length + 1, such that older members can still read it and vice versa.
+ */
+public final class ReplicatableJournalRecordSerializer
+    extends Serializer<ReplicatableJournalRecord> {
+
+  private static final int NULL_LENGTH = 0;
+
+  public ReplicatableJournalRecordSerializer() {
+    setImmutable(true);
+  }
+
+  @Override
+  public void write(final Kryo kryo, final Output output, final ReplicatableJournalRecord record) {
+    output.writeVarLong(record.checksum(), false);
+    output.writeVarLong(record.index(), false);
+    writeBuffer(output, record.serializedJournalRecord());
+    output.writeVarLong(record.term(), false);
+  }
+
+  @Override
+  public ReplicatableJournalRecord read(
+      final Kryo kryo, final Input input, final Class<? extends ReplicatableJournalRecord> type) {
+    final long checksum = input.readVarLong(false);
+    final long index = input.readVarLong(false);
+    final DirectBuffer serializedJournalRecord = readBuffer(input);
+    final long term = input.readVarLong(false);
+
+    return new ReplicatableJournalRecord(term, index, checksum, serializedJournalRecord);
+  }
+
+  private void writeBuffer(final Output output, final DirectBuffer buffer) {
+    final int length = buffer.capacity();
+    output.writeVarInt(length + 1, true);
+
+    if (output instanceof ByteBufferOutput) {
+      // does not expose its buffer as an array
+      final byte[] bytes = new byte[length];
+      buffer.getBytes(0, bytes);
+      output.writeBytes(bytes);
+      return;
+    }
+
+    // copy directly into the output's buffer, in as many chunks as needed; writing a single byte
+    // when it's full lets the output flush or grow its buffer as it sees fit
+    int offset = 0;
+    while (offset < length) {
+      final int available = output.getBuffer().length - output.position();
+      if (available <= 0) {
+        output.writeByte(buffer.getByte(offset++));
+        continue;
+      }
+
+      final int chunkLength = Math.min(available, length - offset);
+      buffer.getBytes(offset, output.getBuffer(), output.position(), chunkLength);
+      output.setPosition(output.position() + chunkLength);
+      offset += chunkLength;
+    }
+  }
+
+  private DirectBuffer readBuffer(final Input input) {
+    final int lengthWithNull = input.readVarInt(true);
+    if (lengthWithNull == NULL_LENGTH) {
+      throw new IllegalStateException(
+          "Expected to read a serialized journal record, but it was null");
+    }
+
+    final int length = lengthWithNull - 1;
+    // when the input reads from an array, the record can be a view over it, as the array belongs to
+    // the received message; when it reads from a stream, its buffer will be reused, so copy
+    if (input.getInputStream() == null && input.limit() - input.position() >= length) {
+      final var view = new UnsafeBuffer(input.getBuffer(), input.position(), length);
+      input.setPosition(input.position() + length);
+      return view;
+    }
+
+    return new UnsafeBuffer(input.readBytes(length));
+  }
+}
@@ -60,10 +60,30 @@ public abstract class ActiveRole extends PassiveRole {
   public CompletableFuture<PollResponse> onPoll(final PollRequest request) {
     raft.checkThread();
     logRequest(request);
+
+    // Must be checked before updating the term, which may reset the leader. As long as we heard
+    // from the leader recently, it may still hold a lease, so we must not help electing another.
+    if (hasRecentLeaderHeartbeat()) {
+      log.debug("Rejected {}: heard from the leader within the election timeout", request);
+      return CompletableFuture.completedFuture(
+          logResponse(
+              PollResponse.builder()
+                  .withStatus(RaftResponse.Status.OK)
+                  .withTerm(raft.getTerm())
+                  .withAccepted(false)
+                  .build()));
+    }
+
     updateTermAndLeader(request.term(), null);
     return CompletableFuture.completedFuture(logResponse(handlePoll(request)));
   }
 
+  private boolean hasRecentLeaderHeartbeat() {
+    return raft.getLeaderLease().isEnabled()
+        && System.currentTimeMillis() - raft.getLastHeartbeat()
+            < raft.getElectionTimeout().toMillis();
+  }
+
   @Override
   public CompletableFuture<VoteResponse> onVote(final VoteRequest request) {
     raft.checkThread();
@@ -38,6 +38,7 @@ import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
@@ -45,6 +46,7 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -62,6 +64,7 @@ import org.slf4j.Logger;
 final class LeaderAppender {
 
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  private static final Duration MIN_FLUSH_RETRY_DELAY = Duration.ofMillis(10);
 
   private final int maxBatchSizePerAppend;
   private final Logger log;
@@ -77,6 +80,10 @@ final class LeaderAppender {
   private final long heartbeatTime;
   private final int minStepDownFailureCount;
   private final long maxQuorumResponseTimeout;
+  private long localFlushedIndex;
+  private long failedFlushIndex;
+  private Duration flushRetryDelay = MIN_FLUSH_RETRY_DELAY;
+  private Scheduled flushRetry;
 
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
@@ -204,9 +211,12 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int appendSize = getAppendSize(request);
+    final long appendGeneration = member.startAppend(appendSize);
+    observeAppendWindow(member);
 
     final long timestamp = System.currentTimeMillis();
+    final long leaseTimestamp = raft.getLeaderLease().nanoTime();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -217,18 +227,15 @@ final class LeaderAppender {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
-                } else {
-                  member.completeAppend();
-                }
+                member.completeAppend(appendGeneration, appendSize);
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, leaseTimestamp);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
+                observeAppendWindow(member);
               }
             },
             raft.getThreadContext());
@@ -238,6 +245,18 @@ final class LeaderAppender {
     }
   }
 
+  private int getAppendSize(final VersionedAppendRequest request) {
+    return request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum();
+  }
+
+  private void observeAppendWindow(final RaftMemberContext member) {
+    raft.getReplicationMetrics()
+        .observeAppendWindow(
+            member.getMember().memberId().id(),
+            member.getAppendWindowSize(),
+            member.getInFlightAppendBytes());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -261,8 +280,10 @@ final class LeaderAppender {
   }
 
   private void observeRemainingMemberEntries(final RaftMemberContext member) {
-    metrics.observeRemainingEntries(
-        member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
+    final var memberId = member.getMember().memberId().id();
+    final long remainingEntries = raft.getLog().getLastIndex() - member.getMatchIndex();
+    metrics.observeRemainingEntries(memberId, remainingEntries);
+    raft.getReplicationMetrics().observeReplicationLag(memberId, remainingEntries);
   }
 
   /** Resets the next index when a response fails. */
@@ -516,7 +537,8 @@ final class LeaderAppender {
     // If there are no other active members in the cluster, update the commit index and complete the
     // commit.
     // The updated commit index will be sent to passive/reserve members on heartbeats.
-    if (raft.getCluster().isSingleMemberCluster()) {
+    // With an asynchronous flusher, the index can only be committed once it is flushed locally.
+    if (raft.getCluster().isSingleMemberCluster() && !raft.getLog().flushesAsynchronously()) {
       raft.setCommitIndex(index);
       completeCommits(index);
       return CompletableFuture.completedFuture(index);
@@ -585,6 +607,8 @@ final class LeaderAppender {
 
   private void handleAppendResponseFailure(
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
+    // the request most likely timed out, so back off until the member answers again
+    member.appendUnanswered();
     failHeartbeat();
 
     // Log the failed attempt to contact the member.
@@ -630,8 +654,14 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long leaseTimestamp) {
     if (response.status() == RaftResponse.Status.OK) {
+      // the member accepted us as its leader; it will not grant a poll for an election timeout
+      // after it received the request, so the lease can be counted from the time we sent it
+      if (response.term() == raft.getTerm()) {
+        recordLeaseAcknowledgement(member, leaseTimestamp);
+      }
       handleAppendResponseOk(member, request, response);
     } else {
       handleAppendResponseError(member, request, response);
@@ -649,11 +679,12 @@ final class LeaderAppender {
     // If replication succeeded then trigger commit futures.
     if (response.succeeded()) {
       member.appendSucceeded();
+      if (!request.entries().isEmpty()) {
+        member.appendAcknowledged();
+      }
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), getAppendSize(request));
 
       commitEntries();
 
@@ -767,6 +798,9 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     } else {
+      // the member could not handle the request, so send less until it catches up again
+      member.appendOverloaded();
+
       // If any other error occurred, increment the failure count for the member. Log the first
       // three
       // failures,
@@ -814,6 +848,10 @@ final class LeaderAppender {
 
   public void close() {
     open = false;
+    if (flushRetry != null) {
+      flushRetry.cancel();
+      flushRetry = null;
+    }
     completeCommits(raft.getCommitIndex());
     appendFutures
         .values()
@@ -934,6 +972,20 @@ final class LeaderAppender {
     }
   }
 
+  private void recordLeaseAcknowledgement(
+      final RaftMemberContext member, final long leaseTimestamp) {
+    final var lease = raft.getLeaderLease();
+    if (!lease.isEnabled()) {
+      return;
+    }
+
+    member.setLeaseAcknowledgedTime(leaseTimestamp);
+    raft.getCluster()
+        .getQuorumFor(RaftMemberContext::getLeaseAcknowledgedTime)
+        .filter(time -> time != RaftMemberContext.NO_LEASE_ACKNOWLEDGEMENT)
+        .ifPresent(lease::extend);
+  }
+
   /**
    * Returns the last time a majority of the cluster was contacted.
    *
@@ -956,15 +1008,81 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Requests the local log to be flushed up to the given, freshly appended index. With an
+   * asynchronous flusher, the leader only counts itself as part of the quorum for entries it has
+   * flushed, so entries are committed once the flush completes.
+   *
+   * @param index the index of the last appended entry
+   */
+  void flushAppendedEntry(final long index) {
+    if (!raft.getLog().flushesAsynchronously()) {
+      return;
+    }
+
+    raft.getLog()
+        .flush()
+        .whenCompleteAsync((ignored, error) -> onLocalFlush(index, error), raft.getThreadContext());
+  }
+
+  private void onLocalFlush(final long index, final Throwable error) {
+    if (!open) {
+      return;
+    }
+
+    if (error != null) {
+      failedFlushIndex = Math.max(failedFlushIndex, index);
+      scheduleFlushRetry(error);
+      return;
+    }
+
+    flushRetryDelay = MIN_FLUSH_RETRY_DELAY;
+    localFlushedIndex = Math.max(localFlushedIndex, index);
+    commitEntries();
+  }
+
+  /**
+   * Retries a failed flush after a delay, which doubles with every consecutive failure up to the
+   * heartbeat interval. Flushes failing while a retry is pending are covered by it, as it flushes
+   * up to the highest index which failed so far.
+   */
+  private void scheduleFlushRetry(final Throwable error) {
+    if (flushRetry != null) {
+      return;
+    }
+
+    log.warn(
+        "Failed to flush entries up to index {}, retrying in {}",
+        failedFlushIndex,
+        flushRetryDelay,
+        error);
+    flushRetry = raft.getThreadContext().schedule(flushRetryDelay, this::retryFlush);
+
+    final Duration maxDelay = raft.getHeartbeatInterval();
+    final Duration nextDelay = flushRetryDelay.multipliedBy(2);
+    flushRetryDelay = nextDelay.compareTo(maxDelay) > 0 ? maxDelay : nextDelay;
+  }
+
+  private void retryFlush() {
+    flushRetry = null;
+    if (failedFlushIndex > localFlushedIndex) {
+      flushAppendedEntry(failedFlushIndex);
+    }
+  }
+
   /** Checks whether any futures can be completed. */
   private void commitEntries() {
     raft.checkThread();
 
-    final long commitIndex =
+    final long quorumIndex =
         raft.getCluster()
             .getQuorumFor(RaftMemberContext::getMatchIndex)
             // If there are no remote members, commit up to the last log index.
             .orElseGet(() -> raft.getLog().getLastIndex());
+    final long commitIndex =
+        raft.getLog().flushesAsynchronously()
+            ? Math.min(quorumIndex, localFlushedIndex)
+            : quorumIndex;
 
     // If the commit index has increased then update the commit index. Note that in order to ensure
     // the leader completeness property holds, we verify that the commit index is greater than or
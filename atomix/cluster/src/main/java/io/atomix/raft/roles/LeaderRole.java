@@ -91,6 +91,11 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     // Reset state for the leader.
     takeLeadership();
 
+    // without remote members nobody else can be elected, so the lease never expires
+    if (raft.getCluster().isSingleMemberCluster()) {
+      raft.getLeaderLease().extendIndefinitely();
+    }
+
     // Append initial entries to the log, including an initial no-op entry and the server's
     // configuration.
     appendInitialEntries();
@@ -111,6 +116,7 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
 
   @Override
   public synchronized CompletableFuture<Void> stop() {
+    raft.getLeaderLease().revoke();
     raft.resetLastHeartbeat();
     // Close open resources (eg:- journal readers) used for replication by the leader
     raft.getCluster().getReplicationTargets().forEach(RaftMemberContext::closeReplicationContext);
@@ -647,6 +653,7 @@ public final class LeaderRole extends ActiveRole implements ZeebeLogAppender {
     final var indexedEntry = raft.getLog().append(entry);
     raft.getReplicationMetrics().setAppendIndex(indexedEntry.index());
     log.trace("Appended {}", indexedEntry);
+    appender.flushAppendedEntry(indexedEntry.index());
     appender.observeNonCommittedEntries(raft.getCommitIndex());
     return indexedEntry;
   }
@@ -59,6 +59,7 @@ public class PassiveRole extends InactiveRole {
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
+  private CompletableFuture<Void> pendingAcknowledgement = CompletableFuture.completedFuture(null);
 
   public PassiveRole(final RaftContext context) {
     super(context);
@@ -752,7 +753,7 @@ public class PassiveRole extends InactiveRole {
       final boolean succeeded,
       final long lastLogIndex,
       final CompletableFuture<AppendResponse> future) {
-    future.complete(
+    final var response =
         logResponse(
             AppendResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
@@ -760,7 +761,29 @@ public class PassiveRole extends InactiveRole {
                 .withSucceeded(succeeded)
                 .withLastLogIndex(lastLogIndex)
                 .withLastSnapshotIndex(raft.getCurrentSnapshotIndex())
-                .build()));
+                .build());
+
+    // with an asynchronous flusher, we can only acknowledge the entries once they are flushed;
+    // acknowledgements are chained to be sent in order, as all entries flushed by the same group
+    // share the same future, whose callbacks have no ordering guarantees
+    if (succeeded && raft.getLog().flushesAsynchronously()) {
+      final var flushed = raft.getLog().awaitFlush();
+      pendingAcknowledgement =
+          pendingAcknowledgement
+              .handle((ignored, error) -> null)
+              .thenCompose(ignored -> flushed)
+              .whenComplete(
+                  (ignored, error) -> {
+                    if (error != null) {
+                      future.completeExceptionally(error);
+                    } else {
+                      future.complete(response);
+                    }
+                  });
+    } else {
+      future.complete(response);
+    }
+
     return succeeded;
   }
 
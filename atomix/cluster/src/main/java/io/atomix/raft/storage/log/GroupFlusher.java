@@ -0,0 +1,188 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.GroupFlushMetrics;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.util.CloseableSilently;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces flush requests from all journals stored on the same device into periodic group flushes,
+ * instead of having every partition flush on its own. Each partition obtains its own {@link
+ * RaftLogFlusher} via {@link #newFlusher()}, which all share the same flushing thread.
+ *
+ * <p>The first flush request after a group flush schedules the next one after at most the
+ * configured delay; any request received in the meantime, from any journal, is part of that group.
+ * Each journal is flushed at most once per group, no matter how many requests it made. Flushes of a
+ * device are thus serialized, and the delay bounds how much latency is added to each request.
+ *
+ * <p>Unlike with the {@link DelayedFlusher}, data is only acknowledged once it is flushed: the
+ * futures returned by {@link RaftLogFlusher#flushAsync(Journal)} are completed once the group
+ * containing the request was flushed, in the order in which the requests were made. See {@link
+ * RaftLogFlusher#isAsync()} for how the log uses them.
+ *
+ * <p>This class is thread safe.
+ */
+public final class GroupFlusher implements CloseableSilently {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupFlusher.class);
+
+  private final String device;
+  private final ThreadContext context;
+  private final Duration maxDelay;
+  private final GroupFlushMetrics metrics;
+
+  private final Object lock = new Object();
+  private Map<Journal, CompletableFuture<Void>> pendingFlushes = new IdentityHashMap<>();
+  private boolean scheduled;
+  private boolean closed;
+
+  /**
+   * @param device the name of the device the flushed journals are stored on, used for metrics
+   * @param context the thread context to flush on; it is owned and closed by this flusher
+   * @param maxDelay the maximum time after which a flush request is part of a group flush
+   */
+  public GroupFlusher(final String device, final ThreadContext context, final Duration maxDelay) {
+    this.device = Objects.requireNonNull(device, "must specify a device");
+    this.context = Objects.requireNonNull(context, "must specify a thread context");
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a valid flush delay");
+    metrics = new GroupFlushMetrics(device);
+  }
+
+  /**
+   * Returns a new flusher to use for a single journal stored on this flusher's device. Closing the
+   * returned flusher does not close this one.
+   */
+  public RaftLogFlusher newFlusher() {
+    return new GroupMemberFlusher();
+  }
+
+  @Override
+  public void close() {
+    final Map<Journal, CompletableFuture<Void>> abandonedFlushes;
+    synchronized (lock) {
+      closed = true;
+      abandonedFlushes = pendingFlushes;
+      pendingFlushes = new IdentityHashMap<>();
+    }
+
+    abandonedFlushes.values().forEach(future -> future.completeExceptionally(closedException()));
+    context.close();
+  }
+
+  private CompletableFuture<Void> requestFlush(final Journal journal) {
+    synchronized (lock) {
+      if (closed) {
+        return CompletableFuture.failedFuture(closedException());
+      }
+
+      final var future =
+          pendingFlushes.computeIfAbsent(journal, ignored -> new CompletableFuture<>());
+      if (!scheduled) {
+        scheduled = true;
+        context.schedule(maxDelay, this::flushGroup);
+      }
+
+      return future;
+    }
+  }
+
+  private void cancelFlush(final Journal journal) {
+    final CompletableFuture<Void> future;
+    synchronized (lock) {
+      future = pendingFlushes.remove(journal);
+    }
+
+    if (future != null) {
+      future.completeExceptionally(closedException());
+    }
+  }
+
+  private void flushGroup() {
+    final Map<Journal, CompletableFuture<Void>> group;
+    synchronized (lock) {
+      group = pendingFlushes;
+      pendingFlushes = new IdentityHashMap<>();
+      scheduled = false;
+    }
+
+    if (group.isEmpty()) {
+      return;
+    }
+
+    LOGGER.trace("Flushing {} journals on device {}", group.size(), device);
+    final long startNanos = System.nanoTime();
+    group.forEach(this::flushJournal);
+    metrics.observeFlush(group.size(), System.nanoTime() - startNanos);
+  }
+
+  private void flushJournal(final Journal journal, final CompletableFuture<Void> future) {
+    try {
+      journal.flush();
+      future.complete(null);
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to flush journal on device {}", device, e);
+      future.completeExceptionally(e);
+    }
+  }
+
+  private IllegalStateException closedException() {
+    return new IllegalStateException(
+        "Expected to flush journal on device %s, but the flusher is closed".formatted(device));
+  }
+
+  @Override
+  public String toString() {
+    return "GroupFlusher{" + "device='" + device + '\'' + ", maxDelay=" + maxDelay + '}';
+  }
+
+  /**
+   * The flusher of a single journal, which is part of the group. The journal is expected to be the
+   * same for all calls.
+   */
+  private final class GroupMemberFlusher implements RaftLogFlusher {
+    private volatile Journal journal;
+
+    @Override
+    public void flush(final Journal journal) {
+      flushAsync(journal);
+    }
+
+    @Override
+    public CompletableFuture<Void> flushAsync(final Journal journal) {
+      this.journal = journal;
+      return requestFlush(journal);
+    }
+
+    @Override
+    public boolean isAsync() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      final var flushedJournal = journal;
+      if (flushedJournal != null) {
+        cancelFlush(flushedJournal);
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "GroupMemberFlusher{" + "group=" + GroupFlusher.this + '}';
+    }
+  }
+}
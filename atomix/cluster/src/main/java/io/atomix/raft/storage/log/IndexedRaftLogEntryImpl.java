@@ -50,8 +50,7 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
 
   @Override
   public ReplicatableJournalRecord getReplicatableJournalRecord() {
-    final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
-    record.serializedRecord().getBytes(0, serializedRecord);
-    return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
+    // each read from the journal returns a new view, so there is no need to copy the record
+    return new ReplicatableJournalRecord(term, index, record.checksum(), record.serializedRecord());
   }
 }
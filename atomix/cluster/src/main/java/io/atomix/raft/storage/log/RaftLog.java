@@ -27,6 +27,7 @@ import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalRecord;
 import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,6 +41,7 @@ public final class RaftLog implements Closeable {
   private final RaftLogFlusher flusher;
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
+  private CompletableFuture<Void> lastFlush = CompletableFuture.completedFuture(null);
 
   RaftLog(final Journal journal, final RaftLogFlusher flusher) {
     this.journal = journal;
@@ -111,6 +113,14 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * Returns true if the configured flusher only persists data once the future returned by {@link
+   * #flush()} completes, in which case data may only be acknowledged after that.
+   */
+  public boolean flushesAsynchronously() {
+    return flusher.isAsync();
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -188,9 +198,29 @@ public final class RaftLog implements Closeable {
   /**
    * Flushes the underlying journal using the configured flushing strategy. For guarantees, refer to
    * the configured {@link RaftLogFlusher}.
+   *
+   * @return a future completed once the data appended before the call is flushed
    */
-  public void flush() {
+  public CompletableFuture<Void> flush() {
+    if (flusher.isAsync()) {
+      lastFlush = flusher.flushAsync(journal);
+      return lastFlush;
+    }
+
     flusher.flush(journal);
+    return lastFlush;
+  }
+
+  /**
+   * Returns a future completed once the data appended before the last call to {@link #flush()} is
+   * flushed. If that flush failed, a new one is requested.
+   */
+  public CompletableFuture<Void> awaitFlush() {
+    if (lastFlush.isCompletedExceptionally()) {
+      return flush();
+    }
+
+    return lastFlush;
   }
 
   /**
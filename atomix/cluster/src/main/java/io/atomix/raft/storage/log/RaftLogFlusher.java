@@ -10,6 +10,7 @@ package io.atomix.raft.storage.log;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -27,6 +28,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupFlusher} coalesces the flushes of all journals stored on the same device. Unlike
+ * the other asynchronous options, it does not trade safety for performance: the log only
+ * acknowledges data once the group containing it was flushed. See {@link #isAsync()}.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -48,6 +53,28 @@ public interface RaftLogFlusher extends CloseableSilently {
     return false;
   }
 
+  /**
+   * Signals that there is data to be flushed in the journal, and returns a future which is
+   * completed once that data is flushed. By default, this flushes via {@link #flush(Journal)} and
+   * returns a completed future.
+   *
+   * @param journal the journal to flush
+   * @return a future completed once the data appended before the call is flushed
+   */
+  default CompletableFuture<Void> flushAsync(final Journal journal) {
+    flush(journal);
+    return CompletableFuture.completedFuture(null);
+  }
+
+  /**
+   * If this returns true, then the guarantees of the implementation only hold once the future
+   * returned by {@link #flushAsync(Journal)} is completed. Callers which need them must then wait
+   * for that future, instead of relying on {@link #flush(Journal)} having returned.
+   */
+  default boolean isAsync() {
+    return false;
+  }
+
   @Override
   default void close() {}
 
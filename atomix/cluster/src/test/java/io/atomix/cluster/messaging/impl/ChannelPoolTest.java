@@ -11,23 +11,30 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.junit.jupiter.api.Test;
 
 class ChannelPoolTest {
   private static final String MESSAGE_TYPE = "test";
-  private final Function<Address, CompletableFuture<Channel>> factory =
-      a -> {
+  private final List<TrafficClass> openedChannels = new ArrayList<>();
+  private final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory =
+      (address, trafficClass) -> {
         final var channel = mock(Channel.class);
         when(channel.isActive()).thenReturn(true);
+        openedChannels.add(trafficClass);
         return CompletableFuture.completedFuture(channel);
       };
-  private final ChannelPool channelPool = new ChannelPool(factory, 8);
+  private final ChannelPool channelPool =
+      new ChannelPool(factory, new MessagingConfig().getConnectionPoolSizes());
 
   @Test
   void shouldNotUseOldChannelWhenIPChanged() throws UnknownHostException {
@@ -59,4 +66,47 @@ class ChannelPoolTest {
     // then
     assertThat(channelForOldNode).isNotEqualTo(channelForNewNode);
   }
+
+  @Test
+  void shouldUseSeparateChannelsPerTrafficClass() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var commandChannel = channelPool.getChannel(address, "command-api-1").join();
+
+    // when
+    final var snapshotChannel =
+        channelPool.getChannel(address, "raft-partition-partition-1-install").join();
+
+    // then
+    assertThat(commandChannel).isNotEqualTo(snapshotChannel);
+    assertThat(openedChannels).containsExactly(TrafficClass.COMMAND, TrafficClass.SNAPSHOT);
+  }
+
+  @Test
+  void shouldReuseChannelForSameMessageType() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var channel = channelPool.getChannel(address, MESSAGE_TYPE).join();
+
+    // when
+    final var reusedChannel = channelPool.getChannel(address, MESSAGE_TYPE).join();
+
+    // then
+    assertThat(reusedChannel).isSameAs(channel);
+    assertThat(openedChannels).containsExactly(TrafficClass.DEFAULT);
+  }
+
+  @Test
+  void shouldShareDefaultChannelsIfTrafficClassHasNone() throws UnknownHostException {
+    // given
+    final var config = new MessagingConfig().setConnectionPoolSize(TrafficClass.SNAPSHOT, 0);
+    final var pool = new ChannelPool(factory, config.getConnectionPoolSizes());
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+
+    // when
+    pool.getChannel(address, "raft-partition-partition-1-install").join();
+
+    // then
+    assertThat(openedChannels).containsExactly(TrafficClass.DEFAULT);
+  }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.atomix.utils.net.Address;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class ChannelTrafficMetricsHandlerTest {
+  private final MessagingMetrics metrics = Mockito.mock(MessagingMetrics.class);
+  private final EmbeddedChannel channel =
+      new EmbeddedChannel(new ChannelTrafficMetricsHandler(metrics));
+
+  @AfterEach
+  void afterEach() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void shouldCountReceivedBytes() {
+    // when
+    channel.writeInbound(Unpooled.wrappedBuffer(new byte[12]));
+
+    // then
+    Mockito.verify(metrics).countReceivedBytes("unknown", 12);
+    Mockito.verifyNoMoreInteractions(metrics);
+  }
+
+  @Test
+  void shouldCountSentBytes() {
+    // when
+    channel.writeOutbound(Unpooled.wrappedBuffer(new byte[7]));
+
+    // then
+    Mockito.verify(metrics).countSentBytes("unknown", 7);
+    Mockito.verifyNoMoreInteractions(metrics);
+  }
+
+  @Test
+  void shouldCountReceivedMessages() {
+    // when
+    channel.writeInbound(new ProtocolReply(1, new byte[0], ProtocolReply.Status.OK));
+
+    // then
+    Mockito.verify(metrics).countReceivedMessage("unknown");
+    Mockito.verifyNoMoreInteractions(metrics);
+  }
+
+  @Test
+  void shouldCountSentMessages() {
+    // when
+    channel.writeOutbound(
+        new ProtocolRequest(1, Address.from("localhost", 1234), "subject", new byte[0]));
+
+    // then
+    Mockito.verify(metrics).countSentMessage("unknown");
+    Mockito.verifyNoMoreInteractions(metrics);
+  }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class MessageCompressionTest {
+  private static final byte[] DICTIONARY = "dictionary".getBytes(StandardCharsets.UTF_8);
+
+  @ParameterizedTest
+  @EnumSource(CompressionAlgorithm.class)
+  void shouldMapAlgorithmToId(final CompressionAlgorithm algorithm) {
+    // when
+    final var id = MessageCompression.toId(algorithm);
+
+    // then
+    assertThat(MessageCompression.fromId(id)).isEqualTo(algorithm);
+  }
+
+  @Test
+  void shouldUseNoCompressionForUnknownId() {
+    // when
+    final var algorithm = MessageCompression.fromId((byte) 127);
+
+    // then
+    assertThat(algorithm).isEqualTo(CompressionAlgorithm.NONE);
+  }
+
+  @Test
+  void shouldAcceptSameDictionary() {
+    // given
+    final var compression = new MessageCompression(DICTIONARY);
+    final var remote = new MessageCompression(DICTIONARY.clone());
+
+    // when
+    final var algorithm =
+        compression.resolve(CompressionAlgorithm.DEFLATE_DICTIONARY, remote.dictionaryId());
+
+    // then
+    assertThat(algorithm).isEqualTo(CompressionAlgorithm.DEFLATE_DICTIONARY);
+  }
+
+  @Test
+  void shouldFallBackToGzipWithDifferentDictionary() {
+    // given
+    final var compression = new MessageCompression(DICTIONARY);
+    final var remote = new MessageCompression("other".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    final var algorithm =
+        compression.resolve(CompressionAlgorithm.DEFLATE_DICTIONARY, remote.dictionaryId());
+
+    // then
+    assertThat(algorithm).isEqualTo(CompressionAlgorithm.GZIP);
+  }
+
+  @Test
+  void shouldFallBackToGzipWithoutDictionary() {
+    // given
+    final var compression = new MessageCompression(null);
+
+    // when
+    final var algorithm =
+        compression.resolve(
+            CompressionAlgorithm.DEFLATE_DICTIONARY,
+            new MessageCompression(DICTIONARY).dictionaryId());
+
+    // then
+    assertThat(algorithm).isEqualTo(CompressionAlgorithm.GZIP);
+  }
+
+  @ParameterizedTest
+  @EnumSource(CompressionAlgorithm.class)
+  void shouldRoundTripPayload(final CompressionAlgorithm algorithm) {
+    // given
+    final var payload = MessageCompressionPerformanceTest.generatePayloads().get(0);
+    final var compression = new MessageCompression(DICTIONARY);
+    final var channel = new EmbeddedChannel();
+    compression.addCodec(channel.pipeline(), algorithm);
+
+    // when
+    channel.writeOutbound(Unpooled.wrappedBuffer(payload));
+    ByteBuf output;
+    while ((output = channel.readOutbound()) != null) {
+      channel.writeInbound(output);
+    }
+
+    // then
+    final var received = Unpooled.buffer();
+    ByteBuf input;
+    while ((input = channel.readInbound()) != null) {
+      received.writeBytes(input);
+      input.release();
+    }
+    assertThat(received.array()).startsWith(payload);
+    assertThat(received.readableBytes()).isEqualTo(payload.length);
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  void shouldCompressSmallPayloadsBetterWithDictionary() {
+    // given - each payload is compressed on its own, as the first message of a connection would be
+    final var payloads = MessageCompressionPerformanceTest.generatePayloads();
+    final var dictionary =
+        MessageCompressionPerformanceTest.buildDictionary(payloads.subList(0, 64));
+    final var samples = payloads.subList(64, payloads.size());
+
+    // when
+    final long withDictionary =
+        compressedSize(
+            new MessageCompression(dictionary), CompressionAlgorithm.DEFLATE_DICTIONARY, samples);
+    final long withoutDictionary =
+        compressedSize(new MessageCompression(null), CompressionAlgorithm.GZIP, samples);
+
+    // then
+    assertThat(withDictionary).isLessThan(withoutDictionary);
+  }
+
+  private long compressedSize(
+      final MessageCompression compression,
+      final CompressionAlgorithm algorithm,
+      final List<byte[]> payloads) {
+    long size = 0;
+    for (final var payload : payloads) {
+      final var channel = new EmbeddedChannel();
+      compression.addCodec(channel.pipeline(), algorithm);
+      channel.writeOutbound(Unpooled.wrappedBuffer(payload));
+      channel.finish();
+      ByteBuf output;
+      while ((output = channel.readOutbound()) != null) {
+        size += output.readableBytes();
+        output.release();
+      }
+    }
+    return size;
+  }
+}
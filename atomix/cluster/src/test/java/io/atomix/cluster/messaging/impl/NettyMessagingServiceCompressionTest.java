@@ -20,10 +20,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
@@ -71,4 +81,156 @@ class NettyMessagingServiceCompressionTest {
     senderNetty.stop();
     receiverNetty.stop();
   }
+
+  @ParameterizedTest
+  @EnumSource(CompressionAlgorithm.class)
+  void shouldNegotiateCompressionOfSender(final CompressionAlgorithm algorithm) {
+    // given - the receiver is configured differently, which is fine since the sender proposes
+    final var senderConfig = newConfig().setCompressionAlgorithm(algorithm);
+    final var receiverConfig = newConfig().setCompressionAlgorithm(CompressionAlgorithm.SNAPPY);
+
+    // when - then
+    assertRequestResponse(senderConfig, receiverConfig, ProtocolVersion.latest());
+  }
+
+  @Test
+  void shouldUseCompressionOfTrafficClass() {
+    // given
+    final var senderConfig =
+        newConfig()
+            .setCompressionAlgorithm(CompressionAlgorithm.GZIP)
+            .setCompressionAlgorithm(TrafficClass.DEFAULT, CompressionAlgorithm.FASTLZ);
+
+    // when - then
+    assertRequestResponse(senderConfig, newConfig(), ProtocolVersion.latest());
+  }
+
+  @Test
+  void shouldUseSharedDictionary(final @TempDir Path tempDir) throws IOException {
+    // given
+    final var dictionary = Files.writeString(tempDir.resolve("dictionary"), "message success");
+    final var config =
+        newConfig()
+            .setCompressionAlgorithm(CompressionAlgorithm.DEFLATE_DICTIONARY)
+            .setCompressionDictionary(dictionary.toFile());
+
+    // when - then
+    assertRequestResponse(config, config, ProtocolVersion.latest());
+  }
+
+  @Test
+  void shouldFallBackWhenDictionariesDiffer(final @TempDir Path tempDir) throws IOException {
+    // given
+    final var senderDictionary = Files.writeString(tempDir.resolve("sender"), "message");
+    final var receiverDictionary = Files.writeString(tempDir.resolve("receiver"), "success");
+    final var senderConfig =
+        newConfig()
+            .setCompressionAlgorithm(CompressionAlgorithm.DEFLATE_DICTIONARY)
+            .setCompressionDictionary(senderDictionary.toFile());
+    final var receiverConfig =
+        newConfig()
+            .setCompressionAlgorithm(CompressionAlgorithm.DEFLATE_DICTIONARY)
+            .setCompressionDictionary(receiverDictionary.toFile());
+
+    // when - then
+    assertRequestResponse(senderConfig, receiverConfig, ProtocolVersion.latest());
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = ProtocolVersion.class,
+      names = {"V1", "V2"})
+  void shouldUseConfiguredCompressionWithOlderVersions(final ProtocolVersion version) {
+    // given - older versions don't negotiate, so both ends must be configured the same way
+    final var config = newConfig().setCompressionAlgorithm(CompressionAlgorithm.GZIP);
+
+    // when - then
+    assertRequestResponse(config, config, version);
+  }
+
+  @Test
+  void shouldNegotiateWhenHandshakeIsSplit(final @TempDir Path tempDir) throws Exception {
+    // given
+    final var dictionary = Files.writeString(tempDir.resolve("dictionary"), "message success");
+    final var receiverAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    final var receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService(
+                    "test",
+                    receiverAddress,
+                    newConfig()
+                        .setCompressionAlgorithm(CompressionAlgorithm.DEFLATE_DICTIONARY)
+                        .setCompressionDictionary(dictionary.toFile()))
+                .start()
+                .join();
+    final var handshake = ByteBuffer.allocate(12);
+    handshake.putInt("test".hashCode());
+    handshake.putShort(ProtocolVersion.V3.version());
+    handshake.put((byte) 5);
+    handshake.put(MessageCompression.toId(CompressionAlgorithm.DEFLATE_DICTIONARY));
+    handshake.putInt(new MessageCompression(Files.readAllBytes(dictionary)).dictionaryId());
+
+    try (final var socket = new Socket(receiverAddress.host(), receiverAddress.port())) {
+      socket.setTcpNoDelay(true);
+      socket.setSoTimeout(10_000);
+      final var output = socket.getOutputStream();
+
+      // when - the handshake is received one byte at a time
+      for (final byte b : handshake.array()) {
+        output.write(b);
+        output.flush();
+        Thread.sleep(5);
+      }
+
+      // then
+      final var input = new DataInputStream(socket.getInputStream());
+      assertThat(input.readInt()).isEqualTo("test".hashCode());
+      assertThat(input.readShort()).isEqualTo(ProtocolVersion.V3.version());
+      assertThat(input.readUnsignedByte()).isOne();
+      assertThat(input.readByte())
+          .isEqualTo(MessageCompression.toId(CompressionAlgorithm.DEFLATE_DICTIONARY));
+    } finally {
+      receiverNetty.stop().join();
+    }
+  }
+
+  private MessagingConfig newConfig() {
+    return new MessagingConfig().setShutdownQuietPeriod(Duration.ofMillis(50));
+  }
+
+  private void assertRequestResponse(
+      final MessagingConfig senderConfig,
+      final MessagingConfig receiverConfig,
+      final ProtocolVersion senderVersion) {
+    final var senderAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    final var senderNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", senderAddress, senderConfig, senderVersion)
+                .start()
+                .join();
+    final var receiverAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    final var receiverNetty =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", receiverAddress, receiverConfig).start().join();
+
+    try {
+      receiverNetty.registerHandler(
+          "subject",
+          (m, payload) -> {
+            assertThat(new String(payload, StandardCharsets.UTF_8)).isEqualTo("message");
+            return CompletableFuture.completedFuture("success".getBytes(StandardCharsets.UTF_8));
+          });
+
+      // when
+      final var response =
+          senderNetty.sendAndReceive(
+              receiverAddress, "subject", "message".getBytes(StandardCharsets.UTF_8));
+
+      // then
+      assertThat(new String(response.join(), StandardCharsets.UTF_8)).isEqualTo("success");
+    } finally {
+      senderNetty.stop().join();
+      receiverNetty.stop().join();
+    }
+  }
 }
@@ -686,7 +686,7 @@ public class NettyMessagingServiceTest {
         config,
         ProtocolVersion.V2,
         factory -> {
-          final var pool = new ChannelPool(factory, 8);
+          final var pool = new ChannelPool(factory, config.getConnectionPoolSizes());
           poolRef.set(pool);
           return pool;
         });
@@ -137,6 +137,11 @@ public class RemoteClientConnectionTest {
       return () -> requestResponseLatency = System.nanoTime() - start;
     }
 
+    @Override
+    public CloseableSilently startQueueingTimer(final String trafficClass) {
+      return () -> {};
+    }
+
     @Override
     public void observeRequestSize(
         final String to, final String name, final int requestSizeInBytes) {
@@ -186,5 +191,17 @@ public class RemoteClientConnectionTest {
       final Integer integer = inFlightRequestCount.computeIfAbsent(key, k -> 0);
       inFlightRequestCount.put(key, integer - 1);
     }
+
+    @Override
+    public void countSentBytes(final String address, final int bytes) {}
+
+    @Override
+    public void countReceivedBytes(final String address, final int bytes) {}
+
+    @Override
+    public void countSentMessage(final String address) {}
+
+    @Override
+    public void countReceivedMessage(final String address) {}
   }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class TrafficClassifierTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "raft-partition-partition-1-append, REPLICATION",
+    "raft-partition-partition-1-append-versioned, REPLICATION",
+    "raft-partition-partition-1-install, SNAPSHOT",
+    "command-api-1, COMMAND",
+    "query-api-3, COMMAND",
+    "stream-push, JOB_STREAM",
+    "stream-add, JOB_STREAM",
+    "jobsAvailable, JOB_STREAM",
+    "jobsAvailableOnPartition, JOB_STREAM",
+    "atomix-membership-sync, GOSSIP",
+    "cluster-topology-gossip, GOSSIP",
+    "raft-partition-partition-1-vote, DEFAULT",
+    "inter-partition-1, DEFAULT",
+    "exporterState-1, DEFAULT"
+  })
+  void shouldClassifySubject(final String subject, final TrafficClass expected) {
+    // when
+    final var trafficClass = TrafficClassifier.classify(subject);
+
+    // then
+    assertThat(trafficClass).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import java.time.Duration;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftLeaderLeaseTest {
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new RaftRule.Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setLeaderLeaseEnabled(true);
+              config.setLeaderLeaseClockDrift(Duration.ofMillis(200));
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  @Test
+  public void shouldHoldLeaseOnlyAsLeader() {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow();
+
+    // then
+    Awaitility.await("until the leader holds a lease")
+        .until(() -> leader.getContext().getLeaderLease().isValid());
+    raftRule.getServers().stream()
+        .filter(server -> server != leader)
+        .forEach(
+            follower -> assertThat(follower.getContext().getLeaderLease().isValid()).isFalse());
+  }
+
+  @Test
+  public void shouldExpireLeaseBeforeNewLeaderIsElected() throws Throwable {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow();
+    Awaitility.await("until the leader holds a lease")
+        .until(() -> leader.getContext().getLeaderLease().isValid());
+    final var leaseValidOnNewLeader = new CopyOnWriteArrayList<Boolean>();
+    raftRule.getServers().stream()
+        .filter(server -> server != leader)
+        .forEach(
+            server ->
+                server.addRoleChangeListener(
+                    (role, term) -> {
+                      if (role == Role.LEADER) {
+                        leaseValidOnNewLeader.add(leader.getContext().getLeaderLease().isValid());
+                      }
+                    }));
+
+    // when
+    raftRule.partition(leader);
+
+    // then
+    Awaitility.await("until a new leader is elected").until(() -> !leaseValidOnNewLeader.isEmpty());
+    assertThat(leaseValidOnNewLeader).containsOnly(false);
+  }
+
+  @Test
+  public void shouldRevokeLeaseOnStepDown() throws Throwable {
+    // given
+    final var leader = raftRule.getLeader().orElseThrow();
+    Awaitility.await("until the leader holds a lease")
+        .until(() -> leader.getContext().getLeaderLease().isValid());
+
+    // when
+    leader.stepDown().join();
+
+    // then
+    assertThat(leader.getContext().getLeaderLease().isValid()).isFalse();
+  }
+}
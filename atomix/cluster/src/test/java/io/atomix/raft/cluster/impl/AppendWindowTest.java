@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AppendWindowTest {
+
+  @Test
+  void shouldStartWithSingleRequest() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+
+    // when
+    window.onSend(10);
+
+    // then
+    assertThat(window.size()).isOne();
+    assertThat(window.canSend()).isFalse();
+  }
+
+  @Test
+  void shouldGrowByOnePerAcknowledgementUntilFirstOverload() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+
+    // when
+    window.onAcknowledged();
+    window.onAcknowledged();
+    window.onAcknowledged();
+
+    // then
+    assertThat(window.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotGrowBeyondMaxSize() {
+    // given
+    final var window = new AppendWindow(3, 1024);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      window.onAcknowledged();
+    }
+
+    // then
+    assertThat(window.size()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldHalveWhenOverloaded() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+    grow(window, 8);
+
+    // when
+    window.onOverloaded();
+
+    // then
+    assertThat(window.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldGrowSlowlyAfterOverload() {
+    // given
+    final var window = new AppendWindow(16, 1024);
+    grow(window, 8);
+    window.onOverloaded();
+
+    // when - a round trip's worth of acknowledgements
+    window.onAcknowledged();
+    window.onAcknowledged();
+    window.onAcknowledged();
+    window.onAcknowledged();
+
+    // then
+    assertThat(window.size()).isEqualTo(4);
+    window.onAcknowledged();
+    assertThat(window.size()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldShrinkToSingleRequestWhenUnanswered() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+    grow(window, 8);
+
+    // when
+    window.onUnanswered();
+
+    // then
+    assertThat(window.size()).isOne();
+  }
+
+  @Test
+  void shouldNotShrinkBelowSingleRequest() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+
+    // when
+    window.onOverloaded();
+    window.onUnanswered();
+
+    // then
+    assertThat(window.size()).isOne();
+    assertThat(window.canSend()).isTrue();
+  }
+
+  @Test
+  void shouldLimitInFlightRequests() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+    grow(window, 2);
+
+    // when
+    final long generation = window.onSend(10);
+    window.onSend(10);
+
+    // then
+    assertThat(window.canSend()).isFalse();
+    window.onComplete(generation, 10);
+    assertThat(window.canSend()).isTrue();
+  }
+
+  @Test
+  void shouldLimitInFlightBytes() {
+    // given
+    final var window = new AppendWindow(8, 100);
+    grow(window, 8);
+
+    // when
+    final long generation = window.onSend(60);
+    window.onSend(60);
+
+    // then
+    assertThat(window.inFlightBytes()).isEqualTo(120);
+    assertThat(window.canSend()).isFalse();
+    window.onComplete(generation, 60);
+    assertThat(window.canSend()).isTrue();
+  }
+
+  @Test
+  void shouldAlwaysAllowSingleRequestRegardlessOfSize() {
+    // given
+    final var window = new AppendWindow(8, 100);
+
+    // when - then
+    assertThat(window.canSend()).isTrue();
+    window.onSend(1000);
+    assertThat(window.canSend()).isFalse();
+  }
+
+  @Test
+  void shouldIgnoreRequestsCompletedAfterReset() {
+    // given
+    final var window = new AppendWindow(8, 1024);
+    grow(window, 4);
+    final long staleGeneration = window.onSend(10);
+    window.onSend(10);
+
+    // when
+    window.reset();
+    window.onSend(20);
+    window.onComplete(staleGeneration, 10);
+    window.onComplete(staleGeneration, 10);
+
+    // then
+    assertThat(window.size()).isOne();
+    assertThat(window.inFlightCount()).isOne();
+    assertThat(window.inFlightBytes()).isEqualTo(20);
+    assertThat(window.canSend()).isFalse();
+  }
+
+  private void grow(final AppendWindow window, final int size) {
+    while (window.size() < size) {
+      window.onAcknowledged();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class LeaderLeaseTest {
+  private static final Duration ELECTION_TIMEOUT = Duration.ofMillis(1000);
+  private static final Duration CLOCK_DRIFT = Duration.ofMillis(200);
+
+  private final AtomicLong clock = new AtomicLong();
+  private final LeaderLease lease =
+      new LeaderLease(true, ELECTION_TIMEOUT, CLOCK_DRIFT, clock::get);
+
+  @Test
+  void shouldNotBeValidInitially() {
+    assertThat(lease.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldBeValidUntilElectionTimeoutMinusDrift() {
+    // given
+    lease.extend(clock.get());
+
+    // when
+    clock.addAndGet(Duration.ofMillis(799).toNanos());
+
+    // then
+    assertThat(lease.isValid()).isTrue();
+  }
+
+  @Test
+  void shouldExpireAfterElectionTimeoutMinusDrift() {
+    // given
+    lease.extend(clock.get());
+
+    // when
+    clock.addAndGet(Duration.ofMillis(800).toNanos());
+
+    // then
+    assertThat(lease.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldCountFromAcknowledgedTime() {
+    // given
+    final long sentAt = clock.get();
+    clock.addAndGet(Duration.ofMillis(500).toNanos());
+
+    // when
+    lease.extend(sentAt);
+    clock.addAndGet(Duration.ofMillis(300).toNanos());
+
+    // then
+    assertThat(lease.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldNotShortenLease() {
+    // given
+    final long olderAcknowledgement = clock.get();
+    clock.addAndGet(Duration.ofMillis(500).toNanos());
+    lease.extend(clock.get());
+
+    // when
+    lease.extend(olderAcknowledgement);
+    clock.addAndGet(Duration.ofMillis(500).toNanos());
+
+    // then
+    assertThat(lease.isValid()).isTrue();
+  }
+
+  @Test
+  void shouldNotBeValidAfterRevoke() {
+    // given
+    lease.extend(clock.get());
+
+    // when
+    lease.revoke();
+
+    // then
+    assertThat(lease.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldNotExpireIndefiniteLease() {
+    // given
+    lease.extendIndefinitely();
+
+    // when
+    clock.addAndGet(Duration.ofHours(1).toNanos());
+
+    // then
+    assertThat(lease.isValid()).isTrue();
+  }
+
+  @Test
+  void shouldReplaceIndefiniteLeaseOnExtend() {
+    // given
+    lease.extendIndefinitely();
+
+    // when
+    lease.extend(clock.get());
+    clock.addAndGet(ELECTION_TIMEOUT.toNanos());
+
+    // then
+    assertThat(lease.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldNeverBeValidWhenDisabled() {
+    // given
+    final var disabledLease = new LeaderLease(false, ELECTION_TIMEOUT, CLOCK_DRIFT, clock::get);
+
+    // when
+    disabledLease.extend(clock.get());
+    disabledLease.extendIndefinitely();
+
+    // then
+    assertThat(disabledLease.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldRejectClockDriftLargerThanElectionTimeout() {
+    assertThatThrownBy(() -> new LeaderLease(true, ELECTION_TIMEOUT, ELECTION_TIMEOUT, clock::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
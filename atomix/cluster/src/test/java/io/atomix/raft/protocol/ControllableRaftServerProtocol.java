@@ -17,6 +17,7 @@
 package io.atomix.raft.protocol;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
 import io.camunda.zeebe.util.collection.Tuple;
 import java.net.ConnectException;
 import java.time.Duration;
@@ -270,11 +271,15 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
     final var responseFuture = new CompletableFuture<AppendResponse>();
+    // the entries are views over the sender's journal; serialize them as the real protocol would,
+    // so that the receiver never reads from segments which the sender may have since deleted
+    final VersionedAppendRequest sentRequest =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
     send(
         memberId,
         () ->
             getServer(memberId)
-                .thenCompose(listener -> listener.append(request))
+                .thenCompose(listener -> listener.append(sentRequest))
                 .thenAccept(
                     response -> send(localMemberId, () -> responseFuture.complete(response), null)),
         responseFuture);
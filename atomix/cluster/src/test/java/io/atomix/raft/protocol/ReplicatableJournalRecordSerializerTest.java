@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.utils.serializer.Namespace;
+import io.atomix.utils.serializer.Namespaces;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ReplicatableJournalRecordSerializerTest {
+
+  private static final Namespace NAMESPACE =
+      new Namespace.Builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+          .register(new ReplicatableJournalRecordSerializer(), ReplicatableJournalRecord.class)
+          .name("test")
+          .build();
+
+  // mirrors how the record was serialized when its serialized journal record was a byte array
+  private static final Namespace LEGACY_NAMESPACE =
+      new Namespace.Builder()
+          .register(Namespaces.BASIC)
+          .nextId(Namespaces.BEGIN_USER_CUSTOM_ID)
+          .register(LegacyRecord.class)
+          .name("legacy")
+          .build();
+
+  @Test
+  void shouldSerializeRecordAsBefore() {
+    // given
+    final var bytes = randomBytes(128);
+    final var record = new ReplicatableJournalRecord(3, 42, 1234567L, bytes);
+
+    // when
+    final var serialized = NAMESPACE.serialize(record);
+
+    // then
+    assertThat(serialized)
+        .isEqualTo(LEGACY_NAMESPACE.serialize(new LegacyRecord(3, 42, 1234567L, bytes)));
+  }
+
+  @Test
+  void shouldDeserializeRecordSerializedAsBefore() {
+    // given
+    final var bytes = randomBytes(128);
+    final var serialized = LEGACY_NAMESPACE.serialize(new LegacyRecord(3, 42, 1234567L, bytes));
+
+    // when
+    final ReplicatableJournalRecord record = NAMESPACE.deserialize(serialized);
+
+    // then
+    assertThat(record).isEqualTo(new ReplicatableJournalRecord(3, 42, 1234567L, bytes));
+  }
+
+  @Test
+  void shouldSerializeRecordFromDirectMemory() {
+    // given - larger than the output's initial buffer, to write it in multiple chunks
+    final var bytes = randomBytes(64 * 1024);
+    final var directBuffer = ByteBuffer.allocateDirect(bytes.length + 16);
+    directBuffer.put(8, bytes);
+    final var record =
+        new ReplicatableJournalRecord(1, 2, 3, new UnsafeBuffer(directBuffer, 8, bytes.length));
+
+    // when
+    final ReplicatableJournalRecord deserialized =
+        NAMESPACE.deserialize(NAMESPACE.serialize(record));
+
+    // then
+    assertThat(deserialized).isEqualTo(new ReplicatableJournalRecord(1, 2, 3, bytes));
+  }
+
+  @Test
+  void shouldDeserializeRecordAsViewOverMessage() {
+    // given
+    final var bytes = randomBytes(128);
+    final var serialized = NAMESPACE.serialize(new ReplicatableJournalRecord(1, 2, 3, bytes));
+
+    // when
+    final ReplicatableJournalRecord record = NAMESPACE.deserialize(serialized);
+
+    // then
+    assertThat(record.serializedJournalRecord().byteArray()).isSameAs(serialized);
+  }
+
+  @Test
+  void shouldSerializeAppendRequestWithRecords() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("0"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(1)
+            .withEntries(
+                new ArrayList<>(
+                    List.of(
+                        new ReplicatableJournalRecord(1, 1, 10, randomBytes(32)),
+                        new ReplicatableJournalRecord(1, 2, 20, randomBytes(32)))))
+            .build();
+
+    // when
+    final VersionedAppendRequest deserialized =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+
+    // then
+    assertThat(deserialized.entries()).isEqualTo(request.entries());
+  }
+
+  private static byte[] randomBytes(final int length) {
+    final var bytes = new byte[length];
+    ThreadLocalRandom.current().nextBytes(bytes);
+    return bytes;
+  }
+
+  private record LegacyRecord(
+      long term, long index, long checksum, byte[] serializedJournalRecord) {}
+}
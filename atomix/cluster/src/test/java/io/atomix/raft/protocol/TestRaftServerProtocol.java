@@ -18,6 +18,7 @@ package io.atomix.raft.protocol;
 
 import com.google.common.collect.Sets;
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.impl.RaftNamespaces;
 import io.atomix.utils.concurrent.ThreadContext;
 import java.net.ConnectException;
 import java.util.Map;
@@ -122,7 +123,12 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.append(request)));
+    // the entries are views over the sender's journal; serialize them as the real protocol would,
+    // so that the receiver never reads from segments which the sender may have since deleted
+    final VersionedAppendRequest sentRequest =
+        RaftNamespaces.RAFT_PROTOCOL.deserialize(RaftNamespaces.RAFT_PROTOCOL.serialize(request));
+    return scheduleTimeout(
+        getServer(memberId).thenCompose(listener -> listener.append(sentRequest)));
   }
 
   @Override
@@ -49,6 +49,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -385,6 +386,28 @@ public class LeaderRoleTest {
     verify(leaderRole.raft, timeout(2000).atLeast(1)).transition(Role.FOLLOWER);
   }
 
+  @Test
+  public void shouldBackOffWhenRetryingFailedFlush() {
+    // given
+    final List<Long> flushTimes = new CopyOnWriteArrayList<>();
+    when(log.flushesAsynchronously()).thenReturn(true);
+    when(log.flush())
+        .then(
+            i -> {
+              flushTimes.add(System.nanoTime());
+              return CompletableFuture.failedFuture(new JournalException(new IOException()));
+            });
+    final ByteBuffer data = ByteBuffer.allocate(Integer.BYTES).putInt(0, 1);
+
+    // when
+    leaderRole.appendEntry(0, 1, data, new TestAppender());
+
+    // then
+    verify(log, timeout(5000).atLeast(3)).flush();
+    assertThat(Duration.ofNanos(flushTimes.get(2) - flushTimes.get(1)))
+        .isGreaterThanOrEqualTo(Duration.ofMillis(20));
+  }
+
   private record TestIndexedRaftLogEntry(long index, long term, RaftEntry entry)
       implements IndexedRaftLogEntry {
 
@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.DeterministicSingleThreadContext;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.jmock.lib.concurrent.DeterministicScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupFlusherTest {
+  private static final Duration DELAY = Duration.ofMillis(5);
+
+  private final DeterministicSingleThreadContext context =
+      (DeterministicSingleThreadContext) DeterministicSingleThreadContext.createContext();
+  private final DeterministicScheduler scheduler = context.getDeterministicScheduler();
+  private final GroupFlusher groupFlusher = new GroupFlusher("test", context, DELAY);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(groupFlusher);
+  }
+
+  @Test
+  void shouldBeAsync() {
+    // when
+    final var flusher = groupFlusher.newFlusher();
+
+    // then
+    assertThat(flusher.isAsync()).isTrue();
+    assertThat(flusher.isDirect()).isFalse();
+  }
+
+  @Test
+  void shouldNotFlushBeforeDelay() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.newFlusher();
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+    scheduler.tick(DELAY.toMillis() - 1, TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(flushed).isNotDone();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldCompleteFlushAfterDelay() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.newFlusher();
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(flushed).isCompleted();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushJournalOncePerGroup() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.newFlusher();
+
+    // when
+    final var first = flusher.flushAsync(journal);
+    final var second = flusher.flushAsync(journal);
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushAllJournalsOfGroup() {
+    // given
+    final var firstJournal = Mockito.mock(Journal.class);
+    final var secondJournal = Mockito.mock(Journal.class);
+
+    // when
+    final var first = groupFlusher.newFlusher().flushAsync(firstJournal);
+    final var second = groupFlusher.newFlusher().flushAsync(secondJournal);
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    Mockito.verify(firstJournal, Mockito.times(1)).flush();
+    Mockito.verify(secondJournal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldScheduleNewGroupAfterFlush() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.newFlusher();
+    flusher.flushAsync(journal);
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(flushed).isCompleted();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldFailFlushOnError() {
+    // given
+    final var failingJournal = Mockito.mock(Journal.class);
+    final var journal = Mockito.mock(Journal.class);
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(failingJournal)
+        .flush();
+
+    // when
+    final var failed = groupFlusher.newFlusher().flushAsync(failingJournal);
+    final var flushed = groupFlusher.newFlusher().flushAsync(journal);
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(failed).isCompletedExceptionally();
+    assertThat(flushed).isCompleted();
+  }
+
+  @Test
+  void shouldFailPendingFlushWhenMemberIsClosed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.newFlusher();
+    final var flushed = flusher.flushAsync(journal);
+
+    // when
+    flusher.close();
+    scheduler.tick(DELAY.toMillis(), TimeUnit.MILLISECONDS);
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldFailPendingFlushesWhenClosed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flushed = groupFlusher.newFlusher().flushAsync(journal);
+
+    // when
+    groupFlusher.close();
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+  }
+
+  @Test
+  void shouldFailFlushWhenClosed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flusher = groupFlusher.newFlusher();
+    groupFlusher.close();
+
+    // when
+    final var flushed = flusher.flushAsync(journal);
+
+    // then
+    assertThat(flushed).isCompletedExceptionally();
+    assertThat(scheduler.isIdle()).isTrue();
+  }
+}
@@ -27,7 +27,6 @@ import com.esotericsoftware.kryo.util.Pool;
 import com.esotericsoftware.minlog.Log;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
-import java.io.ByteArrayInputStream;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
@@ -78,23 +77,6 @@ public class Namespace {
           }
         }
       };
-  private final Pool<Input> inputPool =
-      new Pool<>(true, true) {
-        @Override
-        protected Input create() {
-          return new Input(DEFAULT_BUFFER_SIZE);
-        }
-
-        @Override
-        public void free(final Input input) {
-          if (input.getBuffer().length < MAX_POOLED_BUFFER_SIZE) {
-            input.reset();
-            input.setInputStream(null);
-            super.free(input);
-          }
-        }
-      };
-
   private final ImmutableList<RegistrationBlock> registeredBlocks;
   private final String friendlyName;
 
@@ -158,18 +140,13 @@ public class Namespace {
    * @return deserialized Object
    */
   public <T> T deserialize(final byte[] bytes) {
-    final Input input = inputPool.obtain();
+    final Kryo kryo = kryoPool.obtain();
     try {
-      final Kryo kryo = kryoPool.obtain();
-
-      try {
-        input.setInputStream(new ByteArrayInputStream(bytes));
-        return (T) kryo.readClassAndObject(input);
-      } finally {
-        kryoPool.free(kryo);
-      }
+      // read straight from the given bytes, instead of copying them into a pooled buffer first;
+      // serializers may then return views over the bytes, so they must not be reused by the caller
+      return (T) kryo.readClassAndObject(new Input(bytes));
     } finally {
-      inputPool.free(input);
+      kryoPool.free(kryo);
     }
   }
 
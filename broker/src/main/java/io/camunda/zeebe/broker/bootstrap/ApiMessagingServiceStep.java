@@ -13,6 +13,7 @@ import io.atomix.utils.net.Address;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.io.File;
 import java.util.List;
 import org.slf4j.Logger;
 
@@ -40,6 +41,29 @@ public class ApiMessagingServiceStep extends AbstractBrokerStartupStep {
     }
 
     messagingConfig.setCompressionAlgorithm(brokerCfg.getCluster().getMessageCompression());
+    if (brokerCfg.getCluster().getMessageCompressionDictionary() != null) {
+      messagingConfig.setCompressionDictionary(
+          new File(brokerCfg.getCluster().getMessageCompressionDictionary()));
+    }
+    messagingConfig.setTransportMode(brokerCfg.getCluster().getMessagingTransport());
+    messagingConfig.setExplicitFlushAfterFlushes(
+        brokerCfg.getCluster().getMessagingFlushConsolidation());
+    brokerCfg
+        .getCluster()
+        .getMessagingTrafficClasses()
+        .forEach(
+            (trafficClass, trafficClassCfg) -> {
+              if (trafficClassCfg.connections() != null) {
+                messagingConfig.setConnectionPoolSize(trafficClass, trafficClassCfg.connections());
+              }
+              if (trafficClassCfg.typeOfService() != null) {
+                messagingConfig.setTypeOfService(trafficClass, trafficClassCfg.typeOfService());
+              }
+              if (trafficClassCfg.compression() != null) {
+                messagingConfig.setCompressionAlgorithm(
+                    trafficClass, trafficClassCfg.compression());
+              }
+            });
 
     final var messagingService =
         new NettyMessagingService(
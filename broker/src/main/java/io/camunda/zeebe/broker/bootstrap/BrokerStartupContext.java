@@ -23,6 +23,7 @@ import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.transport.adminapi.AdminApiRequestHandler;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiServiceImpl;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -88,6 +89,8 @@ public interface BrokerStartupContext {
 
   ExporterRepository getExporterRepository();
 
+  SharedExecutableProcesses getSharedExecutableProcesses();
+
   PartitionManagerImpl getPartitionManager();
 
   void setPartitionManager(PartitionManagerImpl partitionManager);
@@ -26,6 +26,7 @@ import io.camunda.zeebe.broker.system.monitoring.BrokerHealthCheckService;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.transport.adminapi.AdminApiRequestHandler;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiServiceImpl;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -45,6 +46,8 @@ public final class BrokerStartupContextImpl implements BrokerStartupContext {
   private final ClusterServicesImpl clusterServices;
   private final List<PartitionListener> partitionListeners = new ArrayList<>();
   private final List<PartitionRaftListener> partitionRaftListeners = new ArrayList<>();
+  private final SharedExecutableProcesses sharedExecutableProcesses =
+      new SharedExecutableProcesses();
 
   private ConcurrencyControl concurrencyControl;
   private DiskSpaceUsageMonitor diskSpaceUsageMonitor;
@@ -217,6 +220,11 @@ public final class BrokerStartupContextImpl implements BrokerStartupContext {
     return exporterRepository;
   }
 
+  @Override
+  public SharedExecutableProcesses getSharedExecutableProcesses() {
+    return sharedExecutableProcesses;
+  }
+
   @Override
   public PartitionManagerImpl getPartitionManager() {
     return partitionManager;
@@ -36,13 +36,17 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
         new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler());
 
     final var scheduler = brokerStartupContext.getActorSchedulingService();
+    final var jobStreamCfg =
+        brokerStartupContext.getBrokerConfiguration().getExperimental().getJobStream();
     final RemoteStreamService<JobActivationProperties, ActivatedJob> remoteStreamService =
         new TransportFactory(scheduler)
             .createRemoteStreamServer(
                 clusterServices.getCommunicationService(),
                 JobActivationPropertiesImpl::new,
                 errorHandlerService,
-                new JobStreamMetrics());
+                new JobStreamMetrics(),
+                jobStreamCfg.getConsumerSelection(),
+                clusterServices.getMembershipService().getLocalMember().id());
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
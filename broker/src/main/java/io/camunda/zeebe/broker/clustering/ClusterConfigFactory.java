@@ -19,6 +19,7 @@ import io.camunda.zeebe.broker.system.configuration.ClusterCfg;
 import io.camunda.zeebe.broker.system.configuration.MembershipCfg;
 import io.camunda.zeebe.broker.system.configuration.NetworkCfg;
 import io.camunda.zeebe.broker.system.configuration.SocketBindingCfg;
+import java.io.File;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
@@ -78,9 +79,30 @@ public final class ClusterConfigFactory {
     final var messaging =
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
+            .setTransportMode(cluster.getMessagingTransport())
+            .setExplicitFlushAfterFlushes(cluster.getMessagingFlushConsolidation())
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort());
 
+    cluster
+        .getMessagingTrafficClasses()
+        .forEach(
+            (trafficClass, trafficClassCfg) -> {
+              if (trafficClassCfg.connections() != null) {
+                messaging.setConnectionPoolSize(trafficClass, trafficClassCfg.connections());
+              }
+              if (trafficClassCfg.typeOfService() != null) {
+                messaging.setTypeOfService(trafficClass, trafficClassCfg.typeOfService());
+              }
+              if (trafficClassCfg.compression() != null) {
+                messaging.setCompressionAlgorithm(trafficClass, trafficClassCfg.compression());
+              }
+            });
+
+    if (cluster.getMessageCompressionDictionary() != null) {
+      messaging.setCompressionDictionary(new File(cluster.getMessageCompressionDictionary()));
+    }
+
     if (network.getSecurity().isEnabled()) {
       messaging
           .setTlsEnabled(true)
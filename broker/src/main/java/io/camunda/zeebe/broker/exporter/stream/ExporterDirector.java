@@ -192,7 +192,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       recoverFromSnapshot();
       exporterDistributionService =
           new ExporterStateDistributionService(
-              this::consumeExporterStateFromLeader,
+              this::consumeDistributedExporterState,
               partitionMessagingService,
               exporterPositionsTopic);
 
@@ -263,7 +263,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
-  private void consumeExporterStateFromLeader(
+  private void consumeDistributedExporterState(
       final String exporterId,
       final ExporterStateDistributeMessage.ExporterStateEntry exporterState) {
 
@@ -482,7 +482,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private static class RecordExporter {
 
-    private final RecordValues recordValues = new RecordValues();
+    // exporters which filter records or only access a few properties don't pay for full decoding
+    private final RecordValues recordValues = new RecordValues(true);
     private final RecordMetadata rawMetadata = new RecordMetadata();
     private final List<ExporterContainer> containers;
     private final TypedRecordImpl typedEvent;
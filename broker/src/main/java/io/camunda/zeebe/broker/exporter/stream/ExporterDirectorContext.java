@@ -103,12 +103,13 @@ public final class ExporterDirectorContext {
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
-     * the followers. This mode is used on the leader side.
+     * the other members. This mode is used on the leader side, or on the designated follower when
+     * exporting on followers is enabled.
      */
     ACTIVE,
     /**
      * PASSIVE, means it is not actively exporting records. It is consuming the distributed exporter
-     * positions and stores them in the state. This mode is used on the follower side.
+     * positions and stores them in the state. This mode is used on all other members.
      */
     PASSIVE
   }
@@ -7,9 +7,12 @@
  */
 package io.camunda.zeebe.broker.jobstream;
 
+import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.time.Duration;
 
 public class JobStreamMetrics implements RemoteStreamMetrics {
   private static final String NAMESPACE = "zeebe";
@@ -35,6 +38,42 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .help("Total number of failures when pushing jobs to the streams")
           .register();
 
+  private static final Histogram PUSH_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_batch_size")
+          .help("Distribution of the number of jobs pushed to a stream in a single request")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
+  private static final Histogram PUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_latency")
+          .help(
+              "Time in seconds between a job being pushed and the stream acknowledging it,"
+                  + " including the time it waited to be batched")
+          .buckets(.0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5)
+          .register();
+
+  private static final Counter GATEWAY_PUSH_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_pushed_per_gateway_count")
+          .help("Total number of jobs pushed to the streams of each gateway, by result")
+          .labelNames("gateway", "result")
+          .register();
+
+  private static final Histogram GATEWAY_PUSH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("broker_jobs_push_latency_per_gateway")
+          .help(
+              "Time in seconds between a job being pushed and a stream of the gateway acknowledging it")
+          .labelNames("gateway")
+          .buckets(.0005, .001, .0025, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5)
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -54,4 +93,26 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushFailed() {
     PUSH_FAILED_COUNT.inc();
   }
+
+  @Override
+  public void observeBatchSize(final int size) {
+    PUSH_BATCH_SIZE.observe(size);
+  }
+
+  @Override
+  public void observePushLatency(final Duration latency) {
+    PUSH_LATENCY.observe(latency.toNanos() / 1_000_000_000d);
+  }
+
+  @Override
+  public void consumerPushSucceeded(final MemberId receiver, final Duration latency) {
+    final var gateway = receiver.id();
+    GATEWAY_PUSH_COUNT.labels(gateway, "success").inc();
+    GATEWAY_PUSH_LATENCY.labels(gateway).observe(latency.toNanos() / 1_000_000_000d);
+  }
+
+  @Override
+  public void consumerPushFailed(final MemberId receiver) {
+    GATEWAY_PUSH_COUNT.labels(receiver.id(), "failure").inc();
+  }
 }
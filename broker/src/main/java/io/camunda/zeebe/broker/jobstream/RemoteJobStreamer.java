@@ -11,14 +11,13 @@ import io.atomix.cluster.messaging.ClusterEventService;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.protocol.impl.stream.job.JobAvailableNotification;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
 import java.util.Optional;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 
 public final class RemoteJobStreamer implements JobStreamer {
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
-
   private final RemoteStreamer<JobActivationProperties, ActivatedJob> delegate;
   private final ClusterEventService eventService;
 
@@ -31,7 +30,19 @@ public final class RemoteJobStreamer implements JobStreamer {
 
   @Override
   public void notifyWorkAvailable(final String jobType) {
-    eventService.broadcast(JOBS_AVAILABLE_TOPIC, jobType);
+    // kept for gateways which do not subscribe to partition-aware notifications yet
+    eventService.broadcast(JobAvailableNotification.LEGACY_TOPIC, jobType);
+    eventService.broadcast(
+        JobAvailableNotification.TOPIC, JobAvailableNotification.ofType(jobType).encode());
+  }
+
+  @Override
+  public void notifyWorkAvailable(final String jobType, final int partitionId) {
+    // kept for gateways which do not subscribe to partition-aware notifications yet
+    eventService.broadcast(JobAvailableNotification.LEGACY_TOPIC, jobType);
+    eventService.broadcast(
+        JobAvailableNotification.TOPIC,
+        new JobAvailableNotification(jobType, partitionId).encode());
   }
 
   @Override
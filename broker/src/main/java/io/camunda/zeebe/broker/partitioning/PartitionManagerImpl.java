@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.PartitionListener;
 import io.camunda.zeebe.broker.PartitionRaftListener;
 import io.camunda.zeebe.broker.clustering.ClusterServices;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
+import io.camunda.zeebe.broker.partitioning.balancing.LeaderBalancingService;
 import io.camunda.zeebe.broker.partitioning.startup.PartitionStartupContext;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.partitioning.startup.ZeebePartitionFactory;
@@ -27,6 +28,7 @@ import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -63,6 +65,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
   private final BrokerCfg brokerCfg;
   private final ZeebePartitionFactory zeebePartitionFactory;
   private final RaftPartitionFactory raftPartitionFactory;
+  private final LeaderBalancingService leaderBalancingService;
 
   public PartitionManagerImpl(
       final ConcurrencyControl concurrencyControl,
@@ -76,6 +79,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
       final List<PartitionRaftListener> partitionRaftListeners,
       final CommandApiService commandApiService,
       final ExporterRepository exporterRepository,
+      final SharedExecutableProcesses sharedExecutableProcesses,
       final AtomixServerTransport gatewayBrokerTransport,
       final JobStreamer jobStreamer,
       final PartitionDistribution partitionDistribution) {
@@ -100,6 +104,7 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             commandApiService,
             clusterServices,
             exporterRepository,
+            sharedExecutableProcesses,
             diskSpaceUsageMonitor,
             gatewayBrokerTransport,
             jobStreamer,
@@ -111,10 +116,24 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
     raftPartitionFactory = new RaftPartitionFactory(brokerCfg);
+
+    final var leaderBalancingCfg =
+        brokerCfg.getExperimental().getPartitioning().getLeaderBalancing();
+    leaderBalancingService =
+        leaderBalancingCfg.isEnabled()
+            ? new LeaderBalancingService(
+                clusterServices.getMembershipService(),
+                this,
+                partitionDistribution.partitions(),
+                leaderBalancingCfg)
+            : null;
   }
 
   public void start() {
     actorSchedulingService.submitActor(topologyManager);
+    if (leaderBalancingService != null) {
+      actorSchedulingService.submitActor(leaderBalancingService);
+    }
     final var localMemberId = managementService.getMembershipService().getLocalMember().id();
     final var memberPartitions =
         partitionDistribution.partitions().stream()
@@ -202,6 +221,17 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
 
   public ActorFuture<Void> stop() {
     final var result = concurrencyControl.<Void>createFuture();
+    // no leadership should be transferred while the partitions are stopping
+    final ActorFuture<Void> leaderBalancingStopped =
+        leaderBalancingService != null
+            ? leaderBalancingService.closeAsync()
+            : concurrencyControl.createCompletedFuture();
+    concurrencyControl.runOnCompletion(
+        leaderBalancingStopped, (ignored, error) -> stopPartitions(result));
+    return result;
+  }
+
+  private void stopPartitions(final ActorFuture<Void> result) {
     final var stop =
         partitions.values().stream()
             .map(Partition::stop)
@@ -214,10 +244,10 @@ public final class PartitionManagerImpl implements PartitionManager, PartitionCh
             result.completeExceptionally(error);
           } else {
             partitions.clear();
+            raftPartitionFactory.close();
             topologyManager.closeAsync().onComplete(result);
           }
         });
-    return result;
   }
 
   @Override
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.balancing;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import io.camunda.zeebe.broker.partitioning.distribution.LeaderBalancer;
+import io.camunda.zeebe.broker.partitioning.distribution.LeadershipTransfer;
+import io.camunda.zeebe.broker.partitioning.distribution.LoadModel;
+import io.camunda.zeebe.broker.partitioning.distribution.PartitionLoad;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntToLongFunction;
+
+/**
+ * A single round of leader balancing from the point of view of one member: it plans the transfers
+ * from the loads published by all members, and returns the transfers which the member has to
+ * execute, i.e. the ones which move a leadership to it.
+ */
+final class LeaderBalancingRound {
+
+  private final LeaderBalancer balancer;
+  private final LoadModel loadModel;
+
+  LeaderBalancingRound(final LeaderBalancer balancer, final LoadModel loadModel) {
+    this.balancer = balancer;
+    this.loadModel = loadModel;
+  }
+
+  /**
+   * @param localMember the member executing the round
+   * @param partitions the metadata of all partitions
+   * @param publishedLoads the loads published by all members, including the local one
+   * @param localTerm the current term of a partition replicated by the local member
+   * @return the transfers to the local member
+   */
+  List<LeadershipTransfer> transfersTo(
+      final MemberId localMember,
+      final Collection<PartitionMetadata> partitions,
+      final Collection<LeaderLoad> publishedLoads,
+      final IntToLongFunction localTerm) {
+    // a member may still publish the load of a partition it led in a previous term, so the entry
+    // of the latest term wins
+    final Map<Integer, LeaderLoad> latestLoads = new HashMap<>();
+    for (final var load : publishedLoads) {
+      latestLoads.merge(
+          load.partitionId(), load, (left, right) -> left.term() >= right.term() ? left : right);
+    }
+
+    final Map<Integer, MemberId> leaders = new HashMap<>();
+    final Map<Integer, PartitionLoad> loads = new HashMap<>();
+    latestLoads.forEach(
+        (partitionId, load) -> {
+          leaders.put(partitionId, load.leader());
+          loads.put(partitionId, load.load());
+        });
+
+    return balancer.plan(partitions, leaders, loadModel.score(loads)).stream()
+        .filter(transfer -> transfer.to().equals(localMember))
+        // the plan is based on the published loads, which may be outdated; if the partition
+        // already has a new leader, the transfer is skipped and planned again in the next round
+        .filter(
+            transfer ->
+                localTerm.applyAsLong(transfer.partitionId())
+                    == latestLoads.get(transfer.partitionId()).term())
+        .toList();
+  }
+}
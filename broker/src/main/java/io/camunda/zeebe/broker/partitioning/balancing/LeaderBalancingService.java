@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.balancing;
+
+import io.atomix.cluster.ClusterMembershipService;
+import io.atomix.primitive.partition.PartitionMetadata;
+import io.atomix.raft.partition.RaftPartition;
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.partitioning.PartitionManager;
+import io.camunda.zeebe.broker.partitioning.distribution.LeaderBalancer;
+import io.camunda.zeebe.broker.partitioning.distribution.LeadershipTransfer;
+import io.camunda.zeebe.broker.partitioning.distribution.LoadModel;
+import io.camunda.zeebe.broker.system.configuration.partitioning.LeaderBalancingCfg;
+import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+
+/**
+ * Balances the leadership of the partitions across the members based on their observed load.
+ *
+ * <p>Each round, the service first plans the leadership transfers from the loads which all members
+ * published in the previous round, see {@link LeaderBalancer}. By then, these loads have been
+ * propagated to all members, so all members plan the same transfers, and each member executes the
+ * transfers which move a leadership to itself. Afterwards, the service observes the load of the
+ * partitions led by the local member and publishes it for the next round. The number of transfers
+ * per round is bounded, so the leadership changes gradually, and each round plans with the load
+ * observed after the previous transfers.
+ */
+public final class LeaderBalancingService extends Actor {
+
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+
+  private final ClusterMembershipService membershipService;
+  private final PartitionManager partitionManager;
+  private final Collection<PartitionMetadata> partitions;
+  private final LeaderBalancingCfg config;
+  private final LeaderBalancingRound round;
+  private PartitionLoadObserver loadObserver;
+
+  public LeaderBalancingService(
+      final ClusterMembershipService membershipService,
+      final PartitionManager partitionManager,
+      final Collection<PartitionMetadata> partitions,
+      final LeaderBalancingCfg config) {
+    this.membershipService = membershipService;
+    this.partitionManager = partitionManager;
+    this.partitions = partitions;
+    this.config = config;
+    round =
+        new LeaderBalancingRound(
+            new LeaderBalancer(config.getMaxImbalance(), config.getMaxTransfersPerRound()),
+            LoadModel.DEFAULT);
+  }
+
+  @Override
+  public String getName() {
+    return "LeaderBalancingService";
+  }
+
+  @Override
+  protected void onActorStarted() {
+    loadObserver = new PartitionLoadObserver(actor, ActorClock::currentTimeMillis);
+    actor.runAtFixedRate(config.getInterval(), this::runRound);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    LeaderLoad.publish(membershipService.getLocalMember().properties(), List.of());
+  }
+
+  private void runRound() {
+    executeTransfers();
+    observeAndPublishLoads();
+  }
+
+  private void executeTransfers() {
+    final var localMember = membershipService.getLocalMember().id();
+    final var publishedLoads =
+        membershipService.getMembers().stream()
+            .flatMap(member -> LeaderLoad.read(member.id(), member.properties()).stream())
+            .toList();
+    final var transfers =
+        round.transfersTo(
+            localMember,
+            partitions,
+            publishedLoads,
+            partitionId -> {
+              final var raftPartition = partitionManager.getRaftPartition(partitionId);
+              return raftPartition != null ? raftPartition.term() : -1;
+            });
+
+    transfers.forEach(this::executeTransfer);
+  }
+
+  private void observeAndPublishLoads() {
+    final var localMember = membershipService.getLocalMember().id();
+    final Map<Integer, ZeebePartition> zeebePartitions =
+        partitionManager.getZeebePartitions().stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toMap(ZeebePartition::getPartitionId, Function.identity()));
+
+    final ActorFuture<List<Optional<LeaderLoad>>> observedLoads =
+        partitionManager.getRaftPartitions().stream()
+            .filter(Objects::nonNull)
+            .map(
+                raftPartition ->
+                    loadObserver.observe(
+                        localMember, raftPartition, zeebePartitions.get(raftPartition.id().id())))
+            .collect(new ActorFutureCollector<>(actor));
+
+    actor.runOnCompletion(
+        observedLoads,
+        (loads, error) -> {
+          if (error != null) {
+            LOG.warn("Failed to observe the load of the partitions", error);
+            return;
+          }
+
+          LeaderLoad.publish(
+              membershipService.getLocalMember().properties(),
+              loads.stream().flatMap(Optional::stream).toList());
+        });
+  }
+
+  private void executeTransfer(final LeadershipTransfer transfer) {
+    final RaftPartition raftPartition = partitionManager.getRaftPartition(transfer.partitionId());
+    if (raftPartition == null || raftPartition.getServer() == null) {
+      return;
+    }
+
+    LOG.info(
+        "Requesting the leadership of partition {} from {} to balance the load of the leaders",
+        transfer.partitionId(),
+        transfer.from());
+    raftPartition
+        .getServer()
+        .promote()
+        .whenComplete(
+            (ignored, error) -> {
+              if (error != null) {
+                LOG.warn(
+                    "Failed to transfer the leadership of partition {} from {}",
+                    transfer.partitionId(),
+                    transfer.from(),
+                    error);
+              }
+            });
+  }
+}
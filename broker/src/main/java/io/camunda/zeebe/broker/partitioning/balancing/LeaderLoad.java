@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.balancing;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.broker.partitioning.distribution.PartitionLoad;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+/**
+ * The load of a partition as observed and published by its leader. The loads are propagated to the
+ * other members as a property of the local member, like the {@link
+ * io.camunda.zeebe.protocol.impl.encoding.BrokerInfo}.
+ *
+ * @param partitionId the id of the partition
+ * @param term the term in which the member leads the partition
+ * @param leader the member which leads the partition
+ * @param load the observed load of the partition
+ */
+public record LeaderLoad(int partitionId, long term, MemberId leader, PartitionLoad load) {
+
+  static final String PROPERTY_NAME = "leaderLoads";
+
+  private static final String ENTRY_SEPARATOR = ";";
+  private static final String FIELD_SEPARATOR = ":";
+  private static final int FIELD_COUNT = 5;
+
+  /**
+   * Publishes the loads of the partitions led by the local member, replacing the previously
+   * published loads.
+   */
+  static void publish(final Properties memberProperties, final Collection<LeaderLoad> loads) {
+    final var value =
+        loads.stream()
+            .map(
+                load ->
+                    String.join(
+                        FIELD_SEPARATOR,
+                        String.valueOf(load.partitionId()),
+                        String.valueOf(load.term()),
+                        String.valueOf(load.load().processingRate()),
+                        String.valueOf(load.load().stateSize()),
+                        String.valueOf(load.load().exportLag())))
+            .collect(Collectors.joining(ENTRY_SEPARATOR));
+    memberProperties.setProperty(PROPERTY_NAME, value);
+  }
+
+  /**
+   * Reads the loads published by the given member. Entries which can't be read, e.g. because they
+   * were published by a different version, are skipped.
+   */
+  static List<LeaderLoad> read(final MemberId member, final Properties memberProperties) {
+    final var value = memberProperties.getProperty(PROPERTY_NAME);
+    if (value == null || value.isEmpty()) {
+      return List.of();
+    }
+
+    final List<LeaderLoad> loads = new ArrayList<>();
+    for (final var entry : value.split(ENTRY_SEPARATOR)) {
+      final var fields = entry.split(FIELD_SEPARATOR);
+      if (fields.length != FIELD_COUNT) {
+        continue;
+      }
+
+      try {
+        loads.add(
+            new LeaderLoad(
+                Integer.parseInt(fields[0]),
+                Long.parseLong(fields[1]),
+                member,
+                new PartitionLoad(
+                    Double.parseDouble(fields[2]),
+                    Long.parseLong(fields[3]),
+                    Long.parseLong(fields[4]))));
+      } catch (final IllegalArgumentException e) {
+        // skip the malformed entry, the member will publish its loads again in the next round
+      }
+    }
+    return loads;
+  }
+}
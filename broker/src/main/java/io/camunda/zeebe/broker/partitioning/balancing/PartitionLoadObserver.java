@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.balancing;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartition;
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.partitioning.distribution.PartitionLoad;
+import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+
+/**
+ * Observes the load of the partitions led by the local member:
+ *
+ * <ul>
+ *   <li>the processing rate is the number of positions processed per second since the previous
+ *       observation in the same term; a partition is only observed from its second observation on
+ *   <li>the state size is the size of the partition's latest snapshot
+ *   <li>the export lag is the number of positions processed, but not yet exported by all exporters
+ * </ul>
+ */
+final class PartitionLoadObserver {
+
+  private static final Logger LOG = Loggers.CLUSTERING_LOGGER;
+
+  private final Map<Integer, ProcessingSample> processingSamples = new HashMap<>();
+  private final Map<Integer, SnapshotSize> snapshotSizes = new HashMap<>();
+  private final ConcurrencyControl concurrencyControl;
+  private final LongSupplier clock;
+
+  PartitionLoadObserver(final ConcurrencyControl concurrencyControl, final LongSupplier clock) {
+    this.concurrencyControl = concurrencyControl;
+    this.clock = clock;
+  }
+
+  /**
+   * @return the load of the partition, or an empty optional if the local member is not its leader
+   *     or its load can't be observed yet
+   */
+  ActorFuture<Optional<LeaderLoad>> observe(
+      final MemberId localMember,
+      final RaftPartition raftPartition,
+      final ZeebePartition zeebePartition) {
+    final var partitionId = raftPartition.id().id();
+    final ActorFuture<Optional<LeaderLoad>> result = concurrencyControl.createFuture();
+    if (zeebePartition == null || raftPartition.getRole() != Role.LEADER) {
+      processingSamples.remove(partitionId);
+      snapshotSizes.remove(partitionId);
+      result.complete(Optional.empty());
+      return result;
+    }
+
+    final var term = raftPartition.term();
+    concurrencyControl.runOnCompletion(
+        zeebePartition.getStreamProcessor(),
+        (streamProcessor, error) -> {
+          if (error != null || streamProcessor.isEmpty()) {
+            result.complete(Optional.empty());
+            return;
+          }
+
+          concurrencyControl.runOnCompletion(
+              streamProcessor.get().getLastProcessedPositionAsync(),
+              (processedPosition, positionError) -> {
+                if (positionError != null) {
+                  result.complete(Optional.empty());
+                } else {
+                  observeExportLag(
+                      new ProcessingObservation(partitionId, term, localMember, processedPosition),
+                      zeebePartition,
+                      result);
+                }
+              });
+        });
+    return result;
+  }
+
+  private void observeExportLag(
+      final ProcessingObservation observation,
+      final ZeebePartition zeebePartition,
+      final ActorFuture<Optional<LeaderLoad>> result) {
+    concurrencyControl.runOnCompletion(
+        zeebePartition.getExporterDirector(),
+        (exporterDirector, error) -> {
+          if (error != null || exporterDirector.isEmpty()) {
+            // without exporters, nothing lags behind
+            result.complete(build(observation, zeebePartition, observation.processedPosition()));
+            return;
+          }
+
+          concurrencyControl.runOnCompletion(
+              exporterDirector.get().getLowestPosition(),
+              (exportedPosition, positionError) -> {
+                if (positionError != null) {
+                  result.complete(Optional.empty());
+                } else {
+                  result.complete(build(observation, zeebePartition, exportedPosition));
+                }
+              });
+        });
+  }
+
+  private Optional<LeaderLoad> build(
+      final ProcessingObservation observation,
+      final ZeebePartition zeebePartition,
+      final long exportedPosition) {
+    final var processingRate =
+        processingRate(
+            observation.partitionId(), observation.term(), observation.processedPosition());
+    if (processingRate.isEmpty()) {
+      return Optional.empty();
+    }
+
+    // the lowest exported position is -1 if there are no exporters
+    final var exportLag =
+        exportedPosition < 0 ? 0 : Math.max(0, observation.processedPosition() - exportedPosition);
+    final var load =
+        new PartitionLoad(
+            processingRate.get(), stateSize(observation.partitionId(), zeebePartition), exportLag);
+    return Optional.of(
+        new LeaderLoad(
+            observation.partitionId(), observation.term(), observation.localMember(), load));
+  }
+
+  private Optional<Double> processingRate(
+      final int partitionId, final long term, final long processedPosition) {
+    final var now = clock.getAsLong();
+    final var previous =
+        processingSamples.put(partitionId, new ProcessingSample(term, processedPosition, now));
+    if (previous == null || previous.term() != term || now <= previous.timestamp()) {
+      return Optional.empty();
+    }
+
+    final var processedPositions = Math.max(0, processedPosition - previous.processedPosition());
+    return Optional.of(processedPositions * 1000.0 / (now - previous.timestamp()));
+  }
+
+  /** The size of a snapshot doesn't change, so it's only computed once per snapshot. */
+  private long stateSize(final int partitionId, final ZeebePartition zeebePartition) {
+    final var snapshot = zeebePartition.getSnapshotStore().getLatestSnapshot();
+    if (snapshot.isEmpty()) {
+      return 0;
+    }
+
+    final var snapshotId = snapshot.map(PersistedSnapshot::getId).orElseThrow();
+    final var cachedSize = snapshotSizes.get(partitionId);
+    if (cachedSize != null && cachedSize.snapshotId().equals(snapshotId)) {
+      return cachedSize.size();
+    }
+
+    try {
+      final var size = directorySize(snapshot.get().getPath());
+      snapshotSizes.put(partitionId, new SnapshotSize(snapshotId, size));
+      return size;
+    } catch (final UncheckedIOException e) {
+      // the snapshot may have been deleted after a newer one was taken
+      LOG.debug("Failed to determine the size of snapshot {}", snapshotId, e);
+      return cachedSize != null ? cachedSize.size() : 0;
+    }
+  }
+
+  private static long directorySize(final Path directory) {
+    try (final var files = Files.list(directory)) {
+      return files.mapToLong(PartitionLoadObserver::fileSize).sum();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static long fileSize(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private record ProcessingSample(long term, long processedPosition, long timestamp) {}
+
+  private record SnapshotSize(String snapshotId, long size) {}
+
+  private record ProcessingObservation(
+      int partitionId, long term, MemberId localMember, long processedPosition) {}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Plans leadership transfers to balance the load of the partitions' leaders across the members.
+ * Static distributions assign the same number of leaders to each member, but partitions rarely have
+ * the same load, and after restarts leaders are often concentrated on a few members.
+ *
+ * <p>Each round, the balancer repeatedly picks the member with the highest leader load, and moves
+ * the leadership of one of its partitions to another replica of that partition, such that the
+ * highest load of both members decreases. It stops when the most loaded member is within the
+ * allowed imbalance of the mean load, when no such move exists, or after a maximum number of
+ * transfers. The number of transfers per round is limited so that leadership changes gradually;
+ * each transfer interrupts processing on the partition until the new leader is ready.
+ *
+ * <p>The plan only depends on its inputs and breaks ties deterministically, so that all members
+ * which observe the same loads plan the same transfers. Each member then executes the transfers
+ * which target itself, see {@link LeadershipTransfer}.
+ */
+public final class LeaderBalancer {
+
+  private final double maxImbalance;
+  private final int maxTransfersPerRound;
+
+  /**
+   * @param maxImbalance the allowed ratio of the highest member load to the mean member load, e.g.
+   *     1.2 allows the most loaded member to have 20% more load than the mean
+   * @param maxTransfersPerRound the maximum number of transfers planned in a single round
+   */
+  public LeaderBalancer(final double maxImbalance, final int maxTransfersPerRound) {
+    if (maxImbalance < 1) {
+      throw new IllegalArgumentException(
+          "Expected max imbalance to be at least 1, but was %f".formatted(maxImbalance));
+    }
+    if (maxTransfersPerRound < 1) {
+      throw new IllegalArgumentException(
+          "Expected max transfers per round to be at least 1, but was %d"
+              .formatted(maxTransfersPerRound));
+    }
+    this.maxImbalance = maxImbalance;
+    this.maxTransfersPerRound = maxTransfersPerRound;
+  }
+
+  /**
+   * Plans the leadership transfers for a single round.
+   *
+   * @param partitions the metadata of all partitions
+   * @param leaders the current leader per partition id; partitions without a known leader are
+   *     ignored
+   * @param partitionLoads the load score per partition id, see {@link LoadModel#score(Map)};
+   *     partitions without a score are considered to have no load
+   * @return the transfers to execute, at most one per partition
+   */
+  public List<LeadershipTransfer> plan(
+      final Collection<PartitionMetadata> partitions,
+      final Map<Integer, MemberId> leaders,
+      final Map<Integer, Double> partitionLoads) {
+    final Map<MemberId, Double> memberLoads = memberLoads(partitions, leaders, partitionLoads);
+    if (memberLoads.isEmpty()) {
+      return List.of();
+    }
+
+    final Map<Integer, MemberId> currentLeaders = new HashMap<>(leaders);
+    final Set<Integer> transferredPartitions = new HashSet<>();
+    final List<LeadershipTransfer> transfers = new ArrayList<>();
+    final double meanLoad =
+        memberLoads.values().stream().mapToDouble(Double::doubleValue).sum() / memberLoads.size();
+
+    while (transfers.size() < maxTransfersPerRound) {
+      final var mostLoadedMember =
+          memberLoads.entrySet().stream()
+              .max(
+                  Map.Entry.<MemberId, Double>comparingByValue()
+                      .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+              .orElseThrow();
+      if (meanLoad == 0 || mostLoadedMember.getValue() <= meanLoad * maxImbalance) {
+        break;
+      }
+
+      final var transfer =
+          findBestTransfer(
+              mostLoadedMember.getKey(),
+              partitions,
+              currentLeaders,
+              partitionLoads,
+              memberLoads,
+              transferredPartitions);
+      if (transfer == null) {
+        break;
+      }
+
+      final double load = partitionLoads.getOrDefault(transfer.partitionId(), 0.0);
+      memberLoads.merge(transfer.from(), -load, Double::sum);
+      memberLoads.merge(transfer.to(), load, Double::sum);
+      currentLeaders.put(transfer.partitionId(), transfer.to());
+      transferredPartitions.add(transfer.partitionId());
+      transfers.add(transfer);
+    }
+
+    return transfers;
+  }
+
+  /**
+   * Returns the sum of the load of all partitions led by a member. Every member of a partition is
+   * included, even if it does not lead any partition.
+   */
+  public static Map<MemberId, Double> memberLoads(
+      final Collection<PartitionMetadata> partitions,
+      final Map<Integer, MemberId> leaders,
+      final Map<Integer, Double> partitionLoads) {
+    final Map<MemberId, Double> memberLoads = new HashMap<>();
+    for (final var partition : partitions) {
+      partition.members().forEach(member -> memberLoads.putIfAbsent(member, 0.0));
+      final var leader = leaders.get(partition.id().id());
+      if (leader != null && partition.members().contains(leader)) {
+        memberLoads.merge(
+            leader, partitionLoads.getOrDefault(partition.id().id(), 0.0), Double::sum);
+      }
+    }
+    return memberLoads;
+  }
+
+  private LeadershipTransfer findBestTransfer(
+      final MemberId from,
+      final Collection<PartitionMetadata> partitions,
+      final Map<Integer, MemberId> leaders,
+      final Map<Integer, Double> partitionLoads,
+      final Map<MemberId, Double> memberLoads,
+      final Set<Integer> transferredPartitions) {
+    final double fromLoad = memberLoads.get(from);
+    LeadershipTransfer bestTransfer = null;
+    double bestMaxLoad = fromLoad;
+
+    for (final var partition : partitions) {
+      final int partitionId = partition.id().id();
+      if (!from.equals(leaders.get(partitionId)) || transferredPartitions.contains(partitionId)) {
+        continue;
+      }
+
+      final double load = partitionLoads.getOrDefault(partitionId, 0.0);
+      for (final var to : partition.members()) {
+        if (to.equals(from)) {
+          continue;
+        }
+
+        // the highest load of both members after the transfer; must be lower than before
+        final double maxLoad = Math.max(fromLoad - load, memberLoads.get(to) + load);
+        if (maxLoad < bestMaxLoad
+            || (maxLoad == bestMaxLoad
+                && bestTransfer != null
+                && isPreferred(partitionId, to, bestTransfer))) {
+          bestMaxLoad = maxLoad;
+          bestTransfer = new LeadershipTransfer(partitionId, from, to);
+        }
+      }
+    }
+
+    return bestTransfer;
+  }
+
+  /** Break ties deterministically, so that all members would compute the same plan. */
+  private static boolean isPreferred(
+      final int partitionId, final MemberId to, final LeadershipTransfer other) {
+    return partitionId < other.partitionId()
+        || (partitionId == other.partitionId() && to.compareTo(other.to()) < 0);
+  }
+}
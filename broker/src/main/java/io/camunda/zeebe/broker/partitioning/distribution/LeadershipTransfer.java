@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+import io.atomix.cluster.MemberId;
+
+/**
+ * Moves the leadership of a partition from one member to another.
+ *
+ * <p>The transfer is executed by the target member: it requests the leadership from the current
+ * leader, which replicates its log to the target and steps down, after which the target starts an
+ * election. Stepping down on its own is not enough, as the next leader is then chosen by the
+ * election: with priority election, the replica with the highest priority would win again, which is
+ * often the member the leadership should be moved away from.
+ *
+ * @param partitionId the partition whose leadership is transferred
+ * @param from the current leader
+ * @param to the member which should become the leader
+ */
+public record LeadershipTransfer(int partitionId, MemberId from, MemberId to) {}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import io.camunda.zeebe.topology.PartitionDistributor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * This implementation of {@link PartitionDistributor} replicates the partitions in the same way as
+ * the {@link RoundRobinPartitionDistributor}, but assigns the priorities based on the expected load
+ * of each partition. Partitions are assigned in order of decreasing load, and each partition gets
+ * the replica with the lowest leader load so far as primary. The remaining replicas are ordered by
+ * their leader load plus the load they already take over when the same primary fails, so that the
+ * load is also balanced when a member is down.
+ *
+ * <p>With uniform load this assigns the same number of primaries to each member, like the round
+ * robin distribution. If some partitions are known to be hotter than others, the members leading
+ * them will lead fewer partitions in total.
+ */
+public final class LoadAwarePartitionDistributor implements PartitionDistributor {
+
+  private static final double DEFAULT_WEIGHT = 1.0;
+
+  private final PartitionDistributor replicaDistributor = new RoundRobinPartitionDistributor();
+  private final Map<Integer, Double> partitionWeights;
+
+  /**
+   * @param partitionWeights the expected relative load per partition id; partitions which are not
+   *     present have a weight of 1
+   */
+  public LoadAwarePartitionDistributor(final Map<Integer, Double> partitionWeights) {
+    partitionWeights.forEach(
+        (partitionId, weight) -> {
+          if (weight == null || weight <= 0) {
+            throw new IllegalArgumentException(
+                "Expected weight of partition %d to be greater than 0, but was %s"
+                    .formatted(partitionId, weight));
+          }
+        });
+    this.partitionWeights = Map.copyOf(partitionWeights);
+  }
+
+  @Override
+  public Set<PartitionMetadata> distributePartitions(
+      final Set<MemberId> clusterMembers,
+      final List<PartitionId> sortedPartitionIds,
+      final int replicationFactor) {
+    final var replicatedPartitions =
+        new ArrayList<>(
+            replicaDistributor.distributePartitions(
+                clusterMembers, sortedPartitionIds, replicationFactor));
+    // assign the heaviest partitions first, which leaves the light ones to even out the load
+    replicatedPartitions.sort(
+        Comparator.comparingDouble((PartitionMetadata p) -> weight(p.id()))
+            .reversed()
+            .thenComparing(PartitionMetadata::id));
+
+    // first choose all primaries, so that the failover can take the final leader load into account
+    final Map<MemberId, Double> leaderLoads = new HashMap<>();
+    final Map<PartitionId, MemberId> primaries = new HashMap<>();
+    for (final var partition : replicatedPartitions) {
+      final var primary = partition.members().stream().min(byLoad(leaderLoads::get)).orElseThrow();
+      leaderLoads.merge(primary, weight(partition.id()), Double::sum);
+      primaries.put(partition.id(), primary);
+    }
+
+    // the load a member takes over when a primary fails, per primary
+    final Map<MemberId, Map<MemberId, Double>> failoverLoads = new HashMap<>();
+    final Set<PartitionMetadata> metadata = new HashSet<>();
+    for (final var partition : replicatedPartitions) {
+      final var primary = primaries.get(partition.id());
+      final var failoverLoadsOfPrimary =
+          failoverLoads.computeIfAbsent(primary, p -> new HashMap<>());
+      final var replicas =
+          partition.members().stream()
+              .filter(member -> !member.equals(primary))
+              .sorted(
+                  byLoad(
+                      member ->
+                          leaderLoads.getOrDefault(member, 0.0)
+                              + failoverLoadsOfPrimary.getOrDefault(member, 0.0)))
+              .toList();
+      if (!replicas.isEmpty()) {
+        failoverLoadsOfPrimary.merge(replicas.get(0), weight(partition.id()), Double::sum);
+      }
+
+      final int targetPriority = partition.members().size();
+      final Map<MemberId, Integer> priorities = new HashMap<>();
+      priorities.put(primary, targetPriority);
+      for (int i = 0; i < replicas.size(); i++) {
+        priorities.put(replicas.get(i), targetPriority - 1 - i);
+      }
+
+      metadata.add(
+          new PartitionMetadata(
+              partition.id(),
+              Set.copyOf(partition.members()),
+              priorities,
+              targetPriority,
+              primary));
+    }
+
+    return metadata;
+  }
+
+  private double weight(final PartitionId partitionId) {
+    return partitionWeights.getOrDefault(partitionId.id(), DEFAULT_WEIGHT);
+  }
+
+  private static Comparator<MemberId> byLoad(final Function<MemberId, Double> load) {
+    return Comparator.<MemberId>comparingDouble(
+            member -> Objects.requireNonNullElse(load.apply(member), 0.0))
+        .thenComparing(Comparator.naturalOrder());
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reduces the different dimensions of a {@link PartitionLoad} to a single score, so that the load
+ * of partitions can be compared and summed up per member. Each dimension is normalized by its
+ * maximum over all partitions, so that the score of a partition is between 0 and the sum of the
+ * weights.
+ *
+ * @param processingRateWeight the weight of the processing rate
+ * @param stateSizeWeight the weight of the state size
+ * @param exportLagWeight the weight of the export lag
+ */
+public record LoadModel(
+    double processingRateWeight, double stateSizeWeight, double exportLagWeight) {
+
+  /**
+   * The processing rate is the main driver of CPU and disk usage on the leader. The state size
+   * affects snapshotting and the export lag indicates that the exporters cannot keep up.
+   */
+  public static final LoadModel DEFAULT = new LoadModel(0.6, 0.2, 0.2);
+
+  public LoadModel {
+    if (processingRateWeight < 0 || stateSizeWeight < 0 || exportLagWeight < 0) {
+      throw new IllegalArgumentException(
+          "Expected load weights to be positive, but was processingRate=%f, stateSize=%f, exportLag=%f"
+              .formatted(processingRateWeight, stateSizeWeight, exportLagWeight));
+    }
+  }
+
+  /**
+   * @param loads the observed load per partition id
+   * @return the score per partition id
+   */
+  public Map<Integer, Double> score(final Map<Integer, PartitionLoad> loads) {
+    double maxProcessingRate = 0;
+    long maxStateSize = 0;
+    long maxExportLag = 0;
+    for (final var load : loads.values()) {
+      maxProcessingRate = Math.max(maxProcessingRate, load.processingRate());
+      maxStateSize = Math.max(maxStateSize, load.stateSize());
+      maxExportLag = Math.max(maxExportLag, load.exportLag());
+    }
+
+    final Map<Integer, Double> scores = new HashMap<>(loads.size());
+    for (final var entry : loads.entrySet()) {
+      final var load = entry.getValue();
+      final double score =
+          processingRateWeight * normalize(load.processingRate(), maxProcessingRate)
+              + stateSizeWeight * normalize(load.stateSize(), maxStateSize)
+              + exportLagWeight * normalize(load.exportLag(), maxExportLag);
+      scores.put(entry.getKey(), score);
+    }
+    return scores;
+  }
+
+  private static double normalize(final double value, final double max) {
+    return max == 0 ? 0 : value / max;
+  }
+}
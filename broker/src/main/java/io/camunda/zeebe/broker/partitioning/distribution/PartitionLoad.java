@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+/**
+ * The observed load of a single partition. It is used to balance the leadership of partitions
+ * across the members, see {@link LeaderBalancer}.
+ *
+ * @param processingRate the number of records processed per second by the partition's leader
+ * @param stateSize the size of the partition's state in bytes
+ * @param exportLag the number of records which were processed but not exported yet
+ */
+public record PartitionLoad(double processingRate, long stateSize, long exportLag) {
+
+  public PartitionLoad {
+    if (processingRate < 0 || stateSize < 0 || exportLag < 0) {
+      throw new IllegalArgumentException(
+          "Expected partition load to be positive, but was processingRate=%f, stateSize=%d, exportLag=%d"
+              .formatted(processingRate, stateSize, exportLag));
+    }
+  }
+}
@@ -12,23 +12,33 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.atomix.utils.concurrent.SingleThreadContext;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
+import io.camunda.zeebe.broker.system.configuration.ExperimentalRaftCfg;
 import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
+import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.CloseHelper;
 
-public final class RaftPartitionFactory {
+public final class RaftPartitionFactory implements CloseableSilently {
   public static final String GROUP_NAME = "raft-partition";
 
   private final BrokerCfg brokerCfg;
+  // group flushers are shared by all partitions stored on the same device
+  private final Map<String, GroupFlusher> groupFlushers = new ConcurrentHashMap<>();
 
   public RaftPartitionFactory(final BrokerCfg brokerCfg) {
     this.brokerCfg = brokerCfg;
@@ -65,7 +75,9 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental(),
+            partitionDirectory));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
@@ -78,6 +90,8 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setMaxAppendBytesPerFollower(
+        brokerCfg.getExperimental().getMaxAppendBytesPerFollowerInBytes());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -91,20 +105,54 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setLeaderLeaseEnabled(
+        brokerCfg.getExperimental().getRaft().isEnableLeaderLease());
+    partitionConfig.setLeaderLeaseClockDrift(
+        brokerCfg.getExperimental().getRaft().getLeaderLeaseClockDrift());
 
     return new RaftPartition(partitionMetadata, partitionConfig, partitionDirectory.toFile());
   }
 
+  @Override
+  public void close() {
+    CloseHelper.closeAll(groupFlushers.values());
+    groupFlushers.clear();
+  }
+
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final FlushConfig config, final ExperimentalCfg experimental, final Path partitionDirectory) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
       return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
     }
 
+    final var raftCfg = experimental.getRaft();
+    if (config.enabled() && config.delayTime().isZero() && raftCfg.isEnableGroupFlush()) {
+      final var groupFlusher = getOrCreateGroupFlusher(partitionDirectory, raftCfg);
+      return threadFactory -> groupFlusher.newFlusher();
+    }
+
     return createFlusherFactory(config);
   }
 
+  private GroupFlusher getOrCreateGroupFlusher(
+      final Path partitionDirectory, final ExperimentalRaftCfg raftCfg) {
+    final String device;
+    try {
+      device = Files.getFileStore(partitionDirectory).name();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return groupFlushers.computeIfAbsent(
+        device,
+        name ->
+            new GroupFlusher(
+                name,
+                new SingleThreadContext("raft-group-flusher-%d"),
+                raftCfg.getGroupFlushDelay()));
+  }
+
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
@@ -47,6 +47,7 @@ import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -90,6 +91,7 @@ public final class ZeebePartitionFactory {
   private final CommandApiService commandApiService;
   private final ClusterServices clusterServices;
   private final ExporterRepository exporterRepository;
+  private final SharedExecutableProcesses sharedExecutableProcesses;
   private final DiskSpaceUsageMonitor diskSpaceUsageMonitor;
   private final AtomixServerTransport gatewayBrokerTransport;
   private final JobStreamer jobStreamer;
@@ -105,6 +107,7 @@ public final class ZeebePartitionFactory {
       final CommandApiService commandApiService,
       final ClusterServices clusterServices,
       final ExporterRepository exporterRepository,
+      final SharedExecutableProcesses sharedExecutableProcesses,
       final DiskSpaceUsageMonitor diskSpaceUsageMonitor,
       final AtomixServerTransport gatewayBrokerTransport,
       final JobStreamer jobStreamer,
@@ -118,6 +121,7 @@ public final class ZeebePartitionFactory {
     this.commandApiService = commandApiService;
     this.clusterServices = clusterServices;
     this.exporterRepository = exporterRepository;
+    this.sharedExecutableProcesses = sharedExecutableProcesses;
     this.diskSpaceUsageMonitor = diskSpaceUsageMonitor;
     this.gatewayBrokerTransport = gatewayBrokerTransport;
     this.jobStreamer = jobStreamer;
@@ -155,6 +159,7 @@ public final class ZeebePartitionFactory {
             stateController,
             typedRecordProcessorsFactory,
             exporterRepository,
+            sharedExecutableProcesses,
             new PartitionProcessingState(raftPartition),
             diskSpaceUsageMonitor,
             gatewayBrokerTransport,
@@ -7,18 +7,18 @@
  */
 package io.camunda.zeebe.broker.partitioning.topology;
 
-import static io.camunda.zeebe.broker.system.configuration.partitioning.Scheme.FIXED;
-
 import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.camunda.zeebe.broker.partitioning.PartitionManagerImpl;
 import io.camunda.zeebe.broker.partitioning.distribution.FixedPartitionDistributor;
 import io.camunda.zeebe.broker.partitioning.distribution.FixedPartitionDistributorBuilder;
+import io.camunda.zeebe.broker.partitioning.distribution.LoadAwarePartitionDistributor;
 import io.camunda.zeebe.broker.partitioning.distribution.RoundRobinPartitionDistributor;
 import io.camunda.zeebe.broker.system.configuration.ClusterCfg;
 import io.camunda.zeebe.broker.system.configuration.PartitioningCfg;
 import io.camunda.zeebe.topology.PartitionDistributor;
 import io.camunda.zeebe.topology.StaticConfiguration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -48,9 +48,21 @@ public final class PartitionDistributionResolver {
   }
 
   private static PartitionDistributor buildPartitionDistributor(final PartitioningCfg config) {
-    return config.getScheme() == FIXED
-        ? buildFixedPartitionDistributor(config)
-        : new RoundRobinPartitionDistributor();
+    return switch (config.getScheme()) {
+      case FIXED -> buildFixedPartitionDistributor(config);
+      case LOAD_AWARE -> buildLoadAwarePartitionDistributor(config);
+      case ROUND_ROBIN -> new RoundRobinPartitionDistributor();
+    };
+  }
+
+  private static LoadAwarePartitionDistributor buildLoadAwarePartitionDistributor(
+      final PartitioningCfg config) {
+    final var partitionWeights = new HashMap<Integer, Double>();
+    for (final var partition : config.getLoadAware()) {
+      partitionWeights.put(partition.getPartitionId(), partition.getWeight());
+    }
+
+    return new LoadAwarePartitionDistributor(partitionWeights);
   }
 
   private static FixedPartitionDistributor buildFixedPartitionDistributor(
@@ -23,6 +23,7 @@ import io.camunda.zeebe.broker.system.configuration.backup.BackupStoreCfg;
 import io.camunda.zeebe.broker.system.configuration.backup.GcsBackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.backup.S3BackupStoreConfig;
 import io.camunda.zeebe.broker.system.configuration.partitioning.FixedPartitionCfg;
+import io.camunda.zeebe.broker.system.configuration.partitioning.LeaderBalancingCfg;
 import io.camunda.zeebe.broker.system.configuration.partitioning.Scheme;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import java.util.Collections;
@@ -86,9 +87,72 @@ public final class SystemContext {
           String.format(MAX_BATCH_SIZE_ERROR_MSG, Integer.MAX_VALUE, maxAppendBatchSize));
     }
 
+    final var raft = experimental.getRaft();
+    if (raft.isEnableLeaderLease()
+        && raft.getLeaderLeaseClockDrift().compareTo(cluster.getElectionTimeout()) >= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected leader lease clock drift to be smaller than the election timeout '%s', "
+                  + "but was '%s'",
+              cluster.getElectionTimeout(), raft.getLeaderLeaseClockDrift()));
+    }
+
     final var partitioningConfig = experimental.getPartitioning();
     if (partitioningConfig.getScheme() == Scheme.FIXED) {
       validateFixedPartitioningScheme(cluster, experimental);
+    } else if (partitioningConfig.getScheme() == Scheme.LOAD_AWARE) {
+      validateLoadAwarePartitioningScheme(cluster, experimental);
+    }
+
+    final var leaderBalancing = partitioningConfig.getLeaderBalancing();
+    if (leaderBalancing.isEnabled()) {
+      validateLeaderBalancing(leaderBalancing);
+    }
+  }
+
+  private void validateLeaderBalancing(final LeaderBalancingCfg leaderBalancing) {
+    final var interval = leaderBalancing.getInterval();
+    if (interval == null || interval.isNegative() || interval.isZero()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected leader balancing interval to be positive, but was '%s'", interval));
+    }
+
+    if (leaderBalancing.getMaxImbalance() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected leader balancing max imbalance to be at least 1, but was %s",
+              leaderBalancing.getMaxImbalance()));
+    }
+
+    if (leaderBalancing.getMaxTransfersPerRound() < 1) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected leader balancing max transfers per round to be at least 1, but was %d",
+              leaderBalancing.getMaxTransfersPerRound()));
+    }
+  }
+
+  private void validateLoadAwarePartitioningScheme(
+      final ClusterCfg cluster, final ExperimentalCfg experimental) {
+    final var partitionsCount = cluster.getPartitionsCount();
+    for (final var partition : experimental.getPartitioning().getLoadAware()) {
+      final var partitionId = partition.getPartitionId();
+      if (partitionId < 1 || partitionId > partitionsCount) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected load aware partition scheme to configure partitions with IDs ranging "
+                    + "from 1 to %d, but partition %d is out of range",
+                partitionsCount, partitionId));
+      }
+
+      if (partition.getWeight() <= 0) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected load aware partition scheme to configure a weight greater than 0, but "
+                    + "partition %d has weight %s",
+                partitionId, partition.getWeight()));
+      }
     }
   }
 
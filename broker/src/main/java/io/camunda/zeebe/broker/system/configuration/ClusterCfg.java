@@ -12,9 +12,13 @@ import static io.camunda.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static io.camunda.zeebe.util.StringUtil.LIST_SANITIZER;
 
 import io.atomix.cluster.messaging.MessagingConfig.CompressionAlgorithm;
+import io.atomix.cluster.messaging.MessagingConfig.TrafficClass;
+import io.atomix.cluster.messaging.MessagingConfig.TransportMode;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -40,6 +44,7 @@ public final class ClusterCfg implements ConfigurationEntry {
           + " quorum = {}. If you want to ensure high fault-tolerance and availability,"
           + " make sure to use an odd replication factor.";
   private static final Duration DEFAULT_HEARTBEAT_INTERVAL = Duration.ofMillis(250);
+  private static final int DEFAULT_MESSAGING_FLUSH_CONSOLIDATION = 256;
 
   private List<String> initialContactPoints = DEFAULT_CONTACT_POINTS;
 
@@ -54,6 +59,11 @@ public final class ClusterCfg implements ConfigurationEntry {
   private MembershipCfg membership = new MembershipCfg();
   private RaftCfg raft = new RaftCfg();
   private CompressionAlgorithm messageCompression = CompressionAlgorithm.NONE;
+  private TransportMode messagingTransport = TransportMode.AUTO;
+  private int messagingFlushConsolidation = DEFAULT_MESSAGING_FLUSH_CONSOLIDATION;
+  private Map<TrafficClass, TrafficClassCfg> messagingTrafficClasses =
+      new EnumMap<>(TrafficClass.class);
+  private String messageCompressionDictionary;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -191,6 +201,39 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.messageCompression = messageCompression;
   }
 
+  public String getMessageCompressionDictionary() {
+    return messageCompressionDictionary;
+  }
+
+  public void setMessageCompressionDictionary(final String messageCompressionDictionary) {
+    this.messageCompressionDictionary = messageCompressionDictionary;
+  }
+
+  public TransportMode getMessagingTransport() {
+    return messagingTransport;
+  }
+
+  public void setMessagingTransport(final TransportMode messagingTransport) {
+    this.messagingTransport = messagingTransport;
+  }
+
+  public int getMessagingFlushConsolidation() {
+    return messagingFlushConsolidation;
+  }
+
+  public void setMessagingFlushConsolidation(final int messagingFlushConsolidation) {
+    this.messagingFlushConsolidation = messagingFlushConsolidation;
+  }
+
+  public Map<TrafficClass, TrafficClassCfg> getMessagingTrafficClasses() {
+    return messagingTrafficClasses;
+  }
+
+  public void setMessagingTrafficClasses(
+      final Map<TrafficClass, TrafficClassCfg> messagingTrafficClasses) {
+    this.messagingTrafficClasses = messagingTrafficClasses;
+  }
+
   @Override
   public String toString() {
     return "ClusterCfg{"
@@ -219,6 +262,27 @@ public final class ClusterCfg implements ConfigurationEntry {
         + raft
         + ", messageCompression="
         + messageCompression
+        + ", messageCompressionDictionary='"
+        + messageCompressionDictionary
+        + '\''
+        + ", messagingTransport="
+        + messagingTransport
+        + ", messagingFlushConsolidation="
+        + messagingFlushConsolidation
+        + ", messagingTrafficClasses="
+        + messagingTrafficClasses
         + '}';
   }
+
+  /**
+   * Overrides the messaging settings of a traffic class; settings which are not set keep their
+   * defaults.
+   *
+   * @param connections the number of connections to each remote node, or 0 to share the connections
+   *     of the default traffic class
+   * @param typeOfService the IP type of service set on the connections, between 0 and 255
+   * @param compression the compression algorithm proposed for the connections
+   */
+  public record TrafficClassCfg(
+      Integer connections, Integer typeOfService, CompressionAlgorithm compression) {}
 }
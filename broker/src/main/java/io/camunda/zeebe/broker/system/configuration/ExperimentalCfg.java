@@ -19,17 +19,22 @@ import org.springframework.util.unit.DataSize;
  */
 public class ExperimentalCfg implements ConfigurationEntry {
 
-  public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+  public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 8;
+  public static final DataSize DEFAULT_MAX_APPEND_BYTES_PER_FOLLOWER = DataSize.ofMegabytes(1);
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_EXPORT_ON_FOLLOWER = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+  private DataSize maxAppendBytesPerFollower = DEFAULT_MAX_APPEND_BYTES_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private boolean exportOnFollower = DEFAULT_EXPORT_ON_FOLLOWER;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
   private QueryApiCfg queryApi = new QueryApiCfg();
+  private JobStreamCfg jobStream = new JobStreamCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
 
@@ -50,6 +55,20 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.maxAppendsPerFollower = maxAppendsPerFollower;
   }
 
+  public DataSize getMaxAppendBytesPerFollower() {
+    return maxAppendBytesPerFollower;
+  }
+
+  public void setMaxAppendBytesPerFollower(final DataSize maxAppendBytesPerFollower) {
+    this.maxAppendBytesPerFollower = maxAppendBytesPerFollower;
+  }
+
+  public long getMaxAppendBytesPerFollowerInBytes() {
+    return Optional.ofNullable(maxAppendBytesPerFollower)
+        .orElse(DEFAULT_MAX_APPEND_BYTES_PER_FOLLOWER)
+        .toBytes();
+  }
+
   public DataSize getMaxAppendBatchSize() {
     return maxAppendBatchSize;
   }
@@ -113,6 +132,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.queryApi = queryApi;
   }
 
+  public JobStreamCfg getJobStream() {
+    return jobStream;
+  }
+
+  public void setJobStream(final JobStreamCfg jobStream) {
+    this.jobStream = jobStream;
+  }
+
   public ConsistencyCheckCfg getConsistencyChecks() {
     return consistencyChecks;
   }
@@ -129,6 +156,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.engine = engine;
   }
 
+  public boolean isExportOnFollower() {
+    return exportOnFollower;
+  }
+
+  public void setExportOnFollower(final boolean exportOnFollower) {
+    this.exportOnFollower = exportOnFollower;
+  }
+
   public FeatureFlagsCfg getFeatures() {
     return features;
   }
@@ -142,16 +177,22 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return "ExperimentalCfg{"
         + "maxAppendsPerFollower="
         + maxAppendsPerFollower
+        + ", maxAppendBytesPerFollower="
+        + maxAppendBytesPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", exportOnFollower="
+        + exportOnFollower
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
         + partitioning
         + ", queryApi="
         + queryApi
+        + ", jobStream="
+        + jobStream
         + ", consistencyChecks="
         + consistencyChecks
         + ", engineCfg="
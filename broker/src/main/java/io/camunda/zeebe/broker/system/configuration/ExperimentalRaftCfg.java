@@ -21,6 +21,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_ENABLE_GROUP_FLUSH = false;
+  private static final Duration DEFAULT_GROUP_FLUSH_DELAY = Duration.ofMillis(1);
+  private static final boolean DEFAULT_ENABLE_LEADER_LEASE = false;
+  private static final Duration DEFAULT_LEADER_LEASE_CLOCK_DRIFT = Duration.ofMillis(500);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
@@ -28,6 +32,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean enableGroupFlush = DEFAULT_ENABLE_GROUP_FLUSH;
+  private Duration groupFlushDelay = DEFAULT_GROUP_FLUSH_DELAY;
+  private boolean enableLeaderLease = DEFAULT_ENABLE_LEADER_LEASE;
+  private Duration leaderLeaseClockDrift = DEFAULT_LEADER_LEASE_CLOCK_DRIFT;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -76,4 +84,36 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isEnableGroupFlush() {
+    return enableGroupFlush;
+  }
+
+  public void setEnableGroupFlush(final boolean enableGroupFlush) {
+    this.enableGroupFlush = enableGroupFlush;
+  }
+
+  public Duration getGroupFlushDelay() {
+    return groupFlushDelay;
+  }
+
+  public void setGroupFlushDelay(final Duration groupFlushDelay) {
+    this.groupFlushDelay = groupFlushDelay;
+  }
+
+  public boolean isEnableLeaderLease() {
+    return enableLeaderLease;
+  }
+
+  public void setEnableLeaderLease(final boolean enableLeaderLease) {
+    this.enableLeaderLease = enableLeaderLease;
+  }
+
+  public Duration getLeaderLeaseClockDrift() {
+    return leaderLeaseClockDrift;
+  }
+
+  public void setLeaderLeaseClockDrift(final Duration leaderLeaseClockDrift) {
+    this.leaderLeaseClockDrift = leaderLeaseClockDrift;
+  }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.transport.stream.api.ConsumerSelection;
+
+public final class JobStreamCfg {
+  public static final ConsumerSelection DEFAULT_CONSUMER_SELECTION =
+      ConsumerSelection.LEAST_OUTSTANDING;
+
+  private ConsumerSelection consumerSelection = DEFAULT_CONSUMER_SELECTION;
+
+  public ConsumerSelection getConsumerSelection() {
+    return consumerSelection;
+  }
+
+  public void setConsumerSelection(final ConsumerSelection consumerSelection) {
+    this.consumerSelection = consumerSelection;
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{" + "consumerSelection=" + consumerSelection + '}';
+  }
+}
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.broker.system.configuration.partitioning.FixedPartitionCfg;
+import io.camunda.zeebe.broker.system.configuration.partitioning.LeaderBalancingCfg;
+import io.camunda.zeebe.broker.system.configuration.partitioning.LoadAwarePartitionCfg;
 import io.camunda.zeebe.broker.system.configuration.partitioning.Scheme;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +24,13 @@ import java.util.List;
  * under {@link #fixed}. This map takes keys as the broker node IDs, with values as a list of
  * partition IDs. The mapping must be exhaustive, meaning all brokers should appear, and all
  * partitions should be specified with the appropriate replication factor.
+ *
+ * <p>When using {@link Scheme#LOAD_AWARE}, partitions are replicated as with {@link
+ * Scheme#ROUND_ROBIN}, but the priorities are assigned based on the expected relative load of each
+ * partition, which can be specified under {@link #loadAware}.
+ *
+ * <p>Independent of the scheme, the leadership of partitions can be balanced at runtime based on
+ * their observed load, which is configured under {@link #leaderBalancing}.
  */
 public final class PartitioningCfg {
 
@@ -34,6 +43,8 @@ public final class PartitioningCfg {
 
   private Scheme scheme = DEFAULT_SCHEME;
   private List<FixedPartitionCfg> fixed = new ArrayList<>();
+  private List<LoadAwarePartitionCfg> loadAware = new ArrayList<>();
+  private LeaderBalancingCfg leaderBalancing = new LeaderBalancingCfg();
 
   public Scheme getScheme() {
     return scheme;
@@ -51,8 +62,33 @@ public final class PartitioningCfg {
     this.fixed = fixed;
   }
 
+  public List<LoadAwarePartitionCfg> getLoadAware() {
+    return loadAware;
+  }
+
+  public void setLoadAware(final List<LoadAwarePartitionCfg> loadAware) {
+    this.loadAware = loadAware;
+  }
+
+  public LeaderBalancingCfg getLeaderBalancing() {
+    return leaderBalancing;
+  }
+
+  public void setLeaderBalancing(final LeaderBalancingCfg leaderBalancing) {
+    this.leaderBalancing = leaderBalancing;
+  }
+
   @Override
   public String toString() {
-    return "PartitioningCfg{" + "scheme=" + scheme + ", fixed=" + fixed + '}';
+    return "PartitioningCfg{"
+        + "scheme="
+        + scheme
+        + ", fixed="
+        + fixed
+        + ", loadAware="
+        + loadAware
+        + ", leaderBalancing="
+        + leaderBalancing
+        + '}';
   }
 }
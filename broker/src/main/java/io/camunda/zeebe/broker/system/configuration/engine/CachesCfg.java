@@ -9,9 +9,12 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private DataSize processCacheCapacity =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -21,8 +24,21 @@ public final class CachesCfg implements ConfigurationEntry {
     this.drgCacheCapacity = drgCacheCapacity;
   }
 
+  public DataSize getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public void setProcessCacheCapacity(final DataSize processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+  }
+
   @Override
   public String toString() {
-    return "CachesCfg{" + "drgCacheCapacity=" + drgCacheCapacity + '}';
+    return "CachesCfg{"
+        + "drgCacheCapacity="
+        + drgCacheCapacity
+        + ", processCacheCapacity="
+        + processCacheCapacity
+        + '}';
   }
 }
@@ -47,6 +47,7 @@ public final class EngineCfg implements ConfigurationEntry {
     return new EngineConfiguration()
         .setMessagesTtlCheckerBatchLimit(messages.getTtlCheckerBatchLimit())
         .setMessagesTtlCheckerInterval(messages.getTtlCheckerInterval())
-        .setDrgCacheCapacity(caches.getDrgCacheCapacity());
+        .setDrgCacheCapacity(caches.getDrgCacheCapacity())
+        .setProcessCacheCapacity(caches.getProcessCacheCapacity().toBytes());
   }
 }
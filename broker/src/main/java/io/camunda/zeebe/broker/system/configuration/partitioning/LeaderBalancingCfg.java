@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.partitioning;
+
+import java.time.Duration;
+
+/**
+ * Bean configuration for the load-driven leader balancing. When enabled, each broker periodically
+ * publishes the observed load of the partitions it leads, and the leadership of partitions is moved
+ * from the most loaded brokers to other replicas, a few partitions at a time.
+ */
+public final class LeaderBalancingCfg {
+
+  private static final boolean DEFAULT_ENABLED = false;
+
+  /**
+   * The default interval gives a leader enough time to settle after a transfer, so that the load
+   * observed in the next round already reflects the previous transfers.
+   */
+  private static final Duration DEFAULT_INTERVAL = Duration.ofMinutes(5);
+
+  /** The default allows the most loaded broker to have 20% more load than the mean. */
+  private static final double DEFAULT_MAX_IMBALANCE = 1.2;
+
+  /**
+   * Each transfer interrupts processing on the partition until the new leader is ready, so by
+   * default only one partition is moved per round.
+   */
+  private static final int DEFAULT_MAX_TRANSFERS_PER_ROUND = 1;
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private Duration interval = DEFAULT_INTERVAL;
+  private double maxImbalance = DEFAULT_MAX_IMBALANCE;
+  private int maxTransfersPerRound = DEFAULT_MAX_TRANSFERS_PER_ROUND;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getInterval() {
+    return interval;
+  }
+
+  public void setInterval(final Duration interval) {
+    this.interval = interval;
+  }
+
+  public double getMaxImbalance() {
+    return maxImbalance;
+  }
+
+  public void setMaxImbalance(final double maxImbalance) {
+    this.maxImbalance = maxImbalance;
+  }
+
+  public int getMaxTransfersPerRound() {
+    return maxTransfersPerRound;
+  }
+
+  public void setMaxTransfersPerRound(final int maxTransfersPerRound) {
+    this.maxTransfersPerRound = maxTransfersPerRound;
+  }
+
+  @Override
+  public String toString() {
+    return "LeaderBalancingCfg{"
+        + "enabled="
+        + enabled
+        + ", interval="
+        + interval
+        + ", maxImbalance="
+        + maxImbalance
+        + ", maxTransfersPerRound="
+        + maxTransfersPerRound
+        + '}';
+  }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.partitioning;
+
+/**
+ * Bean configuration for the {@link Scheme#LOAD_AWARE} partitioning scheme. Allows users to define
+ * the expected relative load of the partition with the given {@link #partitionId}. Partitions which
+ * are not configured have a weight of 1.
+ */
+public final class LoadAwarePartitionCfg {
+
+  /**
+   * The default partition ID is 1, taken from the single node, single partition deployment commonly
+   * used for development.
+   */
+  private static final int DEFAULT_PARTITION_ID = 1;
+
+  /** The default weight is 1, which is the same as the weight of partitions not configured. */
+  private static final double DEFAULT_WEIGHT = 1.0;
+
+  private int partitionId = DEFAULT_PARTITION_ID;
+  private double weight = DEFAULT_WEIGHT;
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public void setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  public double getWeight() {
+    return weight;
+  }
+
+  public void setWeight(final double weight) {
+    this.weight = weight;
+  }
+
+  @Override
+  public String toString() {
+    return "LoadAwarePartitionCfg{" + "partitionId=" + partitionId + ", weight=" + weight + '}';
+  }
+}
@@ -9,5 +9,6 @@ package io.camunda.zeebe.broker.system.configuration.partitioning;
 
 public enum Scheme {
   FIXED,
-  ROUND_ROBIN;
+  ROUND_ROBIN,
+  LOAD_AWARE;
 }
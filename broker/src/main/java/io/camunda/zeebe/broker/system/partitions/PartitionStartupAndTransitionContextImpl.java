@@ -32,6 +32,7 @@ import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSende
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -74,6 +75,7 @@ public class PartitionStartupAndTransitionContextImpl
   private final Integer partitionId;
   private final int maxFragmentSize;
   private final ExporterRepository exporterRepository;
+  private final SharedExecutableProcesses sharedExecutableProcesses;
   private final PartitionProcessingState partitionProcessingState;
   private final DiskSpaceUsageMonitor diskSpaceUsageMonitor;
   private final StateController stateController;
@@ -116,6 +118,7 @@ public class PartitionStartupAndTransitionContextImpl
       final StateController stateController,
       final TypedRecordProcessorsFactory typedRecordProcessorsFactory,
       final ExporterRepository exporterRepository,
+      final SharedExecutableProcesses sharedExecutableProcesses,
       final PartitionProcessingState partitionProcessingState,
       final DiskSpaceUsageMonitor diskSpaceUsageMonitor,
       final AtomixServerTransport gatewayBrokerTransport,
@@ -136,6 +139,7 @@ public class PartitionStartupAndTransitionContextImpl
     this.actorSchedulingService = actorSchedulingService;
     maxFragmentSize = (int) brokerCfg.getNetwork().getMaxMessageSizeInBytes();
     this.exporterRepository = exporterRepository;
+    this.sharedExecutableProcesses = sharedExecutableProcesses;
     this.partitionProcessingState = partitionProcessingState;
     this.diskSpaceUsageMonitor = diskSpaceUsageMonitor;
     this.gatewayBrokerTransport = gatewayBrokerTransport;
@@ -509,6 +513,11 @@ public class PartitionStartupAndTransitionContextImpl
     return exporterRepository;
   }
 
+  @Override
+  public SharedExecutableProcesses getSharedExecutableProcesses() {
+    return sharedExecutableProcesses;
+  }
+
   @Override
   public String toString() {
     return "PartitionStartupAndTransitionContextImpl{"
@@ -25,6 +25,7 @@ import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSende
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -105,6 +106,8 @@ public interface PartitionTransitionContext extends PartitionContext {
 
   BrokerCfg getBrokerCfg();
 
+  SharedExecutableProcesses getSharedExecutableProcesses();
+
   QueryService getQueryService();
 
   void setQueryService(QueryService queryService);
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.broker.system.partitions.impl.steps;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
@@ -18,6 +20,8 @@ import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Optional;
 
 public final class ExporterDirectorPartitionTransitionStep implements PartitionTransitionStep {
 
@@ -82,8 +86,7 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
       final PartitionTransitionContext context, final Role targetRole) {
     final Collection<ExporterDescriptor> exporterDescriptors = context.getExportedDescriptors();
 
-    final ExporterMode exporterMode =
-        targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
+    final ExporterMode exporterMode = exporterMode(context, targetRole);
     final ExporterDirectorContext exporterCtx =
         new ExporterDirectorContext()
             .id(EXPORTER_PROCESSOR_ID)
@@ -113,4 +116,47 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
         });
     return startFuture;
   }
+
+  /**
+   * By default, only the leader exports. If exporting on followers is enabled, the designated
+   * exporter of the partition exports instead, whatever its role, reading only committed records;
+   * all other members, including the leader when it is not the designated exporter, consume the
+   * exporter positions it distributes, which bound the log compaction as usual.
+   */
+  private ExporterMode exporterMode(
+      final PartitionTransitionContext context, final Role targetRole) {
+    final var brokerCfg = context.getBrokerCfg();
+    if (brokerCfg == null || !brokerCfg.getExperimental().isExportOnFollower()) {
+      return targetRole == Role.LEADER ? ExporterMode.ACTIVE : ExporterMode.PASSIVE;
+    }
+
+    final var localMember = MemberId.from(String.valueOf(context.getNodeId()));
+    final var designatedExporter =
+        Optional.ofNullable(context.getRaftPartition().getMetadata())
+            .flatMap(ExporterDirectorPartitionTransitionStep::getDesignatedExporter);
+    return designatedExporter.map(localMember::equals).orElse(targetRole == Role.LEADER)
+        ? ExporterMode.ACTIVE
+        : ExporterMode.PASSIVE;
+  }
+
+  /**
+   * Returns the member which should export the partition when exporting on followers is enabled:
+   * the member with the highest priority, excluding the primary, which is the preferred leader.
+   * Ties are broken by member id, such that all members agree on the designated exporter without
+   * any coordination. If the partition has a single member, it is the designated exporter.
+   */
+  static Optional<MemberId> getDesignatedExporter(final PartitionMetadata metadata) {
+    final var members = metadata.members();
+    if (members.size() == 1) {
+      return members.stream().findFirst();
+    }
+
+    final var primary = metadata.getPrimary();
+    return members.stream()
+        .filter(member -> primary.map(p -> !p.equals(member)).orElse(true))
+        .min(
+            Comparator.<MemberId>comparingInt(metadata::getPriority)
+                .reversed()
+                .thenComparing(MemberId::id));
+  }
 }
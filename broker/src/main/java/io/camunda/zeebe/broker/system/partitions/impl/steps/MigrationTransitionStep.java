@@ -45,13 +45,22 @@ public class MigrationTransitionStep implements PartitionTransitionStep {
             new DbKeyGenerator(context.getPartitionId(), zeebeDb, zeebeDbContext),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
-            context.getBrokerCfg().getExperimental().getEngine().createEngineConfiguration());
+            context
+                .getBrokerCfg()
+                .getExperimental()
+                .getEngine()
+                .createEngineConfiguration()
+                .setSharedExecutableProcesses(context.getSharedExecutableProcesses())
+                .forAuxiliaryState());
 
     final var dbMigrator = new DbMigratorImpl(processingState, zeebeDbContext);
     try {
       dbMigrator.runMigrations();
     } catch (final Exception e) {
       return CompletableActorFuture.completedExceptionally(e);
+    } finally {
+      // releases the executable processes, which are shared with the other partitions
+      processingState.getProcessState().clearCache();
     }
     return CompletableActorFuture.completed(null);
   }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
+import io.camunda.zeebe.broker.transport.queryapi.LeaderLeaseQueryService;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.query.StateQueryService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -44,8 +45,14 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
     if (targetRole != Role.INACTIVE
         && (currentRole == Role.LEADER || context.getQueryService() == null)) {
       try {
-        final var service = new StateQueryService(context.getZeebeDb());
-        context.setQueryService(service);
+        final QueryService service = new StateQueryService(context.getZeebeDb());
+        if (context.getBrokerCfg().getExperimental().getRaft().isEnableLeaderLease()) {
+          final var raftServer = context.getRaftPartition().getServer();
+          context.setQueryService(
+              new LeaderLeaseQueryService(service, raftServer::hasValidLeaderLease));
+        } else {
+          context.setQueryService(service);
+        }
         return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
         return CompletableActorFuture.completedExceptionally(e);
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.queryapi;
+
+import io.camunda.zeebe.engine.state.QueryService;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import org.agrona.DirectBuffer;
+
+/**
+ * Answers queries from the local state only while the leader holds a valid lease. Without a lease,
+ * a leader which was partitioned away may not know yet that another leader was elected, and could
+ * answer with stale data. In that case the query is rejected as if the service was closed, which
+ * lets the client retry on the current leader.
+ */
+@SuppressWarnings("removal")
+public final class LeaderLeaseQueryService implements QueryService {
+  private final QueryService delegate;
+  private final BooleanSupplier hasValidLease;
+
+  public LeaderLeaseQueryService(final QueryService delegate, final BooleanSupplier hasValidLease) {
+    this.delegate = delegate;
+    this.hasValidLease = hasValidLease;
+  }
+
+  @Override
+  public Optional<DirectBuffer> getBpmnProcessIdForProcess(final long processKey) {
+    ensureValidLease();
+    return delegate.getBpmnProcessIdForProcess(processKey);
+  }
+
+  @Override
+  public Optional<DirectBuffer> getBpmnProcessIdForProcessInstance(final long processInstanceKey) {
+    ensureValidLease();
+    return delegate.getBpmnProcessIdForProcessInstance(processInstanceKey);
+  }
+
+  @Override
+  public Optional<DirectBuffer> getBpmnProcessIdForJob(final long jobKey) {
+    ensureValidLease();
+    return delegate.getBpmnProcessIdForJob(jobKey);
+  }
+
+  @Override
+  public void close() throws Exception {
+    delegate.close();
+  }
+
+  private void ensureValidLease() {
+    if (!hasValidLease.getAsBoolean()) {
+      throw new ClosedServiceException();
+    }
+  }
+}
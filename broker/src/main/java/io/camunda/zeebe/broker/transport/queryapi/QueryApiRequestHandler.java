@@ -105,7 +105,8 @@ public final class QueryApiRequestHandler
           errorWriter);
     } catch (final ClosedServiceException e) {
       Loggers.TRANSPORT_LOGGER.debug(
-          "Failed to handle query on partition {} as the query service was closed concurrently",
+          "Failed to handle query on partition {} as the query service was closed concurrently"
+              + " or the leader lease expired",
           partitionId,
           e);
       errorWriter.partitionLeaderMismatch(partitionId);
@@ -138,6 +138,21 @@ public final class RaftPartitionFactoryTest {
     assertThat(partition.getPartitionConfig().getMaxAppendsPerFollower()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldSetMaxAppendBytesPerFollower() {
+    // given
+    final DataSize expected = DataSize.ofKilobytes(512);
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().setMaxAppendBytesPerFollower(expected);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxAppendBytesPerFollower())
+        .isEqualTo(expected.toBytes());
+  }
+
   @Test
   void shouldEnablePriorityElection() {
     // given
@@ -193,14 +208,29 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @Test
+  void shouldUseGroupFlusherWhenEnabled() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setEnableGroupFlush(true);
+
+    // when
+    try (final var factory = new RaftPartitionFactory(brokerCfg)) {
+      final var partition = factory.createRaftPartition(partitionMetadata());
+      final var flusher =
+          partition.getPartitionConfig().getStorageConfig().flusherFactory().createFlusher(null);
+
+      // then
+      assertThat(flusher.isAsync()).isTrue();
+    }
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
-    return new RaftPartitionFactory(brokerCfg)
-        .createRaftPartition(
-            new PartitionMetadata(
-                PartitionId.from("test", 1),
-                Set.of(MemberId.from("1")),
-                Map.of(),
-                1,
-                MemberId.from("1")));
+    return new RaftPartitionFactory(brokerCfg).createRaftPartition(partitionMetadata());
+  }
+
+  private PartitionMetadata partitionMetadata() {
+    return new PartitionMetadata(
+        PartitionId.from("test", 1), Set.of(MemberId.from("1")), Map.of(), 1, MemberId.from("1"));
   }
 }
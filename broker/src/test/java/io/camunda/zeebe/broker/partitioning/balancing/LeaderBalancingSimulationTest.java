@@ -0,0 +1,373 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.balancing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import io.camunda.zeebe.broker.partitioning.distribution.LeaderBalancer;
+import io.camunda.zeebe.broker.partitioning.distribution.LeadershipTransfer;
+import io.camunda.zeebe.broker.partitioning.distribution.LoadModel;
+import io.camunda.zeebe.broker.partitioning.distribution.PartitionLoad;
+import io.camunda.zeebe.broker.partitioning.distribution.RoundRobinPartitionDistributor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Simulates leader balancing in a cluster, as executed by the {@link LeaderBalancingService} of
+ * each member. Each round, every member plans with the loads which all members published in the
+ * previous round, and executes the transfers to itself; a transfer starts a new term of the
+ * partition. Afterwards, every member publishes the load of the partitions it leads. Like the
+ * {@link PartitionLoadObserver}, a new leader only publishes the load of a partition from its
+ * second round as leader on, as the processing rate is measured between two observations.
+ */
+final class LeaderBalancingSimulationTest {
+
+  private static final double MAX_IMBALANCE = 1.2;
+  private static final int MAX_TRANSFERS_PER_ROUND = 2;
+  private static final int MAX_ROUNDS = 100;
+  private static final int NO_FAILOVER = -1;
+
+  private final LeaderBalancingRound round =
+      new LeaderBalancingRound(
+          new LeaderBalancer(MAX_IMBALANCE, MAX_TRANSFERS_PER_ROUND), LoadModel.DEFAULT);
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("scenarios")
+  void shouldBalanceLeaders(final Scenario scenario) {
+    // given
+    final var cluster = new SimulatedCluster(scenario);
+
+    // when
+    final var result = cluster.run();
+
+    // then
+    assertThat(result.rounds()).isLessThan(MAX_ROUNDS);
+    assertThat(result.transfersPerRound())
+        .allSatisfy(
+            transfers ->
+                assertThat(transfers)
+                    .hasSizeLessThanOrEqualTo(MAX_TRANSFERS_PER_ROUND)
+                    .extracting(LeadershipTransfer::partitionId)
+                    .doesNotHaveDuplicates());
+    assertThat(result.outdatedTransfers()).isEmpty();
+    assertThat(cluster.imbalance())
+        .describedAs("Imbalance before balancing was %f", result.initialImbalance())
+        .isLessThanOrEqualTo(Math.max(MAX_IMBALANCE, cluster.lowestPossibleImbalance()));
+  }
+
+  @Test
+  void shouldOnlyExecuteTransfersToLocalMember() {
+    // given - member 0 leads all partitions
+    final var partitions = roundRobin(3, 6, 3);
+    final var leader = MemberId.from("0");
+    final var loads =
+        partitions.stream()
+            .map(p -> new LeaderLoad(p.id().id(), 1, leader, new PartitionLoad(100, 0, 0)))
+            .toList();
+
+    // when
+    final Map<MemberId, List<LeadershipTransfer>> transfers = new HashMap<>();
+    members(3)
+        .forEach(
+            member ->
+                transfers.put(
+                    member, round.transfersTo(member, partitions, loads, partitionId -> 1)));
+
+    // then
+    assertThat(transfers.get(leader)).isEmpty();
+    transfers.forEach(
+        (member, memberTransfers) ->
+            assertThat(memberTransfers).allSatisfy(t -> assertThat(t.to()).isEqualTo(member)));
+    assertThat(transfers.values().stream().mapToInt(List::size).sum())
+        .isEqualTo(MAX_TRANSFERS_PER_ROUND);
+  }
+
+  @Test
+  void shouldNotTransferIfPartitionHasNewLeader() {
+    // given - member 0 published the loads of term 1, but all partitions have a new term since
+    final var partitions = roundRobin(3, 6, 3);
+    final var leader = MemberId.from("0");
+    final var loads =
+        partitions.stream()
+            .map(p -> new LeaderLoad(p.id().id(), 1, leader, new PartitionLoad(100, 0, 0)))
+            .toList();
+
+    // when
+    final var transfers =
+        members(3).stream()
+            .flatMap(
+                member -> round.transfersTo(member, partitions, loads, partitionId -> 2).stream())
+            .toList();
+
+    // then
+    assertThat(transfers).isEmpty();
+  }
+
+  @Test
+  void shouldPlanWithLoadOfLatestTerm() {
+    // given - member 0 still publishes partition 1, which member 1 leads in a newer term
+    final var partitions = roundRobin(2, 2, 2);
+    final var member0 = MemberId.from("0");
+    final var member1 = MemberId.from("1");
+    final var loads =
+        List.of(
+            new LeaderLoad(1, 1, member0, new PartitionLoad(100, 0, 0)),
+            new LeaderLoad(1, 2, member1, new PartitionLoad(100, 0, 0)),
+            new LeaderLoad(2, 1, member1, new PartitionLoad(100, 0, 0)));
+
+    // when
+    final var transfers =
+        round.transfersTo(member0, partitions, loads, partitionId -> partitionId == 1 ? 2 : 1);
+
+    // then - member 1 leads both partitions, so one is moved to member 0
+    assertThat(transfers).hasSize(1);
+    assertThat(transfers.get(0).from()).isEqualTo(member1);
+  }
+
+  private static Stream<Arguments> scenarios() {
+    return Stream.of(
+        Arguments.of(
+            Named.of(
+                "uniform load, leaders on one member",
+                new Scenario(5, 30, 3, partitionId -> new PartitionLoad(100, 0, 0), NO_FAILOVER))),
+        Arguments.of(
+            Named.of(
+                "skewed load, leaders on one member",
+                new Scenario(
+                    6,
+                    48,
+                    3,
+                    partitionId ->
+                        new PartitionLoad(
+                            1000.0 / partitionId, partitionId * 1024L * 1024, partitionId * 10L),
+                    NO_FAILOVER))),
+        Arguments.of(
+            Named.of(
+                "one hot partition, leaders on one member",
+                new Scenario(
+                    4,
+                    16,
+                    3,
+                    partitionId -> new PartitionLoad(partitionId == 1 ? 1000 : 100, 0, 0),
+                    NO_FAILOVER))),
+        Arguments.of(
+            Named.of(
+                "uniform load, leaders on one member which fails over after a few rounds",
+                new Scenario(5, 30, 3, partitionId -> new PartitionLoad(100, 0, 0), 4))));
+  }
+
+  private static List<MemberId> members(final int clusterSize) {
+    return IntStream.range(0, clusterSize).mapToObj(i -> MemberId.from(String.valueOf(i))).toList();
+  }
+
+  private static List<PartitionMetadata> roundRobin(
+      final int clusterSize, final int partitionCount, final int replicationFactor) {
+    final var partitionIds =
+        IntStream.rangeClosed(1, partitionCount)
+            .mapToObj(i -> PartitionId.from("test", i))
+            .toList();
+    return new RoundRobinPartitionDistributor()
+            .distributePartitions(Set.copyOf(members(clusterSize)), partitionIds, replicationFactor)
+            .stream()
+            .sorted((left, right) -> Integer.compare(left.id().id(), right.id().id()))
+            .toList();
+  }
+
+  /**
+   * A synthetic cluster, in which all leaders start on the lowest member of each partition.
+   *
+   * @param failoverRound the round before which member 0 loses the leadership of all its partitions
+   *     to another replica, or {@link #NO_FAILOVER}
+   */
+  private record Scenario(
+      int clusterSize,
+      int partitionCount,
+      int replicationFactor,
+      IntFunction<PartitionLoad> load,
+      int failoverRound) {}
+
+  private record SimulationResult(
+      int rounds,
+      double initialImbalance,
+      List<List<LeadershipTransfer>> transfersPerRound,
+      List<LeadershipTransfer> outdatedTransfers) {}
+
+  private final class SimulatedCluster {
+    private final Scenario scenario;
+    private final List<MemberId> members;
+    private final Map<Integer, PartitionMetadata> partitions = new HashMap<>();
+    private final Map<Integer, PartitionLoad> loads = new HashMap<>();
+    private final Map<Integer, MemberId> leaders = new HashMap<>();
+    private final Map<Integer, Long> terms = new HashMap<>();
+    private final Map<MemberId, Properties> properties = new HashMap<>();
+    // the term in which a member observed a partition as leader in the previous round
+    private final Map<MemberId, Map<Integer, Long>> observedTerms = new HashMap<>();
+
+    private SimulatedCluster(final Scenario scenario) {
+      this.scenario = scenario;
+      members = members(scenario.clusterSize());
+      roundRobin(scenario.clusterSize(), scenario.partitionCount(), scenario.replicationFactor())
+          .forEach(
+              metadata -> {
+                final var partitionId = metadata.id().id();
+                partitions.put(partitionId, metadata);
+                loads.put(partitionId, scenario.load().apply(partitionId));
+                leaders.put(
+                    partitionId,
+                    metadata.members().stream().min(MemberId::compareTo).orElseThrow());
+                terms.put(partitionId, 1L);
+              });
+      members.forEach(
+          member -> {
+            properties.put(member, new Properties());
+            observedTerms.put(member, new HashMap<>());
+          });
+    }
+
+    SimulationResult run() {
+      final double initialImbalance = imbalance();
+      final List<List<LeadershipTransfer>> transfersPerRound = new ArrayList<>();
+      final List<LeadershipTransfer> outdatedTransfers = new ArrayList<>();
+
+      int rounds = 0;
+      boolean settled = false;
+      while (!settled && rounds < MAX_ROUNDS) {
+        rounds++;
+        if (rounds == scenario.failoverRound()) {
+          failover(members.get(0));
+        }
+
+        // the cluster is settled once no transfers are planned with the loads of all partitions
+        final var allLoadsPublished = allLoadsPublished();
+        final var transfers = planTransfers();
+        for (final var transfer : transfers) {
+          if (!transfer.from().equals(leaders.get(transfer.partitionId()))) {
+            outdatedTransfers.add(transfer);
+          }
+          leaders.put(transfer.partitionId(), transfer.to());
+          terms.merge(transfer.partitionId(), 1L, Long::sum);
+        }
+        transfersPerRound.add(transfers);
+        members.forEach(this::observeAndPublish);
+
+        settled = transfers.isEmpty() && allLoadsPublished;
+      }
+
+      return new SimulationResult(rounds, initialImbalance, transfersPerRound, outdatedTransfers);
+    }
+
+    double imbalance() {
+      final var memberLoads =
+          LeaderBalancer.memberLoads(partitions.values(), leaders, LoadModel.DEFAULT.score(loads));
+      final double max =
+          memberLoads.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+      final double mean =
+          memberLoads.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+      return mean == 0 ? 1 : max / mean;
+    }
+
+    /**
+     * A single partition can only be led by one member, so if one partition has more load than the
+     * mean load, the imbalance cannot be lower than that partition's load over the mean.
+     */
+    double lowestPossibleImbalance() {
+      final var scores = LoadModel.DEFAULT.score(loads);
+      final double mean =
+          scores.values().stream().mapToDouble(Double::doubleValue).sum() / members.size();
+      final double maxPartition =
+          scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+      return mean == 0 ? 1 : maxPartition / mean;
+    }
+
+    private List<LeadershipTransfer> planTransfers() {
+      // all members see the same published loads, as they were propagated since the last round
+      final var publishedLoads =
+          members.stream()
+              .flatMap(member -> LeaderLoad.read(member, properties.get(member)).stream())
+              .toList();
+
+      return members.stream()
+          .flatMap(
+              member ->
+                  round
+                      .transfersTo(
+                          member,
+                          partitions.values(),
+                          publishedLoads,
+                          partitionId ->
+                              partitions.get(partitionId).members().contains(member)
+                                  ? terms.get(partitionId)
+                                  : -1)
+                      .stream())
+          .toList();
+    }
+
+    private void observeAndPublish(final MemberId member) {
+      final Map<Integer, Long> previousTerms = observedTerms.get(member);
+      final Map<Integer, Long> currentTerms =
+          leaders.entrySet().stream()
+              .filter(leader -> leader.getValue().equals(member))
+              .collect(Collectors.toMap(Map.Entry::getKey, leader -> terms.get(leader.getKey())));
+
+      final var observedLoads =
+          currentTerms.entrySet().stream()
+              .filter(term -> term.getValue().equals(previousTerms.get(term.getKey())))
+              .map(
+                  term ->
+                      new LeaderLoad(
+                          term.getKey(), term.getValue(), member, loads.get(term.getKey())))
+              .toList();
+      LeaderLoad.publish(properties.get(member), observedLoads);
+
+      previousTerms.clear();
+      previousTerms.putAll(currentTerms);
+    }
+
+    private void failover(final MemberId member) {
+      leaders.entrySet().stream()
+          .filter(leader -> leader.getValue().equals(member))
+          .forEach(
+              leader -> {
+                final var partitionId = leader.getKey();
+                final var newLeader =
+                    partitions.get(partitionId).members().stream()
+                        .filter(replica -> !replica.equals(member))
+                        .min(MemberId::compareTo)
+                        .orElseThrow();
+                leader.setValue(newLeader);
+                terms.merge(partitionId, 1L, Long::sum);
+              });
+    }
+
+    private boolean allLoadsPublished() {
+      final var publishedPartitions =
+          members.stream()
+              .flatMap(member -> LeaderLoad.read(member, properties.get(member)).stream())
+              .filter(load -> load.term() == terms.get(load.partitionId()))
+              .map(LeaderLoad::partitionId)
+              .collect(Collectors.toSet());
+      return publishedPartitions.containsAll(partitions.keySet());
+    }
+  }
+}
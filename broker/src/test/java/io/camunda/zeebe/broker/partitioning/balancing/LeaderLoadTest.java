@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.balancing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.broker.partitioning.distribution.PartitionLoad;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+final class LeaderLoadTest {
+
+  private static final MemberId MEMBER = MemberId.from("1");
+
+  @Test
+  void shouldReadPublishedLoads() {
+    // given
+    final var properties = new Properties();
+    final var loads =
+        List.of(
+            new LeaderLoad(1, 3, MEMBER, new PartitionLoad(120.5, 1024, 10)),
+            new LeaderLoad(4, 7, MEMBER, new PartitionLoad(0, 0, 0)));
+
+    // when
+    LeaderLoad.publish(properties, loads);
+
+    // then
+    assertThat(LeaderLoad.read(MEMBER, properties)).containsExactlyElementsOf(loads);
+  }
+
+  @Test
+  void shouldReplacePreviouslyPublishedLoads() {
+    // given
+    final var properties = new Properties();
+    LeaderLoad.publish(
+        properties, List.of(new LeaderLoad(1, 3, MEMBER, new PartitionLoad(120.5, 1024, 10))));
+
+    // when
+    LeaderLoad.publish(properties, List.of());
+
+    // then
+    assertThat(LeaderLoad.read(MEMBER, properties)).isEmpty();
+  }
+
+  @Test
+  void shouldNotReadLoadsIfNothingWasPublished() {
+    // when
+    final var loads = LeaderLoad.read(MEMBER, new Properties());
+
+    // then
+    assertThat(loads).isEmpty();
+  }
+
+  @Test
+  void shouldSkipMalformedEntries() {
+    // given
+    final var properties = new Properties();
+    properties.setProperty(
+        LeaderLoad.PROPERTY_NAME, "1:3:120.5:1024:10;2:3:fast:1024:10;3:3:1.0:1024;4:3:-1:0:0");
+
+    // when
+    final var loads = LeaderLoad.read(MEMBER, properties);
+
+    // then
+    assertThat(loads)
+        .containsExactly(new LeaderLoad(1, 3, MEMBER, new PartitionLoad(120.5, 1024, 10)));
+  }
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Simulates leader balancing on synthetic load profiles. Each simulation starts with the leaders of
+ * the round robin distribution, or with all leaders concentrated on a few members, and executes the
+ * planned transfers round by round until the balancer does not plan any further transfers.
+ */
+final class LeaderBalancerTest {
+
+  private static final double MAX_IMBALANCE = 1.15;
+  private static final int MAX_TRANSFERS_PER_ROUND = 3;
+  private static final int MAX_ROUNDS = 50;
+
+  private final LeaderBalancer balancer =
+      new LeaderBalancer(MAX_IMBALANCE, MAX_TRANSFERS_PER_ROUND);
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("loadProfiles")
+  void shouldBalanceLeaders(final LoadProfile profile) {
+    // given
+    final var simulation = new Simulation(profile);
+
+    // when
+    final var result = simulation.run();
+
+    // then
+    assertThat(result.rounds()).isLessThan(MAX_ROUNDS);
+    assertThat(result.maxTransfersInRound()).isLessThanOrEqualTo(MAX_TRANSFERS_PER_ROUND);
+    assertThat(result.finalImbalance())
+        .describedAs("Imbalance before balancing was %f", result.initialImbalance())
+        .isLessThanOrEqualTo(Math.max(MAX_IMBALANCE, profile.lowestPossibleImbalance()));
+  }
+
+  @Test
+  void shouldNotTransferIfBalanced() {
+    // given
+    final var simulation = new Simulation(LoadProfile.uniform(3, 9, 3));
+
+    // when
+    final var transfers = simulation.planRound();
+
+    // then
+    assertThat(transfers).isEmpty();
+  }
+
+  @Test
+  void shouldNotTransferIfThereIsNoLoad() {
+    // given
+    final var partitions = roundRobin(3, 3, 3);
+    final var member0 = MemberId.from("0");
+
+    // when
+    final var transfers =
+        balancer.plan(partitions, Map.of(1, member0, 2, member0, 3, member0), Map.of());
+
+    // then
+    assertThat(transfers).isEmpty();
+  }
+
+  @Test
+  void shouldLimitTransfersPerRound() {
+    // given - all leaders on one member
+    final var simulation = new Simulation(LoadProfile.concentrated(LoadProfile.uniform(4, 24, 3)));
+
+    // when
+    final var transfers = simulation.planRound();
+
+    // then
+    assertThat(transfers).hasSize(MAX_TRANSFERS_PER_ROUND);
+    assertThat(transfers).extracting(LeadershipTransfer::partitionId).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void shouldOnlyTransferToReplicas() {
+    // given
+    final var simulation =
+        new Simulation(LoadProfile.concentrated(LoadProfile.skewed(6, 30, 3, 1.2, 42)));
+
+    // when
+    final var result = simulation.run();
+
+    // then
+    assertThat(result.transfers())
+        .allSatisfy(
+            transfer ->
+                assertThat(simulation.metadata(transfer.partitionId()).members())
+                    .contains(transfer.from(), transfer.to()));
+  }
+
+  private static Stream<Arguments> loadProfiles() {
+    return Stream.of(
+        Arguments.of(Named.of("uniform load", LoadProfile.uniform(5, 30, 3))),
+        Arguments.of(
+            Named.of(
+                "uniform load, leaders on one member",
+                LoadProfile.concentrated(LoadProfile.uniform(5, 30, 3)))),
+        Arguments.of(Named.of("skewed load", LoadProfile.skewed(6, 48, 3, 1.0, 1))),
+        Arguments.of(
+            Named.of(
+                "skewed load, leaders on one member",
+                LoadProfile.concentrated(LoadProfile.skewed(6, 48, 3, 1.0, 2)))),
+        Arguments.of(Named.of("one hot partition", LoadProfile.hotPartition(4, 16, 3, 10))),
+        Arguments.of(
+            Named.of(
+                "one dominating partition",
+                LoadProfile.concentrated(LoadProfile.hotPartition(3, 6, 3, 100)))));
+  }
+
+  private static Set<PartitionMetadata> roundRobin(
+      final int clusterSize, final int partitionCount, final int replicationFactor) {
+    final var members =
+        IntStream.range(0, clusterSize)
+            .mapToObj(i -> MemberId.from(String.valueOf(i)))
+            .collect(Collectors.toSet());
+    final var partitionIds =
+        IntStream.rangeClosed(1, partitionCount)
+            .mapToObj(i -> PartitionId.from("test", i))
+            .toList();
+    return new RoundRobinPartitionDistributor()
+        .distributePartitions(members, partitionIds, replicationFactor);
+  }
+
+  private static double imbalance(final Map<MemberId, Double> memberLoads) {
+    final double max =
+        memberLoads.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+    final double mean =
+        memberLoads.values().stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    return mean == 0 ? 1 : max / mean;
+  }
+
+  /**
+   * A synthetic cluster: the partitions with their replicas, the initial leaders and the observed
+   * load of each partition.
+   */
+  private record LoadProfile(
+      Set<PartitionMetadata> partitions,
+      Map<Integer, MemberId> leaders,
+      Map<Integer, PartitionLoad> loads) {
+
+    static LoadProfile uniform(
+        final int clusterSize, final int partitionCount, final int replicationFactor) {
+      return withLoad(
+          roundRobin(clusterSize, partitionCount, replicationFactor),
+          partitionId -> new PartitionLoad(100, 1024 * 1024, 0));
+    }
+
+    /** Processing rates follow a Zipf distribution; state size and export lag are random. */
+    static LoadProfile skewed(
+        final int clusterSize,
+        final int partitionCount,
+        final int replicationFactor,
+        final double exponent,
+        final long seed) {
+      final var random = new Random(seed);
+      final var ranks =
+          IntStream.rangeClosed(1, partitionCount).boxed().collect(Collectors.toList());
+      Collections.shuffle(ranks, random);
+      final Map<Integer, PartitionLoad> loads = new HashMap<>();
+      for (int partitionId = 1; partitionId <= partitionCount; partitionId++) {
+        final double rate = 1000 / Math.pow(ranks.get(partitionId - 1), exponent);
+        loads.put(
+            partitionId,
+            new PartitionLoad(
+                rate, (long) (random.nextDouble() * 1024 * 1024 * 1024), random.nextInt(10_000)));
+      }
+      return withLoad(roundRobin(clusterSize, partitionCount, replicationFactor), loads::get);
+    }
+
+    /** Partition 1 has the given factor of the processing rate of all other partitions. */
+    static LoadProfile hotPartition(
+        final int clusterSize,
+        final int partitionCount,
+        final int replicationFactor,
+        final double factor) {
+      return withLoad(
+          roundRobin(clusterSize, partitionCount, replicationFactor),
+          partitionId ->
+              partitionId == 1
+                  ? new PartitionLoad(100 * factor, 1024 * 1024, 0)
+                  : new PartitionLoad(100, 1024 * 1024, 0));
+    }
+
+    /** Moves the leadership of all partitions to the lowest member replicating it. */
+    static LoadProfile concentrated(final LoadProfile profile) {
+      final Map<Integer, MemberId> leaders = new HashMap<>();
+      profile
+          .partitions()
+          .forEach(
+              metadata ->
+                  leaders.put(
+                      metadata.id().id(),
+                      metadata.members().stream().min(MemberId::compareTo).orElseThrow()));
+      return new LoadProfile(profile.partitions(), leaders, profile.loads());
+    }
+
+    private static LoadProfile withLoad(
+        final Set<PartitionMetadata> partitions, final IntFunction<PartitionLoad> load) {
+      final Map<Integer, MemberId> leaders = new HashMap<>();
+      final Map<Integer, PartitionLoad> loads = new HashMap<>();
+      partitions.forEach(
+          metadata -> {
+            leaders.put(metadata.id().id(), metadata.getPrimary().orElseThrow());
+            loads.put(metadata.id().id(), load.apply(metadata.id().id()));
+          });
+      return new LoadProfile(partitions, leaders, loads);
+    }
+
+    /**
+     * A single partition can only be led by one member, so if one partition has more load than the
+     * mean load, the imbalance cannot be lower than that partition's load over the mean.
+     */
+    double lowestPossibleImbalance() {
+      final var scores = LoadModel.DEFAULT.score(loads);
+      final var memberCount =
+          partitions.stream().flatMap(p -> p.members().stream()).distinct().count();
+      final double mean =
+          scores.values().stream().mapToDouble(Double::doubleValue).sum() / memberCount;
+      final double maxPartition =
+          scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+      return mean == 0 ? 1 : maxPartition / mean;
+    }
+  }
+
+  private record SimulationResult(
+      int rounds,
+      int maxTransfersInRound,
+      double initialImbalance,
+      double finalImbalance,
+      List<LeadershipTransfer> transfers) {}
+
+  private final class Simulation {
+    private final Map<Integer, PartitionMetadata> partitions = new HashMap<>();
+    private final Map<Integer, MemberId> leaders;
+    private final Map<Integer, Double> scores;
+
+    private Simulation(final LoadProfile profile) {
+      profile.partitions().forEach(metadata -> partitions.put(metadata.id().id(), metadata));
+      leaders = new HashMap<>(profile.leaders());
+      scores = LoadModel.DEFAULT.score(profile.loads());
+    }
+
+    PartitionMetadata metadata(final int partitionId) {
+      return partitions.get(partitionId);
+    }
+
+    List<LeadershipTransfer> planRound() {
+      return balancer.plan(partitions.values(), leaders, scores);
+    }
+
+    SimulationResult run() {
+      final double initialImbalance = currentImbalance();
+      final var allTransfers = new ArrayList<LeadershipTransfer>();
+      int rounds = 0;
+      int maxTransfersInRound = 0;
+
+      List<LeadershipTransfer> transfers = planRound();
+      while (!transfers.isEmpty() && rounds < MAX_ROUNDS) {
+        rounds++;
+        maxTransfersInRound = Math.max(maxTransfersInRound, transfers.size());
+        for (final var transfer : transfers) {
+          leaders.put(transfer.partitionId(), transfer.to());
+        }
+        allTransfers.addAll(transfers);
+        transfers = planRound();
+      }
+
+      return new SimulationResult(
+          rounds, maxTransfersInRound, initialImbalance, currentImbalance(), allTransfers);
+    }
+
+    private double currentImbalance() {
+      return imbalance(LeaderBalancer.memberLoads(partitions.values(), leaders, scores));
+    }
+  }
+}
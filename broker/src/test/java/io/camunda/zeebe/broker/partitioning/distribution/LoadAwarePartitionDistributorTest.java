@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.partitioning.distribution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.partition.PartitionMetadata;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class LoadAwarePartitionDistributorTest {
+
+  @Test
+  void shouldReplicateLikeRoundRobin() {
+    // given
+    final var members = getMembers(5);
+    final var partitionIds = getSortedPartitionIds(10);
+    final var distributor = new LoadAwarePartitionDistributor(Map.of(1, 5.0, 2, 0.5));
+
+    // when
+    final var distribution = distributor.distributePartitions(members, partitionIds, 3);
+
+    // then
+    final var expected =
+        new RoundRobinPartitionDistributor().distributePartitions(members, partitionIds, 3);
+    assertThat(membersByPartition(distribution)).isEqualTo(membersByPartition(expected));
+  }
+
+  @Test
+  void shouldAssignDistinctPriorities() {
+    // given
+    final var distributor = new LoadAwarePartitionDistributor(Map.of(3, 4.0));
+
+    // when
+    final var distribution =
+        distributor.distributePartitions(getMembers(4), getSortedPartitionIds(12), 3);
+
+    // then
+    assertThat(distribution)
+        .hasSize(12)
+        .allSatisfy(
+            metadata -> {
+              final var priorities =
+                  metadata.members().stream().map(metadata::getPriority).toList();
+              assertThat(priorities).containsExactlyInAnyOrder(1, 2, 3);
+              assertThat(metadata.getPrimary()).isPresent();
+              assertThat(metadata.getPriority(metadata.getPrimary().orElseThrow()))
+                  .isEqualTo(metadata.getTargetPriority())
+                  .isEqualTo(3);
+            });
+  }
+
+  @Test
+  void shouldBalancePrimariesWithUniformLoad() {
+    // given
+    final var distributor = new LoadAwarePartitionDistributor(Map.of());
+
+    // when
+    final var distribution =
+        distributor.distributePartitions(getMembers(3), getSortedPartitionIds(9), 3);
+
+    // then
+    assertThat(primariesPerMember(distribution))
+        .containsOnly(
+            Map.entry(MemberId.from("0"), 3L),
+            Map.entry(MemberId.from("1"), 3L),
+            Map.entry(MemberId.from("2"), 3L));
+  }
+
+  @Test
+  void shouldNotAssignOtherPrimariesToMemberLeadingHotPartition() {
+    // given - partition 1 is as hot as all other partitions together
+    final var distributor = new LoadAwarePartitionDistributor(Map.of(1, 5.0));
+
+    // when
+    final var distribution =
+        distributor.distributePartitions(getMembers(3), getSortedPartitionIds(6), 3);
+
+    // then
+    final var hotPrimary = primaryOf(distribution, 1);
+    assertThat(distribution)
+        .filteredOn(metadata -> metadata.id().id() != 1)
+        .allSatisfy(
+            metadata ->
+                assertThat(metadata.getPrimary())
+                    .hasValueSatisfying(primary -> assertThat(primary).isNotEqualTo(hotPrimary)));
+  }
+
+  @Test
+  void shouldBalanceFailoverOfHotPartitions() {
+    // given - two hot partitions replicated on all members
+    final var distributor = new LoadAwarePartitionDistributor(Map.of(1, 5.0, 2, 5.0));
+
+    // when
+    final var distribution =
+        distributor.distributePartitions(getMembers(3), getSortedPartitionIds(3), 3);
+
+    // then - if the primary of a hot partition fails, the leadership does not move to the member
+    // leading the other hot partition
+    final var secondaryOfFirst = secondaryOf(distribution, 1);
+    final var secondaryOfSecond = secondaryOf(distribution, 2);
+    assertThat(secondaryOfFirst).isNotEqualTo(primaryOf(distribution, 2));
+    assertThat(secondaryOfSecond).isNotEqualTo(primaryOf(distribution, 1));
+  }
+
+  @Test
+  void shouldRejectNonPositiveWeight() {
+    // when - then
+    assertThatThrownBy(() -> new LoadAwarePartitionDistributor(Map.of(1, 0.0)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private MemberId primaryOf(final Set<PartitionMetadata> distribution, final int partitionId) {
+    return distribution.stream()
+        .filter(metadata -> metadata.id().id() == partitionId)
+        .findFirst()
+        .flatMap(PartitionMetadata::getPrimary)
+        .orElseThrow();
+  }
+
+  private MemberId secondaryOf(final Set<PartitionMetadata> distribution, final int partitionId) {
+    final var metadata =
+        distribution.stream().filter(m -> m.id().id() == partitionId).findFirst().orElseThrow();
+    return metadata.members().stream()
+        .filter(member -> metadata.getPriority(member) == metadata.getTargetPriority() - 1)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private Map<MemberId, Long> primariesPerMember(final Set<PartitionMetadata> distribution) {
+    return distribution.stream()
+        .map(metadata -> metadata.getPrimary().orElseThrow())
+        .collect(Collectors.groupingBy(member -> member, Collectors.counting()));
+  }
+
+  private Map<Integer, Set<MemberId>> membersByPartition(
+      final Set<PartitionMetadata> distribution) {
+    final Map<Integer, Set<MemberId>> members = new HashMap<>();
+    distribution.forEach(
+        metadata -> members.put(metadata.id().id(), Set.copyOf(metadata.members())));
+    return members;
+  }
+
+  private Set<MemberId> getMembers(final int nodeCount) {
+    return IntStream.range(0, nodeCount)
+        .mapToObj(i -> MemberId.from(String.valueOf(i)))
+        .collect(Collectors.toSet());
+  }
+
+  private List<PartitionId> getSortedPartitionIds(final int partitionCount) {
+    return IntStream.rangeClosed(1, partitionCount)
+        .mapToObj(i -> PartitionId.from("test", i))
+        .toList();
+  }
+}
@@ -81,6 +81,36 @@ final class SystemContextTest {
             "Expected to have an append batch size maximum which is non negative and smaller then '2147483647', but was '3221225472B'.");
   }
 
+  @Test
+  void shouldThrowExceptionIfLeaderLeaseClockDriftIsNotSmallerThanElectionTimeout() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    brokerCfg.getCluster().setElectionTimeout(Duration.ofSeconds(1));
+    brokerCfg.getExperimental().getRaft().setEnableLeaderLease(true);
+    brokerCfg.getExperimental().getRaft().setLeaderLeaseClockDrift(Duration.ofSeconds(1));
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "Expected leader lease clock drift to be smaller than the election timeout 'PT1S', "
+                + "but was 'PT1S'");
+  }
+
+  @Test
+  void shouldThrowExceptionIfLeaderBalancingMaxImbalanceIsLowerThanOne() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    final var leaderBalancing = brokerCfg.getExperimental().getPartitioning().getLeaderBalancing();
+    leaderBalancing.setEnabled(true);
+    leaderBalancing.setMaxImbalance(0.9);
+
+    // when - then
+    assertThatCode(() -> initSystemContext(brokerCfg))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected leader balancing max imbalance to be at least 1, but was 0.9");
+  }
+
   @Test
   void shouldNotThrowExceptionIfSnapshotPeriodIsEqualToOneMinute() {
     // given
@@ -288,14 +288,14 @@ public final class BrokerCfgTest {
   @Test
   public void shouldOverrideMaxAppendsViaEnvironment() {
     // given
-    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_APPENDS_PER_FOLLOWER, "8");
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_MAX_APPENDS_PER_FOLLOWER, "16");
 
     // when
     final BrokerCfg cfg = TestConfigReader.readConfig("cluster-cfg", environment);
     final ExperimentalCfg experimentalCfg = cfg.getExperimental();
 
     // then
-    assertThat(experimentalCfg.getMaxAppendsPerFollower()).isEqualTo(8);
+    assertThat(experimentalCfg.getMaxAppendsPerFollower()).isEqualTo(16);
   }
 
   @Test
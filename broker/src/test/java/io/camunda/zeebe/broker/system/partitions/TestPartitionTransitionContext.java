@@ -30,6 +30,7 @@ import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSende
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -62,6 +63,8 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private ExporterRepository exporterRepository;
   private AtomixLogStorage logStorage;
   private BrokerCfg brokerCfg;
+  private final SharedExecutableProcesses sharedExecutableProcesses =
+      new SharedExecutableProcesses();
   private AsyncSnapshotDirector snapshotDirector;
   private QueryService queryService;
   private ConcurrencyControl concurrencyControl;
@@ -219,6 +222,11 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     return brokerCfg;
   }
 
+  @Override
+  public SharedExecutableProcesses getSharedExecutableProcesses() {
+    return sharedExecutableProcesses;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
@@ -14,6 +14,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.primitive.partition.PartitionId;
+import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
@@ -26,7 +29,9 @@ import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -118,6 +123,63 @@ class ExporterDirectorPartitionTransitionStepTest {
     verify(exporterDirectorFromPrevRole).closeAsync();
   }
 
+  @Test
+  void shouldDesignateHighestPriorityMemberOtherThanPrimaryAsExporter() {
+    // given
+    final var metadata =
+        new PartitionMetadata(
+            PartitionId.from("test", 1),
+            Set.of(MemberId.from("0"), MemberId.from("1"), MemberId.from("2")),
+            Map.of(MemberId.from("0"), 1, MemberId.from("1"), 3, MemberId.from("2"), 2),
+            3,
+            MemberId.from("1"));
+
+    // when
+    final var designatedExporter =
+        ExporterDirectorPartitionTransitionStep.getDesignatedExporter(metadata);
+
+    // then
+    assertThat(designatedExporter).hasValue(MemberId.from("2"));
+  }
+
+  @Test
+  void shouldDesignateSingleMemberAsExporter() {
+    // given
+    final var metadata =
+        new PartitionMetadata(
+            PartitionId.from("test", 1),
+            Set.of(MemberId.from("0")),
+            Map.of(MemberId.from("0"), 1),
+            1,
+            MemberId.from("0"));
+
+    // when
+    final var designatedExporter =
+        ExporterDirectorPartitionTransitionStep.getDesignatedExporter(metadata);
+
+    // then
+    assertThat(designatedExporter).hasValue(MemberId.from("0"));
+  }
+
+  @Test
+  void shouldDesignateExporterByMemberIdWithoutPriorities() {
+    // given
+    final var metadata =
+        new PartitionMetadata(
+            PartitionId.from("test", 1),
+            Set.of(MemberId.from("2"), MemberId.from("1")),
+            Map.of(),
+            1,
+            null);
+
+    // when
+    final var designatedExporter =
+        ExporterDirectorPartitionTransitionStep.getDesignatedExporter(metadata);
+
+    // then
+    assertThat(designatedExporter).hasValue(MemberId.from("1"));
+  }
+
   private void initializeContext(final Role currentRole) {
     transitionContext.setCurrentRole(currentRole);
     if (currentRole != null && currentRole != Role.INACTIVE) {
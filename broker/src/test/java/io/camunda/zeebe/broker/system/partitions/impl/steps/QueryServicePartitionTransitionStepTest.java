@@ -8,14 +8,22 @@
 package io.camunda.zeebe.broker.system.partitions.impl.steps;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.partition.impl.RaftPartitionServer;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
+import io.camunda.zeebe.broker.transport.queryapi.LeaderLeaseQueryService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -34,6 +42,7 @@ class QueryServicePartitionTransitionStepTest {
   void setup() {
 
     transitionContext.setZeebeDb(zeebeDb);
+    transitionContext.setBrokerCfg(new BrokerCfg());
     step = new QueryServicePartitionTransitionStep();
   }
 
@@ -93,6 +102,26 @@ class QueryServicePartitionTransitionStepTest {
     assertThat(transitionContext.getQueryService()).isNull();
   }
 
+  @Test
+  void shouldGuardQueryServiceWithLeaderLease() {
+    // given
+    final var raftPartition = mock(RaftPartition.class);
+    final var raftServer = mock(RaftPartitionServer.class);
+    when(raftPartition.getServer()).thenReturn(raftServer);
+    when(raftServer.hasValidLeaderLease()).thenReturn(false);
+    transitionContext.setRaftPartition(raftPartition);
+    transitionContext.getBrokerCfg().getExperimental().getRaft().setEnableLeaderLease(true);
+    initializeContext(null);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    assertThat(transitionContext.getQueryService()).isInstanceOf(LeaderLeaseQueryService.class);
+    assertThatThrownBy(() -> transitionContext.getQueryService().getBpmnProcessIdForJob(1L))
+        .isInstanceOf(ClosedServiceException.class);
+  }
+
   private static Stream<Arguments> provideTransitionsThatShouldDoNothing() {
     return Stream.of(
         Arguments.of(Role.CANDIDATE, Role.FOLLOWER),
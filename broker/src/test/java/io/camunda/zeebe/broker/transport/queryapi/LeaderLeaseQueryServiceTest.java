@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.queryapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("removal")
+final class LeaderLeaseQueryServiceTest {
+  private final QueryService delegate = mock(QueryService.class);
+  private final AtomicBoolean hasValidLease = new AtomicBoolean(true);
+  private final LeaderLeaseQueryService queryService =
+      new LeaderLeaseQueryService(delegate, hasValidLease::get);
+
+  @Test
+  void shouldQueryWhileLeaseIsValid() {
+    // given
+    final var processId = BufferUtil.wrapString("process");
+    when(delegate.getBpmnProcessIdForProcess(1L)).thenReturn(Optional.of(processId));
+
+    // when
+    final var result = queryService.getBpmnProcessIdForProcess(1L);
+
+    // then
+    assertThat(result).contains(processId);
+  }
+
+  @Test
+  void shouldRejectQueryWithoutValidLease() {
+    // given
+    hasValidLease.set(false);
+
+    // when - then
+    assertThatThrownBy(() -> queryService.getBpmnProcessIdForProcessInstance(1L))
+        .isInstanceOf(ClosedServiceException.class);
+    assertThatThrownBy(() -> queryService.getBpmnProcessIdForJob(1L))
+        .isInstanceOf(ClosedServiceException.class);
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void shouldCloseDelegate() throws Exception {
+    // when
+    queryService.close();
+
+    // then
+    verify(delegate).close();
+  }
+}
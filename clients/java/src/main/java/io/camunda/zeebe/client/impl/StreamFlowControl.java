@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Applies manual flow control to a server streaming call: only a fixed amount of messages is
+ * requested when the call starts, and more are requested only once the previous ones have been
+ * handled, via {@link #replenish(int)}. Messages which were not requested yet are not delivered;
+ * once gRPC's buffers are full, the server will see the call as not ready, and can stop sending.
+ *
+ * <p>The same instance can be reused across multiple calls, e.g. when a stream is retried. Credits
+ * are always replenished on the latest call.
+ */
+@ThreadSafe
+public final class StreamFlowControl {
+  private final int initialCredits;
+  private volatile ClientCallStreamObserver<?> call;
+
+  public StreamFlowControl(final int initialCredits) {
+    if (initialCredits < 1) {
+      throw new IllegalArgumentException(
+          "Expected initial credits to be at least 1, but got " + initialCredits);
+    }
+
+    this.initialCredits = initialCredits;
+  }
+
+  /**
+   * @return how many messages are requested when a call starts, i.e. the window of the stream
+   */
+  public int initialCredits() {
+    return initialCredits;
+  }
+
+  /**
+   * Wraps the given observer such that the call it is used for is flow controlled by this instance.
+   */
+  public <ReqT, RespT> ClientResponseObserver<ReqT, RespT> observe(
+      final StreamObserver<RespT> delegate) {
+    return new FlowControlledObserver<>(delegate);
+  }
+
+  /** Requests the given amount of additional messages from the current call, if any. */
+  public void replenish(final int credits) {
+    final ClientCallStreamObserver<?> currentCall = call;
+    if (currentCall != null) {
+      currentCall.request(credits);
+    }
+  }
+
+  private final class FlowControlledObserver<ReqT, RespT>
+      implements ClientResponseObserver<ReqT, RespT> {
+    private final StreamObserver<RespT> delegate;
+
+    private FlowControlledObserver(final StreamObserver<RespT> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void beforeStart(final ClientCallStreamObserver<ReqT> requestStream) {
+      requestStream.disableAutoRequestWithInitial(initialCredits);
+      call = requestStream;
+
+      // the delegate may need the call as well, e.g. to cancel it
+      if (delegate instanceof ClientResponseObserver) {
+        ((ClientResponseObserver<ReqT, RespT>) delegate).beforeStart(requestStream);
+      }
+    }
+
+    @Override
+    public void onNext(final RespT value) {
+      delegate.onNext(value);
+    }
+
+    @Override
+    public void onError(final Throwable t) {
+      delegate.onError(t);
+    }
+
+    @Override
+    public void onCompleted() {
+      delegate.onCompleted();
+    }
+  }
+}
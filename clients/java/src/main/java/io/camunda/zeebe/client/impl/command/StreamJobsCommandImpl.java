@@ -25,6 +25,7 @@ import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1.StreamJobsComm
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.response.StreamJobsResponse;
 import io.camunda.zeebe.client.impl.RetriableStreamingFutureImpl;
+import io.camunda.zeebe.client.impl.StreamFlowControl;
 import io.camunda.zeebe.client.impl.response.ActivatedJobImpl;
 import io.camunda.zeebe.client.impl.response.StreamJobsResponseImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
@@ -52,6 +53,7 @@ public final class StreamJobsCommandImpl
 
   private Consumer<ActivatedJob> consumer;
   private Duration requestTimeout;
+  private StreamFlowControl flowControl;
 
   private final Set<String> defaultTenantIds;
   private final Set<String> customTenantIds;
@@ -108,7 +110,23 @@ public final class StreamJobsCommandImpl
       stub = stub.withDeadlineAfter(requestTimeout.toNanos(), TimeUnit.NANOSECONDS);
     }
 
-    stub.streamActivatedJobs(request, observer);
+    if (flowControl != null) {
+      stub.streamActivatedJobs(request, flowControl.observe(observer));
+    } else {
+      stub.streamActivatedJobs(request, observer);
+    }
+  }
+
+  /**
+   * Limits how many jobs are received before the previous ones are handled; see {@link
+   * StreamFlowControl}. The window is also sent to the gateway, such that the brokers don't push
+   * more jobs than that to this stream. Without it, the stream receives jobs as fast as the gateway
+   * pushes them.
+   */
+  public StreamJobsCommandImpl flowControl(final StreamFlowControl flowControl) {
+    this.flowControl = flowControl;
+    builder.setMaxJobsActive(flowControl.initialCredits());
+    return this;
   }
 
   @Override
@@ -29,6 +29,9 @@ interface JobStreamer extends AutoCloseable {
 
   void openStreamer(final Consumer<ActivatedJob> jobConsumer);
 
+  /** Called once a streamed job has been handled, allowing the stream to receive another one. */
+  void onJobHandled();
+
   static JobStreamer noop() {
     return NoopJobStream.INSTANCE;
   }
@@ -47,5 +50,8 @@ interface JobStreamer extends AutoCloseable {
 
     @Override
     public void openStreamer(final Consumer<ActivatedJob> jobConsumer) {}
+
+    @Override
+    public void onJobHandled() {}
   }
 }
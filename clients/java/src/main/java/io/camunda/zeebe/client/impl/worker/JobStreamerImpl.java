@@ -23,6 +23,8 @@ import io.camunda.zeebe.client.api.response.StreamJobsResponse;
 import io.camunda.zeebe.client.api.worker.BackoffSupplier;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.client.impl.StreamFlowControl;
+import io.camunda.zeebe.client.impl.command.StreamJobsCommandImpl;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import java.time.Duration;
@@ -49,6 +51,7 @@ final class JobStreamerImpl implements JobStreamer {
   private final Duration requestTimeout;
   private final BackoffSupplier backoffSupplier;
   private final ScheduledExecutorService executor;
+  private final StreamFlowControl flowControl;
   private final Lock streamLock;
 
   @GuardedBy("streamLock")
@@ -70,6 +73,7 @@ final class JobStreamerImpl implements JobStreamer {
       final Duration timeout,
       final List<String> fetchVariables,
       final List<String> tenantIds,
+      final int maxJobsActive,
       final Duration requestTimeout,
       final BackoffSupplier backoffSupplier,
       final ScheduledExecutorService executor) {
@@ -82,6 +86,7 @@ final class JobStreamerImpl implements JobStreamer {
     this.requestTimeout = requestTimeout;
     this.backoffSupplier = backoffSupplier;
     this.executor = executor;
+    flowControl = new StreamFlowControl(maxJobsActive);
 
     streamLock = new ReentrantLock();
   }
@@ -107,6 +112,11 @@ final class JobStreamerImpl implements JobStreamer {
     return !isClosed;
   }
 
+  @Override
+  public void onJobHandled() {
+    flowControl.replenish(1);
+  }
+
   @Override
   public void openStreamer(final Consumer<ActivatedJob> jobConsumer) {
     final FinalCommandStep<StreamJobsResponse> command = buildCommand(jobConsumer);
@@ -165,6 +175,12 @@ final class JobStreamerImpl implements JobStreamer {
       command = command.fetchVariables(fetchVariables);
     }
 
+    // custom job clients may not support flow control, in which case jobs are received as fast as
+    // they are pushed
+    if (command instanceof StreamJobsCommandImpl) {
+      ((StreamJobsCommandImpl) command).flowControl(flowControl);
+    }
+
     return command.requestTimeout(requestTimeout);
   }
 
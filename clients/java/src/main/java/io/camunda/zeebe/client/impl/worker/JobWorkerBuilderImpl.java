@@ -197,6 +197,7 @@ public final class JobWorkerBuilderImpl
               timeout,
               fetchVariables,
               getTenantIds(),
+              maxJobsActive,
               streamingTimeout,
               backoffSupplier,
               executorService);
@@ -252,6 +252,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private void handleStreamJobFinished() {
+    jobStreamer.onJobHandled();
     metrics.jobHandled(1);
   }
 }
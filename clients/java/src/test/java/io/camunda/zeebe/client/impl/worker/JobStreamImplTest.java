@@ -109,6 +109,7 @@ final class JobStreamImplTest {
             .addFetchVariable("foo")
             .addFetchVariable("bar")
             .addTenantIds("test-tenant")
+            .setMaxJobsActive(32)
             .build();
 
     // when
@@ -170,7 +171,44 @@ final class JobStreamImplTest {
     assertThat(service.streams).isEmpty();
   }
 
+  @Test
+  void shouldNotReceiveMoreJobsThanMaxJobsActive() {
+    // given
+    final List<ActivatedJob> jobs = new ArrayList<>();
+    jobStreamer.close();
+    jobStreamer = createStreamer(1);
+    jobStreamer.openStreamer(jobs::add);
+
+    // when
+    service.pushJob();
+    service.pushJob();
+
+    // then
+    assertThat(jobs).hasSize(1).extracting(ActivatedJob::getKey).containsExactly(0L);
+  }
+
+  @Test
+  void shouldReceiveMoreJobsOnceHandled() {
+    // given
+    final List<ActivatedJob> jobs = new ArrayList<>();
+    jobStreamer.close();
+    jobStreamer = createStreamer(1);
+    jobStreamer.openStreamer(jobs::add);
+    service.pushJob();
+    service.pushJob();
+
+    // when
+    jobStreamer.onJobHandled();
+
+    // then
+    assertThat(jobs).hasSize(2).extracting(ActivatedJob::getKey).containsExactly(0L, 1L);
+  }
+
   private JobStreamerImpl createStreamer() {
+    return createStreamer(32);
+  }
+
+  private JobStreamerImpl createStreamer(final int maxJobsActive) {
     return new JobStreamerImpl(
         client,
         "type",
@@ -178,6 +216,7 @@ final class JobStreamImplTest {
         Duration.ofSeconds(10),
         Arrays.asList("foo", "bar"),
         Arrays.asList("test-tenant"),
+        maxJobsActive,
         Duration.ofHours(8),
         ignored -> 10_000L,
         scheduler);
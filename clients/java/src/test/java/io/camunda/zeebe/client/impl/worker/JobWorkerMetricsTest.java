@@ -145,6 +145,9 @@ final class JobWorkerMetricsTest {
       consumerRef.set(jobConsumer);
     }
 
+    @Override
+    public void onJobHandled() {}
+
     private void streamJob() {
       final ActivatedJobImpl job = new ActivatedJobImpl(mapper, TestData.job());
       Optional.ofNullable(consumerRef.get()).ifPresent(c -> c.accept(job));
@@ -0,0 +1,241 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.DecisionType;
+import io.camunda.zeebe.dmn.EvaluatedInput;
+import io.camunda.zeebe.dmn.EvaluatedOutput;
+import io.camunda.zeebe.dmn.MatchedRule;
+import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * A decision table with the hit policy UNIQUE or FIRST, whose rules only consist of simple unary
+ * tests, compiled into lookup structures by the {@link DecisionTableCompiler}.
+ *
+ * <p>Instead of evaluating the unary tests of all rules one by one, the matching rules are
+ * determined column by column: equality tests are looked up by the input value, and only the other
+ * tests (e.g. comparisons and intervals) are tested for each rule. The result is the same as the
+ * result of the DMN engine, including the evaluated inputs and the matched rule of the audit log.
+ *
+ * <p>If a decision can't be evaluated by the compiled table, e.g. because an input value is missing
+ * or of an unexpected type, or because more than one rule of a UNIQUE table matches, then {@link
+ * #evaluate(Map)} returns an empty result and the decision must be evaluated by the DMN engine, so
+ * that the engine reports the failure as usual.
+ *
+ * <p>A compiled table is not modified after it was compiled, so it can be used concurrently.
+ */
+final class CompiledDecisionTable {
+
+  private static final DirectBuffer NIL_OUTPUT = BufferUtil.wrapArray(MsgPackHelper.NIL);
+
+  private final String decisionId;
+  private final String decisionName;
+  private final boolean isFirstHitPolicy;
+  private final List<Input> inputs;
+  private final List<Rule> rules;
+
+  CompiledDecisionTable(
+      final String decisionId,
+      final String decisionName,
+      final boolean isFirstHitPolicy,
+      final List<Input> inputs,
+      final List<Rule> rules) {
+    this.decisionId = decisionId;
+    this.decisionName = decisionName;
+    this.isFirstHitPolicy = isFirstHitPolicy;
+    this.inputs = inputs;
+    this.rules = rules;
+  }
+
+  /**
+   * Evaluates the decision table with the given variables.
+   *
+   * @param variables the variables to read the input values from
+   * @return the result of the decision, or {@link Optional#empty()} if the decision must be
+   *     evaluated by the DMN engine instead
+   */
+  Optional<DecisionEvaluationResult> evaluate(final Map<String, Object> variables) {
+    final var matchingRules = new BitSet(rules.size());
+    matchingRules.set(0, rules.size());
+
+    final var evaluatedInputs = new ArrayList<EvaluatedInput>(inputs.size());
+    for (final Input input : inputs) {
+      final Object value = normalize(input.readValue(variables));
+      if (value == null || !input.type().isInstance(value)) {
+        return Optional.empty();
+      }
+
+      if (!matchingRules.isEmpty()) {
+        matchingRules.and(input.findMatchingRules(value));
+      }
+      evaluatedInputs.add(
+          new EvaluatedDmnScalaInput(input.id(), input.name(), toMessagePack(value)));
+    }
+
+    final int ruleIndex = matchingRules.nextSetBit(0);
+    if (!isFirstHitPolicy && matchingRules.nextSetBit(ruleIndex + 1) >= 0) {
+      // more than one rule matches, the DMN engine reports the violation of the hit policy
+      return Optional.empty();
+    }
+
+    final DirectBuffer output;
+    final List<MatchedRule> matchedRules;
+    if (ruleIndex < 0) {
+      output = NIL_OUTPUT;
+      matchedRules = List.of();
+    } else {
+      final var rule = rules.get(ruleIndex);
+      output = rule.output();
+      matchedRules =
+          List.of(new MatchedDmnScalaRule(rule.id(), ruleIndex + 1, rule.evaluatedOutputs()));
+    }
+
+    final var evaluatedDecision =
+        new EvaluatedDmnScalaDecision(
+            decisionId,
+            decisionName,
+            DecisionType.DECISION_TABLE,
+            output,
+            evaluatedInputs,
+            matchedRules);
+    return Optional.of(new EvaluationResult(output, List.of(evaluatedDecision)));
+  }
+
+  /**
+   * Converts the given value into the type which is used to compare it with the values of the unary
+   * tests: numbers are converted to a {@link BigDecimal} without trailing zeros, so that equal
+   * numbers are also equal as lookup key. Values can also be given as MessagePack. Returns {@code
+   * null} for values that can't be compared.
+   */
+  static Object normalize(final Object value) {
+    if (value instanceof String || value instanceof Boolean) {
+      return value;
+    } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      final double number = ((Number) value).doubleValue();
+      return Double.isFinite(number) ? BigDecimal.valueOf(number).stripTrailingZeros() : null;
+    } else if (value instanceof BigInteger number) {
+      return new BigDecimal(number);
+    } else if (value instanceof BigDecimal number) {
+      return number.stripTrailingZeros();
+    } else if (value instanceof DirectBuffer buffer) {
+      return normalize(readMessagePackValue(buffer));
+    } else {
+      return null;
+    }
+  }
+
+  private static Object readMessagePackValue(final DirectBuffer buffer) {
+    final var token = new MsgPackReader().wrap(buffer, 0, buffer.capacity()).readToken();
+    return switch (token.getType()) {
+      case STRING -> BufferUtil.bufferAsString(token.getValueBuffer());
+      case INTEGER -> token.getIntegerValue();
+      case FLOAT -> token.getFloatValue();
+      case BOOLEAN -> token.getBooleanValue();
+      default -> null;
+    };
+  }
+
+  /**
+   * Encodes the given normalized value like the DMN engine encodes the corresponding FEEL value.
+   */
+  static DirectBuffer toMessagePack(final Object value) {
+    final var buffer = new ExpandableArrayBuffer(32);
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    if (value == null) {
+      writer.writeNil();
+    } else if (value instanceof String string) {
+      writer.writeString(BufferUtil.wrapString(string));
+    } else if (value instanceof Boolean bool) {
+      writer.writeBoolean(bool);
+    } else if (value instanceof BigDecimal number) {
+      if (number.signum() == 0 || number.stripTrailingZeros().scale() <= 0) {
+        writer.writeInteger(number.longValue());
+      } else {
+        writer.writeFloat(number.doubleValue());
+      }
+    } else {
+      throw new IllegalArgumentException(
+          "Expected a normalized value, but found '%s'".formatted(value.getClass()));
+    }
+    return BufferUtil.cloneBuffer(buffer, 0, writer.getOffset());
+  }
+
+  /**
+   * An input column of the table.
+   *
+   * @param id the id of the input
+   * @param name the name of the input, as reported in the evaluated inputs
+   * @param path the names to read the value from the variables, e.g. {@code [customer, tier]}
+   * @param type the type of the constants of the unary tests; other values are not compiled
+   * @param anyValueRules the rules which match any value of the input, i.e. {@code -}
+   * @param rulesByValue the rules which match a value by equality, by the normalized value
+   * @param otherTests the other unary tests of the input, which are tested one by one
+   */
+  record Input(
+      String id,
+      String name,
+      List<String> path,
+      Class<?> type,
+      BitSet anyValueRules,
+      Map<Object, BitSet> rulesByValue,
+      List<RuleTest> otherTests) {
+
+    Object readValue(final Map<String, Object> variables) {
+      Object value = variables;
+      for (final String name : path) {
+        if (!(value instanceof Map<?, ?> context)) {
+          return null;
+        }
+        value = context.get(name);
+      }
+      return value;
+    }
+
+    BitSet findMatchingRules(final Object value) {
+      final var matchingRules = (BitSet) anyValueRules.clone();
+      final var equalRules = rulesByValue.get(value);
+      if (equalRules != null) {
+        matchingRules.or(equalRules);
+      }
+      for (final RuleTest otherTest : otherTests) {
+        if (otherTest.test().test(value)) {
+          matchingRules.set(otherTest.ruleIndex());
+        }
+      }
+      return matchingRules;
+    }
+  }
+
+  /** A unary test of one rule, which can't be looked up by the input value. */
+  record RuleTest(int ruleIndex, Predicate<Object> test) {}
+
+  /**
+   * A rule of the table.
+   *
+   * @param id the id of the rule
+   * @param output the output of the decision, if the rule matches
+   * @param evaluatedOutputs the outputs of the rule, as reported in the matched rules
+   */
+  record Rule(String id, DirectBuffer output, List<EvaluatedOutput> evaluatedOutputs) {}
+}
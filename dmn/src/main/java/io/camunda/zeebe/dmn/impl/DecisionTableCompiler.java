@@ -0,0 +1,398 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.EvaluatedOutput;
+import io.camunda.zeebe.dmn.impl.CompiledDecisionTable.Input;
+import io.camunda.zeebe.dmn.impl.CompiledDecisionTable.Rule;
+import io.camunda.zeebe.dmn.impl.CompiledDecisionTable.RuleTest;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.camunda.bpm.model.dmn.HitPolicy;
+import org.camunda.dmn.parser.EmptyExpression$;
+import org.camunda.dmn.parser.FeelExpression;
+import org.camunda.dmn.parser.ParsedDecision;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedDmn;
+import org.camunda.dmn.parser.ParsedExpression;
+import org.camunda.dmn.parser.ParsedInput;
+import org.camunda.dmn.parser.ParsedOutput;
+import org.camunda.dmn.parser.ParsedRule;
+import org.camunda.feel.syntaxtree.ArithmeticNegation;
+import org.camunda.feel.syntaxtree.AtLeastOne;
+import org.camunda.feel.syntaxtree.ClosedConstRangeBoundary;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstRangeBoundary;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.InputEqualTo;
+import org.camunda.feel.syntaxtree.InputGreaterOrEqual;
+import org.camunda.feel.syntaxtree.InputGreaterThan;
+import org.camunda.feel.syntaxtree.InputInRange;
+import org.camunda.feel.syntaxtree.InputLessOrEqual;
+import org.camunda.feel.syntaxtree.InputLessThan;
+import org.camunda.feel.syntaxtree.OpenConstRangeBoundary;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+import org.camunda.feel.syntaxtree.UnaryTestExpression;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Compiles a decision table of a parsed DMN into a {@link CompiledDecisionTable}, if the table can
+ * be evaluated without the FEEL engine. That's the case if:
+ *
+ * <ul>
+ *   <li>the hit policy of the table is UNIQUE or FIRST, and the decision requires no other
+ *       decisions
+ *   <li>the input expressions are variables, or paths of variables (e.g. {@code customer.tier})
+ *   <li>the input entries are {@code -}, or unary tests of constants: equality (e.g. {@code
+ *       "gold"}), comparisons (e.g. {@code >= 10}), intervals (e.g. {@code [1..10[}), or lists of
+ *       these (e.g. {@code "gold","silver"})
+ *   <li>the constants of an input column are all strings, numbers, or booleans
+ *   <li>the output entries are constants, and the outputs have no default values
+ * </ul>
+ *
+ * Other decisions are evaluated by the DMN engine.
+ */
+final class DecisionTableCompiler {
+
+  private DecisionTableCompiler() {}
+
+  /**
+   * Compiles the decision with the given id, if it's a decision table that can be compiled.
+   *
+   * @param parsedDmn the parsed DMN that contains the decision
+   * @param decisionId the id of the decision to compile
+   * @return the compiled decision table, or {@link Optional#empty()} if the decision can't be
+   *     compiled
+   */
+  static Optional<CompiledDecisionTable> compile(
+      final ParsedDmn parsedDmn, final String decisionId) {
+    for (final ParsedDecision decision : CollectionConverters.asJava(parsedDmn.decisions())) {
+      if (decision.id().equals(decisionId)) {
+        try {
+          return Optional.ofNullable(compile(decision));
+        } catch (final UnsupportedExpressionException e) {
+          return Optional.empty();
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static CompiledDecisionTable compile(final ParsedDecision decision) {
+    if (!(decision.logic() instanceof ParsedDecisionTable decisionTable)
+        || !decision.requiredDecisions().isEmpty()) {
+      return null;
+    }
+
+    final HitPolicy hitPolicy = decisionTable.hitPolicy();
+    if (hitPolicy != HitPolicy.UNIQUE && hitPolicy != HitPolicy.FIRST) {
+      return null;
+    }
+
+    final List<ParsedInput> parsedInputs = toList(decisionTable.inputs());
+    final List<ParsedOutput> parsedOutputs = toList(decisionTable.outputs());
+    if (parsedOutputs.isEmpty()
+        || parsedOutputs.stream().anyMatch(output -> output.defaultValue().isDefined())) {
+      return null;
+    }
+
+    final List<List<ParsedExpression>> inputEntries = new ArrayList<>();
+    final List<Rule> rules = new ArrayList<>();
+    for (final ParsedRule parsedRule : CollectionConverters.asJava(decisionTable.rules())) {
+      inputEntries.add(toList(parsedRule.inputEntries()));
+      rules.add(compileRule(parsedRule, parsedOutputs));
+    }
+
+    final List<Input> inputs = new ArrayList<>();
+    for (int column = 0; column < parsedInputs.size(); column++) {
+      inputs.add(compileInput(parsedInputs.get(column), column, inputEntries));
+    }
+
+    return new CompiledDecisionTable(
+        decision.id(), decision.name(), hitPolicy == HitPolicy.FIRST, inputs, rules);
+  }
+
+  private static Input compileInput(
+      final ParsedInput parsedInput,
+      final int column,
+      final List<List<ParsedExpression>> inputEntries) {
+    final List<String> path = readPath(getFeelExpression(parsedInput.expression()));
+
+    Class<?> type = Object.class;
+    final var anyValueRules = new BitSet(inputEntries.size());
+    final Map<Object, BitSet> rulesByValue = new HashMap<>();
+    final List<RuleTest> otherTests = new ArrayList<>();
+
+    for (int ruleIndex = 0; ruleIndex < inputEntries.size(); ruleIndex++) {
+      final var test = compileUnaryTest(inputEntries.get(ruleIndex).get(column));
+      type = mergeType(type, test.type());
+
+      if (test.isAnyValue()) {
+        anyValueRules.set(ruleIndex);
+      } else if (test.equalValues() != null) {
+        for (final Object value : test.equalValues()) {
+          rulesByValue.computeIfAbsent(value, v -> new BitSet()).set(ruleIndex);
+        }
+      } else {
+        otherTests.add(new RuleTest(ruleIndex, test.predicate()));
+      }
+    }
+
+    return new Input(
+        parsedInput.id(),
+        EvaluatedDmnScalaInput.determineInputName(parsedInput),
+        path,
+        type,
+        anyValueRules,
+        rulesByValue,
+        otherTests);
+  }
+
+  private static Rule compileRule(
+      final ParsedRule parsedRule, final List<ParsedOutput> parsedOutputs) {
+    final var outputEntries = toList(parsedRule.outputEntries());
+    if (outputEntries.size() != parsedOutputs.size()) {
+      throw new UnsupportedExpressionException();
+    }
+
+    final List<EvaluatedOutput> evaluatedOutputs = new ArrayList<>();
+    for (int i = 0; i < parsedOutputs.size(); i++) {
+      final var output = parsedOutputs.get(i);
+      final Object value = readOutputConstant(outputEntries.get(i)._2());
+      // Just like the Modeler, we favor the label over the name
+      final var outputName = output.label() != null ? output.label() : output.name();
+      evaluatedOutputs.add(
+          new EvaluatedDmnScalaOutput(
+              output.id(), outputName, CompiledDecisionTable.toMessagePack(value)));
+    }
+
+    final DirectBuffer output;
+    if (parsedOutputs.size() == 1) {
+      output = evaluatedOutputs.get(0).outputValue();
+    } else {
+      // multiple outputs result in a context of the output names and values
+      final var buffer = new ExpandableArrayBuffer();
+      final var writer = new MsgPackWriter().wrap(buffer, 0);
+      writer.writeMapHeader(parsedOutputs.size());
+      for (int i = 0; i < parsedOutputs.size(); i++) {
+        writer.writeString(BufferUtil.wrapString(parsedOutputs.get(i).name()));
+        writer.writeRaw(evaluatedOutputs.get(i).outputValue());
+      }
+      output = BufferUtil.cloneBuffer(buffer, 0, writer.getOffset());
+    }
+
+    return new Rule(parsedRule.id(), output, evaluatedOutputs);
+  }
+
+  private static List<String> readPath(final Exp expression) {
+    if (expression instanceof Ref ref) {
+      return new ArrayList<>(CollectionConverters.asJava(ref.names()));
+    } else if (expression instanceof PathExpression pathExpression) {
+      final var path = readPath(pathExpression.path());
+      path.add(pathExpression.key());
+      return path;
+    } else {
+      throw new UnsupportedExpressionException();
+    }
+  }
+
+  private static UnaryTest compileUnaryTest(final ParsedExpression inputEntry) {
+    if (EmptyExpression$.MODULE$.equals(inputEntry)) {
+      return UnaryTest.ANY_VALUE;
+    }
+    return compileUnaryTest(getFeelExpression(inputEntry));
+  }
+
+  private static UnaryTest compileUnaryTest(final Exp expression) {
+    if (expression instanceof ConstBool constBool && constBool.value()) {
+      // the input entry '-'
+      return UnaryTest.ANY_VALUE;
+
+    } else if (expression instanceof InputEqualTo equalTo) {
+      final Object value = readConstant(equalTo.x());
+      return UnaryTest.equalTo(value.getClass(), Set.of(value));
+
+    } else if (expression instanceof UnaryTestExpression unaryTestExpression) {
+      // a constant is compared by equality; boolean constants are not compiled, as the result of a
+      // boolean unary test expression is the constant itself rather than a comparison
+      final Object value = readComparableConstant(unaryTestExpression.exp());
+      return UnaryTest.equalTo(value.getClass(), Set.of(value));
+
+    } else if (expression instanceof InputLessThan lessThan) {
+      return compareTo(readComparableConstant(lessThan.x()), result -> result < 0);
+
+    } else if (expression instanceof InputLessOrEqual lessOrEqual) {
+      return compareTo(readComparableConstant(lessOrEqual.x()), result -> result <= 0);
+
+    } else if (expression instanceof InputGreaterThan greaterThan) {
+      return compareTo(readComparableConstant(greaterThan.x()), result -> result > 0);
+
+    } else if (expression instanceof InputGreaterOrEqual greaterOrEqual) {
+      return compareTo(readComparableConstant(greaterOrEqual.x()), result -> result >= 0);
+
+    } else if (expression instanceof InputInRange inRange) {
+      final var start = compileIntervalBoundary(inRange.range().start(), true);
+      final var end = compileIntervalBoundary(inRange.range().end(), false);
+      return new UnaryTest(
+          mergeType(start.type(), end.type()), false, null, start.predicate().and(end.predicate()));
+
+    } else if (expression instanceof AtLeastOne atLeastOne) {
+      return compileAnyOf(CollectionConverters.asJava(atLeastOne.xs()));
+
+    } else {
+      throw new UnsupportedExpressionException();
+    }
+  }
+
+  private static UnaryTest compileAnyOf(final List<Exp> expressions) {
+    Class<?> type = Object.class;
+    final Set<Object> equalValues = new HashSet<>();
+    Predicate<Object> predicate = value -> false;
+    boolean hasOnlyEqualValues = true;
+
+    for (final Exp expression : expressions) {
+      final var test = compileUnaryTest(expression);
+      if (test.isAnyValue()) {
+        return UnaryTest.ANY_VALUE;
+      }
+
+      type = mergeType(type, test.type());
+      predicate = predicate.or(test.predicate());
+      if (test.equalValues() != null) {
+        equalValues.addAll(test.equalValues());
+      } else {
+        hasOnlyEqualValues = false;
+      }
+    }
+
+    return hasOnlyEqualValues
+        ? UnaryTest.equalTo(type, equalValues)
+        : new UnaryTest(type, false, null, predicate);
+  }
+
+  private static UnaryTest compileIntervalBoundary(
+      final ConstRangeBoundary boundary, final boolean isStart) {
+    if (boundary instanceof ClosedConstRangeBoundary closedBoundary) {
+      final var value = readComparableConstant(closedBoundary.value());
+      return compareTo(value, isStart ? result -> result >= 0 : result -> result <= 0);
+
+    } else if (boundary instanceof OpenConstRangeBoundary openBoundary) {
+      final var value = readComparableConstant(openBoundary.value());
+      return compareTo(value, isStart ? result -> result > 0 : result -> result < 0);
+
+    } else {
+      throw new UnsupportedExpressionException();
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static UnaryTest compareTo(final Comparable constant, final IntPredicate expectedResult) {
+    return new UnaryTest(
+        constant.getClass(),
+        false,
+        null,
+        value -> expectedResult.test(((Comparable) value).compareTo(constant)));
+  }
+
+  private static Comparable<?> readComparableConstant(final Exp expression) {
+    final Object value = readConstant(expression);
+    if (value instanceof BigDecimal number) {
+      return number;
+    } else if (value instanceof String string) {
+      return string;
+    } else {
+      throw new UnsupportedExpressionException();
+    }
+  }
+
+  private static Object readOutputConstant(final ParsedExpression outputEntry) {
+    final var expression = getFeelExpression(outputEntry);
+    return ConstNull$.MODULE$.equals(expression) ? null : readConstant(expression);
+  }
+
+  private static Object readConstant(final Exp expression) {
+    if (expression instanceof ConstString constString) {
+      return constString.value();
+    } else if (expression instanceof ConstBool constBool) {
+      return constBool.value();
+    } else if (expression instanceof ConstNumber constNumber) {
+      return constNumber.value().bigDecimal().stripTrailingZeros();
+    } else if (expression instanceof ArithmeticNegation negation
+        && negation.x() instanceof ConstNumber constNumber) {
+      return constNumber.value().bigDecimal().negate().stripTrailingZeros();
+    } else {
+      throw new UnsupportedExpressionException();
+    }
+  }
+
+  private static Exp getFeelExpression(final ParsedExpression expression) {
+    if (expression instanceof FeelExpression feelExpression) {
+      return feelExpression.expression().expression();
+    }
+    throw new UnsupportedExpressionException();
+  }
+
+  /**
+   * Returns the type of an input column that contains constants of both given types. Object is the
+   * type of columns without constants.
+   */
+  private static Class<?> mergeType(final Class<?> type, final Class<?> otherType) {
+    if (type == Object.class || type == otherType) {
+      return otherType;
+    } else if (otherType == Object.class) {
+      return type;
+    }
+    // the unary tests compare the input value with constants of different types
+    throw new UnsupportedExpressionException();
+  }
+
+  private static <T> List<T> toList(final scala.collection.Iterable<T> iterable) {
+    final var list = new ArrayList<T>();
+    CollectionConverters.asJava(iterable).forEach(list::add);
+    return list;
+  }
+
+  /**
+   * A compiled unary test of an input entry.
+   *
+   * @param type the type of the constants of the test
+   * @param isAnyValue true, if the test matches any value
+   * @param equalValues the values that match the test, if the test only compares by equality;
+   *     otherwise null
+   * @param predicate tests whether a value of the given type matches the test
+   */
+  private record UnaryTest(
+      Class<?> type, boolean isAnyValue, Set<Object> equalValues, Predicate<Object> predicate) {
+
+    private static final UnaryTest ANY_VALUE = new UnaryTest(Object.class, true, null, v -> true);
+
+    private static UnaryTest equalTo(final Class<?> type, final Set<Object> equalValues) {
+      return new UnaryTest(type, false, equalValues, equalValues::contains);
+    }
+  }
+
+  /** Thrown if a decision table contains an expression that can't be compiled. */
+  private static final class UnsupportedExpressionException extends RuntimeException {}
+}
@@ -44,8 +44,18 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
 
   private final DmnEngine dmnEngine;
   private final FeelToMessagePackTransformer outputConverter = new FeelToMessagePackTransformer();
+  private final boolean useCompiledDecisionTables;
 
   public DmnScalaDecisionEngine() {
+    this(true);
+  }
+
+  /**
+   * @param useCompiledDecisionTables whether decision tables are evaluated by a {@link
+   *     CompiledDecisionTable} if possible, instead of the DMN engine
+   */
+  DmnScalaDecisionEngine(final boolean useCompiledDecisionTables) {
+    this.useCompiledDecisionTables = useCompiledDecisionTables;
     dmnEngine = new DmnEngine.Builder().build();
   }
 
@@ -93,10 +103,21 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
           decisionId);
     }
 
-    final var parsedDmn = ((ParsedDmnScalaDrg) decisionRequirementsGraph).getParsedDmn();
+    final var drg = (ParsedDmnScalaDrg) decisionRequirementsGraph;
+    // the variables are only collected once, also if the compiled decision table falls back
+    final Map<String, Object> variables = evalContext.toMap();
+    if (useCompiledDecisionTables) {
+      final var compiledResult =
+          drg.getCompiledDecisionTable(decisionId)
+              .flatMap(decisionTable -> decisionTable.evaluate(variables));
+      if (compiledResult.isPresent()) {
+        return compiledResult.get();
+      }
+    }
+
+    final var parsedDmn = drg.getParsedDmn();
     // todo(#8092): pass in context that allows fetching variable by name (lazy)
-    final Either<EvalFailure, EvalResult> result =
-        dmnEngine.eval(parsedDmn, decisionId, evalContext.toMap());
+    final Either<EvalFailure, EvalResult> result = dmnEngine.eval(parsedDmn, decisionId, variables);
     final AuditLog auditLog =
         result.map(EvalResult::auditLog).getOrElse(() -> result.left().get().auditLog());
     final var evaluatedDecisions =
@@ -29,7 +29,7 @@ public record EvaluatedDmnScalaInput(String inputId, String inputName, DirectBuf
     return new EvaluatedDmnScalaInput(input.id(), inputName, converter.apply(inputValue));
   }
 
-  private static String determineInputName(final ParsedInput input) {
+  static String determineInputName(final ParsedInput input) {
     final String inputName;
     if (input.name() != null) {
       inputName = input.name();
@@ -12,6 +12,9 @@ import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
 import org.camunda.bpm.model.dmn.instance.Definitions;
 import org.camunda.dmn.parser.ParsedDmn;
@@ -23,6 +26,9 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
   private final String decisionRequirementsName;
   private final String decisionRequirementsNamespace;
   private final List<ParsedDecision> decisions;
+  // compiled on first evaluation, by decision id; empty if the decision can't be compiled
+  private final Map<String, Optional<CompiledDecisionTable>> compiledDecisionTables =
+      new ConcurrentHashMap<>();
 
   private ParsedDmnScalaDrg(
       final ParsedDmn parsedDmn,
@@ -71,6 +77,15 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     return parsedDmn;
   }
 
+  /**
+   * Returns the compiled decision table of the decision with the given id, if the decision can be
+   * evaluated by a {@link CompiledDecisionTable}. The decision is compiled on the first call.
+   */
+  Optional<CompiledDecisionTable> getCompiledDecisionTable(final String decisionId) {
+    return compiledDecisionTables.computeIfAbsent(
+        decisionId, id -> DecisionTableCompiler.compile(parsedDmn, id));
+  }
+
   public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn) {
 
     final DmnModelInstance modelInstance = parsedDmn.model();
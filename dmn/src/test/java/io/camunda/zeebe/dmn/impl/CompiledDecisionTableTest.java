@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.DecisionType;
+import io.camunda.zeebe.dmn.EvaluatedDecision;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+final class CompiledDecisionTableTest {
+
+  private static final String DRG = "/compiled-decision-tables.dmn";
+  private static final ObjectMapper MSGPACK_MAPPER = new ObjectMapper(new MessagePackFactory());
+
+  private final DmnScalaDecisionEngine decisionEngine = new DmnScalaDecisionEngine();
+  private final DmnScalaDecisionEngine fallbackDecisionEngine = new DmnScalaDecisionEngine(false);
+
+  @Test
+  void shouldCompileDecisionTablesWithSimpleUnaryTests() {
+    // given
+    final var drg = parseDrg();
+
+    // when - then
+    assertThat(drg.getCompiledDecisionTable("discount")).isPresent();
+    assertThat(drg.getCompiledDecisionTable("age_group")).isPresent();
+    assertThat(drg.getCompiledDecisionTable("overlapping_rules")).isPresent();
+    assertThat(drg.getCompiledDecisionTable("not_compilable")).isEmpty();
+    assertThat(drg.getCompiledDecisionTable("not_in_drg")).isEmpty();
+  }
+
+  @Test
+  void shouldEvaluateFirstMatchingRule() {
+    // given
+    final var drg = parseDrg();
+    final var compiledDecisionTable = drg.getCompiledDecisionTable("discount").orElseThrow();
+
+    // when
+    final var result =
+        compiledDecisionTable
+            .evaluate(variables("customer", Map.of("tier", "gold"), "orderAmount", 1500))
+            .orElseThrow();
+
+    // then
+    assertThat(readMessagePack(result.getOutput()))
+        .isEqualTo(Map.of("discount", 0.2, "reason", "large gold order"));
+    assertThat(result.getEvaluatedDecisions())
+        .singleElement()
+        .satisfies(
+            decision -> {
+              assertThat(decision.decisionId()).isEqualTo("discount");
+              assertThat(decision.decisionType()).isEqualTo(DecisionType.DECISION_TABLE);
+              assertThat(decision.matchedRules())
+                  .singleElement()
+                  .satisfies(
+                      rule -> {
+                        assertThat(rule.ruleId()).isEqualTo("Rule_gold_large");
+                        assertThat(rule.ruleIndex()).isEqualTo(1);
+                      });
+            });
+  }
+
+  @Test
+  void shouldFallBackIfInputValueIsMissing() {
+    // given
+    final var drg = parseDrg();
+    final var compiledDecisionTable = drg.getCompiledDecisionTable("discount").orElseThrow();
+
+    // when
+    final var result = compiledDecisionTable.evaluate(variables("orderAmount", 1500));
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void shouldFallBackIfInputValueHasOtherType() {
+    // given
+    final var drg = parseDrg();
+    final var compiledDecisionTable = drg.getCompiledDecisionTable("age_group").orElseThrow();
+
+    // when
+    final var result = compiledDecisionTable.evaluate(variables("age", "42"));
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void shouldFallBackIfMoreThanOneRuleOfUniqueTableMatches() {
+    // given
+    final var drg = parseDrg();
+    final var compiledDecisionTable =
+        drg.getCompiledDecisionTable("overlapping_rules").orElseThrow();
+
+    // when
+    final var result = compiledDecisionTable.evaluate(variables("x", 42));
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @ParameterizedTest
+  @MethodSource("evaluations")
+  void shouldEvaluateLikeDmnEngine(final String decisionId, final Map<String, Object> variables) {
+    // given
+    final var drg = parseDrg();
+
+    // when
+    final var result =
+        decisionEngine.evaluateDecisionById(drg, decisionId, new VariablesContext(variables));
+    final var expectedResult =
+        fallbackDecisionEngine.evaluateDecisionById(
+            drg, decisionId, new VariablesContext(variables));
+
+    // then
+    assertThat(result.isFailure()).isEqualTo(expectedResult.isFailure());
+    assertThat(result.getFailureMessage()).isEqualTo(expectedResult.getFailureMessage());
+    assertThat(describe(result)).isEqualTo(describe(expectedResult));
+  }
+
+  private static Stream<Arguments> evaluations() {
+    return Stream.of(
+        Arguments.of(
+            "discount", variables("customer", Map.of("tier", "gold"), "orderAmount", 1500)),
+        Arguments.of(
+            "discount", variables("customer", Map.of("tier", "silver"), "orderAmount", 250.5)),
+        Arguments.of("discount", variables("customer", Map.of("tier", "gold"), "orderAmount", 50)),
+        Arguments.of(
+            "discount", variables("customer", Map.of("tier", "bronze"), "orderAmount", 500L)),
+        Arguments.of(
+            "discount", variables("customer", Map.of("tier", "platinum"), "orderAmount", 500)),
+        Arguments.of("discount", variables("customer", Map.of(), "orderAmount", 500)),
+        Arguments.of("discount", variables("orderAmount", 500)),
+        Arguments.of("age_group", variables("age", 17)),
+        Arguments.of("age_group", variables("age", 18)),
+        Arguments.of("age_group", variables("age", 65.0)),
+        Arguments.of("age_group", variables("age", 65.5)),
+        Arguments.of("age_group", variables("age", asMsgPack("42"))),
+        Arguments.of("age_group", variables("age", "42")),
+        Arguments.of("overlapping_rules", variables("x", 5)),
+        Arguments.of("overlapping_rules", variables("x", 42)),
+        Arguments.of("overlapping_rules", variables("x", -1)),
+        Arguments.of("not_compilable", variables("name", "zeebe")));
+  }
+
+  private ParsedDmnScalaDrg parseDrg() {
+    return (ParsedDmnScalaDrg) decisionEngine.parse(getClass().getResourceAsStream(DRG));
+  }
+
+  private static Map<String, Object> variables(final Object... namesAndValues) {
+    final var variables = new HashMap<String, Object>();
+    for (int i = 0; i < namesAndValues.length; i += 2) {
+      variables.put((String) namesAndValues[i], namesAndValues[i + 1]);
+    }
+    return variables;
+  }
+
+  private static List<Object> describe(final DecisionEvaluationResult result) {
+    return Arrays.asList(
+        readMessagePack(result.getOutput()),
+        result.getFailedDecisionId(),
+        result.getEvaluatedDecisions().stream().map(CompiledDecisionTableTest::describe).toList());
+  }
+
+  private static List<Object> describe(final EvaluatedDecision decision) {
+    return Arrays.asList(
+        decision.decisionId(),
+        decision.decisionName(),
+        decision.decisionType(),
+        readMessagePack(decision.decisionOutput()),
+        decision.evaluatedInputs().stream()
+            .map(
+                input ->
+                    Arrays.asList(
+                        input.inputId(), input.inputName(), readMessagePack(input.inputValue())))
+            .toList(),
+        decision.matchedRules().stream()
+            .map(
+                rule ->
+                    Arrays.asList(
+                        rule.ruleId(),
+                        rule.ruleIndex(),
+                        rule.evaluatedOutputs().stream()
+                            .map(
+                                output ->
+                                    Arrays.asList(
+                                        output.outputId(),
+                                        output.outputName(),
+                                        readMessagePack(output.outputValue())))
+                            .toList()))
+            .toList());
+  }
+
+  private static Object readMessagePack(final DirectBuffer buffer) {
+    if (buffer == null) {
+      return null;
+    }
+    try {
+      return MSGPACK_MAPPER.readValue(BufferUtil.bufferAsArray(buffer), Object.class);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many decisions per second can be evaluated, for a decision table with many rules.
+ * Each rule matches one customer by equality and an order amount by an interval, and the last rule
+ * matches any other input. The decision table is either evaluated as compiled decision table, or by
+ * the DMN engine.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class DecisionTablePerformanceTest {
+
+  private static final String DECISION_ID = "discount";
+
+  @Param({"100", "5000"})
+  public int rules;
+
+  @Param({"true", "false"})
+  public boolean compiled;
+
+  private final Random random = new Random(42);
+  private DmnScalaDecisionEngine decisionEngine;
+  private ParsedDmnScalaDrg drg;
+
+  @Setup
+  public void setup() {
+    decisionEngine = new DmnScalaDecisionEngine(compiled);
+    final var dmn = createDecisionTable(rules).getBytes(StandardCharsets.UTF_8);
+    drg = (ParsedDmnScalaDrg) decisionEngine.parse(new ByteArrayInputStream(dmn));
+  }
+
+  @Benchmark
+  public DecisionEvaluationResult measureDecisionEvaluation() {
+    final var customer = random.nextInt(rules);
+    final var variables =
+        Map.<String, Object>of(
+            "customerId", "customer-" + customer, "orderAmount", random.nextInt(1000));
+
+    return decisionEngine.evaluateDecisionById(drg, DECISION_ID, new VariablesContext(variables));
+  }
+
+  @JMHTest("measureDecisionEvaluation")
+  void shouldEvaluateLargeCompiledDecisionTableWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - the DMN engine evaluates the same table at about 4 ops/s, as it evaluates the rules
+    // one by one; the reference is a thousand times that, so it fails if the compiled table falls
+    // back to the rules, but leaves room for slower runners
+    final var referenceScore = 4_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("rules", "5000").param("compiled", "true"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+
+  private static String createDecisionTable(final int rules) {
+    final var dmn = new StringBuilder();
+    dmn.append(
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/" id="benchmark" \
+        name="Benchmark" namespace="http://camunda.org/schema/1.0/dmn">
+          <decision id="%s" name="Discount">
+            <decisionTable id="table" hitPolicy="FIRST">
+              <input id="customer" label="Customer">
+                <inputExpression id="customer_expression" typeRef="string">
+                  <text>customerId</text>
+                </inputExpression>
+              </input>
+              <input id="amount" label="Amount">
+                <inputExpression id="amount_expression" typeRef="number">
+                  <text>orderAmount</text>
+                </inputExpression>
+              </input>
+              <output id="discount_output" name="discount" typeRef="number" />
+        """
+            .formatted(DECISION_ID));
+
+    for (int rule = 0; rule < rules; rule++) {
+      dmn.append(
+          """
+                <rule id="rule_%1$d">
+                  <inputEntry id="customer_%1$d"><text>"customer-%1$d"</text></inputEntry>
+                  <inputEntry id="amount_%1$d"><text>[%2$d..1000]</text></inputEntry>
+                  <outputEntry id="discount_%1$d"><text>%3$d</text></outputEntry>
+                </rule>
+          """
+              .formatted(rule, rule % 500, rule % 20));
+    }
+
+    dmn.append(
+        """
+              <rule id="default_rule">
+                <inputEntry id="customer_default"><text>-</text></inputEntry>
+                <inputEntry id="amount_default"><text>-</text></inputEntry>
+                <outputEntry id="discount_default"><text>0</text></outputEntry>
+              </rule>
+            </decisionTable>
+          </decision>
+        </definitions>
+        """);
+    return dmn.toString();
+  }
+}
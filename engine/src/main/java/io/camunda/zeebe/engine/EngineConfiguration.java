@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.SharedExecutableProcesses;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -21,10 +22,18 @@ public final class EngineConfiguration {
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  // approximate size (in bytes) of the deployed processes cached per partition
+  public static final long DEFAULT_PROCESS_CACHE_CAPACITY = 128 * 1024 * 1024;
+  // approximate size (in bytes) of the deployed processes cached by a state which is only used
+  // besides the stream processor, e.g. to query or migrate the state of the partition
+  public static final long AUXILIARY_PROCESS_CACHE_CAPACITY = 4 * 1024 * 1024;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private long processCacheCapacity = DEFAULT_PROCESS_CACHE_CAPACITY;
+  private boolean cacheMetricsEnabled = true;
+  private SharedExecutableProcesses sharedExecutableProcesses = new SharedExecutableProcesses();
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -54,4 +63,52 @@ public final class EngineConfiguration {
     this.drgCacheCapacity = drgCacheCapacity;
     return this;
   }
+
+  public long getProcessCacheCapacity() {
+    return processCacheCapacity;
+  }
+
+  public EngineConfiguration setProcessCacheCapacity(final long processCacheCapacity) {
+    this.processCacheCapacity = processCacheCapacity;
+    return this;
+  }
+
+  public boolean isCacheMetricsEnabled() {
+    return cacheMetricsEnabled;
+  }
+
+  public EngineConfiguration setCacheMetricsEnabled(final boolean cacheMetricsEnabled) {
+    this.cacheMetricsEnabled = cacheMetricsEnabled;
+    return this;
+  }
+
+  public SharedExecutableProcesses getSharedExecutableProcesses() {
+    return sharedExecutableProcesses;
+  }
+
+  /**
+   * Sets the executable processes which are shared between the partitions of a broker. By default,
+   * each configuration holds its own instance, i.e. the processes are not shared.
+   */
+  public EngineConfiguration setSharedExecutableProcesses(
+      final SharedExecutableProcesses sharedExecutableProcesses) {
+    this.sharedExecutableProcesses = sharedExecutableProcesses;
+    return this;
+  }
+
+  /**
+   * Returns a copy of this configuration for a state which is only used besides the stream
+   * processor of the partition, e.g. to query or migrate its state. Such a state caches only few
+   * processes, and doesn't expose the metrics of its caches, as they would overwrite the ones of
+   * the stream processor's state of the same partition.
+   */
+  public EngineConfiguration forAuxiliaryState() {
+    return new EngineConfiguration()
+        .setMessagesTtlCheckerBatchLimit(messagesTtlCheckerBatchLimit)
+        .setMessagesTtlCheckerInterval(messagesTtlCheckerInterval)
+        .setDrgCacheCapacity(drgCacheCapacity)
+        .setProcessCacheCapacity(Math.min(processCacheCapacity, AUXILIARY_PROCESS_CACHE_CAPACITY))
+        .setCacheMetricsEnabled(false)
+        .setSharedExecutableProcesses(sharedExecutableProcesses);
+  }
 }
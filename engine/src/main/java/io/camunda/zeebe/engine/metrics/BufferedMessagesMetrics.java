@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.metrics;
 
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
 
 public class BufferedMessagesMetrics {
 
@@ -19,6 +20,28 @@ public class BufferedMessagesMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram MESSAGE_EXPIRY_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("buffered_messages_expiry_lag")
+          .help(
+              "Time between the deadline of a buffered message and the time it was found to be "
+                  + "expired (in seconds)")
+          .labelNames("partition")
+          .buckets(.1, .5, 1, 5, 10, 30, 60, 120, 300, 600, 1800, 3600)
+          .register();
+
+  private static final Histogram CORRELATION_LOOKUP_LATENCY =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("buffered_messages_correlation_lookup_latency")
+          .help(
+              "Time to look up the buffered messages by name and correlation key, without "
+                  + "correlating them (in seconds)")
+          .labelNames("partition")
+          .buckets(.00001, .00005, .0001, .0005, .001, .005, .01, .05, .1)
+          .register();
+
   private final String partitionIdLabel;
 
   public BufferedMessagesMetrics(final int partitionId) {
@@ -26,6 +49,14 @@ public class BufferedMessagesMetrics {
   }
 
   public void setBufferedMessagesCounter(final long counter) {
-    BUFFERED_MESSAGES_COUNT.labels(partitionIdLabel).set((int) counter);
+    BUFFERED_MESSAGES_COUNT.labels(partitionIdLabel).set(counter);
+  }
+
+  public void observeExpiryLag(final long lagInMillis) {
+    MESSAGE_EXPIRY_LAG.labels(partitionIdLabel).observe(lagInMillis / 1000.0);
+  }
+
+  public void observeCorrelationLookupLatency(final long lookupDurationInNanos) {
+    CORRELATION_LOOKUP_LATENCY.labels(partitionIdLabel).observe(lookupDurationInNanos / 1e9);
   }
 }
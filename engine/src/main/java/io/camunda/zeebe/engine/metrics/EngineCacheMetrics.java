@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+/** Metrics of an in-memory cache of the engine state, e.g. of the deployed processes. */
+public final class EngineCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String LABEL_NAME_CACHE = "cache";
+  private static final String LABEL_NAME_PARTITION = "partition";
+
+  private static final Counter REQUESTS = requests().register();
+  private static final Counter EVICTIONS = evictions().register();
+  private static final Histogram LOAD_DURATION = loadDuration().register();
+  private static final Gauge WEIGHT = weight().register();
+
+  // not registered, so that caches which only exist besides the stream processor, e.g. to query or
+  // migrate the state, don't overwrite the metrics of the cache of the same partition
+  private static final Counter DETACHED_REQUESTS = requests().create();
+  private static final Counter DETACHED_EVICTIONS = evictions().create();
+  private static final Histogram DETACHED_LOAD_DURATION = loadDuration().create();
+  private static final Gauge DETACHED_WEIGHT = weight().create();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Histogram.Child loadDuration;
+  private final Gauge.Child weight;
+
+  public EngineCacheMetrics(final String cacheName, final int partitionId) {
+    this(cacheName, partitionId, REQUESTS, EVICTIONS, LOAD_DURATION, WEIGHT);
+  }
+
+  private EngineCacheMetrics(
+      final String cacheName,
+      final int partitionId,
+      final Counter requests,
+      final Counter evictions,
+      final Histogram loadDuration,
+      final Gauge weight) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = requests.labels(cacheName, partitionIdLabel, "hit");
+    misses = requests.labels(cacheName, partitionIdLabel, "miss");
+    this.evictions = evictions.labels(cacheName, partitionIdLabel);
+    this.loadDuration = loadDuration.labels(cacheName, partitionIdLabel);
+    this.weight = weight.labels(cacheName, partitionIdLabel);
+  }
+
+  /** Returns metrics which are recorded as usual, but are not exposed by the registry. */
+  public static EngineCacheMetrics detached(final String cacheName, final int partitionId) {
+    return new EngineCacheMetrics(
+        cacheName,
+        partitionId,
+        DETACHED_REQUESTS,
+        DETACHED_EVICTIONS,
+        DETACHED_LOAD_DURATION,
+        DETACHED_WEIGHT);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void evicted() {
+    evictions.inc();
+  }
+
+  /**
+   * Starts measuring the time to load an entry. The time is observed when the returned timer is
+   * closed.
+   */
+  public Histogram.Timer startLoadTimer() {
+    return loadDuration.startTimer();
+  }
+
+  public void setWeight(final long currentWeight) {
+    weight.set(currentWeight);
+  }
+
+  private static Counter.Builder requests() {
+    return Counter.build()
+        .namespace(NAMESPACE)
+        .name("engine_cache_requests_total")
+        .help("Number of cache lookups, by whether the entry was cached (hit) or not (miss)")
+        .labelNames(LABEL_NAME_CACHE, LABEL_NAME_PARTITION, "result");
+  }
+
+  private static Counter.Builder evictions() {
+    return Counter.build()
+        .namespace(NAMESPACE)
+        .name("engine_cache_evictions_total")
+        .help("Number of cache entries evicted to stay within the capacity of the cache")
+        .labelNames(LABEL_NAME_CACHE, LABEL_NAME_PARTITION);
+  }
+
+  private static Histogram.Builder loadDuration() {
+    return Histogram.build()
+        .namespace(NAMESPACE)
+        .name("engine_cache_load_duration")
+        .help("Time to load a missing entry from the state into the cache (in seconds)")
+        .labelNames(LABEL_NAME_CACHE, LABEL_NAME_PARTITION)
+        .buckets(.0001, .0005, .001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5);
+  }
+
+  private static Gauge.Builder weight() {
+    return Gauge.build()
+        .namespace(NAMESPACE)
+        .name("engine_cache_weight")
+        .help("Current weight of all cache entries, e.g. their approximate size in bytes")
+        .labelNames(LABEL_NAME_CACHE, LABEL_NAME_PARTITION);
+  }
+}
@@ -12,6 +12,7 @@ import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstan
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.BpmnEventType;
 import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
 
 public final class ProcessEngineMetrics {
 
@@ -69,6 +70,15 @@ public final class ProcessEngineMetrics {
           .help("Number of created (root) process instances")
           .labelNames(PARTITION_LABEL, CREATION_MODE_LABEL)
           .register();
+  private static final String DECISION_ID_LABEL = "decisionId";
+  static final Histogram DECISION_EVALUATION_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("decision_evaluation_duration")
+          .help("Time to evaluate a decision, including its required decisions (in seconds)")
+          .labelNames(PARTITION_LABEL, DECISION_ID_LABEL)
+          .buckets(.00005, .0001, .00025, .0005, .001, .0025, .005, .01, .025, .05, .1, .5)
+          .register();
   private final String partitionIdLabel;
 
   public ProcessEngineMetrics(final int partitionId) {
@@ -145,6 +155,14 @@ public final class ProcessEngineMetrics {
     increaseEvaluatedDmnElements(ACTION_EVALUATED_FAILED, amount);
   }
 
+  /**
+   * Starts measuring the time to evaluate the decision with the given id. The time is observed when
+   * the returned timer is closed.
+   */
+  public Histogram.Timer startDecisionEvaluationTimer(final String decisionId) {
+    return DECISION_EVALUATION_DURATION.labels(partitionIdLabel, decisionId).startTimer();
+  }
+
   private void increaseEvaluatedDmnElements(final String action, final int amount) {
     EVALUATED_DMN_ELEMENTS.labels(ORGANIZATION_ID, action, partitionIdLabel).inc(amount);
   }
@@ -130,7 +130,8 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
             processingState.getVariableState(),
             writers,
             processingState.getKeyGenerator(),
-            jobMetrics);
+            jobMetrics,
+            processingState.getPartitionId());
 
     jobBehavior =
         new BpmnJobBehavior(
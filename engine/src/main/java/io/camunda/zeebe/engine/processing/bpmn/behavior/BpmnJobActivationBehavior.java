@@ -43,14 +43,17 @@ public class BpmnJobActivationBehavior {
   private final SideEffectWriter sideEffectWriter;
   private final KeyGenerator keyGenerator;
   private final JobMetrics jobMetrics;
+  private final int partitionId;
 
   public BpmnJobActivationBehavior(
       final JobStreamer jobStreamer,
       final VariableState variableState,
       final Writers writers,
       final KeyGenerator keyGenerator,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final int partitionId) {
     this.jobStreamer = jobStreamer;
+    this.partitionId = partitionId;
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
     jobVariablesCollector = new JobVariablesCollector(variableState);
@@ -106,7 +109,7 @@ public class BpmnJobActivationBehavior {
   private void notifyJobAvailable(final String jobType) {
     sideEffectWriter.appendSideEffect(
         () -> {
-          jobStreamer.notifyWorkAvailable(jobType);
+          jobStreamer.notifyWorkAvailable(jobType, partitionId);
           jobMetrics.jobNotification(jobType);
           return true;
         });
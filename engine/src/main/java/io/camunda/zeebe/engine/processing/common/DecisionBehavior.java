@@ -90,8 +90,10 @@ public class DecisionBehavior {
       final String decisionId,
       final DirectBuffer variables) {
     final var evaluationContext = new VariablesContext(MsgPackConverter.convertToMap(variables));
-    final var evaluationResult =
-        decisionEngine.evaluateDecisionById(drg, decisionId, evaluationContext);
+    final DecisionEvaluationResult evaluationResult;
+    try (final var ignored = metrics.startDecisionEvaluationTimer(decisionId)) {
+      evaluationResult = decisionEngine.evaluateDecisionById(drg, decisionId, evaluationContext);
+    }
 
     updateDecisionMetrics(evaluationResult);
 
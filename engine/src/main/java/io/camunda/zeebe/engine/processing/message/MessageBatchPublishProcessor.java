@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+
+/**
+ * Publishes all messages of a batch within the processing of a single command. Each message is
+ * published like a single published message, i.e. it results in its own published event and is
+ * correlated on its own. A message that was already published is skipped, instead of rejecting the
+ * whole batch.
+ *
+ * <p>The resulting event contains the keys of the messages in the order of the command's messages,
+ * or -1 for a message that was already published. It doesn't contain the messages again, to keep
+ * the event small.
+ */
+public final class MessageBatchPublishProcessor
+    implements TypedRecordProcessor<MessageBatchRecord> {
+
+  private static final long NOT_PUBLISHED = -1L;
+
+  private final MessagePublishBehavior messagePublishBehavior;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+  private final TypedResponseWriter responseWriter;
+
+  public MessageBatchPublishProcessor(
+      final MessagePublishBehavior messagePublishBehavior,
+      final KeyGenerator keyGenerator,
+      final Writers writers) {
+    this.messagePublishBehavior = messagePublishBehavior;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    responseWriter = writers.response();
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<MessageBatchRecord> command) {
+    final var publishedBatch = new MessageBatchRecord();
+
+    for (final MessageRecord message : command.getValue().messages()) {
+      // the array reuses its element while iterating, but the correlation may refer to the
+      // message's buffers until the side effects are executed
+      final var messageRecord = new MessageRecord();
+      messageRecord.wrap(BufferUtil.createCopy(message));
+
+      if (messagePublishBehavior.isAlreadyPublished(messageRecord)) {
+        publishedBatch.addMessageKey(NOT_PUBLISHED);
+      } else {
+        final long messageKey =
+            messagePublishBehavior.publish(messageRecord, command.getTimestamp());
+        publishedBatch.addMessageKey(messageKey);
+      }
+    }
+
+    final long batchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(batchKey, MessageBatchIntent.PUBLISHED, publishedBatch);
+    responseWriter.writeEventOnCommand(
+        batchKey, MessageBatchIntent.PUBLISHED, publishedBatch, command);
+  }
+}
@@ -47,22 +47,28 @@ public final class MessageEventProcessors {
         processingState.getEventScopeInstanceState();
     final KeyGenerator keyGenerator = processingState.getKeyGenerator();
     final var processState = processingState.getProcessState();
+    final var messagePublishBehavior =
+        new MessagePublishBehavior(
+            messageState,
+            subscriptionState,
+            startEventSubscriptionState,
+            eventScopeInstanceState,
+            subscriptionCommandSender,
+            keyGenerator,
+            writers,
+            processState,
+            bpmnBehaviors.eventTriggerBehavior(),
+            bpmnBehaviors.stateBehavior());
 
     typedRecordProcessors
         .onCommand(
             ValueType.MESSAGE,
             MessageIntent.PUBLISH,
-            new MessagePublishProcessor(
-                messageState,
-                subscriptionState,
-                startEventSubscriptionState,
-                eventScopeInstanceState,
-                subscriptionCommandSender,
-                keyGenerator,
-                writers,
-                processState,
-                bpmnBehaviors.eventTriggerBehavior(),
-                bpmnBehaviors.stateBehavior()))
+            new MessagePublishProcessor(messagePublishBehavior, writers))
+        .onCommand(
+            ValueType.MESSAGE_BATCH,
+            MessageBatchIntent.PUBLISH,
+            new MessageBatchPublishProcessor(messagePublishBehavior, keyGenerator, writers))
         .onCommand(
             ValueType.MESSAGE_BATCH,
             MessageBatchIntent.EXPIRE,
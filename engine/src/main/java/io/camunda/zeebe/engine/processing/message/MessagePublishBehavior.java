@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateBehavior;
+import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
+import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.EventScopeInstanceState;
+import io.camunda.zeebe.engine.state.immutable.MessageStartEventSubscriptionState;
+import io.camunda.zeebe.engine.state.immutable.MessageState;
+import io.camunda.zeebe.engine.state.immutable.MessageSubscriptionState;
+import io.camunda.zeebe.engine.state.immutable.ProcessState;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+
+/**
+ * Publishes messages: writes the published event, and correlates the message to the open message
+ * subscriptions and message start events. It is shared by the processors of single and batched
+ * publish message commands.
+ */
+public final class MessagePublishBehavior {
+
+  private final MessageState messageState;
+  private final MessageSubscriptionState subscriptionState;
+  private final MessageStartEventSubscriptionState startEventSubscriptionState;
+  private final SubscriptionCommandSender commandSender;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+
+  private final EventHandle eventHandle;
+  private final Subscriptions correlatingSubscriptions = new Subscriptions();
+
+  public MessagePublishBehavior(
+      final MessageState messageState,
+      final MessageSubscriptionState subscriptionState,
+      final MessageStartEventSubscriptionState startEventSubscriptionState,
+      final EventScopeInstanceState eventScopeInstanceState,
+      final SubscriptionCommandSender commandSender,
+      final KeyGenerator keyGenerator,
+      final Writers writers,
+      final ProcessState processState,
+      final EventTriggerBehavior eventTriggerBehavior,
+      final BpmnStateBehavior stateBehavior) {
+    this.messageState = messageState;
+    this.subscriptionState = subscriptionState;
+    this.startEventSubscriptionState = startEventSubscriptionState;
+    this.commandSender = commandSender;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    eventHandle =
+        new EventHandle(
+            keyGenerator,
+            eventScopeInstanceState,
+            writers,
+            processState,
+            eventTriggerBehavior,
+            stateBehavior);
+  }
+
+  /**
+   * @param messageRecord the message to check
+   * @return {@code true} if the message has an id, and a message with the same id, name,
+   *     correlation key and tenant was already published and is not expired yet
+   */
+  public boolean isAlreadyPublished(final MessageRecord messageRecord) {
+    return messageRecord.hasMessageId()
+        && messageState.exist(
+            messageRecord.getNameBuffer(),
+            messageRecord.getCorrelationKeyBuffer(),
+            messageRecord.getMessageIdBuffer(),
+            messageRecord.getTenantId());
+  }
+
+  /**
+   * Publishes the given message and correlates it. The message's deadline is set based on the given
+   * timestamp.
+   *
+   * @param messageRecord the message to publish
+   * @param timestamp the timestamp of the command that publishes the message
+   * @return the key of the published message
+   */
+  public long publish(final MessageRecord messageRecord, final long timestamp) {
+    final long messageKey = keyGenerator.nextKey();
+
+    correlatingSubscriptions.clear();
+
+    // calculate the deadline based on the command's timestamp
+    messageRecord.setDeadline(timestamp + messageRecord.getTimeToLive());
+
+    stateWriter.appendFollowUpEvent(messageKey, MessageIntent.PUBLISHED, messageRecord);
+
+    correlateToSubscriptions(messageKey, messageRecord);
+    correlateToMessageStartEvents(messageKey, messageRecord);
+
+    sendCorrelateCommand(messageKey, messageRecord);
+
+    if (messageRecord.getTimeToLive() <= 0L) {
+      // avoid that the message can be correlated again by writing the EXPIRED event as a follow-up
+      stateWriter.appendFollowUpEvent(messageKey, MessageIntent.EXPIRED, messageRecord);
+    }
+
+    return messageKey;
+  }
+
+  private void correlateToSubscriptions(final long messageKey, final MessageRecord message) {
+    subscriptionState.visitSubscriptions(
+        message.getTenantId(),
+        message.getNameBuffer(),
+        message.getCorrelationKeyBuffer(),
+        subscription -> {
+
+          // correlate the message only once per process
+          if (!subscription.isCorrelating()
+              && !correlatingSubscriptions.contains(
+                  subscription.getRecord().getBpmnProcessIdBuffer())) {
+
+            final var correlatingSubscription =
+                subscription
+                    .getRecord()
+                    .setMessageKey(messageKey)
+                    .setVariables(message.getVariablesBuffer());
+
+            stateWriter.appendFollowUpEvent(
+                subscription.getKey(),
+                MessageSubscriptionIntent.CORRELATING,
+                correlatingSubscription);
+
+            correlatingSubscriptions.add(correlatingSubscription);
+          }
+
+          return true;
+        });
+  }
+
+  private void correlateToMessageStartEvents(
+      final long messageKey, final MessageRecord messageRecord) {
+
+    startEventSubscriptionState.visitSubscriptionsByMessageName(
+        messageRecord.getTenantId(),
+        messageRecord.getNameBuffer(),
+        subscription -> {
+          final var subscriptionRecord = subscription.getRecord();
+          final var bpmnProcessIdBuffer = subscriptionRecord.getBpmnProcessIdBuffer();
+          final var correlationKeyBuffer = messageRecord.getCorrelationKeyBuffer();
+
+          // create only one instance of a process per correlation key
+          // - allow multiple instance if correlation key is empty
+          if (!correlatingSubscriptions.contains(bpmnProcessIdBuffer)
+              && (correlationKeyBuffer.capacity() == 0
+                  || !messageState.existActiveProcessInstance(
+                      messageRecord.getTenantId(), bpmnProcessIdBuffer, correlationKeyBuffer))) {
+
+            correlatingSubscriptions.add(subscriptionRecord);
+
+            eventHandle.triggerMessageStartEvent(
+                subscription.getKey(), subscriptionRecord, messageKey, messageRecord);
+          }
+        });
+  }
+
+  private boolean sendCorrelateCommand(final long messageKey, final MessageRecord messageRecord) {
+    return correlatingSubscriptions.visitSubscriptions(
+        subscription ->
+            commandSender.correlateProcessMessageSubscription(
+                subscription.getProcessInstanceKey(),
+                subscription.getElementInstanceKey(),
+                subscription.getBpmnProcessId(),
+                messageRecord.getNameBuffer(),
+                messageKey,
+                messageRecord.getVariablesBuffer(),
+                messageRecord.getCorrelationKeyBuffer(),
+                messageRecord.getTenantId()));
+  }
+}
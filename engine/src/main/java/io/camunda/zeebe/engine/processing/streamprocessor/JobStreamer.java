@@ -37,6 +37,18 @@ public interface JobStreamer {
    */
   default void notifyWorkAvailable(final String jobType) {}
 
+  /**
+   * Can be used to notify listeners that there are jobs available for activation on a specific
+   * partition. Defaults to {@link #notifyWorkAvailable(String)}, for listeners which do not care
+   * about the partition.
+   *
+   * @param jobType the type of the stream which has items available
+   * @param partitionId the partition on which the items are available
+   */
+  default void notifyWorkAvailable(final String jobType, final int partitionId) {
+    notifyWorkAvailable(jobType);
+  }
+
   /**
    * Returns a job stream for the job type, or {@link Optional#empty()} if there is none.
    *
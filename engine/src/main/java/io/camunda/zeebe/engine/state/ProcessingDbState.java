@@ -97,7 +97,7 @@ public class ProcessingDbState implements MutableProcessingState {
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
+    processState = new DbProcessState(zeebeDb, transactionContext, partitionId, config);
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
@@ -131,6 +131,17 @@ public class ProcessingDbState implements MutableProcessingState {
     messageState.onRecovered(context);
   }
 
+  @Override
+  public void onClose() {
+    // releases the executable processes, which are shared with the other partitions
+    processState.clearCache();
+  }
+
+  @Override
+  public void onFailed() {
+    processState.clearCache();
+  }
+
   @Override
   public MutableDeploymentState getDeploymentState() {
     return deploymentState;
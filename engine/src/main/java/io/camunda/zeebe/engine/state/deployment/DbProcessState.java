@@ -9,6 +9,10 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -19,6 +23,8 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.EngineCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -33,6 +39,8 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,20 +48,36 @@ import java.util.NoSuchElementException;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
+  private static final long NO_PROCESS_KEY = -1L;
+
+  // the size of the executable model is not measured, but estimated by its number of elements; each
+  // element holds its ids, parsed expressions, mappings, etc.
+  private static final int ESTIMATED_FLOW_ELEMENT_SIZE = 2 * 1024;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
-
-  private final Map<String, Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>>
-      processesByTenantAndProcessIdAndVersionCache = new HashMap<>();
-  private final Map<String, Long2ObjectHashMap<DeployedProcess>> processByTenantAndKeyCache;
+  private final SharedExecutableProcesses sharedExecutableProcesses;
+  private final MessageDigest checksumGenerator;
+
+  /**
+   * Holds the deployed processes, bounded by their approximate size in bytes. The index by process
+   * id and version only refers to the keys of the cached processes, and is updated when processes
+   * are evicted. The executable processes are acquired from the shared executable processes, and
+   * released when they are removed from the cache.
+   */
+  private final Cache<TenantIdAndProcessKey, CachedProcess> processByTenantAndKeyCache;
+
+  private final Map<String, Map<DirectBuffer, Long2LongHashMap>>
+      processKeyByTenantAndProcessIdAndVersionCache = new HashMap<>();
+  private final EngineCacheMetrics cacheMetrics;
+  private long cachedWeight;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -81,7 +105,19 @@ public final class DbProcessState implements MutableProcessState {
   private final VersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final EngineConfiguration config) {
+    sharedExecutableProcesses = config.getSharedExecutableProcesses();
+    try {
+      // the same algorithm as for the checksum of the deployed resources
+      checksumGenerator =
+          MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -119,7 +155,21 @@ public final class DbProcessState implements MutableProcessState {
             fkTenantAwareProcessId,
             digest);
 
-    processByTenantAndKeyCache = new HashMap<>();
+    cacheMetrics =
+        config.isCacheMetricsEnabled()
+            ? new EngineCacheMetrics("process", partitionId)
+            : EngineCacheMetrics.detached("process", partitionId);
+    processByTenantAndKeyCache =
+        CacheBuilder.newBuilder()
+            // the state is only accessed by a single thread, so the whole capacity is kept in one
+            // segment, and the least recently used processes are evicted first
+            .concurrencyLevel(1)
+            .maximumWeight(config.getProcessCacheCapacity())
+            .weigher(
+                (final TenantIdAndProcessKey key, final CachedProcess process) ->
+                    estimateSize(process.deployedProcess()))
+            .removalListener(this::onProcessRemoved)
+            .build();
 
     versionManager =
         new VersionManager(
@@ -177,12 +227,9 @@ public final class DbProcessState implements MutableProcessState {
     processColumnFamily.deleteExisting(tenantAwareProcessDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
 
-    processesByTenantAndProcessIdAndVersionCache
-        .getOrDefault(processRecord.getTenantId(), new HashMap<>())
-        .remove(processRecord.getBpmnProcessIdBuffer());
-    processByTenantAndKeyCache
-        .getOrDefault(processRecord.getTenantId(), new Long2ObjectHashMap<>())
-        .remove(processRecord.getProcessDefinitionKey());
+    processByTenantAndKeyCache.invalidate(
+        new TenantIdAndProcessKey(
+            processRecord.getTenantId(), processRecord.getProcessDefinitionKey()));
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -220,37 +267,42 @@ public final class DbProcessState implements MutableProcessState {
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    try (final var ignored = cacheMetrics.startLoadTimer()) {
+      // we have to copy to store this in cache
+      final byte[] bytes = new byte[persistedProcess.getLength()];
+      final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
+      persistedProcess.write(buffer, 0);
+
+      final PersistedProcess copiedProcess = new PersistedProcess();
+      copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
+
+      final byte[] checksum =
+          checksumGenerator.digest(BufferUtil.bufferAsArray(copiedProcess.getResource()));
+      final ExecutableProcess executableProcess =
+          sharedExecutableProcesses.acquire(
+              copiedProcess.getKey(), checksum, () -> transformProcess(copiedProcess));
+
+      final var deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
+      addProcessToInMemoryState(new CachedProcess(deployedProcess, checksum));
+      return deployedProcess;
+    }
+  }
 
-    // we have to copy to store this in cache
-    final byte[] bytes = new byte[persistedProcess.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    persistedProcess.write(buffer, 0);
-
-    final PersistedProcess copiedProcess = new PersistedProcess();
-    copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
-
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
     final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
+        readModelInstanceFromBuffer(persistedProcess.getResource());
     final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
 
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
-
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
-
-    addProcessToInMemoryState(deployedProcess);
-
-    return deployedProcess;
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -259,68 +311,126 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
-  private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
+  private void addProcessToInMemoryState(final CachedProcess cachedProcess) {
+    final DeployedProcess deployedProcess = cachedProcess.deployedProcess();
+    final String tenantId = deployedProcess.getTenantId();
     final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
 
-    final Long2ObjectHashMap<DeployedProcess> keyMap =
-        processByTenantAndKeyCache.computeIfAbsent(
-            deployedProcess.getTenantId(), key -> new Long2ObjectHashMap<>());
-    keyMap.put(deployedProcess.getKey(), deployedProcess);
+    final var processIdMap =
+        processKeyByTenantAndProcessIdAndVersionCache.computeIfAbsent(
+            tenantId, key -> new HashMap<>());
+    var versionMap = processIdMap.get(bpmnProcessId);
+    if (versionMap == null) {
+      // copy the id, as the buffer of the process is released when the process is evicted
+      versionMap = new Long2LongHashMap(NO_PROCESS_KEY);
+      processIdMap.put(BufferUtil.cloneBuffer(bpmnProcessId), versionMap);
+    }
+    versionMap.put(deployedProcess.getVersion(), deployedProcess.getKey());
+
+    // added after the index, as the process may be evicted right away if it is larger than the
+    // cache
+    cachedWeight += estimateSize(deployedProcess);
+    processByTenantAndKeyCache.put(
+        new TenantIdAndProcessKey(tenantId, deployedProcess.getKey()), cachedProcess);
+    cacheMetrics.setWeight(cachedWeight);
+  }
+
+  private void onProcessRemoved(
+      final RemovalNotification<TenantIdAndProcessKey, CachedProcess> notification) {
+    final CachedProcess cachedProcess = notification.getValue();
+    final DeployedProcess deployedProcess = cachedProcess.deployedProcess();
+    cachedWeight -= estimateSize(deployedProcess);
+    cacheMetrics.setWeight(cachedWeight);
+
+    // every cached process acquired its executable process, also if it replaced another one
+    sharedExecutableProcesses.release(deployedProcess.getKey(), cachedProcess.checksum());
 
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .computeIfAbsent(deployedProcess.getTenantId(), key -> new HashMap<>())
-            .computeIfAbsent(bpmnProcessId, key -> new Long2ObjectHashMap<>());
+    if (notification.wasEvicted()) {
+      cacheMetrics.evicted();
+    }
 
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
+    if (notification.getCause() != RemovalCause.REPLACED) {
+      removeProcessKeyFromInMemoryState(deployedProcess);
+    }
   }
 
-  @Override
-  public DeployedProcess getLatestProcessVersionByProcessId(
-      final DirectBuffer processIdBuffer, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processIdBuffer);
+  private void removeProcessKeyFromInMemoryState(final DeployedProcess deployedProcess) {
+    final var processIdMap =
+        processKeyByTenantAndProcessIdAndVersionCache.get(deployedProcess.getTenantId());
+    if (processIdMap == null) {
+      return;
+    }
 
-    processId.wrapBuffer(processIdBuffer);
-    final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
+    final var versionMap = processIdMap.get(deployedProcess.getBpmnProcessId());
+    if (versionMap != null
+        && versionMap.get(deployedProcess.getVersion()) == deployedProcess.getKey()) {
+      versionMap.remove(deployedProcess.getVersion());
+      if (versionMap.isEmpty()) {
+        processIdMap.remove(deployedProcess.getBpmnProcessId());
+      }
+    }
+  }
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
+  private int estimateSize(final DeployedProcess deployedProcess) {
+    final var elements = deployedProcess.getProcess().getFlowElements().size();
+    return deployedProcess.getResource().capacity() + elements * ESTIMATED_FLOW_ELEMENT_SIZE;
+  }
+
+  private DeployedProcess getCachedProcess(final String tenantId, final long processKey) {
+    final CachedProcess cachedProcess =
+        processByTenantAndKeyCache.getIfPresent(new TenantIdAndProcessKey(tenantId, processKey));
+    if (cachedProcess != null) {
+      cacheMetrics.hit();
+      return cachedProcess.deployedProcess();
     } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion, tenantId);
-      }
+      cacheMetrics.miss();
+      return null;
+    }
+  }
+
+  private long getCachedProcessKey(
+      final String tenantId, final DirectBuffer processIdBuffer, final long version) {
+    final var processIdMap = processKeyByTenantAndProcessIdAndVersionCache.get(tenantId);
+    if (processIdMap == null) {
+      return NO_PROCESS_KEY;
     }
-    return deployedProcess;
+
+    final var versionMap = processIdMap.get(processIdBuffer);
+    return versionMap != null ? versionMap.get(version) : NO_PROCESS_KEY;
+  }
+
+  @Override
+  public DeployedProcess getLatestProcessVersionByProcessId(
+      final DirectBuffer processIdBuffer, final String tenantId) {
+    final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
+    return findProcessByProcessIdAndVersion(processIdBuffer, latestVersion, tenantId);
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByTenantAndProcessIdAndVersionCache
-            .getOrDefault(tenantId, new HashMap<>())
-            .get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null
-          ? deployedProcess
-          : lookupPersistenceState(processId, version, tenantId);
+    return findProcessByProcessIdAndVersion(processId, version, tenantId);
+  }
+
+  private DeployedProcess findProcessByProcessIdAndVersion(
+      final DirectBuffer processId, final long version, final String tenantId) {
+    final long processKey = getCachedProcessKey(tenantId, processId, version);
+    final DeployedProcess deployedProcess =
+        processKey != NO_PROCESS_KEY ? getCachedProcess(tenantId, processKey) : null;
+
+    if (deployedProcess != null) {
+      return deployedProcess;
     } else {
+      if (processKey == NO_PROCESS_KEY) {
+        cacheMetrics.miss();
+      }
       return lookupPersistenceState(processId, version, tenantId);
     }
   }
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
-    final DeployedProcess deployedProcess =
-        processByTenantAndKeyCache.getOrDefault(tenantId, new Long2ObjectHashMap<>()).get(key);
+    final DeployedProcess deployedProcess = getCachedProcess(tenantId, key);
 
     if (deployedProcess != null) {
       return deployedProcess;
@@ -383,27 +493,13 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.clear();
-    processesByTenantAndProcessIdAndVersionCache.clear();
+    processByTenantAndKeyCache.invalidateAll();
+    processKeyByTenantAndProcessIdAndVersionCache.clear();
     versionManager.clear();
   }
 
-  private DeployedProcess lookupProcessByIdAndPersistedVersion(
-      final long latestVersion, final String tenantId) {
-    tenantIdKey.wrapString(tenantId);
-    processVersion.wrapLong(latestVersion);
-
-    final PersistedProcess processWithVersionAndId =
-        processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
-
-    if (processWithVersionAndId != null) {
-      return updateInMemoryState(processWithVersionAndId);
-    }
-    return null;
-  }
-
   private DeployedProcess lookupPersistenceState(
-      final DirectBuffer processIdBuffer, final int version, final String tenantId) {
+      final DirectBuffer processIdBuffer, final long version, final String tenantId) {
     tenantIdKey.wrapString(tenantId);
     processId.wrapBuffer(processIdBuffer);
     processVersion.wrapLong(version);
@@ -412,16 +508,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByTenantAndProcessIdAndVersionCache
-              .getOrDefault(tenantId, new HashMap<>())
-              .get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -435,13 +522,13 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processByTenantAndKeyCache
-          .getOrDefault(tenantId, new Long2ObjectHashMap<>())
-          .get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
+
+  private record TenantIdAndProcessKey(String tenantId, long processKey) {}
+
+  private record CachedProcess(DeployedProcess deployedProcess, byte[] checksum) {}
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the executable processes of all partitions of a broker, so that a process which is deployed
+ * to many partitions is only transformed once and held in memory once. The broker creates one
+ * instance and passes it to the partitions via the {@link
+ * io.camunda.zeebe.engine.EngineConfiguration}.
+ *
+ * <p>An executable process is not modified after it was transformed, so it can be shared between
+ * the partitions. A process is identified by its key and the checksum of its resource: the key is
+ * the same on all partitions, and the checksum guards against sharing a different resource which
+ * was stored with the same key, e.g. after the state was restored from another cluster.
+ *
+ * <p>The processes are reference counted: each process state acquires a process when it caches it,
+ * and releases it when it is evicted. A process is removed when it is no longer referenced by any
+ * partition.
+ */
+public final class SharedExecutableProcesses {
+
+  private final Map<ProcessKeyAndChecksum, SharedProcess> processes = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the executable process with the given key and checksum, and increments its reference
+   * count. If no partition references the process yet, it is transformed by the given transformer.
+   *
+   * @param processDefinitionKey the key of the process
+   * @param checksum the checksum of the process resource; must not be modified afterwards
+   * @param transformer transforms the process, if it's not shared yet
+   * @return the shared executable process
+   */
+  public ExecutableProcess acquire(
+      final long processDefinitionKey,
+      final byte[] checksum,
+      final Supplier<ExecutableProcess> transformer) {
+    final var key = new ProcessKeyAndChecksum(processDefinitionKey, ByteBuffer.wrap(checksum));
+    // only the empty holder is created while computing the entry, so that the map isn't blocked
+    // while the process is transformed
+    SharedProcess sharedProcess;
+    do {
+      sharedProcess = processes.computeIfAbsent(key, ignored -> new SharedProcess());
+    } while (!sharedProcess.reference());
+
+    try {
+      return sharedProcess.getOrTransform(transformer);
+    } catch (final RuntimeException e) {
+      release(key, sharedProcess);
+      throw e;
+    }
+  }
+
+  /**
+   * Decrements the reference count of the executable process with the given key and checksum, and
+   * removes it if it's no longer referenced.
+   *
+   * @param processDefinitionKey the key of the process
+   * @param checksum the checksum of the process resource
+   */
+  public void release(final long processDefinitionKey, final byte[] checksum) {
+    final var key = new ProcessKeyAndChecksum(processDefinitionKey, ByteBuffer.wrap(checksum));
+    final var sharedProcess = processes.get(key);
+    if (sharedProcess != null) {
+      release(key, sharedProcess);
+    }
+  }
+
+  private void release(final ProcessKeyAndChecksum key, final SharedProcess sharedProcess) {
+    if (sharedProcess.dereference()) {
+      processes.remove(key, sharedProcess);
+    }
+  }
+
+  int size() {
+    return processes.size();
+  }
+
+  private record ProcessKeyAndChecksum(long processDefinitionKey, ByteBuffer checksum) {}
+
+  private static final class SharedProcess {
+    private ExecutableProcess process;
+    private int references;
+    // set when the last reference is released; a removed holder must not be referenced again, as
+    // it's no longer (or soon no longer) contained in the map
+    private boolean removed;
+
+    /** Returns false if the holder was already removed, and a new one must be used instead. */
+    private synchronized boolean reference() {
+      if (removed) {
+        return false;
+      }
+      references++;
+      return true;
+    }
+
+    /** Returns true if this was the last reference, and the holder must be removed. */
+    private synchronized boolean dereference() {
+      removed = --references == 0;
+      return removed;
+    }
+
+    // the process is transformed once, by the first partition which acquires it; the others wait
+    // for it, instead of transforming it as well
+    private synchronized ExecutableProcess getOrTransform(
+        final Supplier<ExecutableProcess> transformer) {
+      if (process == null) {
+        process = transformer.get();
+      }
+      return process;
+    }
+  }
+}
@@ -25,13 +25,21 @@ import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.time.Duration;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableLong;
 
 public final class DbMessageState implements MutableMessageState {
 
   private static final String DEADLINE_MESSAGE_COUNT_KEY = "deadline_message_count";
 
+  /**
+   * The duration of the time buckets of the message deadlines. A bucket contains the messages whose
+   * deadline is between the start of the bucket (inclusive) and the start of the next bucket.
+   */
+  static final long DEADLINE_BUCKET_DURATION = Duration.ofMinutes(1).toMillis();
+
   /**
    * <pre>message key -> message
    */
@@ -73,6 +81,26 @@ public final class DbMessageState implements MutableMessageState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       deadlineColumnFamily;
 
+  /**
+   * <pre>deadline bucket start -> number of messages
+   *
+   * find the earliest deadline bucket which contains messages, so that the visiting of messages
+   * with expired deadline can skip the deleted entries of the buckets before it
+   */
+  private final DbLong deadlineBucket;
+
+  private final DbLong deadlineBucketMessageCount;
+  private final ColumnFamily<DbLong, DbLong> deadlineBucketColumnFamily;
+
+  // the start of a deadline bucket in the deadline column family, to count its messages; separate
+  // from the deadline key, which may still be used by the caller
+  private final DbLong deadlineBucketStart;
+  private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineBucketStartKey;
+
+  // the time spent looking up the messages of a correlation, excluding the visitor
+  private long correlationLookupStart;
+  private long correlationLookupDuration;
+
   /**
    * <pre>count | key -> value
    *
@@ -163,6 +191,19 @@ public final class DbMessageState implements MutableMessageState {
             deadlineMessageKey,
             DbNil.INSTANCE);
 
+    deadlineBucket = new DbLong();
+    deadlineBucketMessageCount = new DbLong();
+    deadlineBucketColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_DEADLINE_BUCKETS,
+            transactionContext,
+            deadlineBucket,
+            deadlineBucketMessageCount);
+    deadlineBucketStart = new DbLong();
+    deadlineBucketStartKey =
+        new DbCompositeKey<>(
+            deadlineBucketStart, new DbForeignKey<>(new DbLong(), ZbColumnFamilies.MESSAGE_KEY));
+
     messagesDeadlineCount = new DbLong();
     messagesDeadlineCountKey = new DbString();
     messagesDeadlineCountColumnFamily =
@@ -234,6 +275,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(record.getDeadline());
     deadlineColumnFamily.insert(deadlineMessageKey, DbNil.INSTANCE);
+    updateDeadlineBucket(record.getDeadline(), 1);
 
     localMessageDeadlineCount += 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -334,6 +376,7 @@ public final class DbMessageState implements MutableMessageState {
 
     deadline.wrapLong(storedMessage.getMessage().getDeadline());
     deadlineColumnFamily.deleteExisting(deadlineMessageKey);
+    updateDeadlineBucket(storedMessage.getMessage().getDeadline(), -1);
 
     localMessageDeadlineCount -= 1L;
     messagesDeadlineCount.wrapLong(localMessageDeadlineCount);
@@ -390,13 +433,22 @@ public final class DbMessageState implements MutableMessageState {
     messageName.wrapBuffer(name);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    // only the lookup of the messages is measured, not the visitor, which correlates them
+    correlationLookupDuration = 0;
+    correlationLookupStart = System.nanoTime();
     nameCorrelationMessageColumnFamily.whileEqualPrefix(
         nameAndCorrelationKey,
         (compositeKey, nil) -> {
           final long messageKey = compositeKey.second().inner().getValue();
           final StoredMessage message = getMessage(messageKey);
-          return visitor.visit(message);
+          correlationLookupDuration += System.nanoTime() - correlationLookupStart;
+
+          final boolean shouldContinue = visitor.visit(message);
+          correlationLookupStart = System.nanoTime();
+          return shouldContinue;
         });
+    correlationLookupDuration += System.nanoTime() - correlationLookupStart;
+    bufferedMessagesMetrics.observeCorrelationLookupLatency(correlationLookupDuration);
   }
 
   @Override
@@ -414,7 +466,15 @@ public final class DbMessageState implements MutableMessageState {
       messageKey.wrapLong(startAt.key());
       startAtKey = deadlineMessageKey;
     } else {
-      startAtKey = null;
+      // start at the earliest bucket which contains messages, instead of iterating over the
+      // deleted entries of the messages that expired before
+      final long earliestBucket = findEarliestDeadlineBucket();
+      if (earliestBucket > timestamp) {
+        return false;
+      }
+      deadline.wrapLong(earliestBucket);
+      messageKey.wrapLong(0);
+      startAtKey = deadlineMessageKey;
     }
     final var stoppedByVisitor = new MutableBoolean(false);
     deadlineColumnFamily.whileTrue(
@@ -433,6 +493,28 @@ public final class DbMessageState implements MutableMessageState {
     return stoppedByVisitor.get();
   }
 
+  @Override
+  public void populateDeadlineBuckets() {
+    // a single pass over the deadlines, which are sorted, so that the messages of a bucket are
+    // counted in memory and each bucket is written once; the buffered messages are bounded by their
+    // time to live, and this only runs once after an update from a version without buckets
+    final var currentBucket = new MutableLong(-1);
+    final var currentBucketCount = new MutableLong();
+    deadlineColumnFamily.forEach(
+        (key, nil) -> {
+          final long bucketStart = getDeadlineBucketStart(key.first().getValue());
+          if (bucketStart != currentBucket.get() && currentBucketCount.get() > 0) {
+            putDeadlineBucket(currentBucket.get(), currentBucketCount.get());
+            currentBucketCount.set(0);
+          }
+          currentBucket.set(bucketStart);
+          currentBucketCount.increment();
+        });
+    if (currentBucketCount.get() > 0) {
+      putDeadlineBucket(currentBucket.get(), currentBucketCount.get());
+    }
+  }
+
   @Override
   public boolean exist(
       final DirectBuffer name,
@@ -446,4 +528,62 @@ public final class DbMessageState implements MutableMessageState {
 
     return messageIdColumnFamily.exists(nameCorrelationMessageIdKey);
   }
+
+  private static long getDeadlineBucketStart(final long messageDeadline) {
+    return messageDeadline - Math.floorMod(messageDeadline, DEADLINE_BUCKET_DURATION);
+  }
+
+  private void putDeadlineBucket(final long bucketStart, final long messageCount) {
+    deadlineBucket.wrapLong(bucketStart);
+    deadlineBucketMessageCount.wrapLong(messageCount);
+    deadlineBucketColumnFamily.upsert(deadlineBucket, deadlineBucketMessageCount);
+  }
+
+  private void updateDeadlineBucket(final long messageDeadline, final long delta) {
+    final long bucketStart = getDeadlineBucketStart(messageDeadline);
+    deadlineBucket.wrapLong(bucketStart);
+    final var bucketMessageCount = deadlineBucketColumnFamily.get(deadlineBucket);
+    long newCount = (bucketMessageCount != null ? bucketMessageCount.getValue() : 0) + delta;
+    if (newCount <= 0) {
+      // the bucket must only be removed if it holds no messages anymore, otherwise the TTL checker
+      // would skip the remaining ones; e.g. if not all of its messages were counted
+      newCount = countMessagesInDeadlineBucket(bucketStart);
+    }
+
+    if (newCount > 0) {
+      putDeadlineBucket(bucketStart, newCount);
+    } else {
+      deadlineBucketColumnFamily.deleteIfExists(deadlineBucket);
+    }
+  }
+
+  private long countMessagesInDeadlineBucket(final long bucketStart) {
+    final long nextBucketStart = bucketStart + DEADLINE_BUCKET_DURATION;
+    final var count = new MutableLong();
+    deadlineBucketStart.wrapLong(bucketStart);
+    deadlineColumnFamily.whileTrue(
+        deadlineBucketStartKey,
+        (key, nil) -> {
+          if (key.first().getValue() >= nextBucketStart) {
+            return false;
+          }
+          count.increment();
+          return true;
+        });
+    return count.get();
+  }
+
+  /**
+   * Returns the start of the earliest deadline bucket which contains messages, or {@link
+   * Long#MAX_VALUE} if there are no messages.
+   */
+  private long findEarliestDeadlineBucket() {
+    final var earliestBucket = new MutableLong(Long.MAX_VALUE);
+    deadlineBucketColumnFamily.whileTrue(
+        (bucket, count) -> {
+          earliestBucket.set(bucket.getValue());
+          return false;
+        });
+    return earliestBucket.get();
+  }
 }
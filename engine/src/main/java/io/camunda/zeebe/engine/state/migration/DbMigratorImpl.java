@@ -48,7 +48,8 @@ public class DbMigratorImpl implements DbMigrator {
           new MultiTenancyMessageStartEventSubscriptionStateMigration(),
           new MultiTenancyMessageSubscriptionStateMigration(),
           new MultiTenancyProcessMessageSubscriptionStateMigration(),
-          new MultiTenancyJobStateMigration());
+          new MultiTenancyJobStateMigration(),
+          new MessageDeadlineBucketMigration());
   // Be mindful of https://github.com/camunda/zeebe/issues/7248. In particular, that issue
   // should be solved first, before adding any migration that can take a long time
 
@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration;
+
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+public class MessageDeadlineBucketMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final ProcessingState processingState) {
+    // Once populated, the buckets are maintained with the messages. They are only missing if the
+    // messages were stored by a version without deadline buckets.
+    return processingState.isEmpty(ZbColumnFamilies.MESSAGE_DEADLINE_BUCKETS)
+        && !processingState.isEmpty(ZbColumnFamilies.MESSAGE_DEADLINES);
+  }
+
+  @Override
+  public void runMigration(final MutableProcessingState processingState) {
+    processingState.getMessageState().populateDeadlineBuckets();
+  }
+}
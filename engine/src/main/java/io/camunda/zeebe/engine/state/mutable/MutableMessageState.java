@@ -29,4 +29,11 @@ public interface MutableMessageState extends MessageState, StreamProcessorLifecy
   void removeProcessInstanceCorrelationKey(long processInstanceKey);
 
   void remove(long messageKey);
+
+  /**
+   * Populates the time buckets of the message deadlines from the existing messages. The buckets are
+   * maintained when messages are put or removed, but don't exist for messages that were stored by a
+   * version without deadline buckets. Must only be called if there are no buckets yet.
+   */
+  void populateDeadlineBuckets();
 }
@@ -12,7 +12,6 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
-import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.Protocol;
@@ -26,7 +25,7 @@ import org.agrona.DirectBuffer;
 public final class StateQueryService implements QueryService {
 
   private volatile boolean isClosed;
-  private ProcessingState state;
+  private ProcessingDbState state;
   private final ZeebeDb<ZbColumnFamilies> zeebeDb;
 
   public StateQueryService(final ZeebeDb<ZbColumnFamilies> zeebeDb) {
@@ -36,6 +35,9 @@ public final class StateQueryService implements QueryService {
   @Override
   public void close() {
     isClosed = true;
+    if (state != null) {
+      state.onClose();
+    }
   }
 
   @Override
@@ -83,7 +85,7 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
-              new EngineConfiguration());
+              new EngineConfiguration().forAuxiliaryState());
     }
   }
 }
@@ -7,18 +7,27 @@
  */
 package io.camunda.zeebe.engine.processing.common;
 
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static io.camunda.zeebe.test.util.asserts.EitherAssert.assertThat;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
 import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor.EvaluationContextLookup;
+import io.camunda.zeebe.engine.processing.variable.VariableStateEvaluationContextLookup;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -89,4 +98,31 @@ class ExpressionProcessorTest {
               "Expected result of the expression ' [null]' to be 'ARRAY' containing 'STRING' items, but was 'ARRAY' containing at least one non-'STRING' item."));
     }
   }
+
+  @Nested
+  class VariableLookupTest {
+
+    private static final long SCOPE_KEY = 1L;
+
+    private final VariableState variableState = mock(VariableState.class);
+    private final ExpressionProcessor processor =
+        new ExpressionProcessor(
+            EXPRESSION_LANGUAGE, new VariableStateEvaluationContextLookup(variableState));
+
+    @Test
+    void shouldOnlyReadReferencedVariablesFromState() {
+      // given
+      when(variableState.getVariable(SCOPE_KEY, wrapString("x"))).thenReturn(asMsgPack("\"a\""));
+      when(variableState.getVariable(SCOPE_KEY, wrapString("y"))).thenReturn(asMsgPack("\"b\""));
+      final var expression = EXPRESSION_LANGUAGE.parseExpression("=upper case(x) + \"y\"");
+
+      // when
+      final var result = processor.evaluateStringExpression(expression, SCOPE_KEY);
+
+      // then
+      assertThat(result).isRight().extracting(Either::get).isEqualTo("Ay");
+      verify(variableState).getVariable(SCOPE_KEY, wrapString("x"));
+      verifyNoMoreInteractions(variableState);
+    }
+  }
 }
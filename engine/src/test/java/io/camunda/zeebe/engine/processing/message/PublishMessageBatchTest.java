@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.MessageBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.record.ProcessInstances;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class PublishMessageBatchTest {
+
+  private static final String PROCESS_ID = "process";
+
+  @ClassRule public static final EngineRule ENGINE_RULE = EngineRule.singlePartition();
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  @Test
+  public void shouldPublishMessagesOfBatch() {
+    // given
+    final var messageBatch = new MessageBatchRecord();
+    addMessage(messageBatch, "order canceled", "order-123", "");
+    addMessage(messageBatch, "order shipped", "order-456", "");
+
+    // when
+    final Record<MessageBatchRecordValue> publishedBatch = publish(messageBatch);
+
+    // then
+    final var messageKeys = publishedBatch.getValue().getMessageKeys();
+    assertThat(publishedBatch.getValue().getMessages()).isEmpty();
+    assertThat(
+            RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+                .withSourceRecordPosition(publishedBatch.getSourceRecordPosition())
+                .limit(2))
+        .extracting(
+            Record::getKey,
+            record -> record.getValue().getName(),
+            record -> record.getValue().getCorrelationKey(),
+            record -> record.getValue().getTenantId())
+        .containsExactly(
+            tuple(
+                messageKeys.get(0),
+                "order canceled",
+                "order-123",
+                TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+            tuple(
+                messageKeys.get(1),
+                "order shipped",
+                "order-456",
+                TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+  }
+
+  @Test
+  public void shouldSetDeadlineOfMessagesOfBatch() {
+    // given
+    final var messageBatch = new MessageBatchRecord();
+    addMessage(messageBatch, "order canceled", "order-123", "");
+
+    // when
+    final Record<MessageBatchRecordValue> publishedBatch = publish(messageBatch);
+
+    // then
+    final var publishCommand =
+        RecordingExporter.messageBatchRecords(MessageBatchIntent.PUBLISH).getFirst();
+    final Record<MessageRecordValue> publishedMessage =
+        RecordingExporter.messageRecords(MessageIntent.PUBLISHED)
+            .withSourceRecordPosition(publishedBatch.getSourceRecordPosition())
+            .getFirst();
+    assertThat(publishedMessage.getValue().getDeadline())
+        .isEqualTo(publishCommand.getTimestamp() + 1_000L);
+  }
+
+  @Test
+  public void shouldNotPublishMessageOfBatchWithSameIdAgain() {
+    // given
+    ENGINE_RULE
+        .message()
+        .withName("order canceled")
+        .withCorrelationKey("order-123")
+        .withId("message-1")
+        .publish();
+
+    final var messageBatch = new MessageBatchRecord();
+    addMessage(messageBatch, "order canceled", "order-123", "message-1");
+    addMessage(messageBatch, "order canceled", "order-123", "message-2");
+    addMessage(messageBatch, "order canceled", "order-123", "message-2");
+
+    // when
+    final Record<MessageBatchRecordValue> publishedBatch = publish(messageBatch);
+
+    // then
+    final var messageKeys = publishedBatch.getValue().getMessageKeys();
+    assertThat(messageKeys).hasSize(3);
+    assertThat(messageKeys.get(0)).isEqualTo(-1L);
+    assertThat(messageKeys.get(1)).isPositive();
+    assertThat(messageKeys.get(2)).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldCorrelateMessagesOfBatch() {
+    // given
+    ENGINE_RULE
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .intermediateCatchEvent("receive-message")
+                .message(m -> m.name("message").zeebeCorrelationKeyExpression("key"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final long processInstanceKey =
+        ENGINE_RULE
+            .processInstance()
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("key", "order-123")
+            .create();
+
+    assertThat(
+            RecordingExporter.messageSubscriptionRecords(MessageSubscriptionIntent.CREATED)
+                .withProcessInstanceKey(processInstanceKey)
+                .exists())
+        .isTrue();
+
+    final var messageBatch = new MessageBatchRecord();
+    addMessage(messageBatch, "message", "order-456", "");
+    addMessage(messageBatch, "message", "order-123", "");
+
+    // when
+    publish(messageBatch);
+
+    // then
+    final var completedEvent =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementId("receive-message")
+            .getFirst();
+    assertThat(
+            ProcessInstances.getCurrentVariables(processInstanceKey, completedEvent.getPosition()))
+        .contains(entry("correlated", "\"order-123\""));
+  }
+
+  private static void addMessage(
+      final MessageBatchRecord messageBatch,
+      final String name,
+      final String correlationKey,
+      final String messageId) {
+    messageBatch
+        .messages()
+        .add()
+        .setName(name)
+        .setCorrelationKey(correlationKey)
+        .setMessageId(messageId)
+        .setTimeToLive(1_000L)
+        .setVariables(asMsgPack("correlated", correlationKey))
+        .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  }
+
+  private static Record<MessageBatchRecordValue> publish(final MessageBatchRecord messageBatch) {
+    ENGINE_RULE.writeRecords(
+        RecordToWrite.command().messageBatch(MessageBatchIntent.PUBLISH, messageBatch));
+
+    return RecordingExporter.messageBatchRecords(MessageBatchIntent.PUBLISHED).getFirst();
+  }
+}
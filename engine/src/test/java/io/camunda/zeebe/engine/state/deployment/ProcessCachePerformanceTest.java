@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many processes per second can be looked up by key, when a process is deployed in
+ * many versions and the cache can only hold some of them. Most lookups are for a few recent
+ * versions, e.g. of the running instances, while the others are spread over all versions.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class ProcessCachePerformanceTest {
+
+  private static final String TENANT_ID = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+  private static final int HOT_VERSIONS = 10;
+  private static final int HOT_LOOKUP_PERCENTAGE = 95;
+
+  @Param({"100", "10000"})
+  public int versions;
+
+  @Param({"4194304"})
+  public long cacheCapacity;
+
+  private final Random random = new Random(42);
+  private Path dbDirectory;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private DbProcessState processState;
+
+  @Setup
+  public void setup() throws IOException {
+    dbDirectory = Files.createTempDirectory("process-cache");
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(dbDirectory.toFile());
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    processState =
+        new DbProcessState(
+            zeebeDb,
+            transactionContext,
+            Protocol.DEPLOYMENT_PARTITION,
+            new EngineConfiguration().setProcessCacheCapacity(cacheCapacity));
+
+    for (int version = 1; version <= versions; version++) {
+      final var model =
+          Bpmn.createExecutableProcess("process")
+              .startEvent()
+              .serviceTask("task-" + version, task -> task.zeebeJobType("type"))
+              .exclusiveGateway()
+              .defaultFlow()
+              .serviceTask("other-task", task -> task.zeebeJobType("other"))
+              .endEvent()
+              .done();
+      final var processRecord =
+          new ProcessRecord()
+              .setResourceName("process.bpmn")
+              .setResource(wrapString(Bpmn.convertToString(model)))
+              .setBpmnProcessId("process")
+              .setVersion(version)
+              .setKey(processKey(version))
+              .setChecksum(wrapString("checksum-" + version))
+              .setTenantId(TENANT_ID);
+      processState.putProcess(processRecord.getKey(), processRecord);
+    }
+    processState.clearCache();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(dbDirectory);
+  }
+
+  @Benchmark
+  public DeployedProcess measureProcessLookup() {
+    final int hotVersions = Math.min(HOT_VERSIONS, versions);
+    final int version =
+        random.nextInt(100) < HOT_LOOKUP_PERCENTAGE
+            ? versions - random.nextInt(hotVersions)
+            : 1 + random.nextInt(versions);
+
+    return processState.getProcessByKeyAndTenant(processKey(version), TENANT_ID);
+  }
+
+  @JMHTest("measureProcessLookup")
+  void shouldLookUpProcessesOfManyVersionsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - 5% of the lookups are for cold versions, which miss the cache and cost about as much
+    // as a lookup without cache, i.e. about 85 ops/s; if the hot versions stay cached, the score
+    // approaches 20 times that, so the reference of 16 times fails if the cold versions evict them
+    final var referenceScore = 1_400;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("versions", "10000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+
+  private static long processKey(final int version) {
+    return Protocol.encodePartitionId(Protocol.DEPLOYMENT_PARTITION, version);
+  }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.deployment.PersistedProcess.PersistedProcessState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.prometheus.client.CollectorRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class ProcessStateCacheTest {
+
+  private static final String TENANT_ID = "defaultTenant";
+  private static final String PROCESS_ID = "process";
+  // fits a few of the processes below, but not all of them
+  private static final long CACHE_CAPACITY = 64 * 1024;
+  private static final int VERSIONS = 50;
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private DbProcessState processState;
+
+  @BeforeEach
+  void setup() {
+    processState =
+        new DbProcessState(
+            zeebeDb,
+            transactionContext,
+            Protocol.DEPLOYMENT_PARTITION,
+            new EngineConfiguration().setProcessCacheCapacity(CACHE_CAPACITY));
+  }
+
+  @Test
+  void shouldGetAllVersionsByKeyWhenExceedingCapacity() {
+    // given
+    final var processRecords = putProcessVersions();
+
+    // when - access all versions twice, so cached processes must be evicted and loaded again
+    final var deployedProcesses = new ArrayList<DeployedProcess>();
+    for (int i = 0; i < 2; i++) {
+      processRecords.forEach(
+          record ->
+              deployedProcesses.add(
+                  processState.getProcessByKeyAndTenant(record.getKey(), TENANT_ID)));
+    }
+
+    // then
+    assertThat(deployedProcesses)
+        .hasSize(2 * VERSIONS)
+        .allSatisfy(process -> assertThat(process).isNotNull())
+        .extracting(DeployedProcess::getVersion)
+        .containsSubsequence(1, VERSIONS, 1, VERSIONS);
+  }
+
+  @Test
+  void shouldGetAllVersionsByIdAndVersionWhenExceedingCapacity() {
+    // given
+    putProcessVersions();
+
+    // when
+    final var deployedProcesses = new ArrayList<DeployedProcess>();
+    for (int i = 0; i < 2; i++) {
+      for (int version = 1; version <= VERSIONS; version++) {
+        deployedProcesses.add(
+            processState.getProcessByProcessIdAndVersion(
+                wrapString(PROCESS_ID), version, TENANT_ID));
+      }
+    }
+
+    // then
+    assertThat(deployedProcesses)
+        .hasSize(2 * VERSIONS)
+        .allSatisfy(
+            process -> {
+              assertThat(process).isNotNull();
+              assertThat(process.getBpmnProcessId()).isEqualTo(wrapString(PROCESS_ID));
+            })
+        .extracting(DeployedProcess::getVersion)
+        .containsSubsequence(1, VERSIONS, 1, VERSIONS);
+  }
+
+  @Test
+  void shouldGetLatestVersionAfterEviction() {
+    // given
+    putProcessVersions();
+    processState.getProcessByProcessIdAndVersion(wrapString(PROCESS_ID), VERSIONS, TENANT_ID);
+
+    // when - evict the latest version by accessing all others
+    for (int version = 1; version < VERSIONS; version++) {
+      processState.getProcessByProcessIdAndVersion(wrapString(PROCESS_ID), version, TENANT_ID);
+    }
+    final var latestProcess =
+        processState.getLatestProcessVersionByProcessId(wrapString(PROCESS_ID), TENANT_ID);
+
+    // then
+    assertThat(latestProcess.getVersion()).isEqualTo(VERSIONS);
+  }
+
+  @Test
+  void shouldNotGetDeletedProcessFromCache() {
+    // given
+    final var processRecord = putProcessVersions().get(0);
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // when
+    processState.deleteProcess(processRecord);
+
+    // then
+    assertThat(processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID)).isNull();
+    assertThat(
+            processState.getProcessByProcessIdAndVersion(
+                wrapString(PROCESS_ID), processRecord.getVersion(), TENANT_ID))
+        .isNull();
+  }
+
+  @Test
+  void shouldGetUpdatedProcessStateFromCache() {
+    // given
+    final var processRecord = putProcessVersions().get(0);
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // when
+    processState.updateProcessState(processRecord, PersistedProcessState.PENDING_DELETION);
+
+    // then
+    assertThat(processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID).getState())
+        .isEqualTo(PersistedProcessState.PENDING_DELETION);
+    assertThat(
+            processState
+                .getProcessByProcessIdAndVersion(
+                    wrapString(PROCESS_ID), processRecord.getVersion(), TENANT_ID)
+                .getState())
+        .isEqualTo(PersistedProcessState.PENDING_DELETION);
+  }
+
+  @Test
+  void shouldNotExposeCacheMetricsOfAuxiliaryState() {
+    // given
+    final var partitionId = 99;
+    final var auxiliaryState =
+        new DbProcessState(
+            zeebeDb,
+            transactionContext,
+            partitionId,
+            new EngineConfiguration().forAuxiliaryState());
+    final var processRecord = putProcessVersions().get(0);
+
+    // when
+    auxiliaryState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(
+            CollectorRegistry.defaultRegistry.getSampleValue(
+                "zeebe_engine_cache_weight",
+                new String[] {"cache", "partition"},
+                new String[] {"process", String.valueOf(partitionId)}))
+        .isNull();
+  }
+
+  private List<ProcessRecord> putProcessVersions() {
+    final var processRecords = new ArrayList<ProcessRecord>();
+    for (int version = 1; version <= VERSIONS; version++) {
+      final var model =
+          Bpmn.createExecutableProcess(PROCESS_ID)
+              .startEvent()
+              .serviceTask("task-" + version, task -> task.zeebeJobType("type"))
+              .endEvent()
+              .done();
+      final var processRecord =
+          new ProcessRecord()
+              .setResourceName("process.bpmn")
+              .setResource(wrapString(Bpmn.convertToString(model)))
+              .setBpmnProcessId(PROCESS_ID)
+              .setVersion(version)
+              .setKey(Protocol.encodePartitionId(Protocol.DEPLOYMENT_PARTITION, version))
+              .setChecksum(wrapString("checksum-" + version))
+              .setTenantId(TENANT_ID);
+
+      processState.putProcess(processRecord.getKey(), processRecord);
+      processRecords.add(processRecord);
+    }
+    return processRecords;
+  }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class SharedExecutableProcessesTest {
+
+  private static final String TENANT_ID = "defaultTenant";
+  private static final long PROCESS_KEY = 123L;
+  private static final byte[] CHECKSUM = {1, 2, 3};
+
+  private final SharedExecutableProcesses sharedProcesses = new SharedExecutableProcesses();
+  private final AtomicInteger transformations = new AtomicInteger();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  @BeforeEach
+  void setup() {
+    transformations.set(0);
+  }
+
+  @Test
+  void shouldTransformProcessOnlyOnce() {
+    // when
+    final var process = sharedProcesses.acquire(PROCESS_KEY, CHECKSUM.clone(), this::transform);
+    final var otherProcess =
+        sharedProcesses.acquire(PROCESS_KEY, CHECKSUM.clone(), this::transform);
+
+    // then
+    assertThat(otherProcess).isSameAs(process);
+    assertThat(transformations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotShareProcessWithDifferentChecksum() {
+    // when
+    final var process = sharedProcesses.acquire(PROCESS_KEY, CHECKSUM.clone(), this::transform);
+    final var otherProcess = sharedProcesses.acquire(PROCESS_KEY, new byte[] {4}, this::transform);
+
+    // then
+    assertThat(otherProcess).isNotSameAs(process);
+    assertThat(transformations).hasValue(2);
+  }
+
+  @Test
+  void shouldRemoveProcessWhenNoLongerReferenced() {
+    // given
+    sharedProcesses.acquire(PROCESS_KEY, CHECKSUM.clone(), this::transform);
+    sharedProcesses.acquire(PROCESS_KEY, CHECKSUM.clone(), this::transform);
+
+    // when
+    sharedProcesses.release(PROCESS_KEY, CHECKSUM.clone());
+
+    // then
+    assertThat(sharedProcesses.size()).isOne();
+
+    // when
+    sharedProcesses.release(PROCESS_KEY, CHECKSUM.clone());
+
+    // then
+    assertThat(sharedProcesses.size()).isZero();
+  }
+
+  @Test
+  void shouldAcquireOtherProcessWhileTransforming() {
+    // when - the map must not be locked while transforming, or the nested acquire would fail
+    final var process =
+        sharedProcesses.acquire(
+            PROCESS_KEY,
+            CHECKSUM.clone(),
+            () -> {
+              sharedProcesses.acquire(PROCESS_KEY + 1, CHECKSUM.clone(), this::transform);
+              return transform();
+            });
+
+    // then
+    assertThat(process).isNotNull();
+    assertThat(sharedProcesses.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotReferenceProcessWhenTransformationFails() {
+    // given
+    final var failure = new IllegalStateException("expected");
+
+    // when
+    assertThatThrownBy(
+            () ->
+                sharedProcesses.acquire(
+                    PROCESS_KEY,
+                    CHECKSUM.clone(),
+                    () -> {
+                      throw failure;
+                    }))
+        .isSameAs(failure);
+
+    // then
+    assertThat(sharedProcesses.size()).isZero();
+    assertThat(sharedProcesses.acquire(PROCESS_KEY, CHECKSUM.clone(), this::transform)).isNotNull();
+  }
+
+  @Test
+  void shouldShareProcessBetweenPartitions() {
+    // given
+    final var processState = createProcessState(1);
+    final var otherProcessState = createProcessState(2);
+    final var processRecord = createProcessRecord();
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    final var process = processState.getProcessByKeyAndTenant(PROCESS_KEY, TENANT_ID);
+    final var otherProcess = otherProcessState.getProcessByKeyAndTenant(PROCESS_KEY, TENANT_ID);
+
+    // then
+    assertThat(otherProcess.getProcess()).isSameAs(process.getProcess());
+    assertThat(sharedProcesses.size()).isOne();
+  }
+
+  @Test
+  void shouldReleaseProcessWhenClearingCache() {
+    // given
+    final var processState = createProcessState(1);
+    final var otherProcessState = createProcessState(2);
+    final var processRecord = createProcessRecord();
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.getProcessByKeyAndTenant(PROCESS_KEY, TENANT_ID);
+    otherProcessState.getProcessByKeyAndTenant(PROCESS_KEY, TENANT_ID);
+
+    // when
+    processState.clearCache();
+
+    // then
+    assertThat(sharedProcesses.size()).isOne();
+
+    // when
+    otherProcessState.clearCache();
+
+    // then
+    assertThat(sharedProcesses.size()).isZero();
+  }
+
+  private ExecutableProcess transform() {
+    transformations.incrementAndGet();
+    return new ExecutableProcess("process");
+  }
+
+  private DbProcessState createProcessState(final int partitionId) {
+    return new DbProcessState(
+        zeebeDb,
+        transactionContext,
+        partitionId,
+        new EngineConfiguration().setSharedExecutableProcesses(sharedProcesses));
+  }
+
+  private static ProcessRecord createProcessRecord() {
+    final var model =
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", task -> task.zeebeJobType("type"))
+            .endEvent()
+            .done();
+    return new ProcessRecord()
+        .setResourceName("process.bpmn")
+        .setResource(wrapString(Bpmn.convertToString(model)))
+        .setBpmnProcessId("process")
+        .setVersion(1)
+        .setKey(PROCESS_KEY)
+        .setChecksum(wrapString("checksum"))
+        .setTenantId(TENANT_ID);
+  }
+}
@@ -615,6 +615,45 @@ public final class MessageStateTest {
     assertThat(messageState.getProcessInstanceCorrelationKey(2L)).isEqualTo(wrapString("key-2"));
   }
 
+  @Test
+  public void shouldVisitMessagesOfLaterDeadlineBucketsAfterEarlierMessagesAreRemoved() {
+    // given
+    final long bucketDuration = DbMessageState.DEADLINE_BUCKET_DURATION;
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", 1_000));
+    messageState.put(2L, createMessage("name", "correlationKey", "{}", "nr2", 2_000));
+    messageState.put(3L, createMessage("name", "correlationKey", "{}", "nr3", bucketDuration * 3));
+    messageState.put(
+        4L, createMessage("name", "correlationKey", "{}", "nr4", bucketDuration * 5 + 1));
+
+    // when
+    messageState.remove(1L);
+    messageState.remove(2L);
+
+    // then
+    final List<Long> readMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        bucketDuration * 6, null, (deadline, e) -> readMessages.add(e));
+
+    assertThat(readMessages).containsExactly(3L, 4L);
+  }
+
+  @Test
+  public void shouldNotVisitMessagesIfEarliestDeadlineBucketIsAfterTimestamp() {
+    // given
+    final long bucketDuration = DbMessageState.DEADLINE_BUCKET_DURATION;
+    messageState.put(1L, createMessage("name", "correlationKey", "{}", "nr1", bucketDuration * 2));
+
+    // when
+    final List<Long> readMessages = new ArrayList<>();
+    final boolean isStoppedByVisitor =
+        messageState.visitMessagesWithDeadlineBeforeTimestamp(
+            bucketDuration, null, (deadline, e) -> readMessages.add(e));
+
+    // then
+    assertThat(readMessages).isEmpty();
+    assertThat(isStoppedByVisitor).isFalse();
+  }
+
   private MessageRecord createMessage(final String name, final String correlationKey) {
     return new MessageRecord()
         .setName(name)
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+public class MessageDeadlineBucketMigrationTest {
+
+  final MessageDeadlineBucketMigration messageDeadlineBucketMigration =
+      new MessageDeadlineBucketMigration();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState processingState;
+  private TransactionContext transactionContext;
+
+  private DbLong deadlineBucket;
+  private ColumnFamily<DbLong, DbLong> deadlineBucketColumnFamily;
+
+  @BeforeEach
+  public void setup() {
+    deadlineBucket = new DbLong();
+    deadlineBucketColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.MESSAGE_DEADLINE_BUCKETS,
+            transactionContext,
+            deadlineBucket,
+            new DbLong());
+  }
+
+  @Test
+  public void shouldPopulateDeadlineBucketsOfExistingMessages() {
+    // given - messages of a version without deadline buckets
+    final var messageState = processingState.getMessageState();
+    messageState.put(1L, createMessage(1_000));
+    messageState.put(2L, createMessage(2_000));
+    messageState.put(3L, createMessage(120_000));
+    deleteDeadlineBuckets();
+
+    // when
+    messageDeadlineBucketMigration.runMigration(processingState);
+
+    // then
+    final List<Long> bucketCounts = new ArrayList<>();
+    deadlineBucketColumnFamily.forEach(count -> bucketCounts.add(count.getValue()));
+    assertThat(bucketCounts).containsExactly(2L, 1L);
+
+    final List<Long> expiredMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        200_000, null, (deadline, messageKey) -> expiredMessages.add(messageKey));
+    assertThat(expiredMessages).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldNeedToRunIfDeadlineBucketsAreMissing() {
+    // given
+    final var messageState = processingState.getMessageState();
+    messageState.put(1L, createMessage(1_000));
+    deleteDeadlineBuckets();
+
+    // when
+    final var needsToRun = messageDeadlineBucketMigration.needsToRun(processingState);
+
+    // then
+    assertThat(needsToRun).isTrue();
+  }
+
+  @Test
+  public void shouldNotNeedToRunIfDeadlineBucketsExist() {
+    // given
+    final var messageState = processingState.getMessageState();
+    messageState.put(1L, createMessage(1_000));
+
+    // when
+    final var needsToRun = messageDeadlineBucketMigration.needsToRun(processingState);
+
+    // then
+    assertThat(needsToRun).isFalse();
+  }
+
+  @Test
+  public void shouldNotNeedToRunWithoutMessages() {
+    // when
+    final var needsToRun = messageDeadlineBucketMigration.needsToRun(processingState);
+
+    // then
+    assertThat(needsToRun).isFalse();
+  }
+
+  @Test
+  public void shouldKeepDeadlineBucketWhileItHoldsMessages() {
+    // given - a bucket which counts fewer messages than it holds
+    final var messageState = processingState.getMessageState();
+    messageState.put(1L, createMessage(1_000));
+    messageState.put(2L, createMessage(2_000));
+    messageState.put(3L, createMessage(120_000));
+    deadlineBucket.wrapLong(0);
+    final var count = new DbLong();
+    count.wrapLong(1);
+    deadlineBucketColumnFamily.upsert(deadlineBucket, count);
+
+    // when
+    messageState.remove(1L);
+
+    // then
+    final List<Long> bucketCounts = new ArrayList<>();
+    deadlineBucketColumnFamily.forEach(bucketCount -> bucketCounts.add(bucketCount.getValue()));
+    assertThat(bucketCounts).containsExactly(1L, 1L);
+
+    final List<Long> expiredMessages = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        200_000, null, (deadline, messageKey) -> expiredMessages.add(messageKey));
+    assertThat(expiredMessages).containsExactly(2L, 3L);
+  }
+
+  private void deleteDeadlineBuckets() {
+    final List<Long> buckets = new ArrayList<>();
+    deadlineBucketColumnFamily.forEach((bucket, count) -> buckets.add(bucket.getValue()));
+    buckets.forEach(
+        bucket -> {
+          deadlineBucket.wrapLong(bucket);
+          deadlineBucketColumnFamily.deleteExisting(deadlineBucket);
+        });
+  }
+
+  private static MessageRecord createMessage(final long deadline) {
+    return new MessageRecord()
+        .setName("name")
+        .setCorrelationKey("correlationKey")
+        .setTimeToLive(10_000L)
+        .setDeadline(deadline);
+  }
+}
@@ -47,6 +47,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
@@ -88,7 +89,12 @@ public class MultiTenancyMigrationTest {
     @BeforeEach
     void setup() {
       legacyState = new LegacyProcessState(zeebeDb, transactionContext);
-      processState = new DbProcessState(zeebeDb, transactionContext);
+      processState =
+          new DbProcessState(
+              zeebeDb,
+              transactionContext,
+              Protocol.DEPLOYMENT_PARTITION,
+              new EngineConfiguration());
     }
 
     @Test
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Appends records, as their raw MessagePack value plus metadata, to memory-mapped, size-rolled
+ * segment files on the local disk. Positions are acknowledged only once the frames containing them
+ * were forced to disk. See {@link RecordFrameDescriptor} for the file format, and {@link
+ * BinaryRecordReader} to read them.
+ */
+public class BinaryExporter implements Exporter {
+
+  private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
+
+  private Controller controller;
+  private BinaryExporterConfiguration configuration;
+  private SegmentedFrameWriter writer;
+  private long lastAcknowledgedPosition = -1;
+
+  @Override
+  public void configure(final Context context) {
+    log = context.getLogger();
+    configuration = context.getConfiguration().instantiate(BinaryExporterConfiguration.class);
+    log.debug("Exporter configured with {}", configuration);
+
+    validate(configuration);
+  }
+
+  @Override
+  public void open(final Controller controller) {
+    this.controller = controller;
+
+    scheduleDelayedFlush();
+    log.info("Exporter opened");
+  }
+
+  @Override
+  public void close() {
+    if (writer == null) {
+      return;
+    }
+
+    try {
+      flush();
+    } catch (final Exception e) {
+      log.warn("Failed to flush records before closing exporter.", e);
+    }
+
+    try {
+      writer.close();
+    } catch (final Exception e) {
+      log.warn("Failed to close segments", e);
+    }
+
+    log.info("Exporter closed");
+  }
+
+  @Override
+  public void export(final Record<?> record) {
+    if (writer == null) {
+      writer = openWriter(record.getPartitionId());
+    }
+
+    writer.append(record);
+
+    if (writer.getUnflushedBytes() >= configuration.maxUnflushedBytes) {
+      flush();
+    }
+  }
+
+  private SegmentedFrameWriter openWriter(final int partitionId) {
+    final var partitionDirectory =
+        Path.of(configuration.directory).resolve("partition-" + partitionId);
+    final var segmentedWriter =
+        SegmentedFrameWriter.open(
+            partitionDirectory, configuration, new BinaryExporterMetrics(partitionId));
+    log.debug(
+        "Opened segments in {}, last written position is {}",
+        partitionDirectory,
+        segmentedWriter.getLastWrittenPosition());
+    return segmentedWriter;
+  }
+
+  private void validate(final BinaryExporterConfiguration configuration) {
+    if (configuration.directory == null || configuration.directory.isBlank()) {
+      throw new ExporterException("Binary exporter directory must be configured");
+    }
+
+    if (configuration.segmentSize < RecordFrameDescriptor.SEGMENT_HEADER_LENGTH * 2) {
+      throw new ExporterException(
+          String.format(
+              "Binary exporter segmentSize must be at least %d. Current value: %d",
+              RecordFrameDescriptor.SEGMENT_HEADER_LENGTH * 2, configuration.segmentSize));
+    }
+
+    if (configuration.indexDensity < 1) {
+      throw new ExporterException(
+          String.format(
+              "Binary exporter indexDensity must be >= 1. Current value: %d",
+              configuration.indexDensity));
+    }
+
+    if (configuration.flushIntervalMs < 1) {
+      throw new ExporterException(
+          String.format(
+              "Binary exporter flushIntervalMs must be >= 1. Current value: %d",
+              configuration.flushIntervalMs));
+    }
+  }
+
+  private void flushAndReschedule() {
+    try {
+      if (writer != null) {
+        flush();
+      }
+    } catch (final Exception e) {
+      log.warn("Unexpected exception occurred on periodically flushing, will retry later.", e);
+    }
+    scheduleDelayedFlush();
+  }
+
+  private void scheduleDelayedFlush() {
+    controller.scheduleCancellableTask(
+        Duration.ofMillis(configuration.flushIntervalMs), this::flushAndReschedule);
+  }
+
+  private void flush() {
+    final long flushedPosition = writer.flush();
+    if (flushedPosition > lastAcknowledgedPosition) {
+      controller.updateLastExportedRecordPosition(flushedPosition);
+      lastAcknowledgedPosition = flushedPosition;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+public class BinaryExporterConfiguration {
+
+  /**
+   * The directory in which segments are written; each partition gets its own sub directory named
+   * {@code partition-<id>}.
+   */
+  public String directory = "binary-exporter";
+
+  /** The size of each pre-allocated segment file in bytes. */
+  public int segmentSize = 128 * 1024 * 1024;
+
+  /** The minimum distance in bytes between two entries of the position index of a segment. */
+  public int indexDensity = 64 * 1024;
+
+  /** The interval after which written frames are forced to disk and acknowledged. */
+  public long flushIntervalMs = 1_000;
+
+  /** The amount of written bytes after which frames are forced to disk and acknowledged. */
+  public long maxUnflushedBytes = 16 * 1024 * 1024;
+
+  /** The maximum number of segments to keep per partition; 0 or less keeps all of them. */
+  public int maxSegments = 0;
+
+  @Override
+  public String toString() {
+    return "BinaryExporterConfiguration{"
+        + "directory='"
+        + directory
+        + '\''
+        + ", segmentSize="
+        + segmentSize
+        + ", indexDensity="
+        + indexDensity
+        + ", flushIntervalMs="
+        + flushIntervalMs
+        + ", maxUnflushedBytes="
+        + maxUnflushedBytes
+        + ", maxSegments="
+        + maxSegments
+        + '}';
+  }
+}
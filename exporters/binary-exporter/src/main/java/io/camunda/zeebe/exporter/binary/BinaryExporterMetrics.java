@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public class BinaryExporterMetrics {
+  private static final String NAMESPACE = "zeebe_binary_exporter";
+  private static final String PARTITION_LABEL = "partition";
+
+  private static final Counter WRITTEN_RECORDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("written_records_total")
+          .help("Number of records written to the segment files")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter WRITTEN_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("written_bytes_total")
+          .help("Number of bytes written to the segment files, including frame headers")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram FLUSH_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("flush_duration_seconds")
+          .help("Time taken to force the written frames to disk")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram FLUSH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("flush_size_bytes")
+          .help("Number of bytes forced to disk per flush")
+          .buckets(4_096, 65_536, 1_048_576, 4_194_304, 16_777_216, 67_108_864)
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge SEGMENT_COUNT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("segment_count")
+          .help("Number of segment files on disk")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final String partitionIdLabel;
+
+  public BinaryExporterMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void recordWrittenFrame(final int frameLength) {
+    WRITTEN_RECORDS.labels(partitionIdLabel).inc();
+    WRITTEN_BYTES.labels(partitionIdLabel).inc(frameLength);
+  }
+
+  public Histogram.Timer measureFlushDuration() {
+    return FLUSH_DURATION.labels(partitionIdLabel).startTimer();
+  }
+
+  public void recordFlushedBytes(final long flushedBytes) {
+    FLUSH_SIZE.labels(partitionIdLabel).observe(flushedBytes);
+  }
+
+  public void setSegmentCount(final int segmentCount) {
+    SEGMENT_COUNT.labels(partitionIdLabel).set(segmentCount);
+  }
+}
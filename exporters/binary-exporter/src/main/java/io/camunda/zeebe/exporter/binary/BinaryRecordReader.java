@@ -0,0 +1,267 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.BYTE_ORDER;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.END_OF_SEGMENT;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.FRAME_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INDEX_ENTRY_FRAME_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INDEX_ENTRY_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INDEX_ENTRY_POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_HEADER_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_MAGIC;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_MAGIC_OFFSET;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Reads the frames written by the {@link BinaryExporter} for a single partition, in position order.
+ * The reader can be used to tail the files while the exporter is writing them: when {@link
+ * #hasNext()} returns false, it may return true again later once more frames were written.
+ *
+ * <p>The reader maps one segment at a time, and the returned {@link RecordFrame} is a view into
+ * that mapping; it is reused on every call to {@link #next()}. Not thread safe.
+ *
+ * <pre>{@code
+ * try (final var reader = BinaryRecordReader.open(Path.of("binary-exporter", "partition-1"))) {
+ *   reader.seek(lastProcessedPosition + 1);
+ *   while (reader.hasNext()) {
+ *     final RecordFrame frame = reader.next();
+ *     // handle frame.getValue()
+ *   }
+ * }
+ * }</pre>
+ */
+public final class BinaryRecordReader implements Iterator<RecordFrame>, AutoCloseable {
+
+  private final Path directory;
+  private final FrameChecksum checksum = new FrameChecksum();
+  private final RecordFrame frame = new RecordFrame();
+  private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+
+  private Path segmentPath;
+  private MappedByteBuffer mappedBuffer;
+  private int readOffset;
+
+  private BinaryRecordReader(final Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Opens a reader over the segments in the given directory, positioned at the first frame.
+   *
+   * @param directory the partition directory, e.g. {@code <exporter directory>/partition-1}
+   * @return a new reader
+   */
+  public static BinaryRecordReader open(final Path directory) {
+    final var reader = new BinaryRecordReader(directory);
+    reader.seekToFirst();
+    return reader;
+  }
+
+  /** Positions the reader at the first frame of the oldest segment. */
+  public void seekToFirst() {
+    final var segments = listSegments();
+    if (segments.isEmpty()) {
+      unmapSegment();
+      return;
+    }
+
+    mapSegment(segments.get(0));
+  }
+
+  /**
+   * Positions the reader such that the next frame returned is the first one with a position greater
+   * than or equal to the given position. If there is none yet, the reader is positioned at the end,
+   * and will return it once it's written.
+   *
+   * @param position the position to seek to
+   */
+  public void seek(final long position) {
+    final var segments = listSegments();
+    if (segments.isEmpty()) {
+      unmapSegment();
+      return;
+    }
+
+    var segment = segments.get(0);
+    for (final var candidate : segments) {
+      if (RecordFrameDescriptor.firstPosition(candidate) > position) {
+        break;
+      }
+      segment = candidate;
+    }
+
+    if (!mapSegment(segment)) {
+      return;
+    }
+
+    readOffset = lookupIndex(segment, position);
+    while (hasNext() && peekPosition() < position) {
+      next();
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (mappedBuffer == null && !mapNextSegment()) {
+      return false;
+    }
+
+    while (true) {
+      final int length =
+          readOffset + Integer.BYTES <= buffer.capacity()
+              ? readFrameLengthVolatile()
+              : END_OF_SEGMENT;
+
+      if (length == END_OF_SEGMENT) {
+        if (!mapNextSegment()) {
+          return false;
+        }
+      } else {
+        return length > 0 && checksum.isValid(mappedBuffer, readOffset, length);
+      }
+    }
+  }
+
+  @Override
+  public RecordFrame next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    frame.wrap(buffer, readOffset);
+    readOffset += frame.getLength();
+    return frame;
+  }
+
+  @Override
+  public void close() {
+    unmapSegment();
+  }
+
+  /** Pairs with the ordered write of the frame length in {@link FrameSegment}. */
+  private int readFrameLengthVolatile() {
+    final int frameLength = buffer.getIntVolatile(readOffset + FRAME_LENGTH_OFFSET);
+    return BYTE_ORDER == ByteOrder.nativeOrder() ? frameLength : Integer.reverseBytes(frameLength);
+  }
+
+  private long peekPosition() {
+    return buffer.getLong(readOffset + POSITION_OFFSET, BYTE_ORDER);
+  }
+
+  private boolean mapNextSegment() {
+    final var segments = listSegments();
+    for (final var candidate : segments) {
+      if (segmentPath == null || candidate.compareTo(segmentPath) > 0) {
+        return mapSegment(candidate);
+      }
+    }
+
+    return false;
+  }
+
+  private boolean mapSegment(final Path segment) {
+    try (final var channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+      final var mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      mapped.order(BYTE_ORDER);
+      if (mapped.capacity() < SEGMENT_HEADER_LENGTH
+          || mapped.getInt(SEGMENT_MAGIC_OFFSET) != SEGMENT_MAGIC) {
+        // the segment is still being created; try again later
+        IoUtil.unmap(mapped);
+        return false;
+      }
+
+      unmapSegment();
+      segmentPath = segment;
+      mappedBuffer = mapped;
+      buffer.wrap(mapped);
+      readOffset = SEGMENT_HEADER_LENGTH;
+      return true;
+    } catch (final NoSuchFileException e) {
+      // the segment was deleted in the meantime, e.g. due to retention
+      return false;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(String.format("Failed to map segment %s", segment), e);
+    }
+  }
+
+  private void unmapSegment() {
+    if (mappedBuffer != null) {
+      IoUtil.unmap(mappedBuffer);
+      mappedBuffer = null;
+      buffer.wrap(0, 0);
+    }
+  }
+
+  private int lookupIndex(final Path segment, final long position) {
+    final var indexPath = RecordFrameDescriptor.indexPath(segment);
+    try (final var channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+      final int entryCount = (int) (channel.size() / INDEX_ENTRY_LENGTH);
+      final var entries = channel.map(MapMode.READ_ONLY, 0, (long) entryCount * INDEX_ENTRY_LENGTH);
+      entries.order(BYTE_ORDER);
+
+      try {
+        return findFloorOffset(entries, entryCount, position);
+      } finally {
+        IoUtil.unmap(entries);
+      }
+    } catch (final NoSuchFileException e) {
+      return SEGMENT_HEADER_LENGTH;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(String.format("Failed to read index %s", indexPath), e);
+    }
+  }
+
+  private int findFloorOffset(final ByteBuffer entries, final int entryCount, final long position) {
+    int low = 0;
+    int high = entryCount - 1;
+    int offset = SEGMENT_HEADER_LENGTH;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final int entryOffset = mid * INDEX_ENTRY_LENGTH;
+      final long entryPosition = entries.getLong(entryOffset + INDEX_ENTRY_POSITION_OFFSET);
+      if (entryPosition <= position) {
+        offset = (int) entries.getLong(entryOffset + INDEX_ENTRY_FRAME_OFFSET);
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return offset;
+  }
+
+  private List<Path> listSegments() {
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files.filter(RecordFrameDescriptor::isSegmentFile).sorted().toList();
+    } catch (final NoSuchFileException e) {
+      return List.of();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(String.format("Failed to list segments in %s", directory), e);
+    }
+  }
+}
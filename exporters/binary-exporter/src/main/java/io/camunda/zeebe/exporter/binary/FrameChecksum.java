@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.CHECKSUM_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.HEADER_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.REJECTION_REASON_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.VALUE_LENGTH_OFFSET;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32C;
+
+/**
+ * Computes and verifies the checksum of frames. Buffers passed to it are expected to use {@link
+ * RecordFrameDescriptor#BYTE_ORDER}. Not thread safe.
+ */
+final class FrameChecksum {
+
+  private final CRC32C crc32 = new CRC32C();
+
+  /** Computes the checksum of the frame starting at the given offset. */
+  int compute(final ByteBuffer buffer, final int frameOffset) {
+    final int rejectionReasonLength = buffer.getInt(frameOffset + REJECTION_REASON_LENGTH_OFFSET);
+    final int valueLength = buffer.getInt(frameOffset + VALUE_LENGTH_OFFSET);
+    final int checksummedLength =
+        HEADER_LENGTH - POSITION_OFFSET + rejectionReasonLength + valueLength;
+
+    final var slice = buffer.duplicate().position(frameOffset + POSITION_OFFSET).slice();
+    crc32.reset();
+    crc32.update(slice.limit(checksummedLength));
+    return (int) crc32.getValue();
+  }
+
+  /**
+   * Returns true if the frame starting at the given offset with the given (aligned) length is
+   * complete and its checksum matches.
+   */
+  boolean isValid(final ByteBuffer buffer, final int frameOffset, final int frameLength) {
+    if (frameLength < HEADER_LENGTH || frameOffset + frameLength > buffer.capacity()) {
+      return false;
+    }
+
+    final int rejectionReasonLength = buffer.getInt(frameOffset + REJECTION_REASON_LENGTH_OFFSET);
+    final int valueLength = buffer.getInt(frameOffset + VALUE_LENGTH_OFFSET);
+    if (rejectionReasonLength < 0
+        || valueLength < 0
+        || rejectionReasonLength > frameLength
+        || valueLength > frameLength
+        || RecordFrameDescriptor.frameLength(rejectionReasonLength, valueLength) != frameLength) {
+      return false;
+    }
+
+    return buffer.getInt(frameOffset + CHECKSUM_OFFSET) == compute(buffer, frameOffset);
+  }
+}
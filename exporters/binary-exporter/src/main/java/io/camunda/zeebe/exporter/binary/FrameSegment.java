@@ -0,0 +1,368 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.BYTE_ORDER;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.CHECKSUM_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.END_OF_SEGMENT;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.FRAME_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.HEADER_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INDEX_ENTRY_FRAME_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INDEX_ENTRY_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INDEX_ENTRY_POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INTENT_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.KEY_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.PARTITION_ID_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.RECORD_TYPE_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.RECORD_VERSION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.REJECTION_REASON_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.REJECTION_TYPE_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.RESERVED_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_FIRST_POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_HEADER_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_MAGIC;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_MAGIC_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_VERSION;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_VERSION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SOURCE_POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.TIMESTAMP_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.VALUE_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.VALUE_TYPE_OFFSET;
+
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A single, memory-mapped segment file and its index, written to by the {@link
+ * SegmentedFrameWriter}. Frames are encoded directly into the mapped memory; the index is kept in
+ * memory and appended to the index file on every {@link #flush()}.
+ */
+final class FrameSegment implements AutoCloseable {
+
+  private static final byte[] EMPTY_REJECTION_REASON = new byte[0];
+
+  private final Path path;
+  private final long firstPosition;
+  private final int indexDensity;
+  private final FileChannel channel;
+  private final FileChannel indexChannel;
+  private final MappedByteBuffer mappedBuffer;
+  private final UnsafeBuffer buffer;
+  private final FrameChecksum checksum = new FrameChecksum();
+  private final ExpandableArrayBuffer pendingIndexEntries = new ExpandableArrayBuffer();
+
+  private int pendingIndexLength;
+  private int writeOffset;
+  private int lastIndexedOffset = -1;
+  private long lastPosition = -1;
+  private boolean sealed;
+
+  private FrameSegment(
+      final Path path,
+      final long firstPosition,
+      final int indexDensity,
+      final FileChannel channel,
+      final FileChannel indexChannel,
+      final MappedByteBuffer mappedBuffer) {
+    this.path = path;
+    this.firstPosition = firstPosition;
+    this.indexDensity = indexDensity;
+    this.channel = channel;
+    this.indexChannel = indexChannel;
+    this.mappedBuffer = mappedBuffer;
+    buffer = new UnsafeBuffer(mappedBuffer);
+    writeOffset = SEGMENT_HEADER_LENGTH;
+  }
+
+  /** Creates and maps a new, pre-allocated segment whose first record has the given position. */
+  static FrameSegment create(
+      final Path directory, final long firstPosition, final int size, final int indexDensity) {
+    final var path = RecordFrameDescriptor.segmentPath(directory, firstPosition);
+    try {
+      final var channel =
+          FileChannel.open(
+              path,
+              StandardOpenOption.CREATE_NEW,
+              StandardOpenOption.READ,
+              StandardOpenOption.WRITE);
+      IoUtil.fill(channel, 0, size, (byte) 0);
+      final var indexChannel = openIndex(path);
+      indexChannel.truncate(0);
+
+      final var segment =
+          new FrameSegment(
+              path, firstPosition, indexDensity, channel, indexChannel, map(channel, size));
+      segment.writeHeader();
+      return segment;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to create segment %s", path.getFileName()), e);
+    }
+  }
+
+  /**
+   * Opens an existing segment for writing. The segment is scanned up to the first invalid frame,
+   * and everything after it (e.g. a partially written frame after a crash) is discarded, as well as
+   * any index entries pointing past it.
+   */
+  static FrameSegment open(final Path path, final int indexDensity) {
+    try {
+      final var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      final var indexChannel = openIndex(path);
+      final var segment =
+          new FrameSegment(
+              path,
+              RecordFrameDescriptor.firstPosition(path),
+              indexDensity,
+              channel,
+              indexChannel,
+              map(channel, (int) channel.size()));
+      segment.recover();
+      return segment;
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to open segment %s", path.getFileName()), e);
+    }
+  }
+
+  Path path() {
+    return path;
+  }
+
+  long firstPosition() {
+    return firstPosition;
+  }
+
+  /**
+   * @return the position of the last record in this segment, or -1 if it's empty
+   */
+  long lastPosition() {
+    return lastPosition;
+  }
+
+  boolean isEmpty() {
+    return writeOffset == SEGMENT_HEADER_LENGTH;
+  }
+
+  /**
+   * @return true if the segment was sealed, i.e. no more frames can be appended to it
+   */
+  boolean isSealed() {
+    return sealed;
+  }
+
+  boolean hasCapacity(final int frameLength) {
+    return !sealed && writeOffset + frameLength <= buffer.capacity();
+  }
+
+  /**
+   * Encodes the given record as a frame at the end of the segment. The caller must ensure that the
+   * segment has enough capacity for it, see {@link #hasCapacity(int)}.
+   *
+   * @return the length of the written frame
+   */
+  int append(final Record<?> record, final BufferWriter value, final byte[] rejectionReason) {
+    final int offset = writeOffset;
+    final int valueLength = value.getLength();
+    final int frameLength = RecordFrameDescriptor.frameLength(rejectionReason.length, valueLength);
+
+    buffer.putLong(offset + POSITION_OFFSET, record.getPosition(), BYTE_ORDER);
+    buffer.putLong(offset + SOURCE_POSITION_OFFSET, record.getSourceRecordPosition(), BYTE_ORDER);
+    buffer.putLong(offset + KEY_OFFSET, record.getKey(), BYTE_ORDER);
+    buffer.putLong(offset + TIMESTAMP_OFFSET, record.getTimestamp(), BYTE_ORDER);
+    buffer.putInt(offset + PARTITION_ID_OFFSET, record.getPartitionId(), BYTE_ORDER);
+    buffer.putByte(offset + RECORD_TYPE_OFFSET, (byte) record.getRecordType().value());
+    buffer.putByte(offset + VALUE_TYPE_OFFSET, (byte) record.getValueType().value());
+    buffer.putShort(offset + INTENT_OFFSET, record.getIntent().value(), BYTE_ORDER);
+    buffer.putByte(offset + REJECTION_TYPE_OFFSET, (byte) record.getRejectionType().value());
+    buffer.putShort(offset + RECORD_VERSION_OFFSET, (short) record.getRecordVersion(), BYTE_ORDER);
+    buffer.putInt(offset + REJECTION_REASON_LENGTH_OFFSET, rejectionReason.length, BYTE_ORDER);
+    buffer.putInt(offset + VALUE_LENGTH_OFFSET, valueLength, BYTE_ORDER);
+    buffer.putInt(offset + RESERVED_OFFSET, 0, BYTE_ORDER);
+    buffer.putBytes(offset + HEADER_LENGTH, rejectionReason);
+    value.write(buffer, offset + HEADER_LENGTH + rejectionReason.length);
+
+    buffer.putInt(offset + CHECKSUM_OFFSET, checksum.compute(mappedBuffer, offset), BYTE_ORDER);
+    // publish the frame only once it's complete, such that tailing readers never see partial data
+    buffer.putIntOrdered(offset + FRAME_LENGTH_OFFSET, toOrderedInt(frameLength));
+
+    index(record.getPosition(), offset);
+    lastPosition = record.getPosition();
+    writeOffset += frameLength;
+    return frameLength;
+  }
+
+  /**
+   * Marks the segment as complete, such that readers know to move on to the next segment, and
+   * flushes it.
+   */
+  void seal() {
+    if (hasCapacity(Integer.BYTES)) {
+      buffer.putIntOrdered(writeOffset + FRAME_LENGTH_OFFSET, toOrderedInt(END_OF_SEGMENT));
+    }
+
+    sealed = true;
+    flush();
+  }
+
+  /** Writes pending index entries and forces all written data to disk. */
+  void flush() {
+    try {
+      if (pendingIndexLength > 0) {
+        final var entries = ByteBuffer.wrap(pendingIndexEntries.byteArray(), 0, pendingIndexLength);
+        while (entries.hasRemaining()) {
+          indexChannel.write(entries);
+        }
+        pendingIndexLength = 0;
+      }
+
+      mappedBuffer.force();
+      indexChannel.force(false);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to flush segment %s", path.getFileName()), e);
+    }
+  }
+
+  void delete() {
+    close();
+    try {
+      Files.deleteIfExists(RecordFrameDescriptor.indexPath(path));
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to delete segment %s", path.getFileName()), e);
+    }
+  }
+
+  @Override
+  public void close() {
+    IoUtil.unmap(mappedBuffer);
+    try {
+      indexChannel.close();
+      channel.close();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to close segment %s", path.getFileName()), e);
+    }
+  }
+
+  static byte[] encodeRejectionReason(final String rejectionReason) {
+    return rejectionReason == null || rejectionReason.isEmpty()
+        ? EMPTY_REJECTION_REASON
+        : rejectionReason.getBytes(StandardCharsets.UTF_8);
+  }
+
+  private void writeHeader() {
+    buffer.putInt(SEGMENT_MAGIC_OFFSET, SEGMENT_MAGIC, BYTE_ORDER);
+    buffer.putInt(SEGMENT_VERSION_OFFSET, SEGMENT_VERSION, BYTE_ORDER);
+    buffer.putLong(SEGMENT_FIRST_POSITION_OFFSET, firstPosition, BYTE_ORDER);
+  }
+
+  private void recover() throws IOException {
+    if (buffer.capacity() < SEGMENT_HEADER_LENGTH
+        || buffer.getInt(SEGMENT_MAGIC_OFFSET, BYTE_ORDER) != SEGMENT_MAGIC) {
+      throw new BinaryExporterException(
+          String.format("Expected %s to be a binary exporter segment, but it is not", path));
+    }
+
+    int offset = SEGMENT_HEADER_LENGTH;
+    // the seal marker is written as long as its length fits, even if no frame header fits anymore
+    while (hasCapacity(Integer.BYTES)) {
+      final int frameLength = buffer.getInt(offset + FRAME_LENGTH_OFFSET, BYTE_ORDER);
+      if (frameLength == END_OF_SEGMENT) {
+        sealed = true;
+        return;
+      }
+
+      if (!hasCapacity(HEADER_LENGTH)
+          || frameLength <= 0
+          || !checksum.isValid(mappedBuffer, offset, frameLength)) {
+        break;
+      }
+
+      final long position = buffer.getLong(offset + POSITION_OFFSET, BYTE_ORDER);
+      if (lastIndexedOffset == -1 || offset - lastIndexedOffset >= indexDensity) {
+        lastIndexedOffset = offset;
+      }
+      lastPosition = position;
+      offset += frameLength;
+      writeOffset = offset;
+    }
+
+    // discard anything after the last valid frame, e.g. a partially written frame
+    buffer.setMemory(writeOffset, buffer.capacity() - writeOffset, (byte) 0);
+    truncateIndex();
+  }
+
+  private void truncateIndex() throws IOException {
+    final var entry = ByteBuffer.allocate(INDEX_ENTRY_LENGTH).order(BYTE_ORDER);
+    long validLength = 0;
+    while (validLength + INDEX_ENTRY_LENGTH <= indexChannel.size()) {
+      entry.clear();
+      indexChannel.read(entry, validLength);
+      if (entry.getLong(INDEX_ENTRY_FRAME_OFFSET) >= writeOffset) {
+        break;
+      }
+      validLength += INDEX_ENTRY_LENGTH;
+    }
+
+    indexChannel.truncate(validLength);
+    indexChannel.position(validLength);
+  }
+
+  private void index(final long position, final int offset) {
+    if (lastIndexedOffset != -1 && offset - lastIndexedOffset < indexDensity) {
+      return;
+    }
+
+    pendingIndexEntries.putLong(
+        pendingIndexLength + INDEX_ENTRY_POSITION_OFFSET, position, BYTE_ORDER);
+    pendingIndexEntries.putLong(pendingIndexLength + INDEX_ENTRY_FRAME_OFFSET, offset, BYTE_ORDER);
+    pendingIndexLength += INDEX_ENTRY_LENGTH;
+    lastIndexedOffset = offset;
+  }
+
+  private static FileChannel openIndex(final Path segmentPath) throws IOException {
+    return FileChannel.open(
+        RecordFrameDescriptor.indexPath(segmentPath),
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+  }
+
+  private static MappedByteBuffer map(final FileChannel channel, final int size)
+      throws IOException {
+    final var mappedBuffer = channel.map(MapMode.READ_WRITE, 0, size);
+    mappedBuffer.order(BYTE_ORDER);
+    return mappedBuffer;
+  }
+
+  /**
+   * {@link UnsafeBuffer#putIntOrdered(int, int)} always uses the native byte order, so we convert
+   * the value such that it ends up in {@link RecordFrameDescriptor#BYTE_ORDER} in memory.
+   */
+  private static int toOrderedInt(final int value) {
+    return BYTE_ORDER == ByteOrder.nativeOrder() ? value : Integer.reverseBytes(value);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.BYTE_ORDER;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.FRAME_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.HEADER_LENGTH;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.INTENT_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.KEY_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.PARTITION_ID_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.RECORD_TYPE_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.RECORD_VERSION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.REJECTION_REASON_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.REJECTION_TYPE_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SOURCE_POSITION_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.TIMESTAMP_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.VALUE_LENGTH_OFFSET;
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.VALUE_TYPE_OFFSET;
+
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A flyweight view over a single frame written by the {@link BinaryExporter}. The frame is not
+ * copied; it is only valid as long as the underlying buffer is, i.e. until the next call to the
+ * reader which produced it.
+ */
+public final class RecordFrame {
+
+  private final UnsafeBuffer frameBuffer = new UnsafeBuffer(0, 0);
+  private final UnsafeBuffer valueBuffer = new UnsafeBuffer(0, 0);
+
+  public void wrap(final DirectBuffer buffer, final int offset) {
+    final int length = buffer.getInt(offset + FRAME_LENGTH_OFFSET, BYTE_ORDER);
+    frameBuffer.wrap(buffer, offset, length);
+    valueBuffer.wrap(frameBuffer, HEADER_LENGTH + getRejectionReasonLength(), getValueLength());
+  }
+
+  public int getLength() {
+    return frameBuffer.capacity();
+  }
+
+  public long getPosition() {
+    return frameBuffer.getLong(POSITION_OFFSET, BYTE_ORDER);
+  }
+
+  public long getSourceRecordPosition() {
+    return frameBuffer.getLong(SOURCE_POSITION_OFFSET, BYTE_ORDER);
+  }
+
+  public long getKey() {
+    return frameBuffer.getLong(KEY_OFFSET, BYTE_ORDER);
+  }
+
+  public long getTimestamp() {
+    return frameBuffer.getLong(TIMESTAMP_OFFSET, BYTE_ORDER);
+  }
+
+  public int getPartitionId() {
+    return frameBuffer.getInt(PARTITION_ID_OFFSET, BYTE_ORDER);
+  }
+
+  public RecordType getRecordType() {
+    return RecordType.get(readUnsignedByte(RECORD_TYPE_OFFSET));
+  }
+
+  public ValueType getValueType() {
+    return ValueType.get(readUnsignedByte(VALUE_TYPE_OFFSET));
+  }
+
+  public Intent getIntent() {
+    return Intent.fromProtocolValue(
+        getValueType(), frameBuffer.getShort(INTENT_OFFSET, BYTE_ORDER));
+  }
+
+  public RejectionType getRejectionType() {
+    return RejectionType.get(readUnsignedByte(REJECTION_TYPE_OFFSET));
+  }
+
+  public String getRejectionReason() {
+    return frameBuffer.getStringWithoutLengthUtf8(HEADER_LENGTH, getRejectionReasonLength());
+  }
+
+  public int getRecordVersion() {
+    return frameBuffer.getShort(RECORD_VERSION_OFFSET, BYTE_ORDER);
+  }
+
+  /**
+   * @return a view of the MessagePack encoded record value
+   */
+  public DirectBuffer getValue() {
+    return valueBuffer;
+  }
+
+  private int getRejectionReasonLength() {
+    return frameBuffer.getInt(REJECTION_REASON_LENGTH_OFFSET, BYTE_ORDER);
+  }
+
+  private int getValueLength() {
+    return frameBuffer.getInt(VALUE_LENGTH_OFFSET, BYTE_ORDER);
+  }
+
+  private short readUnsignedByte(final int offset) {
+    return (short) (frameBuffer.getByte(offset) & 0xFF);
+  }
+
+  @Override
+  public String toString() {
+    return "RecordFrame{"
+        + "position="
+        + getPosition()
+        + ", key="
+        + getKey()
+        + ", partitionId="
+        + getPartitionId()
+        + ", recordType="
+        + getRecordType()
+        + ", valueType="
+        + getValueType()
+        + ", intent="
+        + getIntent()
+        + ", valueLength="
+        + getValueLength()
+        + '}';
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import org.agrona.BitUtil;
+
+/**
+ * Describes the on-disk layout of the binary exporter files. All values are little endian.
+ *
+ * <p>A segment file starts with a fixed header, followed by a sequence of frames, each aligned to
+ * {@link #FRAME_ALIGNMENT} bytes:
+ *
+ * <pre>
+ *  0                   1                   2                   3
+ *  0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ * +-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+-+
+ * |                         Frame Length                          |
+ * +---------------------------------------------------------------+
+ * |                       Checksum (CRC32C)                       |
+ * +---------------------------------------------------------------+
+ * |                           Position                            |
+ * |                                                               |
+ * +---------------------------------------------------------------+
+ * |                        Source Position                        |
+ * |                                                               |
+ * +---------------------------------------------------------------+
+ * |                              Key                              |
+ * |                                                               |
+ * +---------------------------------------------------------------+
+ * |                           Timestamp                           |
+ * |                                                               |
+ * +---------------------------------------------------------------+
+ * |                         Partition ID                          |
+ * +---------------+---------------+-------------------------------+
+ * |  Record Type  |  Value Type   |            Intent             |
+ * +---------------+---------------+-------------------------------+
+ * | Rejection Type|   Reserved    |        Record Version         |
+ * +---------------+---------------+-------------------------------+
+ * |                    Rejection Reason Length                    |
+ * +---------------------------------------------------------------+
+ * |                         Value Length                          |
+ * +---------------------------------------------------------------+
+ * |                           Reserved                            |
+ * +---------------------------------------------------------------+
+ * |                  Rejection Reason (UTF-8) ...                 |
+ * +---------------------------------------------------------------+
+ * |                   Value (MessagePack) ...                     |
+ * +---------------------------------------------------------------+
+ * </pre>
+ *
+ * <p>The frame length is written last, with ordered semantics, so a concurrent reader will never
+ * observe a partially written frame. A length of {@link #END_OF_SEGMENT} marks a sealed segment; a
+ * length of {@code 0} means that nothing was written yet at this offset. The checksum covers
+ * everything after the checksum field up to the end of the value.
+ *
+ * <p>Each segment file is accompanied by an index file, which contains entries of {@link
+ * #INDEX_ENTRY_LENGTH} bytes mapping a record position to the offset of its frame in the segment.
+ * The index is sparse, and may lag behind the segment for the last (active) segment.
+ */
+public final class RecordFrameDescriptor {
+
+  public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  public static final int SEGMENT_MAGIC = 0x5A424558; // ZBEX
+  public static final int SEGMENT_VERSION = 1;
+  public static final int SEGMENT_MAGIC_OFFSET = 0;
+  public static final int SEGMENT_VERSION_OFFSET = SEGMENT_MAGIC_OFFSET + Integer.BYTES;
+  public static final int SEGMENT_FIRST_POSITION_OFFSET = SEGMENT_VERSION_OFFSET + Integer.BYTES;
+  public static final int SEGMENT_HEADER_LENGTH = SEGMENT_FIRST_POSITION_OFFSET + Long.BYTES;
+
+  public static final int FRAME_ALIGNMENT = 8;
+  public static final int END_OF_SEGMENT = -1;
+
+  public static final int FRAME_LENGTH_OFFSET = 0;
+  public static final int CHECKSUM_OFFSET = FRAME_LENGTH_OFFSET + Integer.BYTES;
+  public static final int POSITION_OFFSET = CHECKSUM_OFFSET + Integer.BYTES;
+  public static final int SOURCE_POSITION_OFFSET = POSITION_OFFSET + Long.BYTES;
+  public static final int KEY_OFFSET = SOURCE_POSITION_OFFSET + Long.BYTES;
+  public static final int TIMESTAMP_OFFSET = KEY_OFFSET + Long.BYTES;
+  public static final int PARTITION_ID_OFFSET = TIMESTAMP_OFFSET + Long.BYTES;
+  public static final int RECORD_TYPE_OFFSET = PARTITION_ID_OFFSET + Integer.BYTES;
+  public static final int VALUE_TYPE_OFFSET = RECORD_TYPE_OFFSET + Byte.BYTES;
+  public static final int INTENT_OFFSET = VALUE_TYPE_OFFSET + Byte.BYTES;
+  public static final int REJECTION_TYPE_OFFSET = INTENT_OFFSET + Short.BYTES;
+  public static final int RECORD_VERSION_OFFSET = REJECTION_TYPE_OFFSET + Byte.BYTES * 2;
+  public static final int REJECTION_REASON_LENGTH_OFFSET = RECORD_VERSION_OFFSET + Short.BYTES;
+  public static final int VALUE_LENGTH_OFFSET = REJECTION_REASON_LENGTH_OFFSET + Integer.BYTES;
+  public static final int RESERVED_OFFSET = VALUE_LENGTH_OFFSET + Integer.BYTES;
+  public static final int HEADER_LENGTH = RESERVED_OFFSET + Integer.BYTES;
+
+  public static final int INDEX_ENTRY_POSITION_OFFSET = 0;
+  public static final int INDEX_ENTRY_FRAME_OFFSET = INDEX_ENTRY_POSITION_OFFSET + Long.BYTES;
+  public static final int INDEX_ENTRY_LENGTH = INDEX_ENTRY_FRAME_OFFSET + Long.BYTES;
+
+  public static final String SEGMENT_FILE_SUFFIX = ".log";
+  public static final String INDEX_FILE_SUFFIX = ".idx";
+
+  private static final String FILE_NAME_FORMAT = "%020d";
+
+  private RecordFrameDescriptor() {}
+
+  /**
+   * @return the aligned length of a frame with the given variable parts
+   */
+  public static int frameLength(final int rejectionReasonLength, final int valueLength) {
+    return BitUtil.align(HEADER_LENGTH + rejectionReasonLength + valueLength, FRAME_ALIGNMENT);
+  }
+
+  /**
+   * @return the path of the segment starting at the given position in the given directory
+   */
+  public static Path segmentPath(final Path directory, final long firstPosition) {
+    return directory.resolve(String.format(FILE_NAME_FORMAT, firstPosition) + SEGMENT_FILE_SUFFIX);
+  }
+
+  /**
+   * @return the path of the index file belonging to the given segment
+   */
+  public static Path indexPath(final Path segmentPath) {
+    final var fileName = segmentPath.getFileName().toString();
+    return segmentPath.resolveSibling(
+        fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length())
+            + INDEX_FILE_SUFFIX);
+  }
+
+  /**
+   * @return the first position of the given segment, as encoded in its file name
+   */
+  public static long firstPosition(final Path segmentPath) {
+    final var fileName = segmentPath.getFileName().toString();
+    return Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+  }
+
+  public static boolean isSegmentFile(final Path path) {
+    final var fileName = path.getFileName().toString();
+    return fileName.endsWith(SEGMENT_FILE_SUFFIX)
+        && fileName.length() == SEGMENT_FILE_SUFFIX.length() + 20;
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static io.camunda.zeebe.exporter.binary.RecordFrameDescriptor.SEGMENT_HEADER_LENGTH;
+
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Appends records as frames to a directory of size-rolled segments. Records which were already
+ * written before (e.g. re-exported after a restart) are skipped based on their position, making
+ * appends idempotent.
+ *
+ * <p>Not thread safe; it's expected to be used only from the exporter thread.
+ */
+final class SegmentedFrameWriter implements AutoCloseable {
+
+  private final Path directory;
+  private final BinaryExporterConfiguration configuration;
+  private final BinaryExporterMetrics metrics;
+  private final Deque<Path> sealedSegments = new ArrayDeque<>();
+
+  private FrameSegment currentSegment;
+  private long lastWrittenPosition = -1;
+  private long lastFlushedPosition = -1;
+  private long unflushedBytes;
+
+  private SegmentedFrameWriter(
+      final Path directory,
+      final BinaryExporterConfiguration configuration,
+      final BinaryExporterMetrics metrics) {
+    this.directory = directory;
+    this.configuration = configuration;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Opens a writer on the given directory, recovering the last segment if there are any.
+   *
+   * @param directory the directory containing the segments; created if missing
+   * @param configuration the exporter configuration
+   * @param metrics the metrics to update
+   * @return a writer positioned after the last valid frame
+   */
+  static SegmentedFrameWriter open(
+      final Path directory,
+      final BinaryExporterConfiguration configuration,
+      final BinaryExporterMetrics metrics) {
+    final var writer = new SegmentedFrameWriter(directory, configuration, metrics);
+    writer.recover();
+    return writer;
+  }
+
+  /**
+   * Appends the given record, unless a record with the same or a greater position was already
+   * written.
+   *
+   * @return true if the record was appended, false if it was skipped
+   */
+  boolean append(final Record<?> record) {
+    if (record.getPosition() <= lastWrittenPosition) {
+      return false;
+    }
+
+    if (!(record.getValue() instanceof final BufferWriter value)) {
+      throw new BinaryExporterException(
+          String.format(
+              "Expected record value to be serializable to MessagePack, but got %s",
+              record.getValue().getClass().getName()));
+    }
+
+    final byte[] rejectionReason = FrameSegment.encodeRejectionReason(record.getRejectionReason());
+    final int frameLength =
+        RecordFrameDescriptor.frameLength(rejectionReason.length, value.getLength());
+    if (currentSegment == null || !currentSegment.hasCapacity(frameLength)) {
+      roll(record.getPosition(), frameLength);
+    }
+
+    currentSegment.append(record, value, rejectionReason);
+    lastWrittenPosition = record.getPosition();
+    unflushedBytes += frameLength;
+    metrics.recordWrittenFrame(frameLength);
+    return true;
+  }
+
+  /**
+   * Forces all written frames to disk.
+   *
+   * @return the position of the last record which is guaranteed to be durable
+   */
+  long flush() {
+    if (currentSegment != null && unflushedBytes > 0) {
+      try (final var ignored = metrics.measureFlushDuration()) {
+        currentSegment.flush();
+      }
+      metrics.recordFlushedBytes(unflushedBytes);
+    }
+
+    unflushedBytes = 0;
+    lastFlushedPosition = lastWrittenPosition;
+    return lastFlushedPosition;
+  }
+
+  long getUnflushedBytes() {
+    return unflushedBytes;
+  }
+
+  long getLastWrittenPosition() {
+    return lastWrittenPosition;
+  }
+
+  long getLastFlushedPosition() {
+    return lastFlushedPosition;
+  }
+
+  @Override
+  public void close() {
+    if (currentSegment != null) {
+      flush();
+      currentSegment.close();
+      currentSegment = null;
+    }
+  }
+
+  private void recover() {
+    final List<Path> segments;
+    try {
+      Files.createDirectories(directory);
+      try (final Stream<Path> files = Files.list(directory)) {
+        segments = files.filter(RecordFrameDescriptor::isSegmentFile).sorted().toList();
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException(String.format("Failed to list segments in %s", directory), e);
+    }
+
+    if (segments.isEmpty()) {
+      return;
+    }
+
+    sealedSegments.addAll(segments);
+    while (!sealedSegments.isEmpty() && currentSegment == null) {
+      final var segment =
+          FrameSegment.open(sealedSegments.removeLast(), configuration.indexDensity);
+      if (segment.isEmpty()) {
+        // the segment was created right before a crash; drop it, as the next record may not be the
+        // one it was named after
+        segment.delete();
+      } else if (segment.isSealed()) {
+        lastWrittenPosition = segment.lastPosition();
+        segment.close();
+        sealedSegments.addLast(segment.path());
+        break;
+      } else {
+        currentSegment = segment;
+        lastWrittenPosition = segment.lastPosition();
+      }
+    }
+
+    metrics.setSegmentCount(sealedSegments.size() + (currentSegment == null ? 0 : 1));
+  }
+
+  private void roll(final long firstPosition, final int frameLength) {
+    final int segmentSize =
+        Math.max(configuration.segmentSize, SEGMENT_HEADER_LENGTH + frameLength);
+    final var nextSegment =
+        FrameSegment.create(directory, firstPosition, segmentSize, configuration.indexDensity);
+
+    // seal only once the next segment exists, such that tailing readers can always move on
+    if (currentSegment != null) {
+      currentSegment.seal();
+      currentSegment.close();
+      sealedSegments.addLast(currentSegment.path());
+    }
+
+    currentSegment = nextSegment;
+    lastFlushedPosition = lastWrittenPosition;
+    unflushedBytes = 0;
+    applyRetention();
+    metrics.setSegmentCount(sealedSegments.size() + 1);
+  }
+
+  private void applyRetention() {
+    if (configuration.maxSegments <= 0) {
+      return;
+    }
+
+    while (sealedSegments.size() + 1 > configuration.maxSegments) {
+      final var segment = sealedSegments.removeFirst();
+      try {
+        Files.deleteIfExists(RecordFrameDescriptor.indexPath(segment));
+        Files.deleteIfExists(segment);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(String.format("Failed to delete segment %s", segment), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many records per second the exporter can append to its segments, including the
+ * periodic flushes. The exported record is the same job record every time, with an increasing
+ * position, to exclude the cost of creating records.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BinaryExporterPerformanceTest {
+  private static final Duration FLUSH_INTERVAL = Duration.ofMillis(100);
+
+  private final ExporterTestController controller = new ExporterTestController();
+  private final BinaryExporter exporter = new BinaryExporter();
+  private final RecordMetadata metadata = new RecordMetadata();
+
+  private Path directory;
+  private JobRecord value;
+  private long position;
+  private long lastFlushNanos;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("binary-exporter");
+
+    final var config = new BinaryExporterConfiguration();
+    config.directory = directory.toString();
+    config.flushIntervalMs = FLUSH_INTERVAL.toMillis();
+    config.maxSegments = 4;
+
+    final var template = TestRecords.jobRecord(1, 1);
+    value = template.getValue();
+    metadata
+        .recordType(template.getRecordType())
+        .valueType(template.getValueType())
+        .intent(template.getIntent());
+
+    exporter.configure(
+        new ExporterTestContext()
+            .setConfiguration(new ExporterTestConfiguration<>("benchmark", config)));
+    exporter.open(controller);
+    lastFlushNanos = System.nanoTime();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    exporter.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureExportThroughput() {
+    position++;
+    final Record<JobRecord> record =
+        new CopiedRecord<>(value, metadata, position, 1, position, -1, position);
+    exporter.export(record);
+
+    final long now = System.nanoTime();
+    if (now - lastFlushNanos >= FLUSH_INTERVAL.toNanos()) {
+      controller.runScheduledTasks(FLUSH_INTERVAL);
+      lastFlushNanos = now;
+    }
+
+    return controller.getPosition();
+  }
+
+  @JMHTest("measureExportThroughput")
+  void shouldExportWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - the exporter writes the records in their binary form, so it must be considerably
+    // faster than serializing the same record to JSON, as the other exporters do, which scores
+    // about 150,000 ops/s; the reference is twice that
+    final var referenceScore = 300_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+}
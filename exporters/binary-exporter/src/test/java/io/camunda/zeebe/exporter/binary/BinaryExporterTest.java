@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.value.ImmutableJobRecordValue;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class BinaryExporterTest {
+
+  private final BinaryExporterConfiguration config = new BinaryExporterConfiguration();
+  private final ExporterTestContext context =
+      new ExporterTestContext().setConfiguration(new ExporterTestConfiguration<>("test", config));
+  private final ExporterTestController controller = new ExporterTestController();
+  private final BinaryExporter exporter = new BinaryExporter();
+  private @TempDir Path directory;
+
+  @BeforeEach
+  void beforeEach() {
+    config.directory = directory.toString();
+    config.flushIntervalMs = 1_000;
+  }
+
+  @AfterEach
+  void afterEach() {
+    exporter.close();
+  }
+
+  @Test
+  void shouldNotAcknowledgePositionBeforeFlush() {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(TestRecords.jobRecord(1, 1));
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldAcknowledgePositionOnScheduledFlush() {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+    exporter.export(TestRecords.jobRecord(1, 1));
+    exporter.export(TestRecords.jobRecord(1, 2));
+
+    // when
+    controller.runScheduledTasks(Duration.ofMillis(config.flushIntervalMs));
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldAcknowledgePositionWhenUnflushedBytesExceedLimit() {
+    // given
+    config.maxUnflushedBytes = 1;
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(TestRecords.jobRecord(1, 1));
+
+    // then
+    assertThat(controller.getPosition()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWriteRecordsToPartitionDirectory() {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when
+    exporter.export(TestRecords.jobRecord(2, 1));
+    exporter.close();
+
+    // then
+    try (final var reader = BinaryRecordReader.open(directory.resolve("partition-2"))) {
+      assertThat(reader.hasNext()).isTrue();
+      assertThat(reader.next().getPartitionId()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void shouldAcknowledgeReExportedRecordsAfterReopening() {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+    exporter.export(TestRecords.jobRecord(1, 1));
+    exporter.export(TestRecords.jobRecord(1, 2));
+    exporter.close();
+
+    // when
+    final var reopenedController = new ExporterTestController();
+    final var reopenedExporter = new BinaryExporter();
+    reopenedExporter.configure(context);
+    reopenedExporter.open(reopenedController);
+    reopenedExporter.export(TestRecords.jobRecord(1, 1));
+    reopenedController.runScheduledTasks(Duration.ofMillis(config.flushIntervalMs));
+    reopenedExporter.close();
+
+    // then
+    assertThat(reopenedController.getPosition()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldFailToExportNonMessagePackValue() {
+    // given
+    exporter.configure(context);
+    exporter.open(controller);
+
+    // when - then
+    assertThatThrownBy(
+            () ->
+                exporter.export(
+                    ImmutableRecord.builder()
+                        .withPosition(1L)
+                        .withPartitionId(1)
+                        .withValueType(ValueType.JOB)
+                        .withValue(ImmutableJobRecordValue.builder().withType("test").build())
+                        .build()))
+        .isInstanceOf(BinaryExporterException.class);
+  }
+
+  @Test
+  void shouldRejectInvalidConfiguration() {
+    // given
+    config.segmentSize = 1;
+
+    // when - then
+    assertThatThrownBy(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+  }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class BinaryRecordReaderTest {
+
+  private final BinaryExporterConfiguration config = new BinaryExporterConfiguration();
+  private final BinaryExporterMetrics metrics = new BinaryExporterMetrics(1);
+  private @TempDir Path directory;
+  private SegmentedFrameWriter writer;
+
+  @BeforeEach
+  void beforeEach() {
+    config.segmentSize = 4 * 1024;
+    config.indexDensity = 512;
+    writer = SegmentedFrameWriter.open(directory, config, metrics);
+  }
+
+  @AfterEach
+  void afterEach() {
+    writer.close();
+  }
+
+  @Test
+  void shouldReadWrittenRecord() {
+    // given
+    final var record = TestRecords.jobRecord(1, 5);
+    writer.append(record);
+
+    // when
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      // then
+      assertThat(reader.hasNext()).isTrue();
+      final var frame = reader.next();
+      assertThat(frame.getPosition()).isEqualTo(5);
+      assertThat(frame.getSourceRecordPosition()).isEqualTo(4);
+      assertThat(frame.getKey()).isEqualTo(record.getKey());
+      assertThat(frame.getTimestamp()).isEqualTo(record.getTimestamp());
+      assertThat(frame.getPartitionId()).isEqualTo(1);
+      assertThat(frame.getRecordType()).isEqualTo(RecordType.EVENT);
+      assertThat(frame.getValueType()).isEqualTo(ValueType.JOB);
+      assertThat(frame.getIntent()).isEqualTo(JobIntent.CREATED);
+      assertThat(frame.getRejectionType()).isEqualTo(RejectionType.NULL_VAL);
+      assertThat(frame.getRejectionReason()).isEmpty();
+
+      final var value = new JobRecord();
+      value.wrap(frame.getValue());
+      assertThat(value).isEqualTo(record.getValue());
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldReadRejection() {
+    // given
+    writer.append(TestRecords.rejectedJobRecord(1, 1));
+
+    // when
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      final var frame = reader.next();
+
+      // then
+      assertThat(frame.getRecordType()).isEqualTo(RecordType.COMMAND_REJECTION);
+      assertThat(frame.getIntent()).isEqualTo(JobIntent.COMPLETE);
+      assertThat(frame.getRejectionType()).isEqualTo(RejectionType.NOT_FOUND);
+      assertThat(frame.getRejectionReason()).isEqualTo("no such job");
+    }
+  }
+
+  @Test
+  void shouldReadAcrossRolledSegments() throws IOException {
+    // given
+    for (int position = 1; position <= 100; position++) {
+      writer.append(TestRecords.jobRecord(1, position));
+    }
+
+    // when
+    final var positions = readAllPositions();
+
+    // then
+    assertThat(listSegments()).hasSizeGreaterThan(1);
+    assertThat(positions).hasSize(100).startsWith(1L).endsWith(100L).isSorted();
+  }
+
+  @Test
+  void shouldWriteOversizedRecordToItsOwnSegment() {
+    // given
+    final var largeVariables = "{\"foo\":\"" + "x".repeat(config.segmentSize) + "\"}";
+    writer.append(TestRecords.jobRecord(1, 1));
+    writer.append(TestRecords.jobRecord(1, 2, largeVariables));
+    writer.append(TestRecords.jobRecord(1, 3));
+
+    // when
+    final var positions = readAllPositions();
+
+    // then
+    assertThat(positions).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldTailWrittenRecords() {
+    // given
+    writer.append(TestRecords.jobRecord(1, 1));
+
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      reader.next();
+      assertThat(reader.hasNext()).isFalse();
+
+      // when
+      for (int position = 2; position <= 50; position++) {
+        writer.append(TestRecords.jobRecord(1, position));
+      }
+
+      // then
+      final List<Long> positions = new ArrayList<>();
+      while (reader.hasNext()) {
+        positions.add(reader.next().getPosition());
+      }
+      assertThat(positions).hasSize(49).startsWith(2L).endsWith(50L);
+    }
+  }
+
+  @Test
+  void shouldSeekToPosition() {
+    // given
+    for (int position = 1; position <= 200; position += 2) {
+      writer.append(TestRecords.jobRecord(1, position));
+    }
+    writer.flush();
+
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      // when
+      reader.seek(100);
+
+      // then
+      assertThat(reader.next().getPosition()).isEqualTo(101);
+    }
+  }
+
+  @Test
+  void shouldSeekPastEnd() {
+    // given
+    writer.append(TestRecords.jobRecord(1, 1));
+
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      // when
+      reader.seek(10);
+
+      // then
+      assertThat(reader.hasNext()).isFalse();
+      writer.append(TestRecords.jobRecord(1, 10));
+      assertThat(reader.next().getPosition()).isEqualTo(10);
+    }
+  }
+
+  @Test
+  void shouldSkipAlreadyWrittenRecordsAfterReopening() {
+    // given
+    writer.append(TestRecords.jobRecord(1, 1));
+    writer.append(TestRecords.jobRecord(1, 2));
+    writer.close();
+
+    // when
+    writer = SegmentedFrameWriter.open(directory, config, metrics);
+    final boolean appendedDuplicate = writer.append(TestRecords.jobRecord(1, 2));
+    final boolean appendedNext = writer.append(TestRecords.jobRecord(1, 3));
+
+    // then
+    assertThat(appendedDuplicate).isFalse();
+    assertThat(appendedNext).isTrue();
+    assertThat(writer.getLastWrittenPosition()).isEqualTo(3);
+    assertThat(readAllPositions()).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  void shouldDiscardCorruptedFrameOnReopening() throws IOException {
+    // given
+    writer.append(TestRecords.jobRecord(1, 1));
+    writer.append(TestRecords.jobRecord(1, 2));
+    writer.close();
+    corruptLastFrame(listSegments().get(0));
+
+    // when
+    writer = SegmentedFrameWriter.open(directory, config, metrics);
+    writer.append(TestRecords.jobRecord(1, 2));
+
+    // then
+    assertThat(writer.getLastWrittenPosition()).isEqualTo(2);
+    assertThat(readAllPositions()).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldDeleteOldestSegmentsOnRetention() throws IOException {
+    // given
+    writer.close();
+    config.maxSegments = 2;
+    writer = SegmentedFrameWriter.open(directory, config, metrics);
+
+    // when
+    for (int position = 1; position <= 100; position++) {
+      writer.append(TestRecords.jobRecord(1, position));
+    }
+
+    // then
+    assertThat(listSegments()).hasSize(2);
+    assertThat(readAllPositions()).isNotEmpty().endsWith(100L).doesNotContain(1L);
+  }
+
+  private List<Long> readAllPositions() {
+    final List<Long> positions = new ArrayList<>();
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      while (reader.hasNext()) {
+        positions.add(reader.next().getPosition());
+      }
+    }
+    return positions;
+  }
+
+  private List<Path> listSegments() throws IOException {
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files.filter(RecordFrameDescriptor::isSegmentFile).sorted().toList();
+    }
+  }
+
+  private void corruptLastFrame(final Path segment) throws IOException {
+    final int firstFrameLength;
+    try (final var reader = BinaryRecordReader.open(directory)) {
+      firstFrameLength = reader.next().getLength();
+    }
+
+    // flip a byte in the value of the second frame, making its checksum invalid
+    final int valueOffset =
+        RecordFrameDescriptor.SEGMENT_HEADER_LENGTH
+            + firstFrameLength
+            + RecordFrameDescriptor.HEADER_LENGTH;
+    try (final var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), valueOffset);
+    }
+  }
+}
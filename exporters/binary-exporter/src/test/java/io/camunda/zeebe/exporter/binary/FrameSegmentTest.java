@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FrameSegmentTest {
+
+  private static final int INDEX_DENSITY = 512;
+  private static final byte[] NO_REJECTION_REASON = new byte[0];
+
+  private @TempDir Path directory;
+
+  @Test
+  void shouldRecoverWrittenFrames() {
+    // given
+    final var path = appendAndClose(4 * 1024, TestRecords.jobRecord(1, 1), false);
+
+    // when
+    try (final var segment = FrameSegment.open(path, INDEX_DENSITY)) {
+      // then
+      assertThat(segment.isSealed()).isFalse();
+      assertThat(segment.lastPosition()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldRecoverSealedSegment() {
+    // given
+    final var path = appendAndClose(4 * 1024, TestRecords.jobRecord(1, 1), true);
+
+    // when
+    try (final var segment = FrameSegment.open(path, INDEX_DENSITY)) {
+      // then
+      assertThat(segment.isSealed()).isTrue();
+      assertThat(segment.hasCapacity(RecordFrameDescriptor.HEADER_LENGTH)).isFalse();
+    }
+  }
+
+  @Test
+  void shouldRecoverSealedSegmentWithOnlySpaceForSealMarker() {
+    // given
+    final var path = appendAndSealWithRemainingBytes(Integer.BYTES);
+
+    // when
+    try (final var segment = FrameSegment.open(path, INDEX_DENSITY)) {
+      // then
+      assertThat(segment.isSealed()).isTrue();
+      assertThat(segment.lastPosition()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void shouldRecoverSealedSegmentWithoutSpaceForFrameHeader() {
+    // given
+    final var path = appendAndSealWithRemainingBytes(RecordFrameDescriptor.HEADER_LENGTH - 1);
+
+    // when
+    try (final var segment = FrameSegment.open(path, INDEX_DENSITY)) {
+      // then
+      assertThat(segment.isSealed()).isTrue();
+      assertThat(segment.lastPosition()).isEqualTo(1);
+    }
+  }
+
+  private Path appendAndSealWithRemainingBytes(final int remainingBytes) {
+    final var record = TestRecords.jobRecord(1, 1);
+    final int frameLength = RecordFrameDescriptor.frameLength(0, record.getValue().getLength());
+    final int segmentSize =
+        RecordFrameDescriptor.SEGMENT_HEADER_LENGTH + frameLength + remainingBytes;
+    return appendAndClose(segmentSize, record, true);
+  }
+
+  private Path appendAndClose(
+      final int segmentSize, final Record<JobRecord> record, final boolean seal) {
+    try (final var segment = FrameSegment.create(directory, 1, segmentSize, INDEX_DENSITY)) {
+      segment.append(record, record.getValue(), NO_REJECTION_REASON);
+      if (seal) {
+        segment.seal();
+      } else {
+        segment.flush();
+      }
+      return segment.path();
+    }
+  }
+}
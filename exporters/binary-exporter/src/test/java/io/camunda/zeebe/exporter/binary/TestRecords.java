@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.exporter.binary;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** Creates records backed by the actual protocol implementation, like the broker exports them. */
+final class TestRecords {
+
+  private TestRecords() {}
+
+  static Record<JobRecord> jobRecord(final int partitionId, final long position) {
+    return jobRecord(partitionId, position, "{\"foo\":\"bar\"}");
+  }
+
+  static Record<JobRecord> jobRecord(
+      final int partitionId, final long position, final String variablesJson) {
+    final var value =
+        new JobRecord()
+            .setType("test")
+            .setWorker("worker")
+            .setRetries(3)
+            .setBpmnProcessId("process")
+            .setElementId("task")
+            .setVariables(new UnsafeBuffer(MsgPackConverter.convertToMsgPack(variablesJson)));
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATED)
+            .rejectionType(RejectionType.NULL_VAL);
+
+    return new CopiedRecord<>(
+        value, metadata, position * 10, partitionId, position, position - 1, 1_000L + position);
+  }
+
+  static Record<JobRecord> rejectedJobRecord(final int partitionId, final long position) {
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND_REJECTION)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.COMPLETE)
+            .rejectionType(RejectionType.NOT_FOUND)
+            .rejectionReason("no such job");
+
+    return new CopiedRecord<>(
+        new JobRecord().setType("test"), metadata, 1, partitionId, position, -1, 1_000L);
+  }
+}
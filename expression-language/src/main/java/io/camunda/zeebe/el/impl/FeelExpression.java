@@ -8,7 +8,9 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.impl.feel.FeelVariableReferences;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
@@ -17,9 +19,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> variableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    variableNames = FeelVariableReferences.of(expression);
   }
 
   @Override
@@ -63,6 +67,14 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  /**
+   * @return the names of the variables that the expression may reference; other variables don't
+   *     need to be looked up to evaluate it
+   */
+  public Set<String> getVariableNames() {
+    return variableNames;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
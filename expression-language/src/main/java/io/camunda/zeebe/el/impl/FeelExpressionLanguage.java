@@ -9,6 +9,8 @@ package io.camunda.zeebe.el.impl;
 
 import static io.camunda.zeebe.util.EnsureUtil.ensureNotNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.el.EvaluationResult;
 import io.camunda.zeebe.el.Expression;
@@ -36,16 +38,22 @@ import scala.util.Either;
 public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
+  private static final int PARSED_EXPRESSION_CACHE_SIZE = 10_000;
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final MessagePackValueMapper messagePackValueMapper = new MessagePackValueMapper();
+  // only valid FEEL expressions are cached, static values and invalid expressions are cheap to
+  // create and would only displace them
+  private final Cache<String, FeelExpression> parsedExpressions =
+      CacheBuilder.newBuilder().maximumSize(PARSED_EXPRESSION_CACHE_SIZE).build();
 
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
     feelEngine =
         new FeelEngine.Builder()
-            .customValueMapper(new MessagePackValueMapper())
+            .customValueMapper(messagePackValueMapper)
             .functionProvider(new FeelFunctionProvider())
             .clock(clock)
             .build();
@@ -58,8 +66,17 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
     final var expressionMatcher = EXPRESSION_PATTERN.matcher(expression);
 
     if (expressionMatcher.matches()) {
+      final var cachedExpression = parsedExpressions.getIfPresent(expression);
+      if (cachedExpression != null) {
+        return cachedExpression;
+      }
+
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      final var parsedExpression = parseFeelExpression(unpackedExpression);
+      if (parsedExpression instanceof final FeelExpression feelExpression) {
+        parsedExpressions.put(expression, feelExpression);
+      }
+      return parsedExpression;
     } else {
       return new StaticExpression(expression);
     }
@@ -107,7 +124,8 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    final var feelContext =
+        new FeelVariableContext(context, messagePackValueMapper, feelExpression.getVariableNames());
 
     final Either<Failure, Object> evalResult = feelEngine.eval(parsedExpression, feelContext);
 
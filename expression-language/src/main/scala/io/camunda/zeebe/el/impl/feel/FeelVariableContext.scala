@@ -8,18 +8,39 @@
 package io.camunda.zeebe.el.impl.feel
 
 import io.camunda.zeebe.el.EvaluationContext
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper
 import org.camunda.feel.context.{CustomContext, VariableProvider}
+import org.camunda.feel.syntaxtree.Val
 
-class FeelVariableContext(context: EvaluationContext) extends CustomContext {
+import scala.collection.mutable
+
+class FeelVariableContext(
+    context: EvaluationContext,
+    valueMapper: MessagePackValueMapper,
+    variableNames: java.util.Set[String])
+  extends CustomContext {
 
   override val variableProvider: VariableProvider = new EvaluationContextWrapper
 
   class EvaluationContextWrapper extends VariableProvider {
 
-    override def getVariable(name: String): Option[Any] = {
+    // an expression may reference a variable more than once, e.g. to access different entries of
+    // it, but it is looked up and transformed only once per evaluation
+    private val resolvedVariables = mutable.HashMap.empty[String, Option[Val]]
+
+    override def getVariable(name: String): Option[Any] =
+      if (variableNames.contains(name)) {
+        resolvedVariables.getOrElseUpdate(name, resolveVariable(name))
+      } else {
+        // the expression doesn't reference it, so it doesn't need to be looked up
+        None
+      }
+
+    // the variable must be transformed right away, as its buffer may be reused by the next lookup
+    private def resolveVariable(name: String): Option[Val] =
       Option(context.getVariable(name))
         .filter(_.capacity > 0)
-    }
+        .map(variable => valueMapper.readMessagePack(variable))
 
     override def keys: Iterable[String] = List.empty
   }
@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl.feel
+
+import org.camunda.feel.syntaxtree.{ParsedExpression, Ref}
+
+import scala.collection.mutable
+import scala.jdk.CollectionConverters._
+
+object FeelVariableReferences {
+
+  /**
+   * Returns the names of the variables that the given expression may reference, i.e. the first
+   * name of each reference in its syntax tree. The names of functions, context entries and string
+   * literals are not included. The names may contain variables which are defined by the
+   * expression itself, e.g. the parameters of a function or the items of a loop, as these are
+   * resolved like any other variable.
+   */
+  def of(expression: ParsedExpression): java.util.Set[String] = {
+    val names = mutable.HashSet.empty[String]
+    collectNames(expression.expression, names)
+    java.util.Set.copyOf(names.asJava)
+  }
+
+  private def collectNames(node: Any, names: mutable.Set[String]): Unit = node match {
+    // a path like `x.y` may be parsed as a qualified reference, but only its first name is a variable
+    case Ref(refNames) => names += refNames.head
+    // lists are products too, but are traversed by iterating to not recurse over their tails
+    case iterable: Iterable[_] => iterable.foreach(collectNames(_, names))
+    case product: Product => product.productIterator.foreach(collectNames(_, names))
+    case _ =>
+  }
+
+}
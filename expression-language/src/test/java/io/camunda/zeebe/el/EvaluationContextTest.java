@@ -12,6 +12,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
 import org.junit.Test;
 
@@ -104,8 +105,57 @@ public class EvaluationContextTest {
     assertThat(evaluationResult.toBuffer()).isEqualTo(variable);
   }
 
+  @Test
+  public void contextVariableEntries() {
+    final var variable = asMsgPack(Map.of("a", 1, "b", Map.of("c", 2), "d", 3));
+    final var evaluationResult = evaluateExpressionWithContext("=x.a + x.b.c", variable);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(3L);
+  }
+
+  @Test
+  public void contextVariableMissingEntry() {
+    final var variable = asMsgPack(Map.of("a", 1));
+    final var evaluationResult = evaluateExpressionWithContext("=x.b", variable);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NULL);
+  }
+
+  @Test
+  public void contextVariableAllEntries() {
+    final var variable = asMsgPack(Map.of("a", 1, "b", 2, "c", 3));
+    final var evaluationResult = evaluateExpressionWithContext("=count(get entries(x))", variable);
+
+    assertThat(evaluationResult.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(evaluationResult.getNumber()).isEqualTo(3L);
+  }
+
+  @Test
+  public void shouldLookUpVariableOncePerEvaluation() {
+    final var variable = asMsgPack(Map.of("a", 1, "b", 2));
+    final var lookups = new AtomicInteger();
+    final EvaluationContext context =
+        name -> {
+          lookups.incrementAndGet();
+          return "x".equals(name) ? variable : null;
+        };
+
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(
+            expressionLanguage.parseExpression("=x.a + x.b + x.a"), context);
+
+    assertThat(evaluationResult.getNumber()).isEqualTo(4L);
+    assertThat(lookups).hasValue(1);
+  }
+
   private EvaluationResult evaluateExpressionWithContext(final DirectBuffer variable) {
-    final var parseExpression = expressionLanguage.parseExpression("=x");
+    return evaluateExpressionWithContext("=x", variable);
+  }
+
+  private EvaluationResult evaluateExpressionWithContext(
+      final String expression, final DirectBuffer variable) {
+    final var parseExpression = expressionLanguage.parseExpression(expression);
     final var evaluationResult =
         expressionLanguage.evaluateExpression(parseExpression, Map.of("x", variable)::get);
 
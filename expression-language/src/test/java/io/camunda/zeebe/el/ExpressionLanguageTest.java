@@ -10,6 +10,8 @@ package io.camunda.zeebe.el;
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.el.impl.FeelExpression;
+import io.camunda.zeebe.el.impl.InvalidExpression;
 import io.camunda.zeebe.el.impl.StaticExpression;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.util.Map;
@@ -95,6 +97,32 @@ public class ExpressionLanguageTest {
     assertThat(expression.getFailureMessage()).startsWith("failed to parse expression 'x ?! 5'");
   }
 
+  @Test
+  public void shouldReuseParsedExpression() {
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    assertThat(expressionLanguage.parseExpression("=x + 1")).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldNotReuseInvalidExpression() {
+    final var expression = expressionLanguage.parseExpression("=x ?! 5");
+
+    assertThat(expressionLanguage.parseExpression("=x ?! 5"))
+        .isNotSameAs(expression)
+        .isInstanceOf(InvalidExpression.class);
+  }
+
+  @Test
+  public void shouldCollectReferencedVariableNames() {
+    final var expression =
+        (FeelExpression)
+            expressionLanguage.parseExpression(
+                "=if x.y > 5 then count(z) else string(w) + \"v\" + {u: 1}.u");
+
+    assertThat(expression.getVariableNames()).containsExactlyInAnyOrder("x", "z", "w");
+  }
+
   @Test
   public void shouldEvaluateStaticStringValue() {
     final var expression = expressionLanguage.parseExpression("x");
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many expressions per second can be evaluated, when they access a few entries of a
+ * large variable, e.g. a condition of an exclusive gateway on a payload received from a worker.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class FeelEvaluationPerformanceTest {
+
+  @Param({"10", "1000"})
+  public int variableEntries;
+
+  private ExpressionLanguage expressionLanguage;
+  private Expression expression;
+  private EvaluationContext context;
+
+  @Setup
+  public void setup() {
+    expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+    expression =
+        expressionLanguage.parseExpression(
+            "=order.amount > 100 and order.express and order.customer.tier = \"gold\"");
+
+    final var order = new HashMap<String, Object>();
+    for (int i = 0; i < variableEntries; i++) {
+      order.put("item" + i, "x".repeat(32));
+    }
+    order.put("amount", 250);
+    order.put("express", true);
+    order.put("customer", Map.of("tier", "gold", "id", 12345));
+
+    final DirectBuffer variable = asMsgPack(order);
+    context = name -> "order".equals(name) ? variable : null;
+  }
+
+  @Benchmark
+  public boolean measureEvaluation() {
+    return expressionLanguage.evaluateExpression(expression, context).getBoolean();
+  }
+
+  @JMHTest("measureEvaluation")
+  void shouldEvaluateOverLargeVariableWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - the expression accesses only three entries of the variable, so the size of the
+    // variable should barely matter; the reference is half the score of the same expression over
+    // a variable with 10 entries, which is about 17,000 ops/s
+    final var referenceScore = 8_500;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("variableEntries", "1000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+}
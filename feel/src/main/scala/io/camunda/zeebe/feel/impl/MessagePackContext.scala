@@ -13,13 +13,17 @@ import org.agrona.DirectBuffer
 import org.agrona.concurrent.UnsafeBuffer
 import org.camunda.feel.context.{CustomContext, VariableProvider}
 
+import java.nio.charset.StandardCharsets
+import scala.collection.mutable
+
 class MessagePackContext(
                           reader: MsgPackReader,
                           bufferOffset: Int,
                           size: Int
                         ) extends CustomContext {
 
-  private val valueOffsets: Map[String, (Int, Int)] = readValueOffsets(reader, size)
+  // the entries are skipped here, and only indexed when a variable is looked up
+  reader.skipValues(2L * size)
   private val length = reader.getOffset - bufferOffset
 
   val messagePackMap: DirectBuffer = cloneBuffer(reader.getBuffer, bufferOffset, length)
@@ -29,39 +33,89 @@ class MessagePackContext(
   class MessagePackMapVariableProvider(entries: DirectBuffer) extends VariableProvider {
 
     private val resultView = new UnsafeBuffer
+    private val resolvedEntries = mutable.HashMap.empty[String, Int]
+
+    private lazy val index = new EntryIndex(entries)
 
-    override def keys: Iterable[String] = valueOffsets.keys
+    override def keys: Iterable[String] = index.keys
 
     override def getVariable(name: String): Option[Any] = {
-      valueOffsets
-        .get(name)
-        .map { case (offset, length) =>
-          resultView.wrap(entries, offset, length)
-          resultView
-        }
+      val entry = resolvedEntries.getOrElseUpdate(name, index.indexOf(name))
+
+      if (entry == EntryIndex.NotFound) {
+        None
+      } else {
+        resultView.wrap(entries, index.valueOffset(entry), index.valueLength(entry))
+        Some(resultView)
+      }
     }
 
-    override def getVariables: Map[String, Any] = valueOffsets.map { case (key, (offset, length)) =>
-      key -> cloneBuffer(entries, offset, length)
-    }
+    override def getVariables: Map[String, Any] = (0 until size).map { entry =>
+      index.key(entry) -> cloneBuffer(entries, index.valueOffset(entry), index.valueLength(entry))
+    }.toMap
 
   }
 
-  private def readValueOffsets(reader: MsgPackReader, size: Int): Map[String, (Int, Int)] = {
-    val offsets = (0 until size).map { _ =>
+  /**
+   * The offsets of the keys and values of the entries. The keys are compared by their bytes, so they
+   * are not converted into strings unless all keys are requested.
+   */
+  private class EntryIndex(entries: DirectBuffer) {
+
+    private val keyOffsets = new Array[Int](size)
+    private val keyLengths = new Array[Int](size)
+    private val valueOffsets = new Array[Int](size)
+    private val valueLengths = new Array[Int](size)
+
+    private val entryReader = new MsgPackReader
+    entryReader.wrap(entries, 0, entries.capacity)
+    entryReader.readMapHeader()
+
+    for (entry <- 0 until size) {
+      keyLengths(entry) = entryReader.readStringLength()
+      keyOffsets(entry) = entryReader.getOffset
+      entryReader.skipBytes(keyLengths(entry))
+
+      valueOffsets(entry) = entryReader.getOffset
+      entryReader.skipValue()
+      valueLengths(entry) = entryReader.getOffset - valueOffsets(entry)
+    }
+
+    def keys: Iterable[String] = (0 until size).map(key).distinct
 
-      val keyToken = reader.readToken()
-      val keyBuffer = keyToken.getValueBuffer
-      val key = bufferAsString(keyBuffer)
+    def key(entry: Int): String = bufferAsString(entries, keyOffsets(entry), keyLengths(entry))
 
-      val valueOffset = reader.getOffset
-      reader.skipValue()
-      val valueLength = reader.getOffset - valueOffset
+    def valueOffset(entry: Int): Int = valueOffsets(entry)
 
-      key -> (valueOffset - bufferOffset, valueLength)
+    def valueLength(entry: Int): Int = valueLengths(entry)
+
+    def indexOf(name: String): Int = {
+      val nameBytes = name.getBytes(StandardCharsets.UTF_8)
+
+      // if a key is contained more than once, the last entry wins - like in a map of the entries
+      var entry = size - 1
+      while (entry >= 0 && !hasKey(entry, nameBytes)) {
+        entry -= 1
+      }
+      entry
     }
 
-    offsets.toMap
+    private def hasKey(entry: Int, name: Array[Byte]): Boolean = {
+      if (keyLengths(entry) != name.length) {
+        return false
+      }
+
+      val keyOffset = keyOffsets(entry)
+      var i = 0
+      while (i < name.length && entries.getByte(keyOffset + i) == name(i)) {
+        i += 1
+      }
+      i == name.length
+    }
+  }
+
+  private object EntryIndex {
+    val NotFound: Int = -1
   }
 
 }
@@ -26,7 +26,11 @@ class MessagePackValueMapper extends CustomValueMapper {
     case _ => None
   }
 
-  private def readMessagePack(messagePack: DirectBuffer): Val = {
+  /**
+   * Transforms the given MessagePack value into a FEEL value. Maps are transformed into contexts
+   * which only read the entries that are accessed.
+   */
+  def readMessagePack(messagePack: DirectBuffer): Val = {
     reader.wrap(messagePack, 0, messagePack.capacity())
     readNext()
   }
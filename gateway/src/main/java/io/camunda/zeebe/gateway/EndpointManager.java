@@ -7,16 +7,20 @@
  */
 package io.camunda.zeebe.gateway;
 
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.auth.api.JwtAuthorizationBuilder;
 import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.cmd.NoTopologyAvailableException;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
@@ -54,6 +58,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -64,6 +71,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.util.VersionUtil;
@@ -71,12 +79,23 @@ import io.grpc.Context;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 public final class EndpointManager {
 
+  // the approximate size of the messages which are published with a single command; well below the
+  // default maximum message size of 4 MB, as the published events are written in the same batch
+  private static final int MAX_MESSAGE_BATCH_SIZE = 1024 * 1024;
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
@@ -168,7 +187,8 @@ public final class EndpointManager {
     try {
       final JobActivationProperties brokerRequest =
           RequestMapper.toJobActivationProperties(request);
-      streamJobsHandler.handle(request.getType(), brokerRequest, responseObserver);
+      streamJobsHandler.handle(
+          request.getType(), brokerRequest, request.getMaxJobsActive(), responseObserver);
     } catch (final Exception e) {
       responseObserver.onError(e);
     }
@@ -299,6 +319,133 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    if (topology == null || topology.getPartitionsCount() == 0) {
+      responseObserver.onError(new NoTopologyAvailableException());
+      return;
+    }
+
+    // group the messages by the partitions of their correlation keys, but remember their positions
+    // in the request to return the results in the same order
+    final List<PublishMessageRequest> messages = request.getMessagesList();
+    final Map<Integer, List<Integer>> messagePositionsByPartition = new TreeMap<>();
+    for (int position = 0; position < messages.size(); position++) {
+      final int partitionId =
+          SubscriptionUtil.getSubscriptionPartitionId(
+              wrapString(messages.get(position).getCorrelationKey()),
+              topology.getPartitionsCount());
+      messagePositionsByPartition
+          .computeIfAbsent(partitionId, ignore -> new ArrayList<>())
+          .add(position);
+    }
+
+    final Map<BrokerPublishMessageBatchRequest, List<Integer>> brokerRequests =
+        new LinkedHashMap<>();
+    try {
+      for (final var partitionMessages : messagePositionsByPartition.entrySet()) {
+        final int partitionId = partitionMessages.getKey();
+        for (final List<Integer> positions :
+            splitMessageBatch(messages, partitionMessages.getValue())) {
+          final var brokerRequest =
+              mapToBrokerRequest(
+                  positions.stream().map(messages::get).toList(),
+                  grpcRequests ->
+                      RequestMapper.toPublishMessageBatchRequest(partitionId, grpcRequests));
+          brokerRequests.put((BrokerPublishMessageBatchRequest) brokerRequest, positions);
+        }
+      }
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    if (brokerRequests.isEmpty()) {
+      responseObserver.onNext(PublishMessagesResponse.getDefaultInstance());
+      responseObserver.onCompleted();
+      return;
+    }
+
+    // every request is completed with the results of its messages; the messages of a failed request
+    // are reported as not published, and only if no request succeeded, the whole call fails
+    final PublishMessagesResult[] results = new PublishMessagesResult[messages.size()];
+    final AtomicInteger pendingRequests = new AtomicInteger(brokerRequests.size());
+    final AtomicBoolean anyRequestSucceeded = new AtomicBoolean();
+    final AtomicReference<Throwable> firstError = new AtomicReference<>();
+    final Runnable onRequestCompleted =
+        () -> {
+          if (pendingRequests.decrementAndGet() > 0) {
+            return;
+          }
+
+          if (anyRequestSucceeded.get()) {
+            responseObserver.onNext(
+                PublishMessagesResponse.newBuilder().addAllResults(Arrays.asList(results)).build());
+            responseObserver.onCompleted();
+          } else {
+            responseObserver.onError(firstError.get());
+          }
+        };
+
+    brokerRequests.forEach(
+        (brokerRequest, positions) ->
+            brokerClient.sendRequestWithRetry(
+                brokerRequest,
+                (key, response) -> {
+                  setPublishMessagesResults(
+                      results,
+                      positions,
+                      ResponseMapper.toPublishMessagesResults(
+                          brokerRequest.getRequestWriter(), response));
+                  anyRequestSucceeded.set(true);
+                  onRequestCompleted.run();
+                },
+                error -> {
+                  setPublishMessagesResults(
+                      results,
+                      positions,
+                      ResponseMapper.toFailedPublishMessagesResults(
+                          brokerRequest.getRequestWriter(), error));
+                  firstError.compareAndSet(null, error);
+                  onRequestCompleted.run();
+                }));
+  }
+
+  /**
+   * Splits the messages of a partition into batches of at most {@link #MAX_MESSAGE_BATCH_SIZE}
+   * bytes, as a command must fit into a single message of the broker. A message which is larger on
+   * its own is sent in its own batch.
+   */
+  private static List<List<Integer>> splitMessageBatch(
+      final List<PublishMessageRequest> messages, final List<Integer> positions) {
+    final List<List<Integer>> batches = new ArrayList<>();
+    List<Integer> batch = new ArrayList<>();
+    int batchSize = 0;
+    for (final int position : positions) {
+      final int messageSize = messages.get(position).getSerializedSize();
+      if (!batch.isEmpty() && batchSize + messageSize > MAX_MESSAGE_BATCH_SIZE) {
+        batches.add(batch);
+        batch = new ArrayList<>();
+        batchSize = 0;
+      }
+      batch.add(position);
+      batchSize += messageSize;
+    }
+    batches.add(batch);
+    return batches;
+  }
+
+  private static void setPublishMessagesResults(
+      final PublishMessagesResult[] results,
+      final List<Integer> positions,
+      final List<PublishMessagesResult> batchResults) {
+    for (int i = 0; i < positions.size(); i++) {
+      results[positions.get(i)] = batchResults.get(i);
+    }
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
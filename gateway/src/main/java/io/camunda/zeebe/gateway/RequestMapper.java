@@ -24,6 +24,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeployResourceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerEvaluateDecisionRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerModifyProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerResolveIncidentRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerSetVariablesRequest;
@@ -120,6 +121,25 @@ public final class RequestMapper {
     return brokerRequest;
   }
 
+  public static BrokerPublishMessageBatchRequest toPublishMessageBatchRequest(
+      final int partitionId, final List<PublishMessageRequest> grpcRequests) {
+    final BrokerPublishMessageBatchRequest brokerRequest =
+        new BrokerPublishMessageBatchRequest(partitionId);
+
+    for (final PublishMessageRequest grpcRequest : grpcRequests) {
+      brokerRequest
+          .addMessage()
+          .setName(grpcRequest.getName())
+          .setCorrelationKey(grpcRequest.getCorrelationKey())
+          .setMessageId(grpcRequest.getMessageId())
+          .setTimeToLive(grpcRequest.getTimeToLive())
+          .setVariables(ensureJsonSet(grpcRequest.getVariables()))
+          .setTenantId(ensureTenantIdSet("PublishMessages", grpcRequest.getTenantId()));
+    }
+
+    return brokerRequest;
+  }
+
   public static BrokerUpdateJobRetriesRequest toUpdateJobRetriesRequest(
       final UpdateJobRetriesRequest grpcRequest) {
     return new BrokerUpdateJobRetriesRequest(grpcRequest.getJobKey(), grpcRequest.getRetries());
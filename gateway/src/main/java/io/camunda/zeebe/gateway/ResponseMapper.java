@@ -32,6 +32,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MatchedDecisionRule;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -43,6 +44,7 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceModificationRecord;
@@ -52,11 +54,17 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final String ALREADY_PUBLISHED_MESSAGE_ERROR =
+      "Expected to publish a new message with id '%s', but a message with that id was already published";
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -144,6 +152,49 @@ public final class ResponseMapper {
         .build();
   }
 
+  /**
+   * Maps the response of a published message batch to the results of its messages. The keys of the
+   * response are in the same order as the messages of the request.
+   */
+  public static List<PublishMessagesResult> toPublishMessagesResults(
+      final MessageBatchRecord brokerRequest, final MessageBatchRecord brokerResponse) {
+    final List<MessageRecordValue> messages = brokerRequest.getMessages();
+    final List<Long> messageKeys = brokerResponse.getMessageKeys();
+
+    final List<PublishMessagesResult> results = new ArrayList<>(messages.size());
+    for (int i = 0; i < messages.size(); i++) {
+      final var message = messages.get(i);
+      final long messageKey = messageKeys.get(i);
+      final var result =
+          PublishMessagesResult.newBuilder().setKey(messageKey).setTenantId(message.getTenantId());
+      if (messageKey < 0) {
+        // the broker skips a message that was already published, instead of rejecting the batch
+        result.setError(ALREADY_PUBLISHED_MESSAGE_ERROR.formatted(message.getMessageId()));
+      }
+      results.add(result.build());
+    }
+    return results;
+  }
+
+  /**
+   * Maps the messages of a message batch which couldn't be published, e.g. because the request to
+   * its partition failed, to the results of its messages.
+   */
+  public static List<PublishMessagesResult> toFailedPublishMessagesResults(
+      final MessageBatchRecord brokerRequest, final Throwable error) {
+    final String errorMessage =
+        error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+    return brokerRequest.getMessages().stream()
+        .map(
+            message ->
+                PublishMessagesResult.newBuilder()
+                    .setKey(-1L)
+                    .setTenantId(message.getTenantId())
+                    .setError(errorMessage)
+                    .build())
+        .toList();
+  }
+
   public static UpdateJobRetriesResponse toUpdateJobRetriesResponse(
       final long key, final JobRecord brokerResponse) {
     return UpdateJobRetriesResponse.getDefaultInstance();
@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 
@@ -37,7 +38,7 @@ public final class BrokerClientImpl implements BrokerClient {
 
   private final GatewayClusterTopologyService clusterTopologyService;
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final List<Subscription> jobAvailableSubscriptions = new CopyOnWriteArrayList<>();
   private final ClusterEventService eventService;
   private final ActorSchedulingService schedulingService;
   private final AtomixClientTransportAdapter atomixTransportAdapter;
@@ -114,9 +115,7 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(clusterTopologyService::closeAsync);
     LOG.debug("cluster topology service closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.forEach(Subscription::close);
 
     LOG.debug("Gateway broker client closed.");
   }
@@ -169,7 +168,7 @@ public final class BrokerClientImpl implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
+    final Subscription subscription =
         eventService
             .subscribe(
                 topic,
@@ -178,6 +177,7 @@ public final class BrokerClientImpl implements BrokerClient {
                   return CompletableFuture.completedFuture(null);
                 })
             .join();
+    jobAvailableSubscriptions.add(subscription);
   }
 
   private void doAndLogException(final Runnable r) {
@@ -34,7 +34,21 @@ public final class PartitionIdIterator implements Iterator<Integer> {
             .iterator();
   }
 
-  private boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
+  private PartitionIdIterator(final OfInt iterator) {
+    this.iterator = iterator;
+  }
+
+  /**
+   * Returns an iterator over the given partition only, which is empty if the partition currently
+   * has no leader.
+   */
+  public static PartitionIdIterator ofPartition(
+      final int partitionId, final BrokerTopologyManager topologyManager) {
+    return new PartitionIdIterator(
+        IntStream.of(partitionId).filter(p -> hasLeader(topologyManager, p)).iterator());
+  }
+
+  private static boolean hasLeader(final BrokerTopologyManager topologyManager, final int p) {
     final var topology = topologyManager.getTopology();
     return topology != null && topology.getLeaderForPartition(p) != BrokerClusterState.NODE_ID_NULL;
   }
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import org.agrona.DirectBuffer;
+
+/**
+ * Publishes multiple messages with a single command. All messages must belong to the same
+ * partition, i.e. the partition of their correlation keys, which must be set before sending the
+ * request.
+ */
+public final class BrokerPublishMessageBatchRequest
+    extends BrokerExecuteCommand<MessageBatchRecord> {
+
+  private final MessageBatchRecord requestDto = new MessageBatchRecord();
+
+  public BrokerPublishMessageBatchRequest(final int partitionId) {
+    super(ValueType.MESSAGE_BATCH, MessageBatchIntent.PUBLISH);
+    setPartitionId(partitionId);
+  }
+
+  /**
+   * @return a new message of the batch, which should be filled by the caller
+   */
+  public MessageRecord addMessage() {
+    return requestDto.messages().add();
+  }
+
+  @Override
+  public MessageBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected MessageBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final MessageBatchRecord responseDto = new MessageBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
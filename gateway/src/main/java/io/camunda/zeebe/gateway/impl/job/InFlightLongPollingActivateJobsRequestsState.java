@@ -8,10 +8,14 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class InFlightLongPollingActivateJobsRequestsState {
@@ -19,13 +23,20 @@ public final class InFlightLongPollingActivateJobsRequestsState {
   private final String jobType;
   private final LongPollingMetrics metrics;
   private final Queue<InflightActivateJobsRequest> activeRequests = new LinkedList<>();
-  private final Queue<InflightActivateJobsRequest> pendingRequests = new LinkedList<>();
+  private final Deque<InflightActivateJobsRequest> pendingRequests = new LinkedList<>();
   private final Set<InflightActivateJobsRequest> activeRequestsToBeRepeated = new HashSet<>();
   private int failedAttempts;
   private long lastUpdatedTime;
 
   private final AtomicBoolean ongoingNotification = new AtomicBoolean(false);
 
+  // partitionId -> request currently activating jobs on that partition only
+  private final Map<Integer, InflightActivateJobsRequest> partitionActivations = new HashMap<>();
+  // partitions which notified again while a request was activating jobs on them
+  private final Set<Integer> renotifiedPartitions = new HashSet<>();
+  // partitions whose notification is scheduled but not handled yet; accessed concurrently
+  private final Set<Integer> notifiedPartitions = ConcurrentHashMap.newKeySet();
+
   public InFlightLongPollingActivateJobsRequestsState(
       final String jobType, final LongPollingMetrics metrics) {
     this.jobType = jobType;
@@ -56,6 +67,10 @@ public final class InFlightLongPollingActivateJobsRequestsState {
     }
   }
 
+  public String getJobType() {
+    return jobType;
+  }
+
   public long getLastUpdatedTime() {
     return lastUpdatedTime;
   }
@@ -67,6 +82,17 @@ public final class InFlightLongPollingActivateJobsRequestsState {
     removeObsoleteRequestsAndUpdateMetrics();
   }
 
+  /**
+   * Puts a request, which was taken from the pending requests, back at the head of the queue, such
+   * that it keeps its place ahead of requests which were queued after it.
+   */
+  public void requeueRequest(final InflightActivateJobsRequest request) {
+    if (!isObsolete(request) && !pendingRequests.contains(request)) {
+      pendingRequests.offerFirst(request);
+    }
+    removeObsoleteRequestsAndUpdateMetrics();
+  }
+
   public Queue<InflightActivateJobsRequest> getPendingRequests() {
     removeObsoleteRequestsAndUpdateMetrics();
     return pendingRequests;
@@ -123,6 +149,47 @@ public final class InFlightLongPollingActivateJobsRequestsState {
     return activeRequestsToBeRepeated.contains(request) && !request.isLongPollingDisabled();
   }
 
+  /**
+   * Marks the partition as notified. Can be called from any thread.
+   *
+   * @return true if the partition was not already marked, i.e. if the notification still needs to
+   *     be handled
+   */
+  public boolean markPartitionNotified(final int partitionId) {
+    return notifiedPartitions.add(partitionId);
+  }
+
+  public void clearPartitionNotified(final int partitionId) {
+    notifiedPartitions.remove(partitionId);
+  }
+
+  public boolean isActivatingOnPartition(final int partitionId) {
+    final var request = partitionActivations.get(partitionId);
+    return request != null && !isObsolete(request);
+  }
+
+  public void startPartitionActivation(
+      final int partitionId, final InflightActivateJobsRequest request) {
+    partitionActivations.put(partitionId, request);
+    addActiveRequest(request);
+  }
+
+  /**
+   * Completes the ongoing activation on the given partition.
+   *
+   * @return true if the partition notified again while the activation was ongoing
+   */
+  public boolean completePartitionActivation(
+      final int partitionId, final InflightActivateJobsRequest request) {
+    partitionActivations.remove(partitionId, request);
+    removeActiveRequest(request);
+    return renotifiedPartitions.remove(partitionId);
+  }
+
+  public void markPartitionRenotified(final int partitionId) {
+    renotifiedPartitions.add(partitionId);
+  }
+
   public boolean shouldNotifyAndStartNotification() {
     return ongoingNotification.compareAndSet(false, true);
   }
@@ -19,6 +19,7 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.protocol.impl.stream.job.JobAvailableNotification;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.grpc.protobuf.StatusProto;
@@ -27,16 +28,22 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>Queued requests are retried when a broker notifies that new jobs are available. If the
+ * notification carries the partition on which the jobs were created, queued requests are retried,
+ * oldest first, against that partition only; the next request is tried only if the previous one
+ * could be filled, i.e. the partition may still have more jobs.
  */
 public final class LongPollingActivateJobsHandler implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.LONG_POLLING;
+  private static final Pattern MAJOR_MINOR_VERSION = Pattern.compile("(\\d+)\\.(\\d+)");
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
 
@@ -78,7 +85,9 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     actor.run(
         () -> {
           brokerClient.subscribeJobAvailableNotification(
-              JOBS_AVAILABLE_TOPIC, this::onNotification);
+              JobAvailableNotification.TOPIC, this::onNotification);
+          brokerClient.subscribeJobAvailableNotification(
+              JobAvailableNotification.LEGACY_TOPIC, this::onLegacyNotification);
           actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
         });
   }
@@ -174,7 +183,157 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
     }
   }
 
-  private void onNotification(final String jobType) {
+  private void onNotification(final String message) {
+    final JobAvailableNotification notification;
+    try {
+      notification = JobAvailableNotification.decode(message);
+    } catch (final IllegalArgumentException e) {
+      LOG.warn("Ignoring malformed jobs available notification", e);
+      return;
+    }
+
+    if (notification.hasPartition()) {
+      onPartitionNotification(notification.jobType(), notification.partitionId());
+    } else {
+      onJobTypeNotification(notification.jobType());
+    }
+  }
+
+  /**
+   * Brokers before 8.4 only broadcast the job type on the legacy topic, while newer brokers
+   * broadcast on both topics. The legacy notifications are therefore only handled as long as there
+   * is an older broker in the cluster, e.g. during a rolling update. Otherwise, every partition
+   * notification would be followed by a sweep of all partitions.
+   */
+  private void onLegacyNotification(final String jobType) {
+    if (hasBrokerWithoutPartitionNotifications()) {
+      onJobTypeNotification(jobType);
+    }
+  }
+
+  private boolean hasBrokerWithoutPartitionNotifications() {
+    final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
+    if (topology == null) {
+      return true;
+    }
+
+    for (final int brokerId : topology.getBrokers()) {
+      if (!sendsPartitionNotifications(topology.getBrokerVersion(brokerId))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return true if a broker of the given version broadcasts partition-aware notifications, i.e. if
+   *     it's at least 8.4; unknown versions are assumed to be older
+   */
+  private static boolean sendsPartitionNotifications(final String brokerVersion) {
+    if (brokerVersion == null) {
+      return false;
+    }
+
+    final var matcher = MAJOR_MINOR_VERSION.matcher(brokerVersion);
+    if (!matcher.lookingAt()) {
+      return false;
+    }
+
+    final int major = Integer.parseInt(matcher.group(1));
+    final int minor = Integer.parseInt(matcher.group(2));
+    return major > 8 || (major == 8 && minor >= 4);
+  }
+
+  private void onPartitionNotification(final String jobType, final int partitionId) {
+    LOG.trace(
+        "Received jobs available notification for type {} on partition {}.", jobType, partitionId);
+
+    final var state = jobTypeState.get(jobType);
+    // notifications for the same partition are coalesced until the first one is handled
+    if (state != null && state.markPartitionNotified(partitionId)) {
+      actor.run(() -> handlePartitionNotification(state, partitionId));
+    } else {
+      LOG.trace(
+          "Ignore jobs available notification for type {} on partition {}.", jobType, partitionId);
+    }
+  }
+
+  private void handlePartitionNotification(
+      final InFlightLongPollingActivateJobsRequestsState state, final int partitionId) {
+    state.clearPartitionNotified(partitionId);
+    // there are jobs again, so new requests should not be blocked anymore
+    state.resetFailedAttempts();
+
+    if (state.isActivatingOnPartition(partitionId)) {
+      // the ongoing activation may have missed the new jobs; continue once it's done
+      state.markPartitionRenotified(partitionId);
+      return;
+    }
+
+    activateNextPendingRequestOnPartition(state, partitionId);
+  }
+
+  private void activateNextPendingRequestOnPartition(
+      final InFlightLongPollingActivateJobsRequestsState state, final int partitionId) {
+    final var request = state.getNextPendingRequest();
+    if (request == null) {
+      if (!state.hasActiveRequests()) {
+        jobTypeState.remove(state.getJobType(), state);
+      }
+      return;
+    }
+
+    LOG.trace(
+        "Unblocking ActivateJobsRequest {} on partition {}", request.getRequest(), partitionId);
+    state.startPartitionActivation(partitionId, request);
+    activateJobsHandler.activateJobsOnPartition(
+        partitionId,
+        request,
+        error -> onPartitionError(state, request, partitionId, error),
+        (remainingAmount, containedResourceExhaustedResponse) ->
+            onPartitionCompleted(state, request, partitionId, remainingAmount));
+  }
+
+  private void onPartitionCompleted(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final InflightActivateJobsRequest request,
+      final int partitionId,
+      final int remainingAmount) {
+    actor.submit(
+        () -> {
+          final var renotified = state.completePartitionActivation(partitionId, request);
+
+          if (remainingAmount == request.getMaxJobsToActivate()) {
+            // the partition had nothing (left) for us, which says nothing about other partitions,
+            // so the request goes back to where it was in the queue
+            metrics.countEmptyActivation(request.getType(), true);
+            state.requeueRequest(request);
+          } else {
+            request.complete();
+          }
+
+          // if the request could be filled, the partition may have more jobs for the next one
+          if (renotified || (remainingAmount == 0 && request.getMaxJobsToActivate() > 0)) {
+            activateNextPendingRequestOnPartition(state, partitionId);
+          }
+        });
+  }
+
+  private void onPartitionError(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final InflightActivateJobsRequest request,
+      final int partitionId,
+      final Throwable error) {
+    actor.submit(
+        () -> {
+          request.onError(error);
+          if (state.completePartitionActivation(partitionId, request)) {
+            activateNextPendingRequestOnPartition(state, partitionId);
+          }
+        });
+  }
+
+  private void onJobTypeNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
 
     // instead of calling #getJobTypeState(), do only a
@@ -217,6 +376,7 @@ public final class LongPollingActivateJobsHandler implements ActivateJobsHandler
       } else {
         actor.submit(
             () -> {
+              metrics.countEmptyActivation(request.getType(), false);
               state.incrementFailedAttempts(currentTimeMillis());
               final boolean shouldBeRepeated = state.shouldBeRepeated(request);
               state.removeActiveRequest(request);
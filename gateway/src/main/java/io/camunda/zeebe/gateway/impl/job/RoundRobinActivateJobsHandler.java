@@ -97,6 +97,25 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
     activateJobs(request, requestState, delegate);
   }
 
+  /**
+   * Activates jobs for the given request on a single partition only, e.g. because the partition
+   * notified that new jobs are available there. The callbacks behave as with {@link
+   * #activateJobs(int, InflightActivateJobsRequest, Consumer, BiConsumer)}.
+   */
+  public void activateJobsOnPartition(
+      final int partitionId,
+      final InflightActivateJobsRequest request,
+      final Consumer<Throwable> onError,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    final var partitionIterator = PartitionIdIterator.ofPartition(partitionId, topologyManager);
+
+    final var requestState =
+        new InflightActivateJobsRequestState(partitionIterator, request.getMaxJobsToActivate());
+    final var delegate = new ResponseObserverDelegate(onError, onCompleted);
+
+    activateJobs(request, requestState, delegate);
+  }
+
   private void activateJobs(
       final InflightActivateJobsRequest request,
       final InflightActivateJobsRequestState requestState,
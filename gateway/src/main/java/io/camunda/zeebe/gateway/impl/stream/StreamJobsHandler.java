@@ -17,6 +17,7 @@ import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
@@ -36,15 +37,32 @@ import org.slf4j.LoggerFactory;
 public class StreamJobsHandler extends Actor {
   private static final Logger LOGGER = LoggerFactory.getLogger(StreamJobsHandler.class);
 
+  /**
+   * How many jobs can be pushed to a single client stream before the previous ones were handed over
+   * to gRPC, if the client didn't send its own window. Either way, the gateway also respects gRPC's
+   * flow control by rejecting jobs while the call is not ready.
+   */
+  private static final int DEFAULT_STREAM_CREDITS = 32;
+
   private final ClientStreamer<JobActivationProperties> jobStreamer;
 
   public StreamJobsHandler(final ClientStreamer<JobActivationProperties> jobStreamer) {
     this.jobStreamer = jobStreamer;
   }
 
+  /**
+   * Opens a job stream for the given job type.
+   *
+   * @param jobType the type of jobs to stream
+   * @param jobActivationProperties the properties with which the jobs are activated
+   * @param maxJobsActive how many jobs the client accepts before it handled the previous ones, used
+   *     as the credits of the stream; if 0, a default is used
+   * @param responseObserver the call to which the jobs are pushed
+   */
   public void handle(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
+      final int maxJobsActive,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
     // TODO(#14452): move validations to RequestMapper and convert
     //  to exceptions that can be used in the GrpcErrorMapper
@@ -60,13 +78,23 @@ public class StreamJobsHandler extends Actor {
           Long.toString(jobActivationProperties.timeout()));
       return;
     }
+    if (maxJobsActive < 0) {
+      handleError(
+          responseObserver,
+          "maxJobsActive",
+          "greater than or equal to zero",
+          Integer.toString(maxJobsActive));
+      return;
+    }
 
-    handleInternal(jobType, jobActivationProperties, responseObserver);
+    final int credits = maxJobsActive > 0 ? maxJobsActive : DEFAULT_STREAM_CREDITS;
+    handleInternal(jobType, jobActivationProperties, credits, responseObserver);
   }
 
   private void handleInternal(
       final String jobType,
       final JobActivationProperties jobActivationProperties,
+      final int credits,
       final ServerCallStreamObserver<ActivatedJob> responseObserver) {
     final var streamType = wrapString(jobType);
     final var consumer = new JobStreamConsumer(responseObserver, actor);
@@ -80,7 +108,7 @@ public class StreamJobsHandler extends Actor {
     actor.run(
         () ->
             actor.runOnCompletion(
-                jobStreamer.add(streamType, jobActivationProperties, consumer),
+                jobStreamer.add(streamType, jobActivationProperties, consumer, credits),
                 (streamId, error) -> onStreamAdded(responseObserver, cleaner, streamId, error)));
   }
 
@@ -144,6 +172,14 @@ public class StreamJobsHandler extends Actor {
     }
 
     private void handlePushedJob(final DirectBuffer payload) {
+      // if the client does not keep up, reject the job instead of buffering it, such that the
+      // broker can push it to another stream, or make it available for activation
+      if (responseObserver instanceof final ServerCallStreamObserver<ActivatedJob> callObserver
+          && !callObserver.isReady()) {
+        throw new ClientStreamBlockedException(
+            "Expected to push job to stream, but the client is not ready to receive more jobs");
+      }
+
       final ActivatedJobImpl deserializedJob = new ActivatedJobImpl();
       deserializedJob.wrap(payload);
       final ActivatedJob activatedJob = ResponseMapper.toActivatedJob(deserializedJob);
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.metrics;
 
 import io.camunda.zeebe.util.VisibleForTesting;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public final class LongPollingMetrics {
@@ -19,10 +20,29 @@ public final class LongPollingMetrics {
           .labelNames("type")
           .register();
 
+  private static final Counter EMPTY_ACTIVATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_empty_activations")
+          .help(
+              "Number of times queued requests were retried but activated no jobs, by whether all"
+                  + " partitions or a single notified partition were polled")
+          .labelNames("type", "scope")
+          .register();
+
   public void setBlockedRequestsCount(final String type, final int count) {
     REQUESTS_QUEUED_CURRENT.labels(type).set(count);
   }
 
+  public void countEmptyActivation(final String type, final boolean singlePartition) {
+    EMPTY_ACTIVATIONS.labels(type, singlePartition ? "partition" : "all").inc();
+  }
+
+  @VisibleForTesting("Allows introspecting the long polling state in tests")
+  public double getEmptyActivationsCount(final String type, final boolean singlePartition) {
+    return EMPTY_ACTIVATIONS.labels(type, singlePartition ? "partition" : "all").get();
+  }
+
   @VisibleForTesting("Allows introspecting the long polling state in QA tests")
   public double getBlockedRequestsCount(final String type) {
     return REQUESTS_QUEUED_CURRENT.labels(type).get();
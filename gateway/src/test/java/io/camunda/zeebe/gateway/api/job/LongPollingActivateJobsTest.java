@@ -24,6 +24,7 @@ import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
 import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
 import io.camunda.zeebe.gateway.cmd.BrokerRejectionException;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterStateImpl;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerError;
@@ -33,6 +34,7 @@ import io.camunda.zeebe.gateway.impl.broker.response.BrokerRejectionResponse;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.gateway.impl.job.InflightActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
@@ -52,6 +54,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -926,6 +929,115 @@ public final class LongPollingActivateJobsTest {
     assertThat(brokerRequestValue.getErrorMessageBuffer()).isNotNull();
   }
 
+  @Test
+  public void shouldIgnoreLegacyNotificationIfAllBrokersSendPartitionNotifications() {
+    // given
+    setBrokerVersion("8.4.0");
+    final var request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    final var polledPartitions = new CopyOnWriteArrayList<Integer>();
+    registerCustomHandlerWithNotification(r -> polledPartitions.add(r.getPartitionId()));
+    activateJobsStub.addAvailableJobs(TYPE, 1);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE);
+    brokerClient.notifyJobsAvailable(TYPE, 2);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    assertThat(polledPartitions).containsExactly(2);
+  }
+
+  @Test
+  public void shouldHandleLegacyNotificationIfBrokerDoesNotSendPartitionNotifications() {
+    // given
+    setBrokerVersion("8.3.0");
+    final var request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+    activateJobsStub.addAvailableJobs(TYPE, 1);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    verify(request.getResponseObserver(), times(1)).onNext(any());
+  }
+
+  @Test
+  public void shouldActivateOnlyOnNotifiedPartition() {
+    // given
+    final var request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    final var polledPartitions = new CopyOnWriteArrayList<Integer>();
+    registerCustomHandlerWithNotification(r -> polledPartitions.add(r.getPartitionId()));
+    activateJobsStub.addAvailableJobs(TYPE, 1);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE, 2);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    assertThat(polledPartitions).containsExactly(2);
+    verify(request.getResponseObserver(), times(1)).onNext(any());
+  }
+
+  @Test
+  public void shouldActivateOldestRequestFirstOnNotifiedPartition() throws Exception {
+    // given
+    final var requests = activateJobsAndWaitUntilBlocked(2);
+    final var oldestRequest = requests.get(0);
+    final var newestRequest = requests.get(1);
+    activateJobsStub.addAvailableJobs(TYPE, 1);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE, 1);
+    Awaitility.await().until(oldestRequest::isCompleted);
+
+    // then - the partition could not fill the oldest request, so the newest is not tried
+    verify(activateJobsStub, timeout(2000).times(2 * partitionsCount + 1)).handle(any());
+    assertThat(newestRequest.isCompleted()).isFalse();
+  }
+
+  @Test
+  public void shouldActivateNextRequestIfPreviousWasFilledOnNotifiedPartition() throws Exception {
+    // given
+    final var requests = activateJobsAndWaitUntilBlocked(2);
+    activateJobsStub.addAvailableJobs(TYPE, MAX_JOBS_TO_ACTIVATE + 1);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE, 1);
+
+    // then
+    Awaitility.await()
+        .until(() -> requests.stream().allMatch(InflightActivateJobsRequest::isCompleted));
+    verify(activateJobsStub, times(2 * partitionsCount + 2)).handle(any());
+  }
+
+  @Test
+  public void shouldKeepRequestQueuedIfNotifiedPartitionHasNoJobs() {
+    // given
+    final var metrics = new LongPollingMetrics();
+    final var emptyActivations = metrics.getEmptyActivationsCount(TYPE, true);
+    final var request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE, 1);
+
+    // then
+    Awaitility.await()
+        .until(() -> metrics.getEmptyActivationsCount(TYPE, true) == emptyActivations + 1);
+    Awaitility.await().until(() -> metrics.getBlockedRequestsCount(TYPE) == 1);
+    assertThat(request.isCompleted()).isFalse();
+  }
+
   private List<InflightActivateJobsRequest> activateJobsAndWaitUntilBlocked(final int amount) {
     return IntStream.range(0, amount)
         .boxed()
@@ -939,6 +1051,11 @@ public final class LongPollingActivateJobsTest {
         .collect(Collectors.toList());
   }
 
+  private void setBrokerVersion(final String version) {
+    ((BrokerClusterStateImpl) brokerClient.getTopologyManager().getTopology())
+        .setBrokerVersionIfPresent(0, version);
+  }
+
   private InflightActivateJobsRequest getLongPollingActivateJobsRequest() {
     return getLongPollingActivateJobsRequest(TYPE);
   }
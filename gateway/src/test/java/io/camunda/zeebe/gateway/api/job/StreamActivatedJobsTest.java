@@ -184,6 +184,61 @@ public class StreamActivatedJobsTest extends GatewayTest {
             "INVALID_ARGUMENT: Expected to stream activated jobs with timeout to be greater than zero, but it was 0");
   }
 
+  @Test
+  public void shouldUseClientWindowAsStreamCredits() {
+    // given
+    final var jobType = "testJobWithWindow";
+    final var request =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType(jobType)
+            .setWorker(WORKER)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .setMaxJobsActive(5)
+            .build();
+
+    // when
+    asyncClient.streamActivatedJobs(request, new TestStreamObserver());
+    jobStreamer.waitStreamToBeAvailable(BufferUtil.wrapString(jobType));
+
+    // then
+    assertThat(jobStreamer.getCredits(jobType)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldUseDefaultCreditsWithoutClientWindow() {
+    // given
+    final var jobType = "testJobWithoutWindow";
+
+    // when
+    getStreamActivatedJobsRequest(jobType, WORKER, Duration.ofMinutes(1), List.of());
+
+    // then
+    assertThat(jobStreamer.getCredits(jobType)).isEqualTo(32);
+  }
+
+  @Test
+  public void shouldRejectWhenMaxJobsActiveIsNegative() {
+    // given
+    final var streamObserver = new TestStreamObserver();
+    final var request =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType("testJob")
+            .setWorker(WORKER)
+            .setTimeout(Duration.ofMinutes(1).toMillis())
+            .setMaxJobsActive(-1)
+            .build();
+
+    // when
+    asyncClient.streamActivatedJobs(request, streamObserver);
+
+    // then
+    Awaitility.await("until validation error propagated")
+        .until(() -> !streamObserver.getErrors().isEmpty());
+    assertThat(streamObserver.getErrors().get(0).getMessage())
+        .isEqualTo(
+            "INVALID_ARGUMENT: Expected to stream activated jobs with maxJobsActive to be greater than or equal to zero, but it was -1");
+  }
+
   @Test
   public void shouldFailWhenStreamCannotBeAdded() {
     // given
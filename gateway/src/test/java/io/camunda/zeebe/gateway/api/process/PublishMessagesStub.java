@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerError;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerErrorResponse;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.ErrorCode;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class PublishMessagesStub
+    implements RequestStub<BrokerPublishMessageBatchRequest, BrokerResponse<MessageBatchRecord>> {
+
+  public static final String ALREADY_PUBLISHED_MESSAGE_ID = "already-published";
+  public static final String PARTITION_UNAVAILABLE = "partition unavailable";
+
+  private final Set<Integer> failingPartitions = new HashSet<>();
+
+  /** Fails the requests to the given partition with an error response. */
+  public PublishMessagesStub failPartition(final int partitionId) {
+    failingPartitions.add(partitionId);
+    return this;
+  }
+
+  @Override
+  public void registerWith(final StubbedBrokerClient gateway) {
+    gateway.registerHandler(BrokerPublishMessageBatchRequest.class, this);
+  }
+
+  @Override
+  public BrokerResponse<MessageBatchRecord> handle(final BrokerPublishMessageBatchRequest request)
+      throws Exception {
+    final var partitionId = request.getPartitionId();
+    if (failingPartitions.contains(partitionId)) {
+      return new BrokerErrorResponse<>(
+          new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, PARTITION_UNAVAILABLE));
+    }
+
+    final var responseRecord = new MessageBatchRecord();
+
+    long messageKey = 1;
+    for (final MessageRecord message : request.getRequestWriter().messages()) {
+      if (ALREADY_PUBLISHED_MESSAGE_ID.equals(message.getMessageId())) {
+        responseRecord.addMessageKey(-1L);
+      } else {
+        responseRecord.addMessageKey(Protocol.encodePartitionId(partitionId, messageKey++));
+      }
+    }
+
+    return new BrokerResponse<>(
+        responseRecord, partitionId, Protocol.encodePartitionId(partitionId, 0));
+  }
+}
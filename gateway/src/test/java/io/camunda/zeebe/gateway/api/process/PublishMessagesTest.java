@@ -0,0 +1,270 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageBatchRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.test.util.JsonUtil;
+import io.grpc.StatusRuntimeException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  @Test
+  public void shouldMapRequestAndResponse() {
+    // given
+    final PublishMessagesStub stub = new PublishMessagesStub();
+    stub.registerWith(brokerClient);
+
+    final String variables = JsonUtil.toJson(Map.of("key", "value"));
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setCorrelationKey("correlate")
+                    .setName("message")
+                    .setMessageId("unique")
+                    .setTimeToLive(123)
+                    .setVariables(variables))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    final int partitionId = partitionOf("correlate");
+    assertThat(response.getResultsList())
+        .extracting(PublishMessagesResult::getKey, PublishMessagesResult::getTenantId)
+        .containsExactly(
+            tuple(
+                Protocol.encodePartitionId(partitionId, 1), TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+
+    final BrokerPublishMessageBatchRequest brokerRequest = brokerClient.getSingleBrokerRequest();
+    assertThat(brokerRequest.getIntent()).isEqualTo(MessageBatchIntent.PUBLISH);
+    assertThat(brokerRequest.getValueType()).isEqualTo(ValueType.MESSAGE_BATCH);
+    assertThat(brokerRequest.getPartitionId()).isEqualTo(partitionId);
+    assertThat(brokerRequest.getRequestWriter().getMessages())
+        .singleElement()
+        .satisfies(
+            message -> {
+              assertThat(message.getCorrelationKey()).isEqualTo("correlate");
+              assertThat(message.getName()).isEqualTo("message");
+              assertThat(message.getMessageId()).isEqualTo("unique");
+              assertThat(message.getTimeToLive()).isEqualTo(123);
+              assertThat(message.getVariables()).containsExactly(Map.entry("key", "value"));
+              assertThat(message.getTenantId()).isEqualTo(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+            });
+  }
+
+  @Test
+  public void shouldGroupMessagesByPartition() {
+    // given
+    final PublishMessagesStub stub = new PublishMessagesStub();
+    stub.registerWith(brokerClient);
+
+    final var correlationKeys = new String[] {"a", "b", "c", "d", "e", "f", "g", "h"};
+    final var requestBuilder = PublishMessagesRequest.newBuilder();
+    for (final String correlationKey : correlationKeys) {
+      requestBuilder.addMessages(
+          PublishMessageRequest.newBuilder().setName("message").setCorrelationKey(correlationKey));
+    }
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(requestBuilder.build());
+
+    // then
+    assertThat(response.getResultsCount()).isEqualTo(correlationKeys.length);
+    for (int i = 0; i < correlationKeys.length; i++) {
+      assertThat(Protocol.decodePartitionId(response.getResults(i).getKey()))
+          .describedAs("partition of message with correlation key '%s'", correlationKeys[i])
+          .isEqualTo(partitionOf(correlationKeys[i]));
+    }
+
+    final long partitionCount =
+        Arrays.stream(correlationKeys).map(this::partitionOf).distinct().count();
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize((int) partitionCount)
+        .allSatisfy(
+            brokerRequest -> {
+              final var messageBatchRequest = (BrokerPublishMessageBatchRequest) brokerRequest;
+              assertThat(messageBatchRequest.getRequestWriter().getMessages())
+                  .extracting(MessageRecordValue::getCorrelationKey)
+                  .allMatch(key -> partitionOf(key) == messageBatchRequest.getPartitionId());
+            });
+  }
+
+  @Test
+  public void shouldReturnResultOfAlreadyPublishedMessage() {
+    // given
+    final PublishMessagesStub stub = new PublishMessagesStub();
+    stub.registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey("correlate")
+                    .setMessageId(PublishMessagesStub.ALREADY_PUBLISHED_MESSAGE_ID))
+            .addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey("correlate")
+                    .setMessageId("unique"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessagesResult::getKey, PublishMessagesResult::getError)
+        .containsExactly(
+            tuple(
+                -1L,
+                "Expected to publish a new message with id 'already-published', but a message with "
+                    + "that id was already published"),
+            tuple(Protocol.encodePartitionId(partitionOf("correlate"), 1), ""));
+  }
+
+  @Test
+  public void shouldReturnResultsOfOtherPartitionsIfPartitionFails() {
+    // given
+    final var failingCorrelationKey = "a";
+    final var otherCorrelationKey = correlationKeyOfOtherPartition(failingCorrelationKey);
+    final PublishMessagesStub stub =
+        new PublishMessagesStub().failPartition(partitionOf(failingCorrelationKey));
+    stub.registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey(failingCorrelationKey))
+            .addMessages(
+                PublishMessageRequest.newBuilder()
+                    .setName("message")
+                    .setCorrelationKey(otherCorrelationKey))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .satisfiesExactly(
+            failedResult -> {
+              assertThat(failedResult.getKey()).isEqualTo(-1L);
+              assertThat(failedResult.getError())
+                  .contains(PublishMessagesStub.PARTITION_UNAVAILABLE);
+            },
+            publishedResult -> {
+              assertThat(publishedResult.getKey())
+                  .isEqualTo(Protocol.encodePartitionId(partitionOf(otherCorrelationKey), 1));
+              assertThat(publishedResult.getError()).isEmpty();
+            });
+  }
+
+  @Test
+  public void shouldFailIfNoMessageIsSent() {
+    // given
+    final PublishMessagesStub stub = new PublishMessagesStub().failPartition(partitionOf("a"));
+    stub.registerWith(brokerClient);
+
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addMessages(
+                PublishMessageRequest.newBuilder().setName("message").setCorrelationKey("a"))
+            .build();
+
+    // when - then
+    assertThatThrownBy(() -> client.publishMessages(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .hasMessageContaining(PublishMessagesStub.PARTITION_UNAVAILABLE);
+  }
+
+  @Test
+  public void shouldSplitLargeBatchOfPartition() {
+    // given
+    final PublishMessagesStub stub = new PublishMessagesStub();
+    stub.registerWith(brokerClient);
+
+    // each message takes more than a third of the maximum batch size
+    final String variables = JsonUtil.toJson(Map.of("key", "x".repeat(400 * 1024)));
+    final var requestBuilder = PublishMessagesRequest.newBuilder();
+    for (int i = 0; i < 5; i++) {
+      requestBuilder.addMessages(
+          PublishMessageRequest.newBuilder()
+              .setName("message")
+              .setCorrelationKey("correlate")
+              .setVariables(variables));
+    }
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(requestBuilder.build());
+
+    // then
+    assertThat(response.getResultsList())
+        .hasSize(5)
+        .allSatisfy(result -> assertThat(result.getKey()).isPositive());
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(3)
+        .extracting(
+            brokerRequest ->
+                ((BrokerPublishMessageBatchRequest) brokerRequest)
+                    .getRequestWriter()
+                    .getMessages()
+                    .size())
+        .containsExactly(2, 2, 1);
+  }
+
+  @Test
+  public void shouldNotSendRequestForEmptyBatch() {
+    // when
+    final PublishMessagesResponse response =
+        client.publishMessages(PublishMessagesRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+    assertThat(brokerClient.getBrokerRequests()).isEmpty();
+  }
+
+  private String correlationKeyOfOtherPartition(final String correlationKey) {
+    final int partitionId = partitionOf(correlationKey);
+    return Stream.iterate(0, i -> i + 1)
+        .map(i -> "key-" + i)
+        .filter(key -> partitionOf(key) != partitionId)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private int partitionOf(final String correlationKey) {
+    return SubscriptionUtil.getSubscriptionPartitionId(
+        wrapString(correlationKey),
+        brokerClient.getTopologyManager().getTopology().getPartitionsCount());
+  }
+}
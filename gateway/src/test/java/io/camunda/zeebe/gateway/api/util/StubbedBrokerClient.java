@@ -19,6 +19,7 @@ import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.stream.job.JobAvailableNotification;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -33,7 +34,7 @@ import java.util.function.Consumer;
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final Map<String, Consumer<String>> jobsAvailableHandlers = new HashMap<>();
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
@@ -123,7 +124,7 @@ public final class StubbedBrokerClient implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+    jobsAvailableHandlers.put(topic, handler);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -133,7 +134,13 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    jobsAvailableHandlers.get(JobAvailableNotification.LEGACY_TOPIC).accept(type);
+  }
+
+  public void notifyJobsAvailable(final String type, final int partitionId) {
+    jobsAvailableHandlers
+        .get(JobAvailableNotification.TOPIC)
+        .accept(new JobAvailableNotification(type, partitionId).encode());
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
@@ -168,6 +168,15 @@ public final class StubbedGateway {
         final DirectBuffer streamType,
         final JobActivationProperties metadata,
         final ClientStreamConsumer clientStreamConsumer) {
+      return add(streamType, metadata, clientStreamConsumer, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public ActorFuture<ClientStreamId> add(
+        final DirectBuffer streamType,
+        final JobActivationProperties metadata,
+        final ClientStreamConsumer clientStreamConsumer,
+        final int credits) {
       final var failure = failOnAdd.get();
       if (failure != null) {
         return CompletableActorFuture.completedExceptionally(failure);
@@ -175,7 +184,7 @@ public final class StubbedGateway {
 
       final StubbedClientStreamId streamId = new StubbedClientStreamId(UUID.randomUUID());
       final StreamTypeConsumer consumer =
-          new StreamTypeConsumer(streamType, metadata, clientStreamConsumer);
+          new StreamTypeConsumer(streamType, metadata, clientStreamConsumer, credits);
       registeredStreams.put(streamType, consumer);
       streamIdToConsumer.put(streamId, consumer);
 
@@ -207,6 +216,10 @@ public final class StubbedGateway {
           new RuntimeException("No stream exists with given id"));
     }
 
+    public int getCredits(final String streamType) {
+      return registeredStreams.get(BufferUtil.wrapString(streamType)).credits();
+    }
+
     public boolean containsStreamFor(final String streamType) {
       return registeredStreams.containsKey(BufferUtil.wrapString(streamType));
     }
@@ -226,7 +239,8 @@ public final class StubbedGateway {
   private record StreamTypeConsumer(
       DirectBuffer streamType,
       JobActivationProperties metadata,
-      ClientStreamConsumer clientStreamConsumer) {}
+      ClientStreamConsumer clientStreamConsumer,
+      int credits) {}
 
   private record StubbedClientStreamId(UUID serverStreamId) implements ClientStreamId {}
 
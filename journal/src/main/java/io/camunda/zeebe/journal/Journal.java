@@ -18,6 +18,8 @@ package io.camunda.zeebe.journal;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public interface Journal extends AutoCloseable {
 
@@ -62,7 +64,19 @@ public interface Journal extends AutoCloseable {
    * @param checksum checksum of serializedRecord
    * @param serializedRecord serializedRecord
    */
-  JournalRecord append(long checksum, byte[] serializedRecord);
+  default JournalRecord append(final long checksum, final byte[] serializedRecord) {
+    return append(checksum, new UnsafeBuffer(serializedRecord));
+  }
+
+  /**
+   * Appends an already serialized journal record, copying it as is from the given buffer. See
+   * {@link JournalRecord#serializedRecord()}. The buffer may be a view over a larger buffer, e.g.
+   * the message it was received with, as only its own bytes are copied.
+   *
+   * @param checksum checksum of serializedRecord
+   * @param serializedRecord serializedRecord
+   */
+  JournalRecord append(long checksum, DirectBuffer serializedRecord);
 
   /**
    * Delete all records after indexExclusive. After a call to this method, {@link
@@ -248,6 +248,32 @@ final class JournalAppendTest {
     }
   }
 
+  @Test
+  void shouldAppendSerializedJournalRecordFromView() {
+    // given
+    try (final var receiverJournal =
+        SegmentedJournal.builder()
+            .withDirectory(directory.resolve("data-2").toFile())
+            .withJournalIndexDensity(5)
+            .withMetaStore(new MockJournalMetastore())
+            .build()) {
+      final var expected = journal.append(10, recordDataWriter);
+      final byte[] serializedRecord = getSerializedBytes(expected);
+      final byte[] message = new byte[serializedRecord.length + 16];
+      System.arraycopy(serializedRecord, 0, message, 8, serializedRecord.length);
+
+      // when
+      receiverJournal.append(
+          expected.checksum(), new UnsafeBuffer(message, 8, serializedRecord.length));
+
+      // then
+      final var reader = receiverJournal.openReader();
+      assertThat(reader.hasNext()).isTrue();
+      final var actual = reader.next();
+      assertThat(expected).isEqualTo(actual);
+    }
+  }
+
   @Test
   void shouldAppendSerializedJournalRecordReturnedByReader() {
     // given
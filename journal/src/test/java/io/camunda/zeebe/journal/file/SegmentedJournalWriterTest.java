@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -158,7 +159,8 @@ final class SegmentedJournalWriterTest {
         new SegmentedJournalReader(
             followerJournalFactory.journal(followerSegments), new JournalMetrics("1"))) {
       // when
-      final byte[] serializedRecord = BufferUtil.bufferAsArray(writtenRecord.serializedRecord());
+      final var serializedRecord =
+          new UnsafeBuffer(BufferUtil.bufferAsArray(writtenRecord.serializedRecord()));
       followerWriter.append(writtenRecord.checksum(), serializedRecord);
 
       // then
@@ -35,6 +35,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add() {
+    decodeSkimmedValue();
     try {
       return value.add();
     } catch (final Exception e) {
@@ -50,6 +51,12 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decodeSkimmedValue();
     return value.isEmpty();
   }
+
+  @Override
+  protected boolean hasMutableValue() {
+    return true;
+  }
 }
@@ -12,15 +12,27 @@ import io.camunda.zeebe.msgpack.Recyclable;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
+import io.camunda.zeebe.msgpack.value.EncodedSource;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
+  private static final int UNKNOWN_LENGTH = -1;
+
   protected final StringValue key;
   protected final T value;
   protected final T defaultValue;
   protected boolean isSet;
 
+  // set while the value is unchanged since it was skimmed, see #skim
+  private EncodedSource encodedSource;
+  private int encodedOffset;
+  private int encodedLength;
+  private boolean isDecoded;
+
+  // the encoded length of the value, cached until the property is changed
+  private int valueLength = UNKNOWN_LENGTH;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -39,11 +51,15 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public void set() {
+    encodedSource = null;
+    valueLength = UNKNOWN_LENGTH;
     isSet = true;
   }
 
   @Override
   public void reset() {
+    encodedSource = null;
+    valueLength = UNKNOWN_LENGTH;
     isSet = false;
     value.reset();
   }
@@ -56,7 +72,17 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     return key;
   }
 
+  /**
+   * @return true if the value was skimmed and is unchanged since, i.e. it can be written from its
+   *     original bytes
+   */
+  public boolean isUnchanged() {
+    return encodedSource != null;
+  }
+
   protected T resolveValue() {
+    decodeSkimmedValue();
+
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -68,7 +94,19 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
-    return key.getEncodedLength() + resolveValue().getEncodedLength();
+    if (encodedSource != null) {
+      return key.getEncodedLength() + encodedLength;
+    }
+
+    if (hasMutableValue()) {
+      return key.getEncodedLength() + resolveValue().getEncodedLength();
+    }
+
+    if (valueLength == UNKNOWN_LENGTH) {
+      valueLength = resolveValue().getEncodedLength();
+    }
+
+    return key.getEncodedLength() + valueLength;
   }
 
   public void read(final MsgPackReader reader) {
@@ -76,7 +114,56 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Skips the value the reader is positioned at, and only remembers where it is located. The value
+   * is decoded from the given source on first access, and written as is until it is changed.
+   *
+   * @param reader the reader positioned at the value of this property
+   * @param source the source which will contain the bytes of the reader, starting at sourceOffset
+   * @param sourceOffset the offset in the reader's buffer at which the source starts
+   */
+  public void skim(final MsgPackReader reader, final EncodedSource source, final int sourceOffset) {
+    final int valueOffset = reader.getOffset();
+    reader.skipValue();
+
+    set();
+    encodedSource = source;
+    encodedOffset = valueOffset - sourceOffset;
+    encodedLength = reader.getOffset() - valueOffset;
+    isDecoded = false;
+  }
+
+  /** Decodes the value if it was only skimmed so far; must be called before accessing value. */
+  protected void decodeSkimmedValue() {
+    if (encodedSource != null && !isDecoded) {
+      value.read(encodedSource.readerAt(encodedOffset, encodedLength));
+      isDecoded = true;
+    }
+
+    if (hasMutableValue()) {
+      // the value may be changed through the reference the caller gets hold of
+      encodedSource = null;
+    }
+  }
+
+  /**
+   * Returns true if the value can be changed without going through this property, e.g. by adding
+   * elements to an array that the caller got hold of. Such a value is not written from its original
+   * bytes once it was accessed, and its encoded length is never cached.
+   *
+   * @return true if the value can be changed through references to it
+   */
+  protected boolean hasMutableValue() {
+    return false;
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (encodedSource != null) {
+      key.write(writer);
+      encodedSource.writeTo(writer, encodedOffset, encodedLength);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +190,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeSkimmedValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +211,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeSkimmedValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
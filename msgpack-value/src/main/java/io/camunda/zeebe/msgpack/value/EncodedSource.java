@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A view on the encoded bytes of a lazily decoded {@link ObjectValue}. Its properties only remember
+ * where their value is located, and decode it from here on first access.
+ *
+ * <p>Like any wrapped value, the view is only valid as long as the underlying buffer is not
+ * modified.
+ */
+public final class EncodedSource {
+  private final UnsafeBuffer buffer = new UnsafeBuffer(0, 0);
+  private final MsgPackReader reader = new MsgPackReader();
+
+  void wrap(final DirectBuffer source, final int offset, final int length) {
+    buffer.wrap(source, offset, length);
+  }
+
+  int getLength() {
+    return buffer.capacity();
+  }
+
+  /**
+   * @return a reader positioned at the start of the value with the given offset and length
+   */
+  public MsgPackReader readerAt(final int offset, final int length) {
+    return reader.wrap(buffer, offset, length);
+  }
+
+  /** Writes the encoded value with the given offset and length as is. */
+  public void writeTo(final MsgPackWriter writer, final int offset, final int length) {
+    writer.writeRaw(buffer, offset, length);
+  }
+}
@@ -13,22 +13,56 @@ import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ObjectValue extends BaseValue {
+  // lookups are shared by all instances of a type, as they declare the same properties
+  private static final Map<Class<?>, PropertyLookup> PROPERTY_LOOKUPS = new ConcurrentHashMap<>();
+
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> undeclaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>();
 
   private final StringValue decodedKey = new StringValue();
+  private PropertyLookup propertyLookup;
+
+  private final EncodedSource encodedSource = new EncodedSource();
+  private boolean lazyDecoding;
+  // set if the skimmed object contained exactly one value per property, see #isUnchanged
+  private boolean isEncodedObjectComplete;
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyLookup = null;
+    isEncodedObjectComplete = false;
     return this;
   }
 
+  /**
+   * Enables or disables lazy decoding. When enabled, reading only skims the encoded object once to
+   * remember where the value of each declared property is located; a value is decoded on first
+   * access to its property, and written as is if it is never accessed. This pays off when only a
+   * few properties of a decoded object are accessed.
+   *
+   * <p>As long as no property is changed, the object is written from its original bytes, and its
+   * encoded length is known without walking its properties. This pays off when a decoded object is
+   * written again as is, e.g. when it was copied to be appended to the log.
+   *
+   * <p>Since the decoding is deferred, the buffer which was read must not be modified while the
+   * object is in use, and an invalid value only causes an error when its property is accessed.
+   *
+   * @param lazyDecoding true to decode property values on first access
+   */
+  public void setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+  }
+
   @Override
   public void reset() {
+    isEncodedObjectComplete = false;
+
     for (int i = 0; i < declaredProperties.size(); ++i) {
       final BaseProperty<? extends BaseValue> prop = declaredProperties.get(i);
       prop.reset();
@@ -76,6 +110,11 @@ public class ObjectValue extends BaseValue {
    */
   @Override
   public void write(final MsgPackWriter writer) {
+    if (isUnchanged()) {
+      encodedSource.writeTo(writer, 0, encodedSource.getLength());
+      return;
+    }
+
     final int size = declaredProperties.size() + undeclaredProperties.size();
 
     writer.writeMapHeader(size);
@@ -85,34 +124,37 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    isEncodedObjectComplete = false;
+    final int objectOffset = reader.getOffset();
     final int mapSize = reader.readMapHeader();
+    final PropertyLookup lookup = getPropertyLookup();
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final int index = lookup.indexOf(decodedKey.getValue(), decodedKey.getLength());
+      final BaseProperty<? extends BaseValue> prop;
+      if (index != PropertyLookup.NOT_FOUND) {
+        prop = declaredProperties.get(index);
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding && index != PropertyLookup.NOT_FOUND) {
+          prop.skim(reader, encodedSource, objectOffset);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
     }
 
+    if (lazyDecoding) {
+      encodedSource.wrap(reader.getBuffer(), objectOffset, reader.getOffset() - objectOffset);
+    }
+
     // verify that all required properties are set
     for (int p = 0; p < declaredProperties.size(); p++) {
       final BaseProperty<?> prop = declaredProperties.get(p);
@@ -121,10 +163,34 @@ public class ObjectValue extends BaseValue {
             String.format("Property '%s' has no valid value", prop.getKey()));
       }
     }
+
+    // undeclared properties can't be changed, so only skimmed declared ones need to be tracked
+    isEncodedObjectComplete =
+        lazyDecoding && mapSize == declaredProperties.size() + undeclaredProperties.size();
+  }
+
+  private PropertyLookup getPropertyLookup() {
+    if (propertyLookup == null) {
+      final var sharedLookup =
+          PROPERTY_LOOKUPS.computeIfAbsent(
+              getClass(), type -> PropertyLookup.of(declaredProperties));
+
+      // instances of the same type may declare different properties, e.g. plain ObjectValues
+      propertyLookup =
+          sharedLookup.matches(declaredProperties)
+              ? sharedLookup
+              : PropertyLookup.of(declaredProperties);
+    }
+
+    return propertyLookup;
   }
 
   @Override
   public int getEncodedLength() {
+    if (isUnchanged()) {
+      return encodedSource.getLength();
+    }
+
     final int size = declaredProperties.size() + undeclaredProperties.size();
 
     int length = MsgPackWriter.getEncodedMapHeaderLenght(size);
@@ -134,6 +200,20 @@ public class ObjectValue extends BaseValue {
     return length;
   }
 
+  private boolean isUnchanged() {
+    if (!isEncodedObjectComplete) {
+      return false;
+    }
+
+    for (int i = 0; i < declaredProperties.size(); i++) {
+      if (!declaredProperties.get(i).isUnchanged()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   private <T extends BaseProperty<?>> void writeJson(
       final StringBuilder builder, final List<T> properties) {
     for (int i = 0; i < properties.size(); i++) {
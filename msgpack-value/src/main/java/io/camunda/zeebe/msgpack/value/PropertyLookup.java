@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack.value;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * An immutable open addressing hash table, which maps the keys of the declared properties of an
+ * {@link ObjectValue} to their index. Finding a property by its key costs one hash over the key's
+ * bytes and usually a single comparison, independent of how many properties are declared.
+ *
+ * <p>Since every instance of a record type declares the same keys in the same order, a lookup is
+ * built once per type and shared between all its instances. Each instance verifies once that its
+ * keys {@link #matches(List) match} the shared lookup, before using it.
+ */
+final class PropertyLookup {
+  static final int NOT_FOUND = -1;
+  private static final int EMPTY_SLOT = 0;
+
+  private final DirectBuffer[] keys;
+  private final int[] slots;
+  private final int mask;
+
+  private PropertyLookup(final DirectBuffer[] keys) {
+    this.keys = keys;
+    slots = new int[BitUtil.findNextPositivePowerOfTwo(Math.max(2, keys.length * 2))];
+    mask = slots.length - 1;
+
+    for (int index = 0; index < keys.length; index++) {
+      final DirectBuffer key = keys[index];
+      final int length = key.capacity();
+      if (indexOf(key, length) == NOT_FOUND) {
+        // if a key is declared twice, the first declaration wins, as with a linear scan
+        slots[findSlot(key, length)] = index + 1;
+      }
+    }
+  }
+
+  static PropertyLookup of(final List<BaseProperty<? extends BaseValue>> properties) {
+    final var keys = new DirectBuffer[properties.size()];
+    for (int i = 0; i < keys.length; i++) {
+      final StringValue key = properties.get(i).getKey();
+      final byte[] bytes = new byte[key.getLength()];
+      key.getValue().getBytes(0, bytes);
+      keys[i] = new UnsafeBuffer(bytes);
+    }
+
+    return new PropertyLookup(keys);
+  }
+
+  /**
+   * @return true if the given properties declare exactly the keys of this lookup, in the same order
+   */
+  boolean matches(final List<BaseProperty<? extends BaseValue>> properties) {
+    if (properties.size() != keys.length) {
+      return false;
+    }
+
+    for (int i = 0; i < keys.length; i++) {
+      final StringValue key = properties.get(i).getKey();
+      if (!equals(keys[i], key.getValue(), key.getLength())) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @param key the buffer containing the key at offset 0
+   * @param length the length of the key
+   * @return the index of the property with the given key, or {@link #NOT_FOUND}
+   */
+  int indexOf(final DirectBuffer key, final int length) {
+    final int slot = slots[findSlot(key, length)];
+    return slot == EMPTY_SLOT ? NOT_FOUND : slot - 1;
+  }
+
+  private int findSlot(final DirectBuffer key, final int length) {
+    int position = hash(key, length) & mask;
+    while (true) {
+      final int slot = slots[position];
+      if (slot == EMPTY_SLOT || equals(keys[slot - 1], key, length)) {
+        return position;
+      }
+
+      position = (position + 1) & mask;
+    }
+  }
+
+  private static boolean equals(
+      final DirectBuffer declaredKey, final DirectBuffer key, final int length) {
+    if (declaredKey.capacity() != length) {
+      return false;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (declaredKey.getByte(i) != key.getByte(i)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /** FNV-1a, which is cheap for short keys and spreads them well enough for a small table. */
+  private static int hash(final DirectBuffer key, final int length) {
+    int hash = 0x811c9dc5;
+    for (int i = 0; i < length; i++) {
+      hash ^= key.getByte(i);
+      hash *= 0x01000193;
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+}
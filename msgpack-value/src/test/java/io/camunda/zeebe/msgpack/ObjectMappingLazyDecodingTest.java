@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ObjectMappingLazyDecodingTest {
+  private static final DirectBuffer BUF1 = wrapString("foo");
+  private static final DirectBuffer BUF2 = wrapString("bar");
+  private static final DirectBuffer NESTED =
+      encodeMsgPack(
+          (w) -> {
+            w.writeMapHeader(1);
+            w.writeString(wrapString("foo"));
+            w.writeInteger(123123L);
+          });
+  private static final DirectBuffer ENCODED =
+      encodeMsgPack(
+          (w) -> {
+            w.writeMapHeader(7);
+
+            w.writeString(wrapString("enumProp"));
+            w.writeString(wrapString(POJOEnum.BAR.toString()));
+
+            w.writeString(wrapString("binaryProp"));
+            w.writeBinary(BUF1);
+
+            w.writeString(wrapString("stringProp"));
+            w.writeString(BUF2);
+
+            w.writeString(wrapString("packedProp"));
+            w.writeRaw(NESTED);
+
+            w.writeString(wrapString("longProp"));
+            w.writeInteger(88888L);
+
+            w.writeString(wrapString("intProp"));
+            w.writeInteger(123L);
+
+            w.writeString(wrapString("objectProp"));
+            w.writeRaw(NESTED);
+          });
+
+  private final POJO pojo = new POJO();
+
+  @Test
+  void shouldDecodePropertiesOnAccess() {
+    // given
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(ENCODED);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getPacked()).hasBytes(NESTED);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
+  }
+
+  @Test
+  void shouldWriteUnchangedObjectAsIs() {
+    // given
+    pojo.setLazyDecoding(true);
+    pojo.wrap(ENCODED);
+
+    // when
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    assertThatBuffer(written).hasBytes(ENCODED);
+  }
+
+  @Test
+  void shouldWriteAccessedButUnchangedObjectAsIs() {
+    // given
+    pojo.setLazyDecoding(true);
+    pojo.wrap(ENCODED);
+
+    // when
+    pojo.getLong();
+    pojo.getString();
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    assertThatBuffer(written).hasBytes(ENCODED);
+  }
+
+  @Test
+  void shouldWriteChangedNestedObject() {
+    // given
+    pojo.setLazyDecoding(true);
+    pojo.wrap(ENCODED);
+    final var nested = pojo.nestedObject();
+    final var lengthBeforeChange = pojo.getLength();
+
+    // when
+    nested.setLong(Long.MAX_VALUE);
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    final var decoded = new POJO();
+    decoded.wrap(written);
+    assertThat(written.capacity()).isGreaterThan(lengthBeforeChange);
+    assertThat(decoded.nestedObject().getLong()).isEqualTo(Long.MAX_VALUE);
+    assertThat(decoded.getLong()).isEqualTo(88888L);
+  }
+
+  @Test
+  void shouldWriteValueSetAfterRead() {
+    // given
+    pojo.setLazyDecoding(true);
+    pojo.wrap(ENCODED);
+
+    // when
+    pojo.setLong(42L);
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    final var decoded = new POJO();
+    decoded.wrap(written);
+    assertThat(pojo.getLong()).isEqualTo(42L);
+    assertThat(decoded.getLong()).isEqualTo(42L);
+    assertThat(decoded.getInt()).isEqualTo(123);
+  }
+
+  @Test
+  void shouldUpdateLengthOfChangedProperty() {
+    // given
+    pojo.wrap(ENCODED);
+    final var lengthBeforeChange = pojo.getLength();
+
+    // when
+    pojo.setString(wrapString("foobar"));
+    final var written = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(written, 0);
+
+    // then
+    final var decoded = new POJO();
+    decoded.wrap(written);
+    assertThat(written.capacity()).isEqualTo(lengthBeforeChange + 3);
+    assertThatBuffer(decoded.getString()).hasBytes(wrapString("foobar"));
+  }
+
+  @Test
+  void shouldEqualEagerlyDecodedObject() {
+    // given
+    final var eager = new POJO();
+    eager.wrap(ENCODED);
+
+    // when
+    pojo.setLazyDecoding(true);
+    pojo.wrap(ENCODED);
+
+    // then
+    assertThat(pojo).isEqualTo(eager);
+    assertThat(pojo.toString()).isEqualTo(eager.toString());
+  }
+
+  @Test
+  void shouldNotKeepSkimmedValuesAfterReset() {
+    // given
+    pojo.setLazyDecoding(true);
+    pojo.wrap(ENCODED);
+
+    // when
+    pojo.reset();
+
+    // then
+    assertThatThrownBy(pojo::getLong).isInstanceOf(MsgpackPropertyException.class);
+  }
+
+  @Test
+  void shouldFailOnAccessOfInvalidValue() {
+    // given
+    final DirectBuffer invalid =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(7);
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.BAR.toString()));
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BUF1);
+              w.writeString(wrapString("stringProp"));
+              w.writeString(BUF2);
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(NESTED);
+              w.writeString(wrapString("longProp"));
+              w.writeString(BUF1);
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(NESTED);
+            });
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(invalid);
+
+    // then
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatThrownBy(pojo::getLong).isInstanceOf(RuntimeException.class);
+  }
+}
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -387,4 +388,72 @@ public final class ObjectMappingTest {
     assertThatBuffer(pojo.getString()).hasBytes(BUF1);
     assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
   }
+
+  @Test
+  public void shouldDeserializeObjectWithManyProperties() {
+    // given
+    final int propertyCount = 64;
+    final UnpackedObject object = new UnpackedObject();
+    final LongProperty[] properties = new LongProperty[propertyCount];
+    for (int i = 0; i < propertyCount; i++) {
+      properties[i] = new LongProperty("prop" + i);
+      object.declareProperty(properties[i]);
+    }
+
+    // properties are not necessarily encoded in the order in which they are declared
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(propertyCount);
+              for (int i = propertyCount - 1; i >= 0; i--) {
+                w.writeString(wrapString("prop" + i));
+                w.writeInteger(i);
+              }
+            });
+
+    // when
+    object.wrap(buffer);
+
+    // then
+    for (int i = 0; i < propertyCount; i++) {
+      assertThat(properties[i].getValue()).isEqualTo(i);
+    }
+  }
+
+  @Test
+  public void shouldDeserializeInstancesOfSameTypeWithDifferentProperties() {
+    // given
+    final UnpackedObject fooObject = new UnpackedObject();
+    final LongProperty fooProp = new LongProperty("foo");
+    fooObject.declareProperty(fooProp);
+    final UnpackedObject barObject = new UnpackedObject();
+    final LongProperty barProp = new LongProperty("bar");
+    barObject.declareProperty(barProp);
+
+    // when
+    fooObject.wrap(MSGPACK_BUF1);
+    barObject.wrap(MSGPACK_BUF2);
+
+    // then
+    assertThat(fooProp.getValue()).isEqualTo(123123L);
+    assertThat(barProp.getValue()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldDeserializePropertyDeclaredAfterRead() {
+    // given
+    final UnpackedObject object = new UnpackedObject();
+    final LongProperty fooProp = new LongProperty("foo", -1L);
+    object.declareProperty(fooProp);
+    object.wrap(MSGPACK_BUF2);
+
+    // when
+    final LongProperty barProp = new LongProperty("bar");
+    object.declareProperty(barProp);
+    object.wrap(MSGPACK_BUF2);
+
+    // then
+    assertThat(fooProp.getValue()).isEqualTo(-1L);
+    assertThat(barProp.getValue()).isEqualTo(24L);
+  }
 }
@@ -12,27 +12,35 @@ import io.camunda.zeebe.msgpack.value.LongValue;
 import io.camunda.zeebe.msgpack.value.ValueArray;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.value.MessageBatchRecordValue;
+import io.camunda.zeebe.protocol.record.value.MessageRecordValue;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MessageBatchRecord extends UnifiedRecordValue
     implements MessageBatchRecordValue {
 
   private final ArrayProperty<LongValue> messageKeysProp =
       new ArrayProperty<>("messageKeys", new LongValue());
+  private final ArrayProperty<MessageRecord> messagesProp =
+      new ArrayProperty<>("messages", new MessageRecord());
 
   public MessageBatchRecord() {
-    declareProperty(messageKeysProp);
+    declareProperty(messageKeysProp).declareProperty(messagesProp);
   }
 
   public ValueArray<LongValue> messageKeys() {
     return messageKeysProp;
   }
 
+  public ValueArray<MessageRecord> messages() {
+    return messagesProp;
+  }
+
   @Override
   public boolean isEmpty() {
-    return messageKeysProp.isEmpty();
+    return messageKeysProp.isEmpty() && messagesProp.isEmpty();
   }
 
   public MessageBatchRecord addMessageKey(final long key) {
@@ -46,4 +54,21 @@ public final class MessageBatchRecord extends UnifiedRecordValue
         .map(LongValue::getValue)
         .collect(Collectors.toList());
   }
+
+  @Override
+  public List<MessageRecordValue> getMessages() {
+    return StreamSupport.stream(messagesProp.spliterator(), false)
+        .map(
+            messageRecord -> {
+              final byte[] bytes = new byte[messageRecord.getLength()];
+              final UnsafeBuffer copyRecord = new UnsafeBuffer(bytes);
+              final MessageRecord copiedRecord = new MessageRecord();
+
+              messageRecord.write(copyRecord, 0);
+              copiedRecord.wrap(copyRecord);
+
+              return copiedRecord;
+            })
+        .collect(Collectors.toList());
+  }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.stream.job;
+
+import java.util.Objects;
+
+/**
+ * Broadcast by brokers to notify gateways that jobs of a given type became available for activation
+ * on a given partition. Gateways can use the partition to retry only the partition which has new
+ * jobs, instead of polling all of them.
+ *
+ * <p>Notifications are sent over the cluster event service as plain strings, in the form {@code
+ * <partitionId>:<jobType>}. The partition may be {@link #UNKNOWN_PARTITION}, in which case
+ * receivers should assume any partition may have new jobs.
+ *
+ * @param jobType the type of the jobs which are available
+ * @param partitionId the partition on which the jobs are available
+ */
+public record JobAvailableNotification(String jobType, int partitionId) {
+  /** The topic on which partition-aware notifications are broadcast. */
+  public static final String TOPIC = "jobsAvailableOnPartition";
+
+  /**
+   * The topic on which brokers broadcast only the job type, without the partition. Brokers before
+   * 8.4 only use this topic, and newer brokers keep broadcasting on it for older gateways.
+   */
+  public static final String LEGACY_TOPIC = "jobsAvailable";
+
+  public static final int UNKNOWN_PARTITION = -1;
+
+  private static final char SEPARATOR = ':';
+
+  public JobAvailableNotification {
+    Objects.requireNonNull(jobType, "must specify a job type");
+  }
+
+  public static JobAvailableNotification ofType(final String jobType) {
+    return new JobAvailableNotification(jobType, UNKNOWN_PARTITION);
+  }
+
+  /**
+   * @throws IllegalArgumentException if the message is not a valid encoded notification
+   */
+  public static JobAvailableNotification decode(final String message) {
+    final int separatorIndex = message.indexOf(SEPARATOR);
+    if (separatorIndex <= 0) {
+      throw new IllegalArgumentException(
+          "Expected job available notification to be of the form '<partitionId>:<jobType>', but got '%s'"
+              .formatted(message));
+    }
+
+    final int partitionId;
+    try {
+      partitionId = Integer.parseInt(message, 0, separatorIndex, 10);
+    } catch (final NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "Expected job available notification to start with a partition id, but got '%s'"
+              .formatted(message),
+          e);
+    }
+
+    return new JobAvailableNotification(message.substring(separatorIndex + 1), partitionId);
+  }
+
+  public String encode() {
+    return String.valueOf(partitionId) + SEPARATOR + jobType;
+  }
+
+  public boolean hasPartition() {
+    return partitionId != UNKNOWN_PARTITION;
+  }
+}
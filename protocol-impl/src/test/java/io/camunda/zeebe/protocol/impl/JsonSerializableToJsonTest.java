@@ -881,6 +881,50 @@ final class JsonSerializableToJsonTest {
           "messageKeys": [
             123,
             456
+          ],
+          "messages": []
+        }
+        """
+      },
+      /////////////////////////////////////////////////////////////////////////////////////////////
+      ///////////////////////////////// MessageBatchRecord with messages
+      // ////////////////////////////////
+      /////////////////////////////////////////////////////////////////////////////////////////////
+      {
+        "MessageBatchRecord with messages",
+        (Supplier<UnifiedRecordValue>)
+            () -> {
+              final var messageBatchRecord = new MessageBatchRecord().addMessageKey(123L);
+              messageBatchRecord
+                  .messages()
+                  .add()
+                  .setCorrelationKey(wrapString("test-key"))
+                  .setName(wrapString("test-message"))
+                  .setVariables(VARIABLES_MSGPACK)
+                  .setTimeToLive(12)
+                  .setDeadline(22L)
+                  .setMessageId(wrapString("test-id"))
+                  .setTenantId("foo");
+
+              return messageBatchRecord;
+            },
+        """
+        {
+          "messageKeys": [
+            123
+          ],
+          "messages": [
+            {
+              "timeToLive": 12,
+              "correlationKey": "test-key",
+              "variables": {
+                "foo": "bar"
+              },
+              "messageId": "test-id",
+              "name": "test-message",
+              "deadline": 22,
+              "tenantId": "foo"
+            }
           ]
         }
         """
@@ -897,7 +941,8 @@ final class JsonSerializableToJsonTest {
             },
         """
         {
-          "messageKeys": []
+          "messageKeys": [],
+          "messages": []
         }
         """
       },
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many record values per second can be decoded, as done on the processing, replay and
+ * export paths. The values are encoded once up front and then decoded over and over into the same
+ * instance, as the engine reuses its record values.
+ *
+ * <p>Replay and export usually access only a few properties of each value, e.g. to apply an event
+ * or to filter it, which {@link #measureDecodingWithPartialAccess()} resembles. Run it with and
+ * without lazy decoding to see its effect.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RecordValueDecodingPerformanceTest {
+  private static final String VARIABLES = "{\"orderId\":12345,\"amount\":99.5,\"express\":true}";
+  private static final Map<String, Supplier<UnifiedRecordValue>> RECORDS =
+      Map.of(
+          "JOB", RecordValueDecodingPerformanceTest::newJobRecord,
+          "PROCESS_INSTANCE", RecordValueDecodingPerformanceTest::newProcessInstanceRecord,
+          "VARIABLE_DOCUMENT", RecordValueDecodingPerformanceTest::newVariableDocumentRecord);
+
+  @Param({"JOB", "PROCESS_INSTANCE", "VARIABLE_DOCUMENT"})
+  public String recordType;
+
+  @Param({"false", "true"})
+  public boolean lazyDecoding;
+
+  private UnsafeBuffer encoded;
+  private UnifiedRecordValue decoded;
+
+  @Setup
+  public void setup() {
+    final var recordFactory = RECORDS.get(recordType);
+    final var record = recordFactory.get();
+    encoded = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(encoded, 0);
+
+    decoded = recordFactory.get();
+    decoded.setLazyDecoding(lazyDecoding);
+  }
+
+  @Benchmark
+  public int measureDecoding() {
+    decoded.wrap(encoded, 0, encoded.capacity());
+    return decoded.getLength();
+  }
+
+  @Benchmark
+  public long measureDecodingWithPartialAccess() {
+    decoded.wrap(encoded, 0, encoded.capacity());
+    return switch (decoded) {
+      case final JobRecord job -> job.getProcessInstanceKey();
+      case final ProcessInstanceRecord processInstance -> processInstance.getProcessInstanceKey();
+      case final VariableDocumentRecord variableDocument -> variableDocument.getScopeKey();
+      default -> throw new IllegalStateException("Unexpected record " + decoded);
+    };
+  }
+
+  @JMHTest("measureDecoding")
+  void shouldDecodeJobRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a job record has 17 properties; the reference allows about 100 ns for each of them,
+    // i.e. to look up the declared property by its key and to read its value
+    final var referenceScore = 600_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("recordType", "JOB").param("lazyDecoding", "false"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+
+  @JMHTest("measureDecodingWithPartialAccess")
+  void shouldLazilyDecodeJobRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - the lower bound of the reference, after the deviation, is the score of decoding
+    // eagerly with the same access, about 720,000 ops/s, so it fails if lazy decoding doesn't skip
+    // the properties which aren't accessed
+    final var referenceScore = 900_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("recordType", "JOB").param("lazyDecoding", "true"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+
+  private static UnifiedRecordValue newJobRecord() {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(1_700_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessDefinitionVersion(4)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setElementInstanceKey(2251799813685260L)
+        .setVariables(new UnsafeBuffer(MsgPackConverter.convertToMsgPack(VARIABLES)));
+  }
+
+  private static UnifiedRecordValue newProcessInstanceRecord() {
+    return new ProcessInstanceRecord()
+        .setBpmnProcessId("order-process")
+        .setVersion(4)
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setFlowScopeKey(2251799813685251L)
+        .setBpmnElementType(BpmnElementType.SERVICE_TASK);
+  }
+
+  private static UnifiedRecordValue newVariableDocumentRecord() {
+    return new VariableDocumentRecord()
+        .setScopeKey(2251799813685251L)
+        .setUpdateSemantics(VariableDocumentUpdateSemantic.PROPAGATE)
+        .setVariables(new UnsafeBuffer(MsgPackConverter.convertToMsgPack(VARIABLES)));
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.record;
+
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many record values per second can be appended to a record batch and written to the
+ * log. Like a record batch entry, the value is first copied, i.e. written into a buffer of its
+ * length and decoded from there, and the copy is then written again as the log writer does.
+ *
+ * <p>With lazy decoding, the copy is written from the bytes it was decoded from, without walking
+ * its properties again. The variables are large, as they are usually copied unchanged through many
+ * records.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class RecordValueEncodingPerformanceTest {
+  private static final Map<String, Supplier<UnifiedRecordValue>> RECORDS =
+      Map.of(
+          "JOB", RecordValueEncodingPerformanceTest::newJobRecord,
+          "VARIABLE_DOCUMENT", RecordValueEncodingPerformanceTest::newVariableDocumentRecord);
+
+  @Param({"JOB", "VARIABLE_DOCUMENT"})
+  public String recordType;
+
+  @Param({"false", "true"})
+  public boolean lazyDecoding;
+
+  private UnifiedRecordValue record;
+  private UnifiedRecordValue copy;
+  private UnsafeBuffer copyBuffer;
+  private UnsafeBuffer logBuffer;
+
+  @Setup
+  public void setup() {
+    final var recordFactory = RECORDS.get(recordType);
+    record = recordFactory.get();
+    copyBuffer = new UnsafeBuffer(new byte[record.getLength()]);
+    logBuffer = new UnsafeBuffer(new byte[record.getLength()]);
+
+    copy = recordFactory.get();
+    copy.setLazyDecoding(lazyDecoding);
+  }
+
+  @Benchmark
+  public int measureCopyAndWrite() {
+    record.write(copyBuffer, 0);
+    copy.wrap(copyBuffer, 0, record.getLength());
+
+    final var length = copy.getLength();
+    copy.write(logBuffer, 0);
+    return length;
+  }
+
+  @JMHTest("measureCopyAndWrite")
+  void shouldCopyAndWriteJobRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - copying and writing the record eagerly scores about 300,000 ops/s; with lazy
+    // decoding, the unchanged copy is written from the bytes it was decoded from, so the
+    // reference is chosen so that its lower bound, after the deviation, is well above that
+    final var referenceScore = 550_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("recordType", "JOB").param("lazyDecoding", "true"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.2);
+  }
+
+  private static UnifiedRecordValue newJobRecord() {
+    return new JobRecord()
+        .setType("payment-service")
+        .setWorker("payment-worker-1")
+        .setRetries(3)
+        .setDeadline(1_700_000_000_000L)
+        .setBpmnProcessId("order-process")
+        .setProcessDefinitionKey(2251799813685249L)
+        .setProcessDefinitionVersion(4)
+        .setProcessInstanceKey(2251799813685251L)
+        .setElementId("collect-payment")
+        .setElementInstanceKey(2251799813685260L)
+        .setVariables(newVariables());
+  }
+
+  private static UnifiedRecordValue newVariableDocumentRecord() {
+    return new VariableDocumentRecord()
+        .setScopeKey(2251799813685251L)
+        .setUpdateSemantics(VariableDocumentUpdateSemantic.PROPAGATE)
+        .setVariables(newVariables());
+  }
+
+  private static UnsafeBuffer newVariables() {
+    final var variables = new StringBuilder("{");
+    for (int i = 0; i < 100; i++) {
+      variables.append(i > 0 ? "," : "").append("\"item").append(i).append("\":\"");
+      variables.append("x".repeat(64)).append('"');
+    }
+    variables.append('}');
+
+    return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(variables.toString()));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.stream.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+final class JobAvailableNotificationTest {
+
+  @Test
+  void shouldEncodeAndDecodeNotification() {
+    // given
+    final var notification = new JobAvailableNotification("foo", 3);
+
+    // when
+    final var decoded = JobAvailableNotification.decode(notification.encode());
+
+    // then
+    assertThat(decoded).isEqualTo(notification);
+    assertThat(decoded.hasPartition()).isTrue();
+  }
+
+  @Test
+  void shouldDecodeNotificationWithoutPartition() {
+    // given
+    final var notification = JobAvailableNotification.ofType("foo");
+
+    // when
+    final var decoded = JobAvailableNotification.decode(notification.encode());
+
+    // then
+    assertThat(decoded).isEqualTo(notification);
+    assertThat(decoded.hasPartition()).isFalse();
+  }
+
+  @Test
+  void shouldDecodeJobTypeContainingSeparator() {
+    // given
+    final var notification = new JobAvailableNotification("1:foo:bar", 2);
+
+    // when
+    final var decoded = JobAvailableNotification.decode(notification.encode());
+
+    // then
+    assertThat(decoded.jobType()).isEqualTo("1:foo:bar");
+    assertThat(decoded.partitionId()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRejectMessageWithoutPartition() {
+    assertThatThrownBy(() -> JobAvailableNotification.decode("foo"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> JobAvailableNotification.decode("bar:foo"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
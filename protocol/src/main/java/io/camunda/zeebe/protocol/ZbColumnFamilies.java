@@ -165,5 +165,7 @@ public enum ZbColumnFamilies {
   MESSAGE_SUBSCRIPTION_BY_NAME_AND_CORRELATION_KEY,
   PROCESS_SUBSCRIPTION_BY_KEY,
 
-  JOB_ACTIVATABLE
+  JOB_ACTIVATABLE,
+
+  MESSAGE_DEADLINE_BUCKETS
 }
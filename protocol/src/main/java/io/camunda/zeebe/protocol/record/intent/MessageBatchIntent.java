@@ -16,7 +16,10 @@
 package io.camunda.zeebe.protocol.record.intent;
 
 public enum MessageBatchIntent implements Intent {
-  EXPIRE((short) 0);
+  EXPIRE((short) 0),
+  PUBLISH((short) 1),
+  PUBLISHED((short) 2);
+
   private final short value;
 
   MessageBatchIntent(final short value) {
@@ -32,6 +35,10 @@ public enum MessageBatchIntent implements Intent {
     switch (value) {
       case 0:
         return EXPIRE;
+      case 1:
+        return PUBLISH;
+      case 2:
+        return PUBLISHED;
       default:
         return Intent.UNKNOWN;
     }
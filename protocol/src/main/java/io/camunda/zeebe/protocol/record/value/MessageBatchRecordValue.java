@@ -30,7 +30,14 @@ import org.immutables.value.Value;
 public interface MessageBatchRecordValue extends RecordValue {
 
   /**
-   * @return list of the keys from the messages assigned to this batch
+   * @return list of the keys from the messages assigned to this batch; for published messages, the
+   *     key at the same position as the message, or -1 if the message was not published because a
+   *     message with the same id was already published
    */
   List<Long> getMessageKeys();
+
+  /**
+   * @return list of the messages to publish in this batch
+   */
+  List<MessageRecordValue> getMessages();
 }
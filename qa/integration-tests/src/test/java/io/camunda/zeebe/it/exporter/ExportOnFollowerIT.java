@@ -0,0 +1,194 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.it.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.client.ZeebeClient;
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.qa.util.actuator.PartitionsActuator;
+import io.camunda.zeebe.qa.util.cluster.TestCluster;
+import io.camunda.zeebe.qa.util.cluster.TestHealthProbe;
+import io.camunda.zeebe.qa.util.cluster.TestStandaloneBroker;
+import io.camunda.zeebe.qa.util.junit.ZeebeIntegration;
+import io.camunda.zeebe.qa.util.junit.ZeebeIntegration.TestZeebe;
+import io.camunda.zeebe.test.util.junit.AutoCloseResources;
+import io.camunda.zeebe.test.util.junit.AutoCloseResources.AutoCloseResource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@ZeebeIntegration
+@AutoCloseResources
+final class ExportOnFollowerIT {
+  private static final int PARTITION_ID = 1;
+
+  @TestZeebe
+  private final TestCluster cluster =
+      TestCluster.builder()
+          .useRecordingExporter(false)
+          .withEmbeddedGateway(true)
+          .withBrokersCount(3)
+          .withPartitionsCount(1)
+          .withReplicationFactor(3)
+          .withBrokerConfig(
+              (memberId, broker) ->
+                  broker
+                      .withBrokerConfig(cfg -> cfg.getExperimental().setExportOnFollower(true))
+                      .withExporter(
+                          "member",
+                          cfg -> {
+                            cfg.setClassName(MemberExporter.class.getName());
+                            cfg.setArgs(Map.of(MemberExporter.MEMBER_ID_ARG, memberId.id()));
+                          }))
+          .build();
+
+  @AutoCloseResource private ZeebeClient client;
+
+  @AfterEach
+  void tearDown() {
+    MemberExporter.EXPORTED.clear();
+  }
+
+  @Test
+  void shouldExportOnlyOnDesignatedFollower() {
+    // given
+    client = cluster.newClientBuilder().build();
+
+    // when
+    deployProcess();
+
+    // then
+    final var exportingMember = awaitExported(ValueType.DEPLOYMENT);
+    assertThat(MemberExporter.EXPORTED).containsOnlyKeys(exportingMember);
+    assertThat(partitionRole(cluster.brokers().get(MemberId.from(exportingMember))))
+        .isEqualTo("FOLLOWER");
+  }
+
+  @Test
+  void shouldNotExportWhileDesignatedFollowerIsDown() {
+    // given
+    client = cluster.newClientBuilder().build();
+    deployProcess();
+    final var exportingMember = awaitExported(ValueType.DEPLOYMENT);
+    final var designatedFollower = cluster.brokers().get(MemberId.from(exportingMember));
+    client.close();
+    client = otherBroker(exportingMember).newClientBuilder().build();
+
+    // when
+    designatedFollower.stop();
+    publishMessage();
+
+    // then - the remaining members keep committing, but nothing is exported
+    Awaitility.await("Nothing is exported while the designated follower is down")
+        .atMost(Duration.ofSeconds(30))
+        .during(Duration.ofSeconds(5))
+        .until(() -> !hasExported(ValueType.MESSAGE));
+  }
+
+  @Test
+  void shouldResumeExportingOnceDesignatedFollowerIsBack() {
+    // given
+    client = cluster.newClientBuilder().build();
+    deployProcess();
+    final var exportingMember = awaitExported(ValueType.DEPLOYMENT);
+    final var designatedFollower = cluster.brokers().get(MemberId.from(exportingMember));
+    client.close();
+    client = otherBroker(exportingMember).newClientBuilder().build();
+    designatedFollower.stop();
+    publishMessage();
+
+    // when
+    designatedFollower.start().await(TestHealthProbe.READY);
+
+    // then
+    assertThat(awaitExported(ValueType.MESSAGE)).isEqualTo(exportingMember);
+    assertThat(MemberExporter.EXPORTED).containsOnlyKeys(exportingMember);
+  }
+
+  private void deployProcess() {
+    client
+        .newDeployResourceCommand()
+        .addProcessModel(
+            Bpmn.createExecutableProcess("process").startEvent().endEvent().done(), "process.bpmn")
+        .send()
+        .join();
+  }
+
+  private void publishMessage() {
+    client.newPublishMessageCommand().messageName("message").correlationKey("key").send().join();
+  }
+
+  private String awaitExported(final ValueType valueType) {
+    return Awaitility.await("A record of type " + valueType + " is exported")
+        .atMost(Duration.ofMinutes(1))
+        .until(() -> exportingMember(valueType), member -> member != null);
+  }
+
+  private boolean hasExported(final ValueType valueType) {
+    return exportingMember(valueType) != null;
+  }
+
+  private String exportingMember(final ValueType valueType) {
+    return MemberExporter.EXPORTED.entrySet().stream()
+        .filter(entry -> entry.getValue().contains(valueType))
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private TestStandaloneBroker otherBroker(final String memberId) {
+    return cluster.brokers().entrySet().stream()
+        .filter(entry -> !entry.getKey().id().equals(memberId))
+        .map(Map.Entry::getValue)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private String partitionRole(final TestStandaloneBroker broker) {
+    return PartitionsActuator.of(broker).query().get(PARTITION_ID).role();
+  }
+
+  /** Records the types of the exported records per member, as given by its exporter arguments. */
+  public static final class MemberExporter implements Exporter {
+    static final String MEMBER_ID_ARG = "memberId";
+    static final Map<String, List<ValueType>> EXPORTED = new ConcurrentHashMap<>();
+
+    private String memberId;
+    private Controller controller;
+
+    @Override
+    public void configure(final Context context) {
+      memberId = (String) context.getConfiguration().getArguments().get(MEMBER_ID_ARG);
+    }
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      EXPORTED
+          .computeIfAbsent(memberId, id -> new CopyOnWriteArrayList<>())
+          .add(record.getValueType());
+      controller.updateLastExportedRecordPosition(record.getPosition());
+    }
+  }
+}
@@ -95,7 +95,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     this.recordProcessors = recordProcessors;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
     actor = context.getActor();
-    recordValues = context.getRecordValues();
+    // event appliers usually access only a few properties of an event
+    recordValues = new RecordValues(true);
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     keyGeneratorControls = context.getKeyGeneratorControls();
@@ -38,6 +38,8 @@ public record RecordBatchEntry(
 
     final UnifiedRecordValue unifiedRecordValue =
         ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
+    // the copied bytes are never modified, so the copy can be written to the log from them as is
+    unifiedRecordValue.setLazyDecoding(true);
     unifiedRecordValue.wrap(recordValueBuffer, 0, recordValueBuffer.capacity());
 
     return new RecordBatchEntry(metadata, key, sourceIndex, unifiedRecordValue);
@@ -21,8 +21,23 @@ public final class RecordValues {
   private final Map<ValueType, UnifiedRecordValue> eventCache;
 
   public RecordValues() {
+    this(false);
+  }
+
+  /**
+   * @param lazyDecoding if true, the values are only skimmed when read and their properties decoded
+   *     on first access, see {@link UnifiedRecordValue#setLazyDecoding(boolean)}. Only useful for
+   *     consumers which access few properties, and which do not use a value after reading the next
+   *     one.
+   */
+  public RecordValues(final boolean lazyDecoding) {
     final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
+    TypedEventRegistry.EVENT_REGISTRY.forEach(
+        (t, c) -> {
+          final UnifiedRecordValue value = ReflectUtil.newInstance(c);
+          value.setLazyDecoding(lazyDecoding);
+          cache.put(t, value);
+        });
 
     eventCache = Collections.unmodifiableMap(cache);
   }
@@ -13,6 +13,9 @@ import java.util.Objects;
 public final class ClusterTopologyGossipState {
   // TODO: This should also tracks the BrokerInfo which is currently in SWIM member.properties
   private ClusterTopology clusterTopology;
+  // Only set in messages exchanged between members, never in the local state
+  private TopologyVersionVector versionVector;
+  private ClusterTopology topologyDelta;
 
   public ClusterTopology getClusterTopology() {
     return clusterTopology;
@@ -22,9 +25,25 @@ public final class ClusterTopologyGossipState {
     this.clusterTopology = clusterTopology;
   }
 
+  public TopologyVersionVector getVersionVector() {
+    return versionVector;
+  }
+
+  public void setVersionVector(final TopologyVersionVector versionVector) {
+    this.versionVector = versionVector;
+  }
+
+  public ClusterTopology getTopologyDelta() {
+    return topologyDelta;
+  }
+
+  public void setTopologyDelta(final ClusterTopology topologyDelta) {
+    this.topologyDelta = topologyDelta;
+  }
+
   @Override
   public int hashCode() {
-    return clusterTopology != null ? clusterTopology.hashCode() : 0;
+    return Objects.hash(clusterTopology, versionVector, topologyDelta);
   }
 
   @Override
@@ -38,11 +57,20 @@ public final class ClusterTopologyGossipState {
 
     final ClusterTopologyGossipState that = (ClusterTopologyGossipState) o;
 
-    return Objects.equals(clusterTopology, that.clusterTopology);
+    return Objects.equals(clusterTopology, that.clusterTopology)
+        && Objects.equals(versionVector, that.versionVector)
+        && Objects.equals(topologyDelta, that.topologyDelta);
   }
 
   @Override
   public String toString() {
-    return "ClusterTopologyGossipState{" + "clusterTopology=" + clusterTopology + '}';
+    return "ClusterTopologyGossipState{"
+        + "clusterTopology="
+        + clusterTopology
+        + ", versionVector="
+        + versionVector
+        + ", topologyDelta="
+        + topologyDelta
+        + '}';
   }
 }
@@ -18,12 +18,14 @@ import io.camunda.zeebe.scheduler.AsyncClosable;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.topology.TopologyUpdateNotifier;
+import io.camunda.zeebe.topology.gossip.ClusterTopologyGossiperMetrics.Round;
 import io.camunda.zeebe.topology.serializer.ClusterTopologySerializer;
 import io.camunda.zeebe.topology.state.ClusterTopology;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -31,6 +33,18 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Propagates the {@link ClusterTopology} to the other members, by gossiping updates to a few random
+ * members and by periodically syncing with a random member.
+ *
+ * <p>To keep the amount of data exchanged small in large clusters, members only exchange the member
+ * states that changed. A sync request only contains a {@link TopologyVersionVector} of the local
+ * topology. The receiver replies with the member states which are newer than the requester's
+ * version vector, and its own version vector so that the requester can send back what the receiver
+ * is missing. Similarly, a gossip update only contains the member states that changed. A delta can
+ * only be merged if both topologies have the same version; otherwise the full topology is sent.
+ * Members which do not send a version vector always receive the full topology.
+ */
 public final class ClusterTopologyGossiper
     implements TopologyUpdateNotifier, ClusterMembershipEventListener, AsyncClosable {
   private static final Logger LOGGER = LoggerFactory.getLogger(ClusterTopologyGossiper.class);
@@ -44,6 +58,7 @@ public final class ClusterTopologyGossiper
   private final ClusterMembershipService membershipService;
   private final ClusterTopologyGossiperConfig config;
   private final ClusterTopologySerializer serializer;
+  private final ClusterTopologyGossiperMetrics metrics = new ClusterTopologyGossiperMetrics();
 
   private final Set<TopologyUpdateListener> topologyUpdateListeners = new HashSet<>();
 
@@ -141,10 +156,27 @@ public final class ClusterTopologyGossiper
   }
 
   private void sync(final MemberId toMember) {
+    sync(toMember, true);
+  }
+
+  private void sync(final MemberId toMember, final boolean scheduleNextSync) {
     LOGGER.trace("Sending sync request to {}", toMember);
-    sendSyncRequest(toMember)
+    final var syncRequest = new ClusterTopologyGossipState();
+    final var localTopology = gossipState.getClusterTopology();
+    if (localTopology != null) {
+      syncRequest.setVersionVector(TopologyVersionVector.of(localTopology));
+    }
+
+    final byte[] encodedRequest = serializer.encode(syncRequest);
+    sendSyncRequest(toMember, encodedRequest)
         .whenCompleteAsync(
-            (response, error) -> handleSyncResponse(response, error, toMember), executor::run);
+            (response, error) -> {
+              handleSyncResponse(encodedRequest.length, response, error, toMember);
+              if (scheduleNextSync) {
+                scheduleSync();
+              }
+            },
+            executor::run);
   }
 
   private void refreshMembersToSync() {
@@ -159,39 +191,107 @@ public final class ClusterTopologyGossiper
   }
 
   private void handleSyncResponse(
-      final ClusterTopologyGossipState response, final Throwable error, final MemberId member) {
-    if (error == null) {
-      update(response);
-    } else {
+      final int requestLength,
+      final SyncResponse response,
+      final Throwable error,
+      final MemberId member) {
+    if (error != null) {
       LOGGER.warn("Failed to sync with {}", member, error);
+      return;
     }
-    scheduleSync();
+
+    long roundBytes = requestLength + response.encodedLength();
+    final var receivedState = response.state();
+    update(receivedState, member);
+
+    // The other member tells us what it knows, so we can send back only what it is missing
+    final var remoteVersionVector = receivedState.getVersionVector();
+    if (remoteVersionVector != null) {
+      final var missingTopology = createPayloadFor(remoteVersionVector);
+      metrics.countPayload(Round.SYNC, missingTopology);
+      if (missingTopology != null) {
+        final byte[] encoded = serializer.encode(missingTopology);
+        roundBytes += encoded.length;
+        communicationService.unicast(
+            GOSSIP_REQUEST_TOPIC, encoded, Function.identity(), member, true);
+      }
+    }
+
+    metrics.observeRoundBytes(Round.SYNC, roundBytes);
   }
 
-  private void update(final ClusterTopologyGossipState receivedGossipState) {
-    if (!receivedGossipState.equals(gossipState)) {
-      final ClusterTopology topology = receivedGossipState.getClusterTopology();
-      if (topology != null) {
-        final var topologyUpdateFuture = clusterTopologyUpdateHandler.apply(topology);
-        topologyUpdateFuture.onComplete(
-            (updatedTopology, error) -> {
-              if (error != null) {
-                LOGGER.warn("Failed to process cluster topology received via gossip", error);
-              } else if (!updatedTopology.equals(gossipState.getClusterTopology())) {
-                onTopologyUpdated(updatedTopology);
-              }
-            });
+  private void update(
+      final ClusterTopologyGossipState receivedGossipState, final MemberId fromMember) {
+    final ClusterTopology topology = receivedGossipState.getClusterTopology();
+    if (topology != null && !topology.equals(gossipState.getClusterTopology())) {
+      applyReceivedTopology(topology);
+    }
+
+    final ClusterTopology topologyDelta = receivedGossipState.getTopologyDelta();
+    if (topologyDelta != null) {
+      final var localTopology = gossipState.getClusterTopology();
+      if (localTopology != null && localTopology.version() == topologyDelta.version()) {
+        applyReceivedTopology(topologyDelta);
+      } else if (localTopology == null || localTopology.version() < topologyDelta.version()) {
+        // A delta cannot be merged into a topology with a different version, as a newer version
+        // replaces the topology instead of merging it. We have missed an update, so we request the
+        // full topology from the sender.
+        LOGGER.trace(
+            "Received topology delta with version {} from {}, but local version is {}. Syncing",
+            topologyDelta.version(),
+            fromMember,
+            localTopology == null ? null : localTopology.version());
+        sync(fromMember, false);
       }
     }
   }
 
+  private void applyReceivedTopology(final ClusterTopology topology) {
+    final var topologyUpdateFuture = clusterTopologyUpdateHandler.apply(topology);
+    topologyUpdateFuture.onComplete(
+        (updatedTopology, error) -> {
+          if (error != null) {
+            LOGGER.warn("Failed to process cluster topology received via gossip", error);
+          } else if (!updatedTopology.equals(gossipState.getClusterTopology())) {
+            onTopologyUpdated(updatedTopology);
+          }
+        });
+  }
+
   private void onTopologyUpdated(final ClusterTopology updatedTopology) {
+    final var previousTopology = gossipState.getClusterTopology();
     gossipState.setClusterTopology(updatedTopology);
     LOGGER.trace("Updated local gossipState to {}", updatedTopology);
-    gossip();
+    gossip(previousTopology, updatedTopology);
     notifyListeners(updatedTopology);
   }
 
+  /**
+   * Returns the part of the local topology that a member with the given version vector is missing:
+   * the full topology if the member's topology is older, only the changed member states if it has
+   * the same version, or null if it is not missing anything.
+   */
+  private ClusterTopologyGossipState createPayloadFor(
+      final TopologyVersionVector remoteVersionVector) {
+    final var localTopology = gossipState.getClusterTopology();
+    if (localTopology == null || localTopology.version() < remoteVersionVector.version()) {
+      return null;
+    }
+
+    final var payload = new ClusterTopologyGossipState();
+    if (localTopology.version() > remoteVersionVector.version()) {
+      payload.setClusterTopology(localTopology);
+      return payload;
+    }
+
+    final var topologyDelta = remoteVersionVector.deltaOf(localTopology);
+    if (topologyDelta == null) {
+      return null;
+    }
+    payload.setTopologyDelta(topologyDelta);
+    return payload;
+  }
+
   private void notifyListeners(final ClusterTopology updatedTopology) {
     topologyUpdateListeners.forEach(listener -> listener.onTopologyUpdated(updatedTopology));
   }
@@ -200,8 +300,23 @@ public final class ClusterTopologyGossiper
       final MemberId memberId, final ClusterTopologyGossipState clusterSharedGossipState) {
     LOGGER.trace(
         "Received topology sync request from {} with state {}", memberId, clusterSharedGossipState);
-    update(clusterSharedGossipState);
-    return gossipState;
+    update(clusterSharedGossipState, memberId);
+
+    final var remoteVersionVector = clusterSharedGossipState.getVersionVector();
+    if (remoteVersionVector == null) {
+      // The requester does not know any topology yet, or does not support delta sync
+      metrics.countPayload(Round.SYNC, gossipState);
+      return gossipState;
+    }
+
+    final var payload = createPayloadFor(remoteVersionVector);
+    metrics.countPayload(Round.SYNC, payload);
+    final var response = Objects.requireNonNullElseGet(payload, ClusterTopologyGossipState::new);
+    final var localTopology = gossipState.getClusterTopology();
+    if (localTopology != null) {
+      response.setVersionVector(TopologyVersionVector.of(localTopology));
+    }
+    return response;
   }
 
   public void updateClusterTopology(final ClusterTopology clusterTopology) {
@@ -218,11 +333,13 @@ public final class ClusterTopologyGossiper
 
   public ActorFuture<ClusterTopology> queryClusterTopology(final MemberId memberId) {
     final ActorFuture<ClusterTopology> responseFuture = executor.createFuture();
-    sendSyncRequest(memberId)
+    // Send the request without a version vector, so that the other member replies with its full
+    // topology
+    sendSyncRequest(memberId, serializer.encode(gossipState))
         .whenCompleteAsync(
             (response, error) -> {
               if (error == null) {
-                responseFuture.complete(response.getClusterTopology());
+                responseFuture.complete(response.state().getClusterTopology());
               } else {
                 responseFuture.completeExceptionally(error);
               }
@@ -231,17 +348,18 @@ public final class ClusterTopologyGossiper
     return responseFuture;
   }
 
-  private CompletableFuture<ClusterTopologyGossipState> sendSyncRequest(final MemberId memberId) {
+  private CompletableFuture<SyncResponse> sendSyncRequest(
+      final MemberId memberId, final byte[] encodedRequest) {
     return communicationService.send(
         SYNC_REQUEST_TOPIC,
-        gossipState,
-        serializer::encode,
-        serializer::decode,
+        encodedRequest,
+        Function.identity(),
+        response -> new SyncResponse(serializer.decode(response), response.length),
         memberId,
         config.syncRequestTimeout());
   }
 
-  private void gossip() {
+  private void gossip(final ClusterTopology previousTopology, final ClusterTopology topology) {
     // TODO: Instead of selecting random members, we can also propagate via a tree topology to
     // prevent duplicate gossip updates
     refreshMembersToSync();
@@ -250,11 +368,29 @@ public final class ClusterTopologyGossiper
     }
     final var gossipMembersList =
         membersToSync.subList(0, Math.min(config.gossipFanout(), membersToSync.size()));
-    LOGGER.trace("Gossiping {} to {}", gossipState, gossipMembersList);
+    if (gossipMembersList.isEmpty()) {
+      return;
+    }
+
+    final var update = new ClusterTopologyGossipState();
+    final var topologyDelta =
+        previousTopology != null && previousTopology.version() == topology.version()
+            ? TopologyVersionVector.of(previousTopology).deltaOf(topology)
+            : null;
+    if (topologyDelta != null) {
+      update.setTopologyDelta(topologyDelta);
+    } else {
+      update.setClusterTopology(topology);
+    }
+
+    LOGGER.trace("Gossiping {} to {}", update, gossipMembersList);
+    final byte[] encodedUpdate = serializer.encode(update);
     gossipMembersList.forEach(
         member ->
             communicationService.unicast(
-                GOSSIP_REQUEST_TOPIC, gossipState, serializer::encode, member, true));
+                GOSSIP_REQUEST_TOPIC, encodedUpdate, Function.identity(), member, true));
+    metrics.countPayload(Round.GOSSIP, update);
+    metrics.observeRoundBytes(Round.GOSSIP, (long) encodedUpdate.length * gossipMembersList.size());
     // The list is backed by `membersToSync`. After gossip we remove them from the list so that in
     // the next try it chooses a different set of members
     gossipMembersList.clear();
@@ -262,8 +398,8 @@ public final class ClusterTopologyGossiper
 
   private void handleGossip(
       final MemberId memberId, final ClusterTopologyGossipState receivedState) {
-    LOGGER.trace("Received {} from {}", gossipState, memberId);
-    update(receivedState);
+    LOGGER.trace("Received {} from {}", receivedState, memberId);
+    update(receivedState, memberId);
   }
 
   @Override
@@ -309,4 +445,6 @@ public final class ClusterTopologyGossiper
         });
     return future;
   }
+
+  private record SyncResponse(ClusterTopologyGossipState state, int encodedLength) {}
 }
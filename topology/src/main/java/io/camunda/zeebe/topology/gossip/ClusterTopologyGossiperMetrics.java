@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.topology.gossip;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+final class ClusterTopologyGossiperMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String ROUND_LABEL = "round";
+  private static final String PAYLOAD_LABEL = "payload";
+
+  private static final Histogram ROUND_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("cluster_topology_gossip_round_bytes")
+          .help(
+              "Number of bytes exchanged in a single round of topology gossip. A sync round"
+                  + " includes the request, the response and the delta sent back to the peer. A"
+                  + " gossip round includes the messages sent to all selected peers.")
+          .labelNames(ROUND_LABEL)
+          .buckets(64, 256, 1024, 4096, 16384, 65536, 262144, 1048576)
+          .register();
+
+  private static final Counter PAYLOADS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("cluster_topology_gossip_payloads")
+          .help(
+              "Number of topology payloads sent, by whether they contained the full topology, only"
+                  + " the changed members, or nothing at all")
+          .labelNames(ROUND_LABEL, PAYLOAD_LABEL)
+          .register();
+
+  void observeRoundBytes(final Round round, final long bytes) {
+    ROUND_BYTES.labels(round.name()).observe(bytes);
+  }
+
+  void countPayload(final Round round, final ClusterTopologyGossipState payload) {
+    final Payload type;
+    if (payload == null) {
+      type = Payload.NONE;
+    } else if (payload.getClusterTopology() != null) {
+      type = Payload.FULL;
+    } else if (payload.getTopologyDelta() != null) {
+      type = Payload.DELTA;
+    } else {
+      type = Payload.NONE;
+    }
+
+    PAYLOADS.labels(round.name(), type.name()).inc();
+  }
+
+  enum Round {
+    SYNC,
+    GOSSIP
+  }
+
+  private enum Payload {
+    FULL,
+    DELTA,
+    NONE
+  }
+}
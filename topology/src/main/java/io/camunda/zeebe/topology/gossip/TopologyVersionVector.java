@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.topology.gossip;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.topology.state.ClusterTopology;
+import io.camunda.zeebe.topology.state.MemberState;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A compact summary of a {@link ClusterTopology}. It contains only the versions of the topology,
+ * the change plan and each member's state. Since a {@link MemberState} is only updated by the
+ * member itself, and every update increments its version, comparing the versions is enough to find
+ * out which member states the owner of this vector is missing.
+ */
+public record TopologyVersionVector(
+    long version, int changesVersion, Map<MemberId, Long> memberVersions) {
+
+  public static TopologyVersionVector of(final ClusterTopology topology) {
+    final var memberVersions = new HashMap<MemberId, Long>(topology.members().size());
+    topology.members().forEach((id, state) -> memberVersions.put(id, state.version()));
+    return new TopologyVersionVector(
+        topology.version(), topology.changes().version(), Map.copyOf(memberVersions));
+  }
+
+  /**
+   * Returns a partial topology which only contains the member states of the given topology that are
+   * newer than the ones known by this vector. The change plan is always included, as it is small
+   * and merged by its version anyway.
+   *
+   * <p>A delta can only be computed when both have the same topology version, because a topology
+   * with a different version is not merged but replaced.
+   *
+   * @param topology the topology to compute the delta from
+   * @return the delta, or null if the owner of this vector is not missing anything
+   * @throws IllegalArgumentException if the topology has a different version than this vector
+   */
+  public ClusterTopology deltaOf(final ClusterTopology topology) {
+    if (topology.version() != version) {
+      throw new IllegalArgumentException(
+          "Expected to compute delta of topology with version %d, but it has version %d"
+              .formatted(version, topology.version()));
+    }
+
+    final var changedMembers = new HashMap<MemberId, MemberState>();
+    topology
+        .members()
+        .forEach(
+            (id, state) -> {
+              final Long knownVersion = memberVersions.get(id);
+              if (knownVersion == null || state.version() > knownVersion) {
+                changedMembers.put(id, state);
+              }
+            });
+
+    if (changedMembers.isEmpty() && topology.changes().version() <= changesVersion) {
+      return null;
+    }
+
+    return new ClusterTopology(version, Map.copyOf(changedMembers), topology.changes());
+  }
+}
@@ -11,6 +11,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Timestamp;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.topology.gossip.ClusterTopologyGossipState;
+import io.camunda.zeebe.topology.gossip.TopologyVersionVector;
 import io.camunda.zeebe.topology.protocol.Topology;
 import io.camunda.zeebe.topology.protocol.Topology.MemberState;
 import io.camunda.zeebe.topology.state.ClusterChangePlan;
@@ -38,6 +39,16 @@ public class ProtoBufSerializer implements ClusterTopologySerializer {
       builder.setClusterTopology(clusterTopology);
     }
 
+    final TopologyVersionVector versionVector = gossipState.getVersionVector();
+    if (versionVector != null) {
+      builder.setVersionVector(encodeVersionVector(versionVector));
+    }
+
+    final ClusterTopology topologyDelta = gossipState.getTopologyDelta();
+    if (topologyDelta != null) {
+      builder.setTopologyDelta(encodeClusterTopology(topologyDelta));
+    }
+
     final var message = builder.build();
     return message.toByteArray();
   }
@@ -57,6 +68,14 @@ public class ProtoBufSerializer implements ClusterTopologySerializer {
       clusterTopologyGossipState.setClusterTopology(
           decodeClusterTopology(gossipState.getClusterTopology()));
     }
+    if (gossipState.hasVersionVector()) {
+      clusterTopologyGossipState.setVersionVector(
+          decodeVersionVector(gossipState.getVersionVector()));
+    }
+    if (gossipState.hasTopologyDelta()) {
+      clusterTopologyGossipState.setTopologyDelta(
+          decodeClusterTopology(gossipState.getTopologyDelta()));
+    }
     return clusterTopologyGossipState;
   }
 
@@ -104,6 +123,29 @@ public class ProtoBufSerializer implements ClusterTopologySerializer {
         .build();
   }
 
+  private Topology.TopologyVersionVector encodeVersionVector(
+      final TopologyVersionVector versionVector) {
+    final var builder =
+        Topology.TopologyVersionVector.newBuilder()
+            .setVersion(versionVector.version())
+            .setChangesVersion(versionVector.changesVersion());
+    versionVector
+        .memberVersions()
+        .forEach((memberId, version) -> builder.putMemberVersions(memberId.id(), version));
+    return builder.build();
+  }
+
+  private TopologyVersionVector decodeVersionVector(
+      final Topology.TopologyVersionVector encodedVersionVector) {
+    final var memberVersions =
+        encodedVersionVector.getMemberVersionsMap().entrySet().stream()
+            .collect(Collectors.toMap(e -> MemberId.from(e.getKey()), Entry::getValue));
+    return new TopologyVersionVector(
+        encodedVersionVector.getVersion(),
+        encodedVersionVector.getChangesVersion(),
+        memberVersions);
+  }
+
   private io.camunda.zeebe.topology.state.MemberState decodeMemberState(
       final Topology.MemberState memberState) {
     final var partitions =
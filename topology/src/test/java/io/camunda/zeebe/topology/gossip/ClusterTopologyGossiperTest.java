@@ -80,6 +80,40 @@ final class ClusterTopologyGossiperTest {
         .untilAsserted(() -> assertThat(node3.clusterTopology).isEqualTo(node1Topology));
   }
 
+  @ParameterizedTest
+  @MethodSource("provideConfig")
+  void shouldPropagateMemberStateUpdate(final ClusterTopologyGossiperConfig config) {
+    // given
+    node1 = new TestGossiper(createClusterNode(clusterNodes.get(0), clusterNodes), config);
+    node2 = new TestGossiper(createClusterNode(clusterNodes.get(1), clusterNodes), config);
+    node3 = new TestGossiper(createClusterNode(clusterNodes.get(2), clusterNodes), config);
+
+    node1.start();
+    node2.start();
+    node3.start();
+
+    final var initialTopology =
+        ClusterTopology.init()
+            .addMember(node1.id(), MemberState.initializeAsActive(Map.of()))
+            .addMember(node2.id(), MemberState.initializeAsActive(Map.of()));
+    node1.setTopology(initialTopology);
+    Awaitility.await("Node 2 has received initial topology")
+        .untilAsserted(() -> assertThat(node2.clusterTopology).isEqualTo(initialTopology));
+    Awaitility.await("Node 3 has received initial topology")
+        .untilAsserted(() -> assertThat(node3.clusterTopology).isEqualTo(initialTopology));
+
+    // when
+    final var updatedTopology =
+        node2.clusterTopology.updateMember(node2.id(), MemberState::toLeaving);
+    node2.setTopology(updatedTopology);
+
+    // then
+    Awaitility.await("Node 1 has received the updated member state")
+        .untilAsserted(() -> assertThat(node1.clusterTopology).isEqualTo(updatedTopology));
+    Awaitility.await("Node 3 has received the updated member state")
+        .untilAsserted(() -> assertThat(node3.clusterTopology).isEqualTo(updatedTopology));
+  }
+
   private static Stream<Arguments> provideConfig() {
     return Stream.of(
         Arguments.of(
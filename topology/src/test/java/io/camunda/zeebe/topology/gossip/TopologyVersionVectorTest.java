@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.topology.gossip;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.topology.state.ClusterTopology;
+import io.camunda.zeebe.topology.state.MemberState;
+import io.camunda.zeebe.topology.state.PartitionState;
+import io.camunda.zeebe.topology.state.TopologyChangeOperation.PartitionChangeOperation.PartitionLeaveOperation;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class TopologyVersionVectorTest {
+
+  private final MemberId member1 = MemberId.from("1");
+  private final MemberId member2 = MemberId.from("2");
+  private final ClusterTopology topology =
+      ClusterTopology.init()
+          .addMember(member1, MemberState.initializeAsActive(Map.of(1, PartitionState.active(1))))
+          .addMember(member2, MemberState.initializeAsActive(Map.of(2, PartitionState.active(1))));
+
+  @Test
+  void shouldCreateVersionVectorFromTopology() {
+    // when
+    final var versionVector = TopologyVersionVector.of(topology);
+
+    // then
+    assertThat(versionVector.version()).isEqualTo(topology.version());
+    assertThat(versionVector.changesVersion()).isEqualTo(topology.changes().version());
+    assertThat(versionVector.memberVersions())
+        .containsOnly(Map.entry(member1, 0L), Map.entry(member2, 0L));
+  }
+
+  @Test
+  void shouldNotReturnDeltaIfNothingChanged() {
+    // given
+    final var versionVector = TopologyVersionVector.of(topology);
+
+    // when
+    final var delta = versionVector.deltaOf(topology);
+
+    // then
+    assertThat(delta).isNull();
+  }
+
+  @Test
+  void shouldOnlyContainUpdatedMembersInDelta() {
+    // given
+    final var versionVector = TopologyVersionVector.of(topology);
+    final var updatedTopology =
+        topology.updateMember(member2, m -> m.updatePartition(2, PartitionState::toLeaving));
+
+    // when
+    final var delta = versionVector.deltaOf(updatedTopology);
+
+    // then
+    assertThat(delta.version()).isEqualTo(topology.version());
+    assertThat(delta.members()).containsOnlyKeys(member2);
+    assertThat(delta.getMember(member2)).isEqualTo(updatedTopology.getMember(member2));
+  }
+
+  @Test
+  void shouldContainNewMembersInDelta() {
+    // given
+    final var versionVector = TopologyVersionVector.of(topology);
+    final var member3 = MemberId.from("3");
+    final var updatedTopology =
+        topology.addMember(member3, MemberState.uninitialized().toJoining());
+
+    // when
+    final var delta = versionVector.deltaOf(updatedTopology);
+
+    // then
+    assertThat(delta.members()).containsOnlyKeys(member3);
+  }
+
+  @Test
+  void shouldNotContainOlderMembersInDelta() {
+    // given
+    final var updatedTopology = topology.updateMember(member1, MemberState::toLeaving);
+    final var versionVector = TopologyVersionVector.of(updatedTopology);
+
+    // when
+    final var delta = versionVector.deltaOf(topology);
+
+    // then
+    assertThat(delta).isNull();
+  }
+
+  @Test
+  void shouldContainNewerChangePlanInDelta() {
+    // given
+    final var topologyWithChanges =
+        topology.startTopologyChange(
+            List.of(
+                new PartitionLeaveOperation(member1, 1), new PartitionLeaveOperation(member2, 2)));
+    final var versionVector = TopologyVersionVector.of(topologyWithChanges);
+    final var updatedTopology =
+        topologyWithChanges.advanceTopologyChange(member1, m -> m.removePartition(1));
+
+    // when
+    final var delta = versionVector.deltaOf(updatedTopology);
+
+    // then
+    assertThat(delta.members()).containsOnlyKeys(member1);
+    assertThat(delta.changes()).isEqualTo(updatedTopology.changes());
+  }
+
+  @Test
+  void shouldMergeDeltaToUpdatedTopology() {
+    // given
+    final var versionVector = TopologyVersionVector.of(topology);
+    final var updatedTopology =
+        topology
+            .updateMember(member1, MemberState::toLeaving)
+            .addMember(MemberId.from("3"), MemberState.uninitialized().toJoining());
+
+    // when
+    final var merged = topology.merge(versionVector.deltaOf(updatedTopology));
+
+    // then
+    assertThat(merged).isEqualTo(updatedTopology);
+  }
+
+  @Test
+  void shouldRejectTopologyWithDifferentVersion() {
+    // given
+    final var versionVector = TopologyVersionVector.of(topology);
+    final var newerTopology =
+        new ClusterTopology(topology.version() + 1, topology.members(), topology.changes());
+
+    // when - then
+    assertThatThrownBy(() -> versionVector.deltaOf(newerTopology))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.topology.gossip.ClusterTopologyGossipState;
+import io.camunda.zeebe.topology.gossip.TopologyVersionVector;
 import io.camunda.zeebe.topology.state.ClusterTopology;
 import io.camunda.zeebe.topology.state.MemberState;
 import io.camunda.zeebe.topology.state.PartitionState;
@@ -61,6 +62,28 @@ final class ProtoBufSerializerTest {
         .isEqualTo(initialClusterTopology);
   }
 
+  @Test
+  void shouldEncodeAndDecodeVersionVectorAndDelta() {
+    // given
+    final var topology = topologyWithTwoMembers();
+    final ClusterTopologyGossipState gossipState = new ClusterTopologyGossipState();
+    gossipState.setVersionVector(TopologyVersionVector.of(topology));
+    gossipState.setTopologyDelta(
+        new ClusterTopology(
+            topology.version(),
+            Map.of(MemberId.from("1"), topology.getMember(MemberId.from("1"))),
+            topology.changes()));
+
+    // when
+    final var decodedState = protoBufSerializer.decode(protoBufSerializer.encode(gossipState));
+
+    // then
+    assertThat(decodedState)
+        .describedAs("Decoded gossip state must be equal to initial one")
+        .isEqualTo(gossipState);
+    assertThat(decodedState.getClusterTopology()).isNull();
+  }
+
   private static Stream<ClusterTopology> provideClusterTopologies() {
     return Stream.of(
         topologyWithOneMemberNoPartitions(),
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.transport;
 
+import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.cluster.messaging.MessagingService;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -14,6 +15,7 @@ import io.camunda.zeebe.transport.impl.AtomixClientTransportAdapter;
 import io.camunda.zeebe.transport.impl.AtomixServerTransport;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.ClientStreamService;
+import io.camunda.zeebe.transport.stream.api.ConsumerSelection;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamService;
@@ -54,9 +56,38 @@ public final class TransportFactory {
           final Supplier<M> metadataFactory,
           final RemoteStreamErrorHandler<P> errorHandler,
           final RemoteStreamMetrics metrics) {
+    return createRemoteStreamServer(
+        clusterCommunicationService,
+        metadataFactory,
+        errorHandler,
+        metrics,
+        ConsumerSelection.RANDOM,
+        MemberId.anonymous());
+  }
+
+  /**
+   * Creates a remote stream server which pushes payloads to the consumers picked by the given
+   * selection strategy.
+   *
+   * @param localMember the ID of the local node, used by {@link ConsumerSelection#LOCAL_FIRST}
+   */
+  public <M extends BufferReader, P extends BufferWriter>
+      RemoteStreamService<M, P> createRemoteStreamServer(
+          final ClusterCommunicationService clusterCommunicationService,
+          final Supplier<M> metadataFactory,
+          final RemoteStreamErrorHandler<P> errorHandler,
+          final RemoteStreamMetrics metrics,
+          final ConsumerSelection consumerSelection,
+          final MemberId localMember) {
     final RemoteStreamRegistry<M> registry = new RemoteStreamRegistry<>(metrics);
     return new RemoteStreamServiceImpl<>(
-        new RemoteStreamerImpl<>(clusterCommunicationService, registry, errorHandler, metrics),
+        new RemoteStreamerImpl<>(
+            clusterCommunicationService,
+            registry,
+            errorHandler,
+            metrics,
+            consumerSelection,
+            localMember),
         new RemoteStreamTransport<>(
             clusterCommunicationService, new RemoteStreamApiHandler<>(registry, metadataFactory)),
         registry);
@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+/**
+ * Returned by a {@link ClientStreamConsumer} when it cannot accept a payload right now, e.g.
+ * because its own receiver is not consuming fast enough. The payload can be retried with another
+ * consumer.
+ */
+public class ClientStreamBlockedException extends RuntimeException {
+
+  public ClientStreamBlockedException(final String message) {
+    super(message);
+  }
+}
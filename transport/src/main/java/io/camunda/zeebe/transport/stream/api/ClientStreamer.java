@@ -38,6 +38,28 @@ public interface ClientStreamer<M extends BufferWriter> extends CloseableSilentl
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer);
 
+  /**
+   * Same as {@link #add(DirectBuffer, BufferWriter, ClientStreamConsumer)}, but the consumer
+   * accepts at most {@code credits} payloads at once, i.e. payloads which were pushed to it but not
+   * yet completed. Servers will not push more than the sum of the credits of all logically
+   * equivalent streams, and will skip streams which have no credits left.
+   *
+   * <p>Implementations which do not support flow control may ignore the credits.
+   *
+   * @param streamType type of the stream
+   * @param metadata metadata associated with the stream
+   * @param clientStreamConsumer consumer which process data received from the server
+   * @param credits how many payloads the consumer can handle at once; must be at least 1
+   * @return a unique id of the stream
+   */
+  default ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
+    return add(streamType, metadata, clientStreamConsumer);
+  }
+
   /**
    * Removes a stream that is added via {@link ClientStreamer#add(DirectBuffer, BufferWriter,
    * ClientStreamConsumer)}. After the returned future is completed, the {@link
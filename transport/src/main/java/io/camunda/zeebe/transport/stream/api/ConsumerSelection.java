@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.api;
+
+/** Strategies to pick which consumer of a stream a payload is pushed to. */
+public enum ConsumerSelection {
+  /** Any consumer with credits left, uniformly at random. */
+  RANDOM,
+
+  /** The consumer with the least payloads in flight. */
+  LEAST_OUTSTANDING,
+
+  /** The consumer with the lowest observed push latency, weighted by its payloads in flight. */
+  LATENCY_WEIGHTED,
+
+  /**
+   * Consumers whose receiver is the local node, if any of them has credits left, and otherwise the
+   * consumer with the least payloads in flight.
+   */
+  LOCAL_FIRST
+}
@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.transport.stream.api;
 
+import io.atomix.cluster.MemberId;
+import java.time.Duration;
+
 public interface RemoteStreamMetrics {
 
   /** Invoked after a stream is successfully added to the registry */
@@ -21,6 +24,24 @@ public interface RemoteStreamMetrics {
   /** Invoked if pushing a payload to a stream failed */
   default void pushFailed() {}
 
+  /** Invoked every time a batch of payloads is sent out to a single stream */
+  default void observeBatchSize(final int size) {}
+
+  /**
+   * Invoked after a payload is successfully pushed, with the time elapsed since the push was
+   * requested, including the time it spent waiting to be batched
+   */
+  default void observePushLatency(final Duration latency) {}
+
+  /**
+   * Invoked after a payload is successfully pushed to a stream of the given receiver, with the time
+   * elapsed since the push was requested
+   */
+  default void consumerPushSucceeded(final MemberId receiver, final Duration latency) {}
+
+  /** Invoked if pushing a payload to a stream of the given receiver failed */
+  default void consumerPushFailed(final MemberId receiver) {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
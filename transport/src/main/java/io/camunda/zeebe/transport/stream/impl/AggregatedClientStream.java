@@ -12,6 +12,7 @@ import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -61,6 +62,23 @@ final class AggregatedClientStream<M extends BufferWriter> {
     return clientStreams.values();
   }
 
+  /**
+   * Returns how many payloads can be pushed to this stream at once, which is the sum of the credits
+   * of all its clients, or {@link AddStreamRequest#UNLIMITED_CREDITS} if any of them is unbounded.
+   */
+  int credits() {
+    long credits = 0;
+    for (final var clientStream : clientStreams.values()) {
+      if (clientStream.credits() == AddStreamRequest.UNLIMITED_CREDITS) {
+        return AddStreamRequest.UNLIMITED_CREDITS;
+      }
+
+      credits += clientStream.credits();
+    }
+
+    return (int) Math.min(credits, Integer.MAX_VALUE);
+  }
+
   int nextLocalId() {
     final var localId = nextLocalId;
     nextLocalId++;
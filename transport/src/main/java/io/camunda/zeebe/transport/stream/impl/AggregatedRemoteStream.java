@@ -9,8 +9,11 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -31,6 +34,19 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
     streamConsumers.remove(consumer);
   }
 
+  /**
+   * @return true if at least one consumer can accept another payload
+   */
+  boolean hasCredit() {
+    for (final var consumer : streamConsumers) {
+      if (consumer.credits().hasCredit()) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   @Override
   public Collection<RemoteStreamId> consumers() {
     return streamConsumers.stream().map(StreamConsumer::id).collect(Collectors.toSet());
@@ -49,11 +65,54 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
   /**
    * A stream consumer uniquely identified by the id, with its properties and streamType.
    *
+   * <p>The credits and stats are mutable state, and are not part of the consumer's identity.
+   *
    * @param id unique id
    * @param logicalId logical id
+   * @param credits how many payloads can still be pushed to this consumer
+   * @param stats how fast this consumer acknowledges pushed payloads
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  record StreamConsumer<M>(
+      StreamId id, LogicalId<M> logicalId, StreamCredits credits, StreamConsumerStats stats) {
+
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, new StreamCredits(AddStreamRequest.UNLIMITED_CREDITS));
+    }
+
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId, final StreamCredits credits) {
+      this(id, logicalId, credits, new StreamConsumerStats());
+    }
+
+    /** Releases the credit acquired for a push, and records how long the push took. */
+    void onPushCompleted(final boolean succeeded, final Duration latency) {
+      credits.release();
+      if (succeeded) {
+        stats.onPushSucceeded(latency);
+      } else {
+        stats.onPushFailed(latency);
+      }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final StreamConsumer<?> that = (StreamConsumer<?>) o;
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+  }
 
   /**
    * Uniquely identifies a stream
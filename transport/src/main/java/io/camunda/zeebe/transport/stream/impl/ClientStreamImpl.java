@@ -22,7 +22,8 @@ record ClientStreamImpl<M extends BufferWriter>(
     AggregatedClientStream<M> serverStream,
     DirectBuffer streamType,
     M metadata,
-    ClientStreamConsumer clientStreamConsumer)
+    ClientStreamConsumer clientStreamConsumer,
+    int credits)
     implements ClientStream<M> {
 
   ActorFuture<Void> push(final DirectBuffer payload) {
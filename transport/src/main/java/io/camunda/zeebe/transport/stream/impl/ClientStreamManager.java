@@ -9,15 +9,21 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -60,23 +66,40 @@ final class ClientStreamManager<M extends BufferWriter> {
       final DirectBuffer streamType,
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer) {
+    return add(streamType, metadata, clientStreamConsumer, AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
+  ClientStreamId add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
     // add first in memory to handle case of new broker while we're adding
-    final var clientStream = registry.addClient(streamType, metadata, clientStreamConsumer);
+    final var clientStream =
+        registry.addClient(streamType, metadata, clientStreamConsumer, credits);
     LOG.debug("Added new client stream [{}]", clientStream.streamId());
-    clientStream.serverStream().open(requestManager, servers);
+    final var serverStream = clientStream.serverStream();
+    serverStream.open(requestManager, servers);
 
+    // if the aggregated stream was already open, its window grew with the new client
+    requestManager.updateCredits(serverStream, servers);
     return clientStream.streamId();
   }
 
   void remove(final ClientStreamId streamId) {
     LOG.debug("Removing client stream [{}]", streamId);
+    final var clientStream = registry.getClient(streamId);
     final var serverStream = registry.removeClient(streamId);
-    serverStream.ifPresent(
-        stream -> {
-          LOG.debug("Removing aggregated stream [{}]", stream.getStreamId());
-          stream.close();
-          requestManager.remove(stream, servers);
-        });
+    if (serverStream.isPresent()) {
+      final var stream = serverStream.get();
+      LOG.debug("Removing aggregated stream [{}]", stream.getStreamId());
+      stream.close();
+      requestManager.remove(stream, servers);
+    } else {
+      // the aggregated stream is still in use, but its window shrunk with the removed client
+      clientStream.ifPresent(
+          client -> requestManager.updateCredits(client.serverStream(), servers));
+    }
   }
 
   void close() {
@@ -86,9 +109,45 @@ final class ClientStreamManager<M extends BufferWriter> {
 
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
-    final var streamId = pushStreamRequest.streamId();
-    final var payload = pushStreamRequest.payload();
+    push(pushStreamRequest.streamId(), pushStreamRequest.payload(), responseFuture);
+  }
+
+  /**
+   * Pushes every payload of the batch independently to the client stream. The response future is
+   * completed once all payloads were handled, and lists the payloads which could not be pushed.
+   */
+  public void onPayloadsReceived(
+      final PushStreamBatchRequest batchRequest,
+      final ActorFuture<PushStreamBatchResponse> responseFuture) {
+    final var streamId = batchRequest.streamId();
+    final var payloads = batchRequest.payloads();
+    final var response = new PushStreamBatchResponse();
+    final var remaining = new MutableInteger(payloads.size());
+
+    if (payloads.isEmpty()) {
+      responseFuture.complete(response);
+      return;
+    }
+
+    for (int i = 0; i < payloads.size(); i++) {
+      final int index = i;
+      final ActorFuture<Void> payloadPushed = new CompletableActorFuture<>();
+      payloadPushed.onComplete(
+          (ok, error) -> {
+            if (error != null) {
+              response.addFailure(index, error.getMessage());
+            }
+
+            if (--remaining.value == 0) {
+              responseFuture.complete(response);
+            }
+          });
+      push(streamId, payloads.get(i), payloadPushed);
+    }
+  }
 
+  private void push(
+      final UUID streamId, final DirectBuffer payload, final ActorFuture<Void> responseFuture) {
     responseFuture.onComplete(
         (ok, error) -> {
           if (error != null) {
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.EnumSet;
 import java.util.Set;
@@ -26,12 +27,14 @@ import org.slf4j.LoggerFactory;
  */
 final class ClientStreamRegistration<M extends BufferWriter> {
   private static final Logger LOGGER = LoggerFactory.getLogger(ClientStreamRegistration.class);
+  private static final int UNKNOWN_CREDITS = Integer.MIN_VALUE;
 
   private final AggregatedClientStream<M> stream;
   private final MemberId serverId;
 
   private State state = State.INITIAL;
   private CompletionStage<byte[]> pendingRequest;
+  private int advertisedCredits = AddStreamRequest.UNLIMITED_CREDITS;
 
   ClientStreamRegistration(final AggregatedClientStream<M> stream, final MemberId serverId) {
     this.stream = stream;
@@ -50,6 +53,28 @@ final class ClientStreamRegistration<M extends BufferWriter> {
     return serverId;
   }
 
+  /** Returns the credits the stream currently has, which may differ from the advertised ones. */
+  int credits() {
+    return stream.credits();
+  }
+
+  /** Returns the credits last sent to the server. */
+  int advertisedCredits() {
+    return advertisedCredits;
+  }
+
+  void advertisedCredits(final int advertisedCredits) {
+    this.advertisedCredits = advertisedCredits;
+  }
+
+  /**
+   * Marks the advertised credits as unknown, e.g. after failing to send them, such that the next
+   * update is sent even if the credits did not change in the meantime.
+   */
+  void invalidateAdvertisedCredits() {
+    advertisedCredits = UNKNOWN_CREDITS;
+  }
+
   State state() {
     return state;
   }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.transport.stream.impl;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
 import java.util.HashMap;
@@ -48,6 +49,15 @@ final class ClientStreamRegistry<M extends BufferWriter> {
       final DirectBuffer streamType,
       final M metadata,
       final ClientStreamConsumer clientStreamConsumer) {
+    return addClient(
+        streamType, metadata, clientStreamConsumer, AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
+  ClientStreamImpl<M> addClient(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
     final var streamTypeBuffer = new UnsafeBuffer(streamType);
     final LogicalId<M> logicalId = new LogicalId<>(streamTypeBuffer, metadata);
     // Find serverStreamId given streamType and metadata. Once a server stream is removed, a new
@@ -59,7 +69,7 @@ final class ClientStreamRegistry<M extends BufferWriter> {
     final var streamId = new ClientStreamIdImpl(serverStreamId, serverStream.nextLocalId());
     final var clientStream =
         new ClientStreamImpl<>(
-            streamId, serverStream, streamTypeBuffer, metadata, clientStreamConsumer);
+            streamId, serverStream, streamTypeBuffer, metadata, clientStreamConsumer, credits);
     serverStream.addClient(clientStream);
     clientStreams.put(streamId, clientStream);
 
@@ -95,6 +95,28 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
     add(registration);
   }
 
+  /**
+   * Advertises the current credits of the stream to all the given servers on which it is already
+   * registered. Servers on which the stream is still being registered will receive them once the
+   * registration is acknowledged. Re-adding a known stream only updates its credits on the server.
+   *
+   * @param stream the stream whose credits changed
+   * @param serverIds the list of servers to update
+   */
+  void updateCredits(final AggregatedClientStream<M> stream, final Collection<MemberId> serverIds) {
+    for (final var serverId : serverIds) {
+      final var streamsPerHost = registrations.get(serverId);
+      if (streamsPerHost == null) {
+        continue;
+      }
+
+      final var registration = streamsPerHost.get(stream.getStreamId());
+      if (registration != null) {
+        updateCredits(registration);
+      }
+    }
+  }
+
   /**
    * De-registers a given stream from all given servers. See {@link #remove(AggregatedClientStream,
    * MemberId)} for more.
@@ -168,7 +190,9 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         new AddStreamRequest()
             .streamId(registration.streamId())
             .streamType(registration.logicalId().streamType())
-            .metadata(registration.logicalId().metadata());
+            .metadata(registration.logicalId().metadata())
+            .credits(registration.credits());
+    registration.advertisedCredits(request.credits());
 
     final var pendingRequest = registration.pendingRequest();
     if (pendingRequest != null) {
@@ -258,6 +282,8 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
 
     if (error == null) {
       registration.transitionToAdded();
+      // credits may have changed while we were adding the stream
+      updateCredits(registration);
       return;
     }
 
@@ -272,6 +298,49 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
     executor.schedule(RETRY_DELAY, () -> sendAddRequest(registration, request));
   }
 
+  private void updateCredits(final ClientStreamRegistration<M> registration) {
+    final var credits = registration.credits();
+    if (registration.state() != State.ADDED || registration.advertisedCredits() == credits) {
+      return;
+    }
+
+    final var request =
+        new AddStreamRequest()
+            .streamId(registration.streamId())
+            .streamType(registration.logicalId().streamType())
+            .metadata(registration.logicalId().metadata())
+            .credits(credits);
+    registration.advertisedCredits(credits);
+
+    communicationService
+        .send(
+            StreamTopics.ADD.topic(),
+            BufferUtil.bufferAsArray(request),
+            Function.identity(),
+            Function.identity(),
+            registration.serverId(),
+            REQUEST_TIMEOUT)
+        .whenCompleteAsync(
+            (ok, error) -> handleUpdateCreditsResponse(registration, credits, error),
+            executor::run);
+  }
+
+  private void handleUpdateCreditsResponse(
+      final ClientStreamRegistration<M> registration, final int credits, final Throwable error) {
+    if (error == null || registration.advertisedCredits() != credits) {
+      return;
+    }
+
+    LOGGER.debug(
+        "Failed to update credits of stream {} on {}; will retry in {}",
+        registration.streamId(),
+        registration.serverId(),
+        RETRY_DELAY,
+        error);
+    registration.invalidateAdvertisedCredits();
+    executor.schedule(RETRY_DELAY, () -> updateCredits(registration));
+  }
+
   private void sendRemoveRequest(
       final ClientStreamRegistration<M> registration, final byte[] request) {
     if (registration.state() != State.REMOVING) {
@@ -20,7 +20,9 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.ClientStreamService;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
 import java.util.Optional;
@@ -83,6 +85,34 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         },
         ignore -> SUCCESS_RESPONSE);
 
+    communicationService.replyTo(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        request -> {
+          final CompletableFuture<PushStreamBatchResponse> responseFuture =
+              new CompletableFuture<>();
+          actor.run(
+              () -> {
+                try {
+                  final ActorFuture<PushStreamBatchResponse> payloadsPushed =
+                      new CompletableActorFuture<>();
+                  clientStreamManager.onPayloadsReceived(request, payloadsPushed);
+                  payloadsPushed.onComplete(
+                      (response, error) -> {
+                        if (error == null) {
+                          responseFuture.complete(response);
+                        } else {
+                          responseFuture.completeExceptionally(error);
+                        }
+                      });
+                } catch (final Exception e) {
+                  responseFuture.completeExceptionally(e);
+                }
+              });
+          return responseFuture;
+        },
+        BufferUtil::bufferAsArray);
+
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
         Function.identity(),
@@ -108,6 +138,22 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
     return actor.call(() -> clientStreamManager.add(streamType, metadata, clientStreamConsumer));
   }
 
+  @Override
+  public ActorFuture<ClientStreamId> add(
+      final DirectBuffer streamType,
+      final M metadata,
+      final ClientStreamConsumer clientStreamConsumer,
+      final int credits) {
+    if (credits < 1) {
+      return CompletableActorFuture.completedExceptionally(
+          new IllegalArgumentException(
+              "Expected stream credits to be at least 1, but got %d".formatted(credits)));
+    }
+
+    return actor.call(
+        () -> clientStreamManager.add(streamType, metadata, clientStreamConsumer, credits));
+  }
+
   @Override
   public ActorFuture<Void> remove(final ClientStreamId streamId) {
     return actor.call(() -> clientStreamManager.remove(streamId));
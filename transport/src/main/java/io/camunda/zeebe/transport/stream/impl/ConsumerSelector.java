@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
+import java.util.List;
+
+/**
+ * Picks which consumer of an aggregated stream a payload is pushed to. Implementations must only
+ * return consumers which have credits left, but do not need to acquire them.
+ *
+ * <p>The given list may be concurrently modified, so implementations should only iterate over it
+ * once, and not rely on indexes.
+ */
+@FunctionalInterface
+interface ConsumerSelector {
+
+  /**
+   * @param consumers the consumers to choose from
+   * @return the selected consumer, or null if none of them can accept a payload
+   */
+  <M> StreamConsumer<M> select(final List<StreamConsumer<M>> consumers);
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.ConsumerSelection;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The built-in {@link ConsumerSelector} strategies. All of them pick the consumer with the lowest
+ * score, choosing uniformly at random between consumers with the same score.
+ */
+final class ConsumerSelectors {
+
+  private static final ConsumerSelector RANDOM = scoredBy(consumer -> 0);
+
+  private static final ConsumerSelector LEAST_OUTSTANDING =
+      scoredBy(consumer -> consumer.credits().inFlight());
+
+  // an idle consumer with an unknown latency scores 0, so new consumers get a chance to be measured
+  private static final ConsumerSelector LATENCY_WEIGHTED =
+      scoredBy(
+          consumer ->
+              (double) consumer.stats().latencyNanos() * (consumer.credits().inFlight() + 1));
+
+  private ConsumerSelectors() {}
+
+  static ConsumerSelector of(final ConsumerSelection selection, final MemberId localMember) {
+    return switch (selection) {
+      case RANDOM -> random();
+      case LEAST_OUTSTANDING -> leastOutstanding();
+      case LATENCY_WEIGHTED -> latencyWeighted();
+      case LOCAL_FIRST -> preferLocal(localMember, leastOutstanding());
+    };
+  }
+
+  /** Picks any consumer with credits, uniformly at random. */
+  static ConsumerSelector random() {
+    return RANDOM;
+  }
+
+  /** Picks the consumer with the least payloads in flight. */
+  static ConsumerSelector leastOutstanding() {
+    return LEAST_OUTSTANDING;
+  }
+
+  /**
+   * Picks the consumer with the lowest expected wait, i.e. its observed push latency multiplied by
+   * the payloads it has in flight. Slow consumers still receive payloads, but proportionally less.
+   */
+  static ConsumerSelector latencyWeighted() {
+    return LATENCY_WEIGHTED;
+  }
+
+  /**
+   * Picks a consumer whose receiver is the given local member, if any has credits left, and falls
+   * back to any other consumer otherwise. Pushing to a gateway embedded in the same node as the
+   * partition leader avoids a network hop.
+   */
+  static ConsumerSelector preferLocal(final MemberId localMember, final ConsumerSelector fallback) {
+    return new LocalFirstSelector(
+        Objects.requireNonNull(localMember, "must specify the local member"),
+        Objects.requireNonNull(fallback, "must specify a fallback selector"));
+  }
+
+  private static ConsumerSelector scoredBy(final ToDoubleFunction<StreamConsumer<?>> scorer) {
+    return new ScoringSelector(scorer);
+  }
+
+  private static final class ScoringSelector implements ConsumerSelector {
+    private final ToDoubleFunction<StreamConsumer<?>> scorer;
+
+    private ScoringSelector(final ToDoubleFunction<StreamConsumer<?>> scorer) {
+      this.scorer = scorer;
+    }
+
+    @Override
+    public <M> StreamConsumer<M> select(final List<StreamConsumer<M>> consumers) {
+      StreamConsumer<M> selected = null;
+      double lowestScore = Double.MAX_VALUE;
+      int ties = 0;
+
+      for (final var consumer : consumers) {
+        if (!consumer.credits().hasCredit()) {
+          continue;
+        }
+
+        final var score = scorer.applyAsDouble(consumer);
+        if (selected == null || score < lowestScore) {
+          selected = consumer;
+          lowestScore = score;
+          ties = 1;
+        } else if (score == lowestScore && ThreadLocalRandom.current().nextInt(++ties) == 0) {
+          // reservoir sampling, such that every tied consumer is equally likely to be picked
+          selected = consumer;
+        }
+      }
+
+      return selected;
+    }
+  }
+
+  private record LocalFirstSelector(MemberId localMember, ConsumerSelector fallback)
+      implements ConsumerSelector {
+
+    @Override
+    public <M> StreamConsumer<M> select(final List<StreamConsumer<M>> consumers) {
+      final var local =
+          consumers.stream().filter(c -> localMember.equals(c.id().receiver())).toList();
+      final var selected = local.isEmpty() ? null : fallback.select(local);
+      return selected != null ? selected : fallback.select(consumers);
+    }
+  }
+}
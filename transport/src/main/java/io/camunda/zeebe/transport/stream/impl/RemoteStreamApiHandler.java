@@ -67,8 +67,21 @@ public final class RemoteStreamApiHandler<M extends BufferReader> implements Clo
       throw new IllegalArgumentException(errorMessage);
     }
 
-    registry.add(new UnsafeBuffer(request.streamType()), request.streamId(), sender, properties);
-    LOG.debug("Opened stream {} from {}", request.streamId(), sender);
+    if (request.credits() < 1 && request.credits() != AddStreamRequest.UNLIMITED_CREDITS) {
+      final String errorMessage =
+          "Expected stream credits to be at least 1, but got %d".formatted(request.credits());
+      LOG.warn("Failed to open stream for '{}': [{}]", sender, errorMessage);
+      throw new IllegalArgumentException(errorMessage);
+    }
+
+    registry.add(
+        new UnsafeBuffer(request.streamType()),
+        request.streamId(),
+        sender,
+        properties,
+        request.credits());
+    LOG.debug(
+        "Opened stream {} from {} with {} credits", request.streamId(), sender, request.credits());
   }
 
   public void remove(final MemberId sender, final RemoveStreamRequest request) {
@@ -14,9 +14,7 @@ import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsu
 import io.camunda.zeebe.util.buffer.BufferReader;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,17 +22,29 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
     implements RemoteStream<M, P> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteStreamImpl.class);
+  private static final int MAX_SELECT_ATTEMPTS = 3;
+
   private final AggregatedRemoteStream<M> stream;
   private final RemoteStreamPusher<P> streamer;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final ConsumerSelector selector;
 
   public RemoteStreamImpl(
       final AggregatedRemoteStream<M> stream,
       final RemoteStreamPusher<P> streamer,
       final RemoteStreamErrorHandler<P> errorHandler) {
+    this(stream, streamer, errorHandler, ConsumerSelectors.random());
+  }
+
+  RemoteStreamImpl(
+      final AggregatedRemoteStream<M> stream,
+      final RemoteStreamPusher<P> streamer,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final ConsumerSelector selector) {
     this.stream = stream;
     this.streamer = streamer;
     this.errorHandler = errorHandler;
+    this.selector = selector;
   }
 
   @Override
@@ -44,41 +54,46 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
 
   @Override
   public void push(final P payload) {
-    final var initialConsumer = pickInitialConsumer();
+    final var initialConsumer = acquireConsumer(stream.streamConsumers());
     if (initialConsumer == null) {
       errorHandler.handleError(
           new StreamExhaustedException(
-              "Failed to push to stream %s, all consumers were removed since it was picked"
+              "Failed to push to stream %s, all consumers were removed or ran out of credits since it was picked"
                   .formatted(stream.logicalId())),
           payload);
       return;
     }
 
-    final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    pushTo(initialConsumer, payload, new RetryHandler(errorHandler, initialConsumer));
   }
 
-  private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
+  /**
+   * Selects a consumer which still has credits, and acquires one of them. The credit is released
+   * once the push is completed.
+   */
+  private StreamConsumer<M> acquireConsumer(final List<StreamConsumer<M>> consumers) {
+    // the selected consumer may concurrently run out of credits, in which case we select again
+    for (int attempt = 0; attempt < MAX_SELECT_ATTEMPTS; attempt++) {
+      final var consumer = selector.select(consumers);
+      if (consumer == null) {
+        return null;
+      }
+
+      if (consumer.credits().tryAcquire()) {
+        return consumer;
       }
     }
 
     return null;
   }
 
+  private void pushTo(
+      final StreamConsumer<M> consumer,
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler) {
+    streamer.pushAsync(payload, errorHandler, consumer.id(), consumer::onPushCompleted);
+  }
+
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
     private final RemoteStreamErrorHandler<P> errorHandler;
     private final StreamConsumer<M> initialConsumer;
@@ -93,28 +108,22 @@ public final class RemoteStreamImpl<M extends BufferReader, P extends BufferWrit
     @Override
     public void handleError(final Throwable error, final P data) {
       final var consumers = new ArrayList<>(stream.streamConsumers());
-      if (consumers.isEmpty()) {
-        onConsumersExhausted(error, data);
-        return;
-      }
-
       consumers.remove(initialConsumer);
-      Collections.shuffle(consumers);
-      final var iterator = consumers.iterator();
-      retry(error, data, iterator);
+      retry(error, data, consumers);
     }
 
     /** Called during future retries */
     private void retry(
-        final Throwable throwable, final P payload, final Iterator<StreamConsumer<M>> iterator) {
-      if (!iterator.hasNext()) {
+        final Throwable throwable, final P payload, final List<StreamConsumer<M>> remaining) {
+      final var consumer = acquireConsumer(remaining);
+      if (consumer == null) {
         onConsumersExhausted(throwable, payload);
         return;
       }
 
-      final var client = iterator.next();
+      remaining.remove(consumer);
       LOGGER.debug("Failed to push payload {}, retrying with next stream", payload);
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      pushTo(consumer, payload, (error, data) -> retry(error, data, remaining));
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
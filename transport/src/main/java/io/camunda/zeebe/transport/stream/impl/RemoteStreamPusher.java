@@ -8,13 +8,22 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,28 +32,88 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>Payloads pushed to the same stream are coalesced into a single request. A batch is sent out
+ * once every push submitted to the executor before its first payload has been processed, i.e. the
+ * batching window is the executor's backlog, or as soon as it reaches the maximum size. A lone
+ * payload is sent as a regular {@link PushStreamRequest}, such that there is no overhead when there
+ * is nothing to batch.
+ *
+ * <p>This class is not thread safe; all pushes must be processed by the given executor, which is
+ * expected to run them sequentially.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
+  /** The maximum number of payloads sent in a single batch, unless configured otherwise. */
+  static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+  /** The maximum length in bytes of the payloads of a single batch, unless configured otherwise. */
+  static final int DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
+  private final Map<StreamId, Batch<P>> batches = new HashMap<>();
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
   private final Executor executor;
+  private final int maxBatchSize;
+  private final int maxBatchBytes;
 
   RemoteStreamPusher(
       final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+    this(transport, executor, metrics, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_BYTES);
+  }
+
+  RemoteStreamPusher(
+      final Transport transport,
+      final Executor executor,
+      final RemoteStreamMetrics metrics,
+      final int maxBatchSize,
+      final int maxBatchBytes) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
+
+    if (maxBatchSize < 1 || maxBatchSize > PushStreamBatchRequest.maxBatchSize()) {
+      throw new IllegalArgumentException(
+          "Expected max batch size to be between 1 and %d, but got %d"
+              .formatted(PushStreamBatchRequest.maxBatchSize(), maxBatchSize));
+    }
+
+    if (maxBatchBytes < 1) {
+      throw new IllegalArgumentException(
+          "Expected max batch bytes to be at least 1, but got %d".formatted(maxBatchBytes));
+    }
+
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchBytes = maxBatchBytes;
   }
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    pushAsync(payload, errorHandler, streamId, (succeeded, latency) -> {});
+  }
+
+  /**
+   * Pushes the payload asynchronously, and notifies the listener once the push is completed,
+   * successfully or not. On failure, it is notified before the error handler is called.
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final CompletionListener onCompleted) {
     Objects.requireNonNull(payload, "must specify a payload");
     Objects.requireNonNull(errorHandler, "must specify a error handler");
+    Objects.requireNonNull(onCompleted, "must specify a completion callback");
 
-    executor.execute(
-        () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+    final var push =
+        new PendingPush<>(
+            payload,
+            instrumentingErrorHandler(errorHandler, streamId),
+            onCompleted,
+            streamId.receiver(),
+            System.nanoTime());
+    executor.execute(() -> enqueue(push, streamId));
   }
 
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
@@ -58,28 +127,129 @@ final class RemoteStreamPusher<P extends BufferWriter> {
     };
   }
 
-  private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+  private void enqueue(final PendingPush<P> push, final StreamId streamId) {
+    final int length = push.payload().getLength();
+    var batch = batches.get(streamId);
+    if (batch != null && batch.length + length > maxBatchBytes) {
+      flush(streamId, batch);
+      batch = null;
+    }
+
+    if (batch == null) {
+      batch = new Batch<>();
+      batches.put(streamId, batch);
+      batch.add(push, length);
+
+      // anything submitted before this will be added to the batch before it is flushed
+      final var newBatch = batch;
+      executor.execute(() -> flush(streamId, newBatch));
+    } else {
+      batch.add(push, length);
+    }
+
+    if (batch.pushes.size() >= maxBatchSize) {
+      flush(streamId, batch);
+    }
+  }
+
+  private void flush(final StreamId streamId, final Batch<P> batch) {
+    // the batch may have been flushed already because it was full
+    if (!batches.remove(streamId, batch)) {
+      return;
+    }
+
+    final var pushes = batch.pushes;
+    metrics.observeBatchSize(pushes.size());
+    if (pushes.size() == 1) {
+      push(pushes.get(0), streamId);
+    } else {
+      pushBatch(pushes, streamId);
+    }
+  }
+
+  private void push(final PendingPush<P> push, final StreamId streamId) {
+    final var payload = push.payload();
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
-          .whenCompleteAsync((ok, error) -> onPush(payload, errorHandler, error), executor);
+          .whenCompleteAsync((ok, error) -> onPush(push, error), executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
-      errorHandler.handleError(e, payload);
+      onPushFailed(push, e);
+    }
+  }
+
+  private void pushBatch(final List<PendingPush<P>> pushes, final StreamId streamId) {
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    pushes.forEach(push -> request.addPayload(push.payload()));
+
+    try {
+      transport
+          .sendBatch(request, streamId.receiver())
+          .whenCompleteAsync(
+              (response, error) -> onBatchPush(pushes, streamId, response, error), executor);
+      LOG.trace("Pushed batch of {} payloads to stream {}", pushes.size(), streamId);
+    } catch (final Exception e) {
+      pushes.forEach(push -> onPushFailed(push, e));
     }
   }
 
-  private void onPush(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final Throwable error) {
+  private void onPush(final PendingPush<P> push, final Throwable error) {
     if (error != null) {
-      errorHandler.handleError(error, payload);
+      onPushFailed(push, error);
     } else {
-      metrics.pushSucceeded();
+      onPushSucceeded(push);
+    }
+  }
+
+  private void onBatchPush(
+      final List<PendingPush<P>> pushes,
+      final StreamId streamId,
+      final PushStreamBatchResponse response,
+      final Throwable error) {
+    if (error != null) {
+      final var cause = error instanceof CompletionException ? error.getCause() : error;
+      if (cause instanceof MessagingException.NoRemoteHandler) {
+        // the receiver does not know about batches yet, e.g. during a rolling update
+        LOG.debug(
+            "Receiver of stream {} cannot handle batched pushes, pushing payloads one by one",
+            streamId);
+        pushes.forEach(push -> push(push, streamId));
+        return;
+      }
+
+      pushes.forEach(push -> onPushFailed(push, error));
+      return;
+    }
+
+    final var failures = new HashMap<Integer, String>();
+    response.failures().forEach(failure -> failures.put(failure.index(), failure.message()));
+    for (int i = 0; i < pushes.size(); i++) {
+      final var push = pushes.get(i);
+      final var failure = failures.get(i);
+      if (failure != null) {
+        onPushFailed(push, new MessagingException.RemoteHandlerFailure(failure));
+      } else {
+        onPushSucceeded(push);
+      }
     }
   }
 
+  private void onPushFailed(final PendingPush<P> push, final Throwable error) {
+    push.onCompleted().onPushCompleted(false, push.elapsed());
+    metrics.consumerPushFailed(push.receiver());
+    push.errorHandler().handleError(error, push.payload());
+  }
+
+  private void onPushSucceeded(final PendingPush<P> push) {
+    final var latency = push.elapsed();
+    push.onCompleted().onPushCompleted(true, latency);
+    metrics.pushSucceeded();
+    metrics.observePushLatency(latency);
+    metrics.consumerPushSucceeded(push.receiver(), latency);
+  }
+
   /**
    * A small abstraction over the network transport. This allows for better testability, and also
    * removes the need for this class to know how communication occurs (e.g. which topic the message
@@ -99,5 +269,50 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch out to the given receiver. May throw errors, e.g. serialization errors.
+     *
+     * @param request the batch to send
+     * @param receiver the expected target
+     * @return a future which is completed with the receiver's response, listing which payloads
+     *     could not be pushed, or with an error if the whole batch failed
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<PushStreamBatchResponse> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception;
+  }
+
+  /** Notified once a push is completed, successfully or not. */
+  @FunctionalInterface
+  interface CompletionListener {
+
+    /**
+     * @param succeeded true if the receiver acknowledged the payload
+     * @param latency the time elapsed since the push was requested
+     */
+    void onPushCompleted(final boolean succeeded, final Duration latency);
+  }
+
+  private record PendingPush<P>(
+      P payload,
+      RemoteStreamErrorHandler<P> errorHandler,
+      CompletionListener onCompleted,
+      MemberId receiver,
+      long submittedAtNanos) {
+
+    private Duration elapsed() {
+      return Duration.ofNanos(System.nanoTime() - submittedAtNanos);
+    }
+  }
+
+  private static final class Batch<P> {
+    private final List<PendingPush<P>> pushes = new ArrayList<>();
+    private long length;
+
+    private void add(final PendingPush<P> push, final int length) {
+      pushes.add(push);
+      this.length += length;
+    }
   }
 }
@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -63,9 +64,33 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
       final UUID streamId,
       final MemberId receiver,
       final M properties) {
+    add(streamType, streamId, receiver, properties, AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
+  /**
+   * Adds a stream receiver that can receive data from the stream with the given streamType, and
+   * which accepts at most {@code credits} payloads at once. If the stream already exists, only its
+   * credits are updated.
+   *
+   * @param streamType type of the stream
+   * @param streamId id of the stream. The pair (receiver, streamId) must uniquely identify the
+   *     stream.
+   * @param receiver The id of the node that receives data from the stream
+   * @param properties properties used by the producer to generate data to be pushed to the stream
+   * @param credits how many payloads can be in flight to the stream at once, or {@link
+   *     AddStreamRequest#UNLIMITED_CREDITS}
+   */
+  public void add(
+      final UnsafeBuffer streamType,
+      final UUID streamId,
+      final MemberId receiver,
+      final M properties,
+      final int credits) {
 
     final StreamId uniqueId = new StreamId(streamId, receiver);
-    if (idToConsumer.containsKey(uniqueId)) {
+    final var existingConsumer = idToConsumer.get(uniqueId);
+    if (existingConsumer != null) {
+      existingConsumer.credits().limit(credits);
       return;
     }
 
@@ -83,7 +108,8 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
           return aggregatedStream;
         });
 
-    final var streamConsumer = new StreamConsumer<>(uniqueId, logicalId);
+    final var streamConsumer =
+        new StreamConsumer<>(uniqueId, logicalId, new StreamCredits(credits));
     logicalIdToConsumers.get(logicalId).addConsumer(streamConsumer);
 
     idToConsumer.put(uniqueId, streamConsumer);
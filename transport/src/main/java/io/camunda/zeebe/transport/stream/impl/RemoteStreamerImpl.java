@@ -10,10 +10,14 @@ package io.camunda.zeebe.transport.stream.impl;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.transport.stream.api.ConsumerSelection;
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferReader;
@@ -47,17 +51,38 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final ConsumerSelector selector;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
       final ImmutableStreamRegistry<M> registry,
       final RemoteStreamErrorHandler<P> errorHandler,
       final RemoteStreamMetrics metrics) {
+    this(transport, registry, errorHandler, metrics, ConsumerSelectors.random());
+  }
+
+  public RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final ConsumerSelection selection,
+      final MemberId localMember) {
+    this(transport, registry, errorHandler, metrics, ConsumerSelectors.of(selection, localMember));
+  }
+
+  RemoteStreamerImpl(
+      final ClusterCommunicationService transport,
+      final ImmutableStreamRegistry<M> registry,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics,
+      final ConsumerSelector selector) {
+    this.selector = Objects.requireNonNull(selector, "must specify a consumer selector");
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher = new RemoteStreamPusher<>(new ClusterPushTransport(), actor::run, metrics);
   }
 
   @Override
@@ -73,7 +98,7 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
     }
 
     return pickStream(consumers)
-        .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
+        .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler, selector));
   }
 
   private Optional<AggregatedRemoteStream<M>> pickStream(
@@ -81,8 +106,10 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    // streams whose consumers are all busy are skipped, such that the producer can keep the payload
+    // until there is a consumer ready to accept it
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
+      if (target.hasCredit()) {
         return Optional.of(target);
       }
     }
@@ -90,15 +117,31 @@ public final class RemoteStreamerImpl<M extends BufferReader, P extends BufferWr
     return Optional.empty();
   }
 
-  private CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver) {
-    return transport
-        .send(
-            StreamTopics.PUSH.topic(),
-            request,
-            BufferUtil::bufferAsArray,
-            Function.identity(),
-            receiver,
-            REQUEST_TIMEOUT)
-        .thenApply(ok -> null);
+  private final class ClusterPushTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<Void> send(final PushStreamRequest request, final MemberId receiver) {
+      return transport
+          .send(
+              StreamTopics.PUSH.topic(),
+              request,
+              BufferUtil::bufferAsArray,
+              Function.identity(),
+              receiver,
+              REQUEST_TIMEOUT)
+          .thenApply(ok -> null);
+    }
+
+    @Override
+    public CompletableFuture<PushStreamBatchResponse> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return transport.send(
+          StreamTopics.PUSH_BATCH.topic(),
+          request,
+          BufferUtil::bufferAsArray,
+          MessageUtil::parsePushBatchResponse,
+          receiver,
+          REQUEST_TIMEOUT);
+    }
   }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import java.time.Duration;
+
+/**
+ * Keeps track of how fast a single stream consumer acknowledges pushes, as an exponentially
+ * weighted moving average of the push latency. Failed pushes count as twice the current estimate,
+ * such that consumers which keep failing are avoided even if they fail fast.
+ *
+ * <p>Updates are expected to come from a single thread, i.e. the pusher's, but the estimate can be
+ * read from any thread.
+ */
+final class StreamConsumerStats {
+  private static final double ALPHA = 0.2;
+
+  private volatile long latencyNanos;
+
+  void onPushSucceeded(final Duration latency) {
+    observe(latency.toNanos());
+  }
+
+  void onPushFailed(final Duration latency) {
+    observe(Math.max(latency.toNanos(), 2 * latencyNanos));
+  }
+
+  /**
+   * @return the estimated push latency in nanoseconds, or 0 if nothing was pushed yet
+   */
+  long latencyNanos() {
+    return latencyNanos;
+  }
+
+  private void observe(final long sampleNanos) {
+    final var current = latencyNanos;
+    latencyNanos = current == 0 ? sampleNanos : current + (long) (ALPHA * (sampleNanos - current));
+  }
+
+  @Override
+  public String toString() {
+    return "StreamConsumerStats{" + "latencyNanos=" + latencyNanos + '}';
+  }
+}
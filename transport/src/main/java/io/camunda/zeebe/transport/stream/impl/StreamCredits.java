@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how many payloads are in flight to a single stream consumer, compared to how many it
+ * advertised it can accept at once. A credit is acquired before pushing a payload, and released
+ * once the push is completed, successfully or not.
+ *
+ * <p>The limit may be updated at any time, e.g. when the consumer re-registers with a different
+ * window. Lowering it below the current amount of in-flight payloads does not fail them; no new
+ * credits are handed out until enough of them are completed.
+ *
+ * <p>This class is thread-safe, as credits are acquired by the producers, and released by the
+ * pusher.
+ */
+final class StreamCredits {
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int limit;
+
+  StreamCredits(final int limit) {
+    this.limit = limit;
+  }
+
+  /**
+   * @return true if a credit was acquired, false if the consumer cannot accept more payloads
+   */
+  boolean tryAcquire() {
+    final var currentLimit = limit;
+    if (currentLimit == AddStreamRequest.UNLIMITED_CREDITS) {
+      inFlight.incrementAndGet();
+      return true;
+    }
+
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= currentLimit) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+
+    return true;
+  }
+
+  void release() {
+    inFlight.decrementAndGet();
+  }
+
+  boolean hasCredit() {
+    final var currentLimit = limit;
+    return currentLimit == AddStreamRequest.UNLIMITED_CREDITS || inFlight.get() < currentLimit;
+  }
+
+  void limit(final int limit) {
+    this.limit = limit;
+  }
+
+  int limit() {
+    return limit;
+  }
+
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{" + "inFlight=" + inFlight.get() + ", limit=" + limit + '}';
+  }
+}
@@ -18,6 +18,9 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class AddStreamRequest implements BufferReader, BufferWriter {
+  /** Marks a stream which can accept an unbounded amount of payloads at once. */
+  public static final int UNLIMITED_CREDITS = -1;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
@@ -27,6 +30,7 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   private final DirectBuffer streamType = new UnsafeBuffer();
 
   private UUID streamId;
+  private int credits = UNLIMITED_CREDITS;
   private final DirectBuffer metadataReader = new UnsafeBuffer();
   private BufferWriter metadataWriter = new DirectBufferWriter().wrap(metadataReader);
 
@@ -37,6 +41,13 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     messageDecoder.wrapMetadata(metadataReader);
     metadataWriter = new DirectBufferWriter().wrap(metadataReader);
     streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    // requests sent by older versions have no credits, and are treated as unbounded
+    final var decodedCredits = messageDecoder.credits();
+    credits =
+        decodedCredits == AddStreamRequestDecoder.creditsNullValue()
+            ? UNLIMITED_CREDITS
+            : decodedCredits;
   }
 
   @Override
@@ -67,6 +78,9 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
           .high(streamId.getMostSignificantBits())
           .low(streamId.getLeastSignificantBits());
     }
+
+    messageEncoder.credits(
+        credits == UNLIMITED_CREDITS ? AddStreamRequestEncoder.creditsNullValue() : credits);
   }
 
   public DirectBuffer streamType() {
@@ -103,9 +117,22 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     return this;
   }
 
+  /**
+   * Returns how many payloads can be pushed to the stream without being completed, or {@link
+   * #UNLIMITED_CREDITS} if there is no such limit.
+   */
+  public int credits() {
+    return credits;
+  }
+
+  public AddStreamRequest credits(final int credits) {
+    this.credits = credits;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(streamType, metadataReader, streamId);
+    return Objects.hash(streamType, metadataReader, streamId, credits);
   }
 
   @Override
@@ -121,7 +148,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     final AddStreamRequest that = (AddStreamRequest) o;
     return streamType.equals(that.streamType)
         && metadataReader.equals(that.metadataReader)
-        && Objects.equals(streamId, that.streamId);
+        && Objects.equals(streamId, that.streamId)
+        && credits == that.credits;
   }
 
   @Override
@@ -133,6 +161,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
         + metadataReader
         + ", streamId="
         + streamId
+        + ", credits="
+        + credits
         + '}';
   }
 }
@@ -20,6 +20,14 @@ public final class MessageUtil {
     return parseRequest(bytes, new PushStreamRequest());
   }
 
+  public static PushStreamBatchRequest parsePushBatchRequest(final byte[] bytes) {
+    return parseRequest(bytes, new PushStreamBatchRequest());
+  }
+
+  public static PushStreamBatchResponse parsePushBatchResponse(final byte[] bytes) {
+    return parseRequest(bytes, new PushStreamBatchResponse());
+  }
+
   public static RemoveStreamRequest parseRemoveRequest(final byte[] bytes) {
     return parseRequest(bytes, new RemoveStreamRequest());
   }
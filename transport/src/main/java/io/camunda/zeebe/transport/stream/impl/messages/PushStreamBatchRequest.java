@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequestEncoder.PayloadsEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Pushes multiple payloads to the same stream with a single request. The receiver is expected to
+ * handle each payload independently, and to reply with a {@link PushStreamBatchResponse} listing
+ * the payloads it could not push.
+ *
+ * <p>At most {@link #maxBatchSize()} payloads can be sent in a single batch.
+ */
+public final class PushStreamBatchRequest implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchRequestEncoder messageEncoder = new PushStreamBatchRequestEncoder();
+  private final PushStreamBatchRequestDecoder messageDecoder = new PushStreamBatchRequestDecoder();
+
+  private final List<BufferWriter> payloadWriters = new ArrayList<>();
+  private final List<DirectBuffer> payloadReaders = new ArrayList<>();
+  private UUID streamId;
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+    streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+
+    payloadReaders.clear();
+    payloadWriters.clear();
+    for (final var payloadDecoder : messageDecoder.payloads()) {
+      // each payload is handled asynchronously, so every one of them needs its own view
+      final var payload = new UnsafeBuffer();
+      payloadDecoder.wrapPayload(payload);
+      payloadReaders.add(payload);
+      payloadWriters.add(new DirectBufferWriter().wrap(payload));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        headerEncoder.encodedLength()
+            + messageEncoder.sbeBlockLength()
+            + PayloadsEncoder.sbeHeaderSize();
+
+    for (final var payloadWriter : payloadWriters) {
+      length +=
+          PayloadsEncoder.sbeBlockLength()
+              + PayloadsEncoder.payloadHeaderLength()
+              + payloadWriter.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    if (streamId != null) {
+      messageEncoder
+          .id()
+          .high(streamId.getMostSignificantBits())
+          .low(streamId.getLeastSignificantBits());
+    }
+
+    final var payloadsEncoder = messageEncoder.payloadsCount(payloadWriters.size());
+    for (final var payloadWriter : payloadWriters) {
+      payloadsEncoder.next();
+      SbeUtil.writeNested(
+          payloadWriter,
+          PayloadsEncoder.payloadHeaderLength(),
+          messageEncoder,
+          PushStreamBatchRequestEncoder.BYTE_ORDER);
+    }
+  }
+
+  /** May return null if it was never read or set. */
+  public UUID streamId() {
+    return streamId;
+  }
+
+  public PushStreamBatchRequest streamId(final UUID streamId) {
+    this.streamId = streamId;
+    return this;
+  }
+
+  /**
+   * Returns the payloads after a call to {@link #wrap(DirectBuffer, int, int)}. Each payload is a
+   * separate view over the wrapped buffer, and is only valid as long as the underlying buffer is.
+   */
+  public List<DirectBuffer> payloads() {
+    return payloadReaders;
+  }
+
+  /** Returns the payloads which will be written, in order. */
+  public List<BufferWriter> payloadWriters() {
+    return payloadWriters;
+  }
+
+  public PushStreamBatchRequest addPayload(final BufferWriter payloadWriter) {
+    if (payloadWriters.size() >= maxBatchSize()) {
+      throw new IllegalStateException(
+          "Expected to add a payload to the batch, but it already contains the maximum of %d payloads"
+              .formatted(maxBatchSize()));
+    }
+
+    payloadWriters.add(Objects.requireNonNull(payloadWriter, "must specify a payload"));
+    return this;
+  }
+
+  public int size() {
+    return payloadWriters.size();
+  }
+
+  /** Returns the maximum number of payloads which can be sent in a single batch. */
+  public static int maxBatchSize() {
+    return PayloadsEncoder.countMaxValue();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(streamId, payloadWriters);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchRequest that = (PushStreamBatchRequest) o;
+    return Objects.equals(streamId, that.streamId)
+        && Objects.equals(payloadWriters, that.payloadWriters);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchRequest{"
+        + "streamId="
+        + streamId
+        + ", payloads="
+        + payloadWriters.size()
+        + "}";
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.FailuresEncoder;
+import io.camunda.zeebe.util.buffer.BufferReader;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Response to a {@link PushStreamBatchRequest}. Lists the index, within the batch, of every payload
+ * which could not be pushed, along with the reason why. Payloads which are not listed were pushed
+ * successfully.
+ */
+public final class PushStreamBatchResponse implements BufferReader, BufferWriter {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private final List<Failure> failures = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    failures.clear();
+    for (final var failureDecoder : messageDecoder.failures()) {
+      failures.add(new Failure(failureDecoder.index(), failureDecoder.message()));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        headerEncoder.encodedLength()
+            + messageEncoder.sbeBlockLength()
+            + FailuresEncoder.sbeHeaderSize();
+
+    for (final var failure : failures) {
+      length +=
+          FailuresEncoder.sbeBlockLength()
+              + FailuresEncoder.messageHeaderLength()
+              + failure.message().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var failuresEncoder = messageEncoder.failuresCount(failures.size());
+    for (final var failure : failures) {
+      failuresEncoder.next().index((short) failure.index()).message(failure.message());
+    }
+  }
+
+  public List<Failure> failures() {
+    return failures;
+  }
+
+  public PushStreamBatchResponse addFailure(final int index, final String message) {
+    failures.add(new Failure(index, Objects.requireNonNullElse(message, "")));
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(failures);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchResponse that = (PushStreamBatchResponse) o;
+    return Objects.equals(failures, that.failures);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "failures=" + failures + "}";
+  }
+
+  /**
+   * A payload of the batch which could not be pushed.
+   *
+   * @param index the index of the payload in the original batch
+   * @param message the reason why the payload could not be pushed
+   */
+  public record Failure(int index, String message) {}
+}
@@ -94,7 +94,7 @@ class AggregatedClientStreamTest {
     // given
     final var streamId = getNextStreamId();
     stream.addClient(
-        new ClientStreamImpl<>(streamId, stream, streamType, metadata, CLIENT_STREAM_CONSUMER));
+        new ClientStreamImpl<>(streamId, stream, streamType, metadata, CLIENT_STREAM_CONSUMER, 1));
 
     // when
     stream.removeClient(streamId);
@@ -119,6 +119,6 @@ class AggregatedClientStreamTest {
   }
 
   private void addClient(final ClientStreamIdImpl streamId, final ClientStreamConsumer consumer) {
-    stream.addClient(new ClientStreamImpl<>(streamId, stream, streamType, metadata, consumer));
+    stream.addClient(new ClientStreamImpl<>(streamId, stream, streamType, metadata, consumer, 1));
   }
 }
@@ -9,7 +9,10 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
@@ -20,19 +23,28 @@ import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class ClientStreamManagerTest {
 
@@ -176,6 +188,35 @@ class ClientStreamManagerTest {
     assertThat(serverStream2.isConnected(server)).isTrue();
   }
 
+  @Test
+  void shouldAdvertiseCreditsOfAllAggregatedClients() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER, 2);
+
+    // when
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER, 3);
+
+    // then
+    assertThat(lastAdvertisedCredits(server)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldAdvertiseRemainingCreditsWhenClientIsRemoved() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    final var uuid = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER, 2);
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER, 3);
+
+    // when
+    clientStreamManager.remove(uuid);
+
+    // then
+    assertThat(lastAdvertisedCredits(server)).isEqualTo(3);
+  }
+
   @Test
   void shouldRemoveStream() {
     // given
@@ -275,6 +316,89 @@ class ClientStreamManagerTest {
         .withCauseInstanceOf(RuntimeException.class);
   }
 
+  @Test
+  void shouldPushBatchedPayloadsToClient() {
+    // given
+    final List<DirectBuffer> payloadsReceived = new ArrayList<>();
+    final var clientStreamId =
+        clientStreamManager.add(
+            streamType,
+            metadata,
+            directBuffer -> {
+              payloadsReceived.add(BufferUtil.cloneBuffer(directBuffer));
+              return CompletableActorFuture.completed(null);
+            });
+    final var streamId = getServerStreamId(clientStreamId);
+
+    // when
+    final var request =
+        batchOf(streamId, BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    final var future = new TestActorFuture<PushStreamBatchResponse>();
+    clientStreamManager.onPayloadsReceived(request, future);
+
+    // then
+    assertThat(future)
+        .succeedsWithin(Duration.ofMillis(100))
+        .extracting(PushStreamBatchResponse::failures)
+        .asList()
+        .isEmpty();
+    assertThat(payloadsReceived)
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldReportFailedPayloadsOfBatch() {
+    // given
+    final var clientStreamId =
+        clientStreamManager.add(
+            streamType,
+            metadata,
+            directBuffer -> {
+              if (BufferUtil.bufferAsString(directBuffer).equals("bar")) {
+                return CompletableActorFuture.completedExceptionally(
+                    new RuntimeException("Expected"));
+              }
+              return CompletableActorFuture.completed(null);
+            });
+    final var streamId = getServerStreamId(clientStreamId);
+
+    // when
+    final var request =
+        batchOf(streamId, BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    final var future = new TestActorFuture<PushStreamBatchResponse>();
+    clientStreamManager.onPayloadsReceived(request, future);
+
+    // then
+    assertThat(future)
+        .succeedsWithin(Duration.ofMillis(100))
+        .extracting(PushStreamBatchResponse::failures)
+        .asList()
+        .extracting("index")
+        .containsExactly(1);
+    assertThat(metrics.getPushSucceeded()).isOne();
+    assertThat(metrics.getPushFailed()).isOne();
+  }
+
+  @Test
+  void shouldReportAllPayloadsOfBatchAsFailedIfNoStream() {
+    // given -- no stream registered
+
+    // when
+    final var request =
+        batchOf(UUID.randomUUID(), BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+    final var future = new TestActorFuture<PushStreamBatchResponse>();
+    clientStreamManager.onPayloadsReceived(request, future);
+
+    // then
+    assertThat(future)
+        .succeedsWithin(Duration.ofMillis(100))
+        .extracting(PushStreamBatchResponse::failures)
+        .asList()
+        .extracting("index")
+        .containsExactlyInAnyOrder(0, 1);
+  }
+
   @Test
   void shouldRemoveServerFromClientStream() {
     // given
@@ -320,6 +444,31 @@ class ClientStreamManagerTest {
     return registry.getClient(clientStreamId).orElseThrow().serverStream().getStreamId();
   }
 
+  private int lastAdvertisedCredits(final MemberId server) {
+    final var captor = ArgumentCaptor.forClass(byte[].class);
+    verify(mockTransport, atLeastOnce())
+        .send(eq(StreamTopics.ADD.topic()), captor.capture(), any(), any(), eq(server), any());
+
+    final var request = new AddStreamRequest();
+    final var payload = captor.getValue();
+    request.wrap(new UnsafeBuffer(payload), 0, payload.length);
+    return request.credits();
+  }
+
+  private PushStreamBatchRequest batchOf(final UUID streamId, final DirectBuffer... payloads) {
+    final var request = new PushStreamBatchRequest().streamId(streamId);
+    for (final var payload : payloads) {
+      request.addPayload(new DirectBufferWriter().wrap(payload));
+    }
+
+    // payloads are only readable from a received request
+    final var buffer = new ExpandableArrayBuffer();
+    request.write(buffer, 0);
+    final var received = new PushStreamBatchRequest();
+    received.wrap(buffer, 0, request.getLength());
+    return received;
+  }
+
   private record TestMetadata(int data) implements BufferWriter {
     @Override
     public int getLength() {
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
+import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class ConsumerSelectorsTest {
+  private final LogicalId<TestSerializableData> logicalId =
+      new LogicalId<>(new UnsafeBuffer(new byte[] {1}), new TestSerializableData());
+
+  @Test
+  void shouldSkipConsumersWithoutCredits() {
+    // given
+    final var exhausted = consumer(MemberId.anonymous(), 1);
+    final var available = consumer(MemberId.anonymous(), 1);
+    exhausted.credits().tryAcquire();
+
+    // when
+    final var selected = ConsumerSelectors.random().select(List.of(exhausted, available));
+
+    // then
+    assertThat(selected).isSameAs(available);
+  }
+
+  @Test
+  void shouldReturnNullIfNoConsumerHasCredits() {
+    // given
+    final var exhausted = consumer(MemberId.anonymous(), 1);
+    exhausted.credits().tryAcquire();
+
+    // when
+    final var selected = ConsumerSelectors.leastOutstanding().select(List.of(exhausted));
+
+    // then
+    assertThat(selected).isNull();
+  }
+
+  @Test
+  void shouldSelectConsumerWithLeastOutstandingPayloads() {
+    // given
+    final var busy = consumer(MemberId.anonymous(), 10);
+    final var idle = consumer(MemberId.anonymous(), 10);
+    busy.credits().tryAcquire();
+    busy.credits().tryAcquire();
+    idle.credits().tryAcquire();
+
+    // when
+    final var selected = ConsumerSelectors.leastOutstanding().select(List.of(busy, idle));
+
+    // then
+    assertThat(selected).isSameAs(idle);
+  }
+
+  @Test
+  void shouldAvoidSlowConsumers() {
+    // given
+    final var slow = consumer(MemberId.anonymous(), 10);
+    final var fast = consumer(MemberId.anonymous(), 10);
+    slow.stats().onPushSucceeded(Duration.ofMillis(100));
+    fast.stats().onPushSucceeded(Duration.ofMillis(1));
+    fast.credits().tryAcquire();
+
+    // when
+    final var selected = ConsumerSelectors.latencyWeighted().select(List.of(slow, fast));
+
+    // then
+    assertThat(selected).isSameAs(fast);
+  }
+
+  @Test
+  void shouldPenalizeFailingConsumers() {
+    // given
+    final var failing = consumer(MemberId.anonymous(), 10);
+    final var healthy = consumer(MemberId.anonymous(), 10);
+    failing.stats().onPushSucceeded(Duration.ofMillis(1));
+    healthy.stats().onPushSucceeded(Duration.ofMillis(1));
+
+    // when
+    failing.stats().onPushFailed(Duration.ZERO);
+    final var selected = ConsumerSelectors.latencyWeighted().select(List.of(failing, healthy));
+
+    // then
+    assertThat(selected).isSameAs(healthy);
+  }
+
+  @Test
+  void shouldPreferLocalConsumer() {
+    // given
+    final var localMember = MemberId.from("local");
+    final var remote = consumer(MemberId.from("remote"), 10);
+    final var local = consumer(localMember, 10);
+    local.credits().tryAcquire();
+
+    // when
+    final var selected =
+        ConsumerSelectors.preferLocal(localMember, ConsumerSelectors.leastOutstanding())
+            .select(List.of(remote, local));
+
+    // then
+    assertThat(selected).isSameAs(local);
+  }
+
+  @Test
+  void shouldFallBackToRemoteConsumerIfLocalHasNoCredits() {
+    // given
+    final var localMember = MemberId.from("local");
+    final var remote = consumer(MemberId.from("remote"), 10);
+    final var local = consumer(localMember, 1);
+    local.credits().tryAcquire();
+
+    // when
+    final var selected =
+        ConsumerSelectors.preferLocal(localMember, ConsumerSelectors.leastOutstanding())
+            .select(List.of(remote, local));
+
+    // then
+    assertThat(selected).isSameAs(remote);
+  }
+
+  private StreamConsumer<TestSerializableData> consumer(
+      final MemberId receiver, final int credits) {
+    return new StreamConsumer<>(
+        new StreamId(UUID.randomUUID(), receiver), logicalId, new StreamCredits(credits));
+  }
+}
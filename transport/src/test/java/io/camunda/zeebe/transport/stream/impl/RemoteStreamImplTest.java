@@ -16,6 +16,8 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
@@ -97,6 +99,68 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldOnlyPushToConsumersWithCredits() {
+    // given
+    final var busy = consumerWithCredits(1);
+    final var idle = consumerWithCredits(1);
+    busy.credits().tryAcquire();
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(busy);
+    aggregatedStream.addConsumer(idle);
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(idle.id().streamId());
+  }
+
+  @Test
+  void shouldReleaseCreditsWhenPushCompletes() {
+    // given
+    final var first = consumerWithCredits(1);
+    final var second = consumerWithCredits(1);
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(first);
+    aggregatedStream.addConsumer(second);
+    transport.succeedAfterAttempts(1);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).hasSize(2);
+    assertThat(first.credits().inFlight()).isZero();
+    assertThat(second.credits().inFlight()).isZero();
+  }
+
+  @Test
+  void shouldFailIfNoConsumerHasCredits() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    final var consumer = consumerWithCredits(1);
+    consumer.credits().tryAcquire();
+    aggregatedStream.streamConsumers().clear();
+    aggregatedStream.addConsumer(consumer);
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+  }
+
+  private StreamConsumer<TestSerializableData> consumerWithCredits(final int credits) {
+    return new StreamConsumer<>(
+        new StreamId(UUID.randomUUID(), MemberId.anonymous()),
+        new LogicalId<>(streamType, properties),
+        new StreamCredits(credits));
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
@@ -118,5 +182,11 @@ class RemoteStreamImplTest {
       }
       return CompletableFuture.completedFuture(null);
     }
+
+    @Override
+    public CompletableFuture<PushStreamBatchResponse> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      throw new UnsupportedOperationException("Pushes are never batched with a direct executor");
+    }
   }
 }
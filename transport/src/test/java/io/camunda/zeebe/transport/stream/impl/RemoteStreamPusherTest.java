@@ -9,16 +9,23 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingException;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -29,6 +36,7 @@ final class RemoteStreamPusherTest {
   private final StreamId streamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
   private final TestTransport transport = new TestTransport();
   private final Executor executor = Runnable::run;
+  private final Queue<Runnable> queuedTasks = new ArrayDeque<>();
   private final RemoteStreamPusher<Payload> pusher =
       new RemoteStreamPusher<>(transport, executor, RemoteStreamMetrics.noop());
 
@@ -88,6 +96,155 @@ final class RemoteStreamPusherTest {
         .containsExactly(payload, failure);
   }
 
+  @Test
+  void shouldBatchPushesToSameStream() {
+    // given
+    final var pusher = batchingPusher(8);
+    final var errorHandler = new TestErrorHandler();
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+
+    // when
+    payloads.forEach(payload -> pusher.pushAsync(payload, errorHandler, streamId));
+    runQueuedTasks();
+
+    // then
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(transport.message).isNull();
+    assertThat(transport.batches).hasSize(1);
+    final var sentBatch = transport.batches.get(0);
+    assertThat(sentBatch.request.streamId()).isEqualTo(streamId.streamId());
+    assertThat(sentBatch.request.payloadWriters()).containsExactlyElementsOf(payloads);
+    assertThat(sentBatch.receiver).isEqualTo(streamId.receiver());
+  }
+
+  @Test
+  void shouldNotBatchPushesToDifferentStreams() {
+    // given
+    final var pusher = batchingPusher(8);
+    final var errorHandler = new TestErrorHandler();
+    final var otherStreamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, otherStreamId);
+    runQueuedTasks();
+
+    // then
+    assertThat(transport.batches).isEmpty();
+    assertThat(transport.messages)
+        .extracting(message -> message.request.streamId())
+        .containsExactlyInAnyOrder(streamId.streamId(), otherStreamId.streamId());
+  }
+
+  @Test
+  void shouldSendBatchWhenFull() {
+    // given
+    final var pusher = batchingPusher(2);
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, streamId);
+    pusher.pushAsync(new Payload(3), errorHandler, streamId);
+    runQueuedTasks();
+
+    // then
+    assertThat(transport.batches)
+        .hasSize(1)
+        .first()
+        .extracting(batch -> batch.request.payloadWriters())
+        .isEqualTo(List.of(new Payload(1), new Payload(2)));
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(new Payload(3));
+  }
+
+  @Test
+  void shouldSendBatchWhenMaxBytesReached() {
+    // given - each payload is an int
+    final var pusher =
+        new RemoteStreamPusher<Payload>(
+            transport, queuedTasks::add, RemoteStreamMetrics.noop(), 8, 2 * Integer.BYTES);
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, streamId);
+    pusher.pushAsync(new Payload(3), errorHandler, streamId);
+    runQueuedTasks();
+
+    // then
+    assertThat(transport.batches)
+        .hasSize(1)
+        .first()
+        .extracting(batch -> batch.request.payloadWriters())
+        .isEqualTo(List.of(new Payload(1), new Payload(2)));
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(new Payload(3));
+  }
+
+  @Test
+  void shouldReportOnlyFailedPayloadsOfBatch() {
+    // given
+    final var pusher = batchingPusher(8);
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.completedFuture(new PushStreamBatchResponse().addFailure(1, "failed"));
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, streamId);
+    pusher.pushAsync(new Payload(3), errorHandler, streamId);
+    runQueuedTasks();
+
+    // then
+    assertThat(errorHandler.errors)
+        .hasSize(1)
+        .first()
+        .satisfies(
+            error -> {
+              assertThat(error.payload()).isEqualTo(new Payload(2));
+              assertThat(error.error()).hasMessageContaining("failed");
+            });
+  }
+
+  @Test
+  void shouldReportAsyncBatchTransportError() {
+    // given
+    final var pusher = batchingPusher(8);
+    final var errorHandler = new TestErrorHandler();
+    final var failure = new RuntimeException("Async failure");
+    transport.batchResponse = CompletableFuture.failedFuture(failure);
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, streamId);
+    runQueuedTasks();
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload, TestErrorHandler.Error::error)
+        .containsExactly(tuple(new Payload(1), failure), tuple(new Payload(2), failure));
+  }
+
+  @Test
+  void shouldPushPayloadsOneByOneIfReceiverCannotHandleBatches() {
+    // given
+    final var pusher = batchingPusher(8);
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.failedFuture(
+            new MessagingException.NoRemoteHandler(StreamTopics.PUSH_BATCH.topic()));
+
+    // when
+    pusher.pushAsync(new Payload(1), errorHandler, streamId);
+    pusher.pushAsync(new Payload(2), errorHandler, streamId);
+    runQueuedTasks();
+
+    // then
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(transport.messages)
+        .extracting(message -> message.request.payloadWriter())
+        .containsExactly(new Payload(1), new Payload(2));
+  }
+
   @Test
   void shouldFailOnNullPayload() {
     // given
@@ -108,6 +265,54 @@ final class RemoteStreamPusherTest {
         .isInstanceOf(NullPointerException.class);
   }
 
+  @Test
+  void shouldNotifyListenerOnSuccessfulPush() {
+    // given
+    final var outcomes = new ArrayList<Boolean>();
+
+    // when
+    pusher.pushAsync(
+        new Payload(1),
+        new TestErrorHandler(),
+        streamId,
+        (succeeded, latency) -> outcomes.add(succeeded));
+
+    // then
+    assertThat(outcomes).containsExactly(true);
+  }
+
+  @Test
+  void shouldNotifyListenerOnFailedPush() {
+    // given
+    final var outcomes = new ArrayList<Boolean>();
+    transport.response = CompletableFuture.failedFuture(new RuntimeException("Async failure"));
+
+    // when
+    pusher.pushAsync(
+        new Payload(1),
+        new TestErrorHandler(),
+        streamId,
+        (succeeded, latency) -> outcomes.add(succeeded));
+
+    // then
+    assertThat(outcomes).containsExactly(false);
+  }
+
+  private RemoteStreamPusher<Payload> batchingPusher(final int maxBatchSize) {
+    return new RemoteStreamPusher<>(
+        transport,
+        queuedTasks::add,
+        RemoteStreamMetrics.noop(),
+        maxBatchSize,
+        RemoteStreamPusher.DEFAULT_MAX_BATCH_BYTES);
+  }
+
+  private void runQueuedTasks() {
+    while (!queuedTasks.isEmpty()) {
+      queuedTasks.poll().run();
+    }
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -136,7 +341,11 @@ final class RemoteStreamPusherTest {
   }
 
   private static final class TestTransport implements Transport {
+    private final List<Message> messages = new ArrayList<>();
+    private final List<Batch> batches = new ArrayList<>();
     private CompletableFuture<Void> response = CompletableFuture.completedFuture(null);
+    private CompletableFuture<PushStreamBatchResponse> batchResponse =
+        CompletableFuture.completedFuture(new PushStreamBatchResponse());
     private Message message;
     private Exception synchronousException;
 
@@ -148,9 +357,23 @@ final class RemoteStreamPusherTest {
       }
 
       message = new Message(request, receiver);
+      messages.add(message);
       return response;
     }
 
+    @Override
+    public CompletableFuture<PushStreamBatchResponse> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batches.add(new Batch(request, receiver));
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record Batch(PushStreamBatchRequest request, MemberId receiver) {}
   }
 }
@@ -52,6 +52,21 @@ final class RemoteStreamRegistryTest {
         .containsExactly(new StreamConsumer<>(new StreamId(id2, gateway), streamBar.logicalId()));
   }
 
+  @Test
+  void shouldUpdateCreditsWhenStreamIsAddedAgain() {
+    // given
+    final UUID id = UUID.randomUUID();
+    streamRegistry.add(typeFoo, id, gateway, 1, 8);
+
+    // when
+    streamRegistry.add(typeFoo, id, gateway, 1, 2);
+
+    // then
+    final var stream = streamRegistry.get(typeFoo).stream().findFirst().orElseThrow();
+    assertThat(stream.streamConsumers()).hasSize(1);
+    assertThat(stream.streamConsumers().get(0).credits().limit()).isEqualTo(2);
+  }
+
   @Test
   void shouldAggregateMultipleStreamsWithSameProperties() {
     // given
@@ -98,6 +98,22 @@ final class RemoteStreamerTest {
     assertThat(empty).isEmpty();
   }
 
+  @Test
+  void shouldNotReturnStreamWithoutCredits() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1), 1);
+    final var stream = streamer.streamFor(type).orElseThrow();
+
+    // when - the only credit is in flight until the push is completed
+    stream.push(new TestPayload(1));
+    final var busyStream = streamer.streamFor(type);
+
+    // then
+    assertThat(busyStream).isEmpty();
+  }
+
   @Test
   void shouldPush() {
     // given - a registry which returns a set of consumers sorted by their member IDs
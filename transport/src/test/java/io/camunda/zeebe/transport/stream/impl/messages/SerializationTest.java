@@ -63,6 +63,43 @@ final class SerializationTest {
     assertThat(deserialized.metadata()).isEqualTo(BufferUtil.wrapString("bar"));
   }
 
+  @Test
+  void shouldSerializeAddStreamRequestWithCredits() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"))
+            .credits(32);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(32);
+  }
+
+  @Test
+  void shouldDefaultToUnlimitedCredits() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest().credits(5);
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.credits()).isEqualTo(AddStreamRequest.UNLIMITED_CREDITS);
+  }
+
   @Test
   void shouldSerializeRemoveStreamRequest() {
     // given
@@ -94,4 +131,45 @@ final class SerializationTest {
     assertThat(deserialized.streamId()).isEqualTo(streamId);
     assertThat(deserialized.payload()).isEqualTo(BufferUtil.wrapString("foo"));
   }
+
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("barbaz")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("barbaz"));
+    assertThat(deserialized.getLength()).isEqualTo(request.getLength());
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse().addFailure(1, "failure").addFailure(3, "other failure");
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.failures())
+        .containsExactly(
+            new PushStreamBatchResponse.Failure(1, "failure"),
+            new PushStreamBatchResponse.Failure(3, "other failure"));
+    assertThat(deserialized.getLength()).isEqualTo(response.getLength());
+  }
 }